@@ -0,0 +1,150 @@
+package at.mymove.bench;
+
+import at.mymove.company.domain.Company;
+import at.mymove.company.domain.CompanyService;
+import at.mymove.company.domain.CompanyStatus;
+import at.mymove.company.domain.PricingConditions;
+import at.mymove.inventory.domain.InventoryItem;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.inventory.domain.InventoryStatus;
+import at.mymove.inventory.domain.InventoryTotals;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.move.domain.SpecialRequirements;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Deterministische Testdaten für die Benchmarks (fixer Seed).
+ */
+public final class BenchFixtures {
+
+    private static final String[] ITEM_NAMES = {
+            "Couch", "Kühlschrank", "Bett", "Tisch", "Stuhl", "Schrank", "Karton", "Waschmaschine", "Regal", "Lampe"
+    };
+
+    private BenchFixtures() {}
+
+    public static PricingConditions pricingConditions() {
+        return PricingConditions.of(
+                new BigDecimal("65.00"),
+                new BigDecimal("45.00"),
+                new BigDecimal("25.00"),
+                new BigDecimal("10.00"),
+                new BigDecimal("300.00")
+        );
+    }
+
+    public static Address fromAddress() {
+        return new Address("Mariahilfer Straße", "12", "1060", "Wien", "AT", null);
+    }
+
+    public static Address toAddress() {
+        return new Address("Herrengasse", "7", "8010", "Graz", "AT", "Hinterhof");
+    }
+
+    public static FloorDetails fromFloor() {
+        return new FloorDetails(3, false, true, 20, true, false);
+    }
+
+    public static FloorDetails toFloor() {
+        return new FloorDetails(5, true, false, null, false, true);
+    }
+
+    public static MoveDetails moveDetails() {
+        return new MoveDetails(
+                fromAddress(),
+                toAddress(),
+                fromFloor(),
+                toFloor(),
+                true,
+                25,
+                LocalDate.of(2026, 6, 1),
+                new SpecialRequirements(true, 25)
+        );
+    }
+
+    public static Offer offer() {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+        return new Offer(
+                UUID.randomUUID(),
+                OfferStatus.DRAFT,
+                UUID.randomUUID(),
+                null,
+                null,
+                moveDetails(),
+                now,
+                now,
+                null,
+                null,
+                null
+        );
+    }
+
+    public static Company approvedCompany() {
+        Instant now = Instant.parse("2026-01-15T10:00:00Z");
+        return new Company(
+                UUID.randomUUID(),
+                "office@umzug-beispiel.at",
+                "$2a$10$abcdefghijklmnopqrstuv",
+                "Umzug Beispiel GmbH",
+                "Industriestraße 1",
+                "Wien",
+                "1100",
+                "AT",
+                "+43 1 234567",
+                "https://umzug-beispiel.at",
+                "ATU12345678",
+                Set.of(CompanyService.MOVING, CompanyService.PACKING_SERVICE, CompanyService.FURNITURE_ASSEMBLY),
+                "trade-licenses/beispiel.pdf",
+                pricingConditions(),
+                CompanyStatus.APPROVED,
+                now,
+                now,
+                "admin@mymove.at",
+                null
+        );
+    }
+
+    public static List<InventoryItem> items(int count, long seed) {
+        Random random = new Random(seed);
+        List<InventoryItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = ITEM_NAMES[random.nextInt(ITEM_NAMES.length)];
+            int quantity = 1 + random.nextInt(4);
+            double volume = Math.round(random.nextDouble() * 300) / 100.0;
+            items.add(random.nextBoolean()
+                    ? InventoryItem.aiDetected(name, quantity, 0.5 + random.nextDouble() / 2, "Möbel", volume)
+                    : InventoryItem.manual(name, quantity, "Möbel", volume));
+        }
+        return items;
+    }
+
+    public static InventoryList draftInventory(int itemCount) {
+        List<InventoryItem> items = items(itemCount, 42);
+        return new InventoryList(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                items,
+                InventoryStatus.DRAFT,
+                Instant.parse("2026-01-15T10:00:00Z"),
+                null,
+                InventoryTotals.of(items),
+                null
+        );
+    }
+
+    public static InventoryList confirmedInventory(int itemCount) {
+        return draftInventory(itemCount).confirm(Instant.parse("2026-01-15T11:00:00Z"));
+    }
+}
@@ -0,0 +1,46 @@
+package at.mymove.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Einstiegspunkt für alle Benchmarks.
+ *
+ * Wie {@code org.openjdk.jmh.Main}, aber immer mit GC-Profiler (Allokationsrate)
+ * und JSON-Ergebnisdatei, damit Releases maschinell verglichen werden können.
+ * Alle JMH-Kommandozeilenoptionen bleiben nutzbar und überschreiben die Defaults,
+ * z.B. {@code java -jar target/benchmarks.jar PricingEngine -rff pricing.json}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+
+        if (cli.shouldHelp() || cli.shouldList()) {
+            // Hilfe/Liste wie beim Standard-Launcher
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cli.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,72 @@
+package at.mymove.inventory.domain;
+
+import at.mymove.bench.BenchFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: Änderungsoperationen und Kennzahlen der InventoryList bei wachsender Item-Anzahl.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InventoryListBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int itemCount;
+
+    private InventoryList inventory;
+    private InventoryItem newItem;
+    private List<InventoryItem> replacementItems;
+    private int middleIndex;
+
+    @Setup
+    public void setUp() {
+        inventory = BenchFixtures.draftInventory(itemCount);
+        newItem = InventoryItem.manual("Klavier", 1, "Instrumente", 2.5);
+        replacementItems = BenchFixtures.items(itemCount, 7);
+        middleIndex = itemCount / 2;
+    }
+
+    @Benchmark
+    public InventoryList addItem() {
+        return inventory.addItem(newItem);
+    }
+
+    @Benchmark
+    public InventoryList updateItem() {
+        return inventory.updateItem(middleIndex, newItem);
+    }
+
+    @Benchmark
+    public InventoryList replaceAllItems() {
+        return inventory.replaceAllItems(replacementItems);
+    }
+
+    @Benchmark
+    public InventoryList removeItem() {
+        return inventory.removeItem(middleIndex);
+    }
+
+    @Benchmark
+    public double aggregates() {
+        return inventory.totalItemCount()
+                + inventory.aiDetectedItemCount()
+                + inventory.averageAiConfidence().orElse(0.0);
+    }
+}
@@ -0,0 +1,53 @@
+package at.mymove.inventory.infrastructure.persistence;
+
+import at.mymove.bench.BenchFixtures;
+import at.mymove.inventory.domain.InventoryList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: InventoryMapper bei wachsender Item-Anzahl.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InventoryMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int itemCount;
+
+    private InventoryMapper mapper;
+    private InventoryList inventory;
+    private InventoryListJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new InventoryMapper();
+        inventory = BenchFixtures.confirmedInventory(itemCount);
+        entity = mapper.toJpaEntity(inventory);
+    }
+
+    @Benchmark
+    public InventoryListJpaEntity toJpaEntity() {
+        return mapper.toJpaEntity(inventory);
+    }
+
+    @Benchmark
+    public InventoryList toDomainEntity() {
+        return mapper.toDomainEntity(entity);
+    }
+}
@@ -0,0 +1,54 @@
+package at.mymove.move.infrastructure.geo;
+
+import at.mymove.move.domain.Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: PLZ-Distanz mit und ohne Paar-Cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostalCodeDistanceIndexBenchmark {
+
+    @Param({"0", "65536"})
+    public int pairCacheSize;
+
+    private PostalCodeDistanceIndex index;
+    private Address vienna;
+    private Address graz;
+    private Address munich;
+
+    @Setup
+    public void setUp() {
+        index = new PostalCodeDistanceIndex("", 1.25, pairCacheSize);
+        vienna = new Address("Mariahilfer Straße", "12", "1060", "Wien", "Österreich", null);
+        graz = new Address("Herrengasse", "7", "8010", "Graz", "AT", null);
+        munich = new Address("Marienplatz", "1", "D-80331", "München", "Deutschland", null);
+    }
+
+    @Benchmark
+    public double domestic() {
+        return index.roadDistanceKm(vienna, graz);
+    }
+
+    @Benchmark
+    public double crossBorder() {
+        return index.roadDistanceKm(vienna, munich);
+    }
+}
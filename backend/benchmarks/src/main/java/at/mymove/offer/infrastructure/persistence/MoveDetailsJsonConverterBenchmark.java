@@ -0,0 +1,54 @@
+package at.mymove.offer.infrastructure.persistence;
+
+import at.mymove.bench.BenchFixtures;
+import at.mymove.move.domain.MoveDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: JSON-Konvertierung der move_details-Spalte.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveDetailsJsonConverterBenchmark {
+
+    private MoveDetailsJsonConverter converter;
+    private MoveDetails moveDetails;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        converter = new MoveDetailsJsonConverter();
+        moveDetails = BenchFixtures.moveDetails();
+        json = converter.convertToDatabaseColumn(moveDetails);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(moveDetails);
+    }
+
+    @Benchmark
+    public MoveDetails toEntityAttribute() {
+        return converter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public MoveDetails roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(moveDetails));
+    }
+}
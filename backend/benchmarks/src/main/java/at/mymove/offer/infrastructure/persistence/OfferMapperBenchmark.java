@@ -0,0 +1,47 @@
+package at.mymove.offer.infrastructure.persistence;
+
+import at.mymove.bench.BenchFixtures;
+import at.mymove.offer.domain.Offer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: OfferMapper (liegt im selben Package, da der Mapper package-private ist).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OfferMapperBenchmark {
+
+    private Offer offer;
+    private OfferJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        offer = BenchFixtures.offer();
+        entity = OfferMapper.toJpa(offer);
+    }
+
+    @Benchmark
+    public OfferJpaEntity toJpa() {
+        return OfferMapper.toJpa(offer);
+    }
+
+    @Benchmark
+    public Offer toDomain() {
+        return OfferMapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,73 @@
+package at.mymove.pricing.domain;
+
+import at.mymove.bench.BenchFixtures;
+import at.mymove.company.domain.PricingConditions;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: PricingEngine in beiden Rechenmodi.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingEngineBenchmark {
+
+    @Param({"BIG_DECIMAL", "FIXED_POINT"})
+    public String engineMode;
+
+    @Param({"10", "100"})
+    public int itemCount;
+
+    private PricingEngine engine;
+    private PricingConditions conditions;
+    private Address fromAddress;
+    private Address toAddress;
+    private FloorDetails fromFloor;
+    private FloorDetails toFloor;
+    private InventoryList inventory;
+
+    @Setup
+    public void setUp() {
+        engine = new PricingEngine(PricingEngine.Mode.valueOf(engineMode));
+        conditions = BenchFixtures.pricingConditions();
+        fromAddress = BenchFixtures.fromAddress();
+        toAddress = BenchFixtures.toAddress();
+        fromFloor = BenchFixtures.fromFloor();
+        toFloor = BenchFixtures.toFloor();
+        inventory = BenchFixtures.confirmedInventory(itemCount);
+    }
+
+    @Benchmark
+    public PriceBreakdown calculateEstimate() {
+        return engine.calculateEstimate(conditions, fromAddress, toAddress, fromFloor, toFloor, inventory);
+    }
+
+    @Benchmark
+    public double estimateWorkHours() {
+        return engine.estimateWorkHours(
+                fromFloor,
+                toFloor,
+                inventory.totalVolume(),
+                engine.estimateDistance(fromAddress, toAddress),
+                inventory.totalItemCount()
+        );
+    }
+}
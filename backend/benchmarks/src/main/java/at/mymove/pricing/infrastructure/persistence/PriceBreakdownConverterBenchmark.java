@@ -0,0 +1,62 @@
+package at.mymove.pricing.infrastructure.persistence;
+
+import at.mymove.bench.BenchFixtures;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PricingEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: JSON-Konvertierung der PriceBreakdown-Spalte.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceBreakdownConverterBenchmark {
+
+    private PriceBreakdownConverter converter;
+    private PriceBreakdown breakdown;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        converter = new PriceBreakdownConverter();
+        breakdown = new PricingEngine().calculateEstimate(
+                BenchFixtures.pricingConditions(),
+                BenchFixtures.fromAddress(),
+                BenchFixtures.toAddress(),
+                BenchFixtures.fromFloor(),
+                BenchFixtures.toFloor(),
+                BenchFixtures.confirmedInventory(50)
+        );
+        json = converter.convertToDatabaseColumn(breakdown);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(breakdown);
+    }
+
+    @Benchmark
+    public PriceBreakdown toEntityAttribute() {
+        return converter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public PriceBreakdown roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(breakdown));
+    }
+}
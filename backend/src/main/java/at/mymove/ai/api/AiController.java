@@ -1,12 +1,26 @@
 package at.mymove.ai.api;
 
 import at.mymove.ai.api.dto.AnalysisJobResponse;
+import at.mymove.ai.api.dto.BatchAnalysisRequest;
+import at.mymove.ai.api.dto.BatchAnalysisResponse;
 import at.mymove.ai.application.*;
 import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.infrastructure.client.AiCallbackSigner;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisCallback;
+import at.mymove.core.api.ApiHeaders;
+import at.mymove.core.api.GlobalExceptionHandler.InvalidSignatureException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,10 +29,13 @@ import java.util.UUID;
  *
  * Endpunkte:
  * - POST /api/v1/ai/analyze/{videoId}           - Analyse starten
+ * - POST /api/v1/ai/analyze/batch               - Analyse für viele Videos starten (nur Admin)
  * - GET  /api/v1/ai/jobs/{jobId}                - Job-Status abfragen
+ * - GET  /api/v1/ai/jobs/{jobId}/events         - Fortschritt als Server-Sent Events
  * - GET  /api/v1/ai/jobs/by-video/{videoId}     - Jobs für Video
  * - GET  /api/v1/ai/jobs/by-offer/{offerId}     - Job für Offer
  * - POST /api/v1/ai/jobs/{jobId}/check-status   - Status aktualisieren
+ * - POST /api/v1/ai/callbacks                   - Webhook des AI-Service (signiert, ohne Login)
  */
 @RestController
 @RequestMapping("/api/v1/ai")
@@ -28,6 +45,10 @@ public class AiController {
     private final TriggerAnalysisUseCase triggerAnalysisUseCase;
     private final CheckAnalysisStatusUseCase checkAnalysisStatusUseCase;
     private final AnalysisJobRepository analysisJobRepository;
+    private final HandleAnalysisCallbackUseCase handleAnalysisCallbackUseCase;
+    private final AiCallbackSigner aiCallbackSigner;
+    private final AnalysisJobEventStream analysisJobEventStream;
+    private final ObjectMapper objectMapper;
 
     /**
      * Startet eine Video-Analyse.
@@ -44,6 +65,17 @@ public class AiController {
         return ResponseEntity.ok(AnalysisJobResponse.from(job));
     }
 
+    /**
+     * Startet die Analyse für mehrere Videos (z. B. Neuanalyse nach einem Modell-Update).
+     */
+    @PostMapping("/analyze/batch")
+    public ResponseEntity<BatchAnalysisResponse> startBatchAnalysis(
+            @Valid @RequestBody BatchAnalysisRequest request
+    ) {
+        var result = triggerAnalysisUseCase.executeBatch(request.videoIds());
+        return ResponseEntity.ok(BatchAnalysisResponse.from(result));
+    }
+
     /**
      * Holt einen AnalysisJob.
      */
@@ -57,6 +89,22 @@ public class AiController {
         return ResponseEntity.ok(AnalysisJobResponse.from(job));
     }
 
+    /**
+     * Streamt Statuswechsel und das Ergebnis eines Jobs als Server-Sent Events, statt
+     * {@code GET /jobs/{jobId}} bzw. {@code check-status} in einer Schleife aufzurufen.
+     * Ist das Verbindungslimit erreicht, antwortet der Server mit 503 und Retry-After.
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobEvents(@PathVariable String jobId) {
+        UUID jobUuid = parseUuid(jobId, "jobId");
+
+        return analysisJobEventStream.open(jobUuid)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build());
+    }
+
     /**
      * Prüft und aktualisiert den Status eines Jobs.
      */
@@ -68,6 +116,31 @@ public class AiController {
         return ResponseEntity.ok(AnalysisJobResponse.from(job));
     }
 
+    /**
+     * Webhook: Der AI-Service meldet Status und Ergebnis eines Jobs.
+     * Die Signatur wird über den unveränderten Body geprüft, daher wird erst danach geparst.
+     */
+    @PostMapping(value = "/callbacks", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AnalysisJobResponse> callback(
+            @RequestHeader(value = ApiHeaders.CALLBACK_TIMESTAMP, required = false) String timestamp,
+            @RequestHeader(value = ApiHeaders.CALLBACK_SIGNATURE, required = false) String signature,
+            @RequestBody byte[] body
+    ) {
+        if (!aiCallbackSigner.verify(timestamp, signature, body, Instant.now())) {
+            throw new InvalidSignatureException("Invalid or expired callback signature");
+        }
+
+        AnalysisCallback callback;
+        try {
+            callback = objectMapper.readValue(body, AnalysisCallback.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid callback body");
+        }
+
+        AnalysisJob job = handleAnalysisCallbackUseCase.execute(callback);
+        return ResponseEntity.ok(AnalysisJobResponse.from(job));
+    }
+
     /**
      * Listet alle Jobs für ein Video.
      */
@@ -0,0 +1,222 @@
+package at.mymove.ai.api;
+
+import at.mymove.ai.api.dto.AnalysisJobEventResponse;
+import at.mymove.ai.application.AnalysisJobEventHub;
+import at.mymove.ai.application.AnalysisJobEventHub.Subscription;
+import at.mymove.ai.application.AnalysisJobRepository;
+import at.mymove.ai.domain.AnalysisJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Server-Sent-Events-Streams zum Fortschritt von AnalysisJobs, gespeist aus dem
+ * {@link AnalysisJobEventHub}.
+ *
+ * - Async Servlet ({@link SseEmitter}): ein wartender Client belegt keinen Request-Thread
+ * - Gesendet wird auf virtuellen Threads, ein langsamer Client hält weder den Commit, der die
+ *   Änderung ausgelöst hat, noch andere Clients auf
+ * - Pro Stream wird nur der jeweils neueste Stand gesendet; ältere Stände, die ein Client noch
+ *   nicht bekommen hat, werden übersprungen (Status laufen nur vorwärts)
+ * - Events: {@code status} bei jeder Änderung, {@code completed} mit der Zusammenfassung der
+ *   erkannten Items bei Abschluss, danach wird der Stream geschlossen
+ * - Heartbeat-Kommentar alle {@code mymove.ai.events.heartbeat-ms}, damit Proxies die Verbindung
+ *   nicht schließen; nach {@code mymove.ai.events.timeout-ms} wird der Stream beendet und der
+ *   Client verbindet sich neu (bekommt dabei sofort den aktuellen Stand)
+ */
+@Slf4j
+@Component
+public class AnalysisJobEventStream {
+
+    private static final String HEARTBEAT = "ping";
+
+    private final AnalysisJobEventHub eventHub;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Watcher> watchers = ConcurrentHashMap.newKeySet();
+    private final long timeoutMs;
+    private final long reconnectMs;
+
+    public AnalysisJobEventStream(
+            AnalysisJobEventHub eventHub,
+            AnalysisJobRepository analysisJobRepository,
+            @Value("${mymove.ai.events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${mymove.ai.events.reconnect-ms:5000}") long reconnectMs
+    ) {
+        if (timeoutMs < 1 || reconnectMs < 0) {
+            throw new IllegalArgumentException("ai events timeout-ms must be positive and reconnect-ms not negative");
+        }
+        this.eventHub = eventHub;
+        this.analysisJobRepository = analysisJobRepository;
+        this.timeoutMs = timeoutMs;
+        this.reconnectMs = reconnectMs;
+    }
+
+    /**
+     * Öffnet einen Stream für den Job und sendet sofort den aktuellen Stand.
+     *
+     * @return Leer, wenn das Verbindungslimit erreicht ist
+     */
+    public Optional<SseEmitter> open(UUID jobId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Watcher watcher = new Watcher(emitter);
+
+        Optional<Subscription> subscription = eventHub.subscribe(jobId, watcher::offer);
+        if (subscription.isEmpty()) {
+            return Optional.empty();
+        }
+        watcher.subscription = subscription.get();
+        if (watcher.closed.get()) {
+            // Job wurde schon vor der Zuweisung abgeschlossen und gesendet
+            watcher.subscription.close();
+        }
+
+        // Erst nach dem Abonnieren laden, damit keine Änderung dazwischen verloren geht
+        AnalysisJob job = analysisJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            watcher.subscription.close();
+            throw new IllegalArgumentException("AnalysisJob not found: " + jobId);
+        }
+
+        watchers.add(watcher);
+        emitter.onCompletion(watcher::close);
+        emitter.onTimeout(() -> {
+            watcher.close();
+            emitter.complete();
+        });
+        emitter.onError(e -> watcher.close());
+
+        watcher.offer(job);
+        return Optional.of(emitter);
+    }
+
+    @Scheduled(
+            initialDelayString = "${mymove.ai.events.heartbeat-ms:15000}",
+            fixedDelayString = "${mymove.ai.events.heartbeat-ms:15000}"
+    )
+    public void heartbeat() {
+        for (Watcher watcher : watchers) {
+            executor.execute(watcher::heartbeat);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        for (Watcher watcher : watchers) {
+            watcher.close();
+            watcher.emitter.complete();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Rang eines Stands; ein Stream sendet nie einen niedrigeren Rang als den zuletzt gesendeten.
+     */
+    private static int rank(AnalysisJob job) {
+        return switch (job.status()) {
+            case PENDING -> 0;
+            case RUNNING -> 1;
+            case SUCCEEDED, FAILED -> 2;
+        };
+    }
+
+    /**
+     * Ein offener Stream. Sendungen laufen seriell: {@link #offer} merkt sich den neuesten Stand,
+     * höchstens ein virtueller Thread pro Stream sendet ihn.
+     */
+    private final class Watcher {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<AnalysisJob> pending = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Subscription subscription;
+        private int sentRank = -1;
+
+        Watcher(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(AnalysisJob job) {
+            pending.accumulateAndGet(job, (current, next) ->
+                    current == null || rank(next) >= rank(current) ? next : current);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                AnalysisJob job;
+                while (!closed.get() && (job = pending.getAndSet(null)) != null) {
+                    if (rank(job) >= sentRank) {
+                        send(job);
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // Während des Sendens eingetroffener Stand
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+
+        private void send(AnalysisJob job) {
+            sentRank = rank(job);
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(job.status().name())
+                        .name(job.isCompleted() ? "completed" : "status")
+                        .reconnectTime(reconnectMs)
+                        .data(AnalysisJobEventResponse.from(job)));
+            } catch (IOException | IllegalStateException e) {
+                // Client weg; der Container meldet den Fehler über onError/onCompletion
+                log.debug("Closing event stream for job {}: {}", job.id(), e.getMessage());
+                close();
+                return;
+            }
+            if (job.isCompleted()) {
+                close();
+                emitter.complete();
+            }
+        }
+
+        void heartbeat() {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                watchers.remove(this);
+                if (subscription != null) {
+                    subscription.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package at.mymove.ai.api.dto;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.DetectedItem;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Payload eines SSE-Events zum Fortschritt eines AnalysisJobs.
+ *
+ * Bewusst schlanker als {@link AnalysisJobResponse}: statt der einzelnen Items nur eine
+ * Zusammenfassung, die vollständigen Items liefert {@code GET /api/v1/ai/jobs/{jobId}}.
+ *
+ * @param summary Zusammenfassung der erkannten Items (nur bei SUCCEEDED)
+ */
+public record AnalysisJobEventResponse(
+        UUID jobId,
+        UUID videoId,
+        UUID offerId,
+        AnalysisJobStatus status,
+        String errorMessage,
+        Instant startedAt,
+        Instant completedAt,
+        boolean isCompleted,
+        Summary summary
+) {
+
+    /**
+     * @param itemCount       Anzahl erkannter Items
+     * @param totalQuantity   Summe der Mengen
+     * @param totalVolumeM3   Gesamtvolumen
+     * @param roomType        Erkannter Raumtyp
+     * @param quantityByLabel Menge pro Bezeichnung
+     */
+    public record Summary(
+            int itemCount,
+            int totalQuantity,
+            Double totalVolumeM3,
+            String roomType,
+            Map<String, Integer> quantityByLabel
+    ) {}
+
+    /**
+     * Factory-Methode aus Domain Entity.
+     */
+    public static AnalysisJobEventResponse from(AnalysisJob job) {
+        Summary summary = null;
+        if (job.status() == AnalysisJobStatus.SUCCEEDED) {
+            Map<String, Integer> quantityByLabel = new LinkedHashMap<>();
+            int totalQuantity = 0;
+            for (DetectedItem item : job.detectedItems()) {
+                quantityByLabel.merge(item.label(), item.quantity(), Integer::sum);
+                totalQuantity += item.quantity();
+            }
+            summary = new Summary(
+                    job.detectedItems().size(),
+                    totalQuantity,
+                    job.totalVolumeM3(),
+                    job.roomType(),
+                    quantityByLabel
+            );
+        }
+
+        return new AnalysisJobEventResponse(
+                job.id(),
+                job.videoId(),
+                job.offerId(),
+                job.status(),
+                job.errorMessage(),
+                job.startedAt(),
+                job.completedAt(),
+                job.isCompleted(),
+                summary
+        );
+    }
+}
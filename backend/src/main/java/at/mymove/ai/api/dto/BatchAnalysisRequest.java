@@ -0,0 +1,14 @@
+package at.mymove.ai.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO zum Starten der Analyse für mehrere Videos.
+ */
+public record BatchAnalysisRequest(
+        @NotEmpty(message = "videoIds is required")
+        List<UUID> videoIds
+) {}
@@ -0,0 +1,26 @@
+package at.mymove.ai.api.dto;
+
+import at.mymove.ai.application.TriggerAnalysisUseCase.BatchResult;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO für einen Batch-Start von Analysen.
+ */
+public record BatchAnalysisResponse(
+        List<AnalysisJobResponse> jobs,
+        List<AnalysisJobResponse> alreadyActive,
+        List<UUID> unknownVideoIds
+) {
+    /**
+     * Factory-Methode aus dem Use-Case-Ergebnis.
+     */
+    public static BatchAnalysisResponse from(BatchResult result) {
+        return new BatchAnalysisResponse(
+                result.jobs().stream().map(AnalysisJobResponse::from).toList(),
+                result.alreadyActive().stream().map(AnalysisJobResponse::from).toList(),
+                result.unknownVideoIds()
+        );
+    }
+}
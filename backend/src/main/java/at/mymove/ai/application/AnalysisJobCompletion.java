@@ -0,0 +1,136 @@
+package at.mymove.ai.application;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.BoundingBox;
+import at.mymove.ai.domain.DetectedItem;
+import at.mymove.ai.infrastructure.client.AiServiceClient;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisResultResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Schließt AnalysisJobs ab - gemeinsam genutzt von Status-Abfrage ({@link CheckAnalysisStatusUseCase})
+ * und Webhook ({@link HandleAnalysisCallbackUseCase}).
+ *
+ * Der Statuswechsel läuft in einer kurzen eigenen Transaktion, die den Job mit Zeilensperre neu
+ * lädt und nur einen noch laufenden Job abschließt; wer zuerst kommt (Callback oder Poll), gewinnt,
+ * der andere wartet auf die Sperre und sieht danach den abgeschlossenen Job. Nach erfolgreichem
+ * Abschluss wird das Ergebnis über {@link ProcessAnalysisResultUseCase} ins Inventar übernommen,
+ * sofern der Job einem Offer zugeordnet ist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisJobCompletion {
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final ProcessAnalysisResultUseCase processAnalysisResultUseCase;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Markiert den Job mit dem Ergebnis des AI-Service als erfolgreich.
+     */
+    public AnalysisJob succeed(AnalysisJob job, AnalysisResultResponse result) {
+        List<DetectedItem> items = result.detectedItems() != null
+                ? Arrays.stream(result.detectedItems()).map(AnalysisJobCompletion::mapToDetectedItem).toList()
+                : List.of();
+
+        Transition transition = transition(job, current -> current.completeSuccess(
+                items,
+                result.totalVolumeM3(),
+                result.roomType(),
+                result.processingTimeSeconds(),
+                Instant.now()
+        ));
+
+        if (transition.changed()) {
+            log.info("Job {} completed successfully with {} items, {} m³",
+                    job.id(), items.size(),
+                    result.totalVolumeM3() != null ? String.format("%.2f", result.totalVolumeM3()) : "unknown");
+            processResult(transition.job());
+        }
+        return transition.job();
+    }
+
+    /**
+     * Markiert den Job als fehlgeschlagen.
+     */
+    public AnalysisJob fail(AnalysisJob job, String errorMessage) {
+        String message = errorMessage != null && !errorMessage.isBlank()
+                ? errorMessage
+                : "Analysis failed (unknown error)";
+
+        Transition transition = transition(job, current -> current.completeFailure(message, Instant.now()));
+        if (transition.changed()) {
+            log.info("Job {} marked as failed: {}", job.id(), message);
+        }
+        return transition.job();
+    }
+
+    /**
+     * @param job     Stand nach dem Versuch
+     * @param changed Hat dieser Aufruf den Job abgeschlossen?
+     */
+    private record Transition(AnalysisJob job, boolean changed) {}
+
+    // ---- Helper ----
+
+    /**
+     * Schließt den Job in einer eigenen kurzen Transaktion ab. Der Job wird dafür mit
+     * Schreibsperre neu geladen, damit Prüfung und Speichern nicht mit einem parallelen
+     * Abschluss verschränkt laufen; hat ihn inzwischen jemand anders abgeschlossen, bleibt
+     * dieser Stand.
+     */
+    private Transition transition(AnalysisJob job, UnaryOperator<AnalysisJob> change) {
+        return transactionTemplate.execute(status -> {
+            AnalysisJob current = analysisJobRepository.findByIdForUpdate(job.id()).orElse(job);
+            if (current.status() != AnalysisJobStatus.RUNNING) {
+                log.debug("Job {} changed concurrently to {}, keeping it", job.id(), current.status());
+                return new Transition(current, false);
+            }
+            return new Transition(analysisJobRepository.save(change.apply(current)), true);
+        });
+    }
+
+    private void processResult(AnalysisJob job) {
+        if (job.offerId() == null) {
+            log.debug("Job {} is not attached to an offer, no inventory created", job.id());
+            return;
+        }
+        try {
+            processAnalysisResultUseCase.execute(job.id());
+        } catch (RuntimeException e) {
+            // Job bleibt SUCCEEDED; processAllCompletedJobs holt das Inventar nach
+            log.error("Creating inventory from analysis job {} failed: {}", job.id(), e.getMessage());
+        }
+    }
+
+    private static DetectedItem mapToDetectedItem(AiServiceClient.DetectedItemResponse response) {
+        BoundingBox bbox = null;
+        if (response.boundingBox() != null) {
+            bbox = new BoundingBox(
+                    response.boundingBox().x(),
+                    response.boundingBox().y(),
+                    response.boundingBox().width(),
+                    response.boundingBox().height()
+            );
+        }
+
+        return new DetectedItem(
+                response.label(),
+                response.description(),
+                response.confidence(),
+                bbox,
+                response.estimatedVolumeM3(),
+                response.quantity()
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package at.mymove.ai.application;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobsChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-Process-Hub für Zustandsänderungen von AnalysisJobs.
+ *
+ * - Gespeist aus {@link AnalysisJobsChangedEvent}, zugestellt erst nach dem Commit - Abonnenten
+ *   sehen nie einen Stand, der noch zurückgerollt werden kann
+ * - Abonnements gelten pro Job; höchstens {@code mymove.ai.events.max-subscribers} insgesamt und
+ *   {@code mymove.ai.events.max-subscribers-per-job} pro Job
+ * - Listener laufen im Thread des Commits und müssen daher sofort zurückkehren (z. B. nur an
+ *   einen eigenen Thread übergeben)
+ *
+ * Der Hub kennt nur diese JVM; bei mehreren Instanzen sieht ein Abonnent nur Änderungen, die auf
+ * seiner Instanz gespeichert werden.
+ *
+ * Metrik: {@code mymove.ai.events.subscribers}.
+ */
+@Slf4j
+@Component
+public class AnalysisJobEventHub {
+
+    /**
+     * Ein Abonnement; {@link #close()} ist idempotent.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final Map<UUID, Set<Consumer<AnalysisJob>>> listeners = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final int maxSubscribers;
+    private final int maxSubscribersPerJob;
+
+    public AnalysisJobEventHub(
+            MeterRegistry meterRegistry,
+            @Value("${mymove.ai.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${mymove.ai.events.max-subscribers-per-job:20}") int maxSubscribersPerJob
+    ) {
+        if (maxSubscribers < 1 || maxSubscribersPerJob < 1) {
+            throw new IllegalArgumentException("ai events max-subscribers must be positive");
+        }
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerJob = maxSubscribersPerJob;
+        Gauge.builder("mymove.ai.events.subscribers", subscribers, AtomicInteger::get)
+                .description("Offene Abonnements auf Zustandsänderungen von Analyse-Jobs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abonniert die Änderungen eines Jobs.
+     *
+     * @return Leer, wenn das Limit insgesamt oder für diesen Job erreicht ist
+     */
+    public Optional<Subscription> subscribe(UUID jobId, Consumer<AnalysisJob> listener) {
+        if (jobId == null) throw new IllegalArgumentException("jobId is required");
+        if (listener == null) throw new IllegalArgumentException("listener is required");
+
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            return Optional.empty();
+        }
+
+        AtomicBoolean added = new AtomicBoolean();
+        listeners.compute(jobId, (id, current) -> {
+            Set<Consumer<AnalysisJob>> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            if (set.size() < maxSubscribersPerJob) {
+                added.set(set.add(listener));
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!added.get()) {
+            subscribers.decrementAndGet();
+            return Optional.empty();
+        }
+
+        AtomicBoolean closed = new AtomicBoolean();
+        return Optional.of(() -> {
+            if (closed.compareAndSet(false, true)) {
+                listeners.computeIfPresent(jobId, (id, set) -> {
+                    set.remove(listener);
+                    return set.isEmpty() ? null : set;
+                });
+                subscribers.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Anzahl offener Abonnements.
+     */
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(AnalysisJobsChangedEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (AnalysisJob job : event.jobs()) {
+            Set<Consumer<AnalysisJob>> set = listeners.get(job.id());
+            if (set == null) {
+                continue;
+            }
+            for (Consumer<AnalysisJob> listener : set) {
+                try {
+                    listener.accept(job);
+                } catch (RuntimeException e) {
+                    log.warn("Analysis job listener for job {} failed: {}", job.id(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package at.mymove.ai.application;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.RunningAnalysisJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Fragt den Status laufender AnalysisJobs periodisch beim AI-Service ab.
+ *
+ * - Jeder Tick ({@code mymove.ai.poller.tick-ms}) liest nur ID und Zeitstempel der RUNNING-Jobs
+ *   und verteilt die fälligen Prüfungen auf virtuelle Threads
+ * - Höchstens {@code mymove.ai.poller.max-concurrency} Prüfungen gleichzeitig; was keinen Platz
+ *   mehr hat, kommt im nächsten Tick dran (die am längsten fälligen zuerst)
+ * - Adaptives Intervall: {@code backoff-factor} × Laufzeit des Jobs, begrenzt auf
+ *   {@code min-interval-ms} bis {@code max-interval-ms} - junge Jobs werden oft, lang laufende
+ *   selten abgefragt
+ * - Jede Prüfung ist ein eigener {@link CheckAnalysisStatusUseCase#execute}-Aufruf, also eine
+ *   kurze Transaktion pro Job ohne offene Transaktion während der Remote-Aufrufe
+ *
+ * Metriken: {@code mymove.ai.poll.lag} (Verspätung gegenüber dem geplanten Zeitpunkt),
+ * {@code mymove.ai.poll.in-flight}, {@code mymove.ai.job.time-to-completion}
+ * (outcome=succeeded|failed, ab Erstellung des Jobs).
+ *
+ * Der Fälligkeitsplan liegt nur im Speicher; nach einem Neustart werden alle laufenden Jobs
+ * einmal sofort geprüft.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mymove.ai.poller.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalysisJobPoller {
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final CheckAnalysisStatusUseCase checkAnalysisStatusUseCase;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Map<UUID, Instant> nextPollAt = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final double backoffFactor;
+
+    private final Timer pollLag;
+    private final MeterRegistry meterRegistry;
+
+    public AnalysisJobPoller(
+            AnalysisJobRepository analysisJobRepository,
+            CheckAnalysisStatusUseCase checkAnalysisStatusUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.ai.poller.max-concurrency:64}") int maxConcurrency,
+            @Value("${mymove.ai.poller.min-interval-ms:1000}") long minIntervalMs,
+            @Value("${mymove.ai.poller.max-interval-ms:30000}") long maxIntervalMs,
+            @Value("${mymove.ai.poller.backoff-factor:0.1}") double backoffFactor
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("ai poller max-concurrency must be positive");
+        }
+        if (minIntervalMs < 1 || maxIntervalMs < minIntervalMs) {
+            throw new IllegalArgumentException("ai poller intervals must satisfy 0 < min-interval-ms <= max-interval-ms");
+        }
+        if (backoffFactor < 0) {
+            throw new IllegalArgumentException("ai poller backoff-factor must not be negative");
+        }
+        this.analysisJobRepository = analysisJobRepository;
+        this.checkAnalysisStatusUseCase = checkAnalysisStatusUseCase;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency);
+        this.minInterval = Duration.ofMillis(minIntervalMs);
+        this.maxInterval = Duration.ofMillis(maxIntervalMs);
+        this.backoffFactor = backoffFactor;
+        this.pollLag = Timer.builder("mymove.ai.poll.lag")
+                .description("Verspätung einer Statusprüfung gegenüber ihrem geplanten Zeitpunkt")
+                .register(meterRegistry);
+        Gauge.builder("mymove.ai.poll.in-flight", inFlight, Set::size)
+                .description("Gerade laufende Statusprüfungen")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${mymove.ai.poller.initial-delay-ms:5000}",
+            fixedDelayString = "${mymove.ai.poller.tick-ms:500}"
+    )
+    public void scheduledPoll() {
+        try {
+            poll(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("Analysis job poll failed", e);
+        }
+    }
+
+    /**
+     * Ein Tick: startet alle zum Zeitpunkt {@code now} fälligen Prüfungen, soweit Plätze frei sind.
+     *
+     * @return Anzahl gestarteter Prüfungen
+     */
+    public int poll(Instant now) {
+        List<RunningAnalysisJob> running = analysisJobRepository.findRunning();
+
+        // Abgeschlossene oder gelöschte Jobs aus dem Plan nehmen
+        Set<UUID> runningIds = running.stream().map(RunningAnalysisJob::id).collect(Collectors.toSet());
+        nextPollAt.keySet().retainAll(runningIds);
+
+        List<RunningAnalysisJob> due = running.stream()
+                .filter(job -> !inFlight.contains(job.id()))
+                .filter(job -> !now.isBefore(dueAt(job)))
+                .sorted(Comparator.comparing(this::dueAt))
+                .toList();
+
+        int dispatched = 0;
+        for (RunningAnalysisJob job : due) {
+            if (!permits.tryAcquire()) {
+                log.debug("Analysis poller saturated, {} due jobs deferred", due.size() - dispatched);
+                break;
+            }
+            Instant scheduledAt = dueAt(job);
+            inFlight.add(job.id());
+            try {
+                executor.execute(() -> check(job, scheduledAt));
+            } catch (RuntimeException e) {
+                inFlight.remove(job.id());
+                permits.release();
+                throw e;
+            }
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ---- Helper ----
+
+    private void check(RunningAnalysisJob job, Instant scheduledAt) {
+        try {
+            Instant start = Instant.now();
+            pollLag.record(start.isAfter(scheduledAt) ? Duration.between(scheduledAt, start) : Duration.ZERO);
+
+            AnalysisJob result = checkAnalysisStatusUseCase.execute(job.id());
+            if (result.isCompleted()) {
+                nextPollAt.remove(job.id());
+                Instant completedAt = result.completedAt() != null ? result.completedAt() : Instant.now();
+                Timer.builder("mymove.ai.job.time-to-completion")
+                        .description("Zeit von der Erstellung eines Analyse-Jobs bis zum erkannten Abschluss")
+                        .tag("outcome", result.status().name().toLowerCase())
+                        .register(meterRegistry)
+                        .record(Duration.between(job.createdAt(), completedAt));
+            } else {
+                scheduleNext(job);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Status check for analysis job {} failed: {}", job.id(), e.getMessage());
+            scheduleNext(job);
+        } finally {
+            inFlight.remove(job.id());
+            permits.release();
+        }
+    }
+
+    private Instant dueAt(RunningAnalysisJob job) {
+        return nextPollAt.computeIfAbsent(job.id(), id -> job.startedAt().plus(minInterval));
+    }
+
+    private void scheduleNext(RunningAnalysisJob job) {
+        Instant now = Instant.now();
+        nextPollAt.put(job.id(), now.plus(interval(job, now)));
+    }
+
+    /**
+     * Poll-Intervall abhängig von der bisherigen Laufzeit des Jobs.
+     */
+    private Duration interval(RunningAnalysisJob job, Instant now) {
+        long ageMs = Math.max(0, Duration.between(job.startedAt(), now).toMillis());
+        long intervalMs = (long) (ageMs * backoffFactor);
+        return Duration.ofMillis(Math.clamp(intervalMs, minInterval.toMillis(), maxInterval.toMillis()));
+    }
+}
@@ -2,7 +2,9 @@ package at.mymove.ai.application;
 
 import at.mymove.ai.domain.AnalysisJob;
 import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.RunningAnalysisJob;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +16,36 @@ public interface AnalysisJobRepository {
 
     AnalysisJob save(AnalysisJob job);
 
+    /**
+     * Speichert viele Jobs auf einmal (neue per INSERT, bestehende per UPDATE, jeweils als JDBC-Batch).
+     */
+    List<AnalysisJob> saveAll(List<AnalysisJob> jobs);
+
     Optional<AnalysisJob> findById(UUID id);
 
+    /**
+     * Lädt einen Job und sperrt ihn bis zum Ende der laufenden Transaktion für andere
+     * Schreiber. Serialisiert konkurrierende Abschlüsse (Callback und Poller).
+     */
+    Optional<AnalysisJob> findByIdForUpdate(UUID id);
+
     List<AnalysisJob> findByVideoId(UUID videoId);
 
+    /**
+     * Noch nicht abgeschlossene Jobs (PENDING, RUNNING) der angegebenen Videos.
+     */
+    List<AnalysisJob> findActiveByVideoIds(Collection<UUID> videoIds);
+
     Optional<AnalysisJob> findByOfferId(UUID offerId);
 
+    Optional<AnalysisJob> findByExternalJobId(String externalJobId);
+
     List<AnalysisJob> findByStatus(AnalysisJobStatus status);
 
+    /**
+     * Alle Jobs in RUNNING, ohne Items/Ergebnis zu laden (für den Status-Poller).
+     */
+    List<RunningAnalysisJob> findRunning();
+
     void delete(AnalysisJob job);
 }
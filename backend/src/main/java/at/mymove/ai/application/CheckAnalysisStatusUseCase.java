@@ -8,17 +8,18 @@ import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisResultResponse
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Use Case: Prüft den Status eines AnalysisJob beim AI-Service.
  *
  * Dieser Use Case polled den AI-Service und aktualisiert den lokalen Job-Status.
- * Wird typischerweise vom Frontend oder einem Scheduler aufgerufen.
+ * Wird vom Frontend und vom {@link AnalysisJobPoller} aufgerufen; im Normalfall meldet der
+ * AI-Service den Abschluss aber selbst per Webhook ({@link HandleAnalysisCallbackUseCase}).
+ *
+ * Die Aufrufe beim AI-Service laufen außerhalb jeder Transaktion; nur der Statuswechsel
+ * selbst läuft in einer kurzen eigenen Transaktion ({@link AnalysisJobCompletion}).
  */
 @Slf4j
 @Service
@@ -27,6 +28,7 @@ public class CheckAnalysisStatusUseCase {
 
     private final AnalysisJobRepository analysisJobRepository;
     private final AiServiceClient aiServiceClient;
+    private final AnalysisJobCompletion analysisJobCompletion;
 
     /**
      * Prüft und aktualisiert den Status eines Jobs.
@@ -34,7 +36,6 @@ public class CheckAnalysisStatusUseCase {
      * @param jobId ID des AnalysisJob
      * @return Der aktualisierte Job
      */
-    @Transactional
     public AnalysisJob execute(UUID jobId) {
         if (jobId == null) {
             throw new IllegalArgumentException("jobId is required");
@@ -55,9 +56,8 @@ public class CheckAnalysisStatusUseCase {
             return job;
         }
 
-        // Status vom AI-Service holen
-        // Für den Mock verwenden wir die jobId als externalJobId
-        String externalJobId = job.id().toString();
+        // Status vom AI-Service holen (Altbestand ohne externe ID: lokale ID)
+        String externalJobId = externalJobId(job);
 
         try {
             AnalysisJobStatusResponse statusResponse = aiServiceClient.getJobStatus(externalJobId);
@@ -78,24 +78,6 @@ public class CheckAnalysisStatusUseCase {
         }
     }
 
-    /**
-     * Prüft alle laufenden Jobs (für Batch-Processing/Scheduler).
-     */
-    @Transactional
-    public void checkAllRunningJobs() {
-        var runningJobs = analysisJobRepository.findByStatus(AnalysisJobStatus.RUNNING);
-
-        log.info("Checking status for {} running analysis jobs", runningJobs.size());
-
-        for (AnalysisJob job : runningJobs) {
-            try {
-                execute(job.id());
-            } catch (Exception e) {
-                log.error("Error checking job {}: {}", job.id(), e.getMessage());
-            }
-        }
-    }
-
     private AnalysisJob updateJobStatus(AnalysisJob job, AnalysisJobStatusResponse statusResponse) {
         return switch (statusResponse.status().toLowerCase()) {
             case "pending" -> {
@@ -112,7 +94,7 @@ public class CheckAnalysisStatusUseCase {
             }
             case "failed" -> {
                 // Fehlgeschlagen
-                yield handleFailure(job, statusResponse.errorMessage());
+                yield analysisJobCompletion.fail(job, statusResponse.errorMessage());
             }
             default -> {
                 log.warn("Unknown status '{}' for job {}", statusResponse.status(), job.id());
@@ -122,68 +104,17 @@ public class CheckAnalysisStatusUseCase {
     }
 
     private AnalysisJob handleSuccess(AnalysisJob job) {
-        String externalJobId = job.id().toString();
-        AnalysisResultResponse result = aiServiceClient.getJobResult(externalJobId);
+        AnalysisResultResponse result = aiServiceClient.getJobResult(externalJobId(job));
 
         if (result == null) {
             log.warn("No result available for succeeded job {}", job.id());
             return job;
         }
 
-        // Items mappen
-        var items = java.util.Arrays.stream(result.detectedItems())
-                .map(this::mapToDetectedItem)
-                .toList();
-
-        // Job als erfolgreich markieren
-        AnalysisJob completedJob = job.completeSuccess(
-                items,
-                result.totalVolumeM3(),
-                result.roomType(),
-                result.processingTimeSeconds(),
-                Instant.now()
-        );
-
-        completedJob = analysisJobRepository.save(completedJob);
-
-        log.info("Job {} completed successfully with {} items, {} m³",
-                job.id(), items.size(),
-                result.totalVolumeM3() != null ? String.format("%.2f", result.totalVolumeM3()) : "unknown");
-
-        return completedJob;
-    }
-
-    private AnalysisJob handleFailure(AnalysisJob job, String errorMessage) {
-        String message = errorMessage != null ? errorMessage : "Analysis failed (unknown error)";
-
-        AnalysisJob failedJob = job.completeFailure(message, Instant.now());
-        failedJob = analysisJobRepository.save(failedJob);
-
-        log.info("Job {} marked as failed: {}", job.id(), message);
-
-        return failedJob;
+        return analysisJobCompletion.succeed(job, result);
     }
 
-    private at.mymove.ai.domain.DetectedItem mapToDetectedItem(
-            AiServiceClient.DetectedItemResponse response
-    ) {
-        at.mymove.ai.domain.BoundingBox bbox = null;
-        if (response.boundingBox() != null) {
-            bbox = new at.mymove.ai.domain.BoundingBox(
-                    response.boundingBox().x(),
-                    response.boundingBox().y(),
-                    response.boundingBox().width(),
-                    response.boundingBox().height()
-            );
-        }
-
-        return new at.mymove.ai.domain.DetectedItem(
-                response.label(),
-                response.description(),
-                response.confidence(),
-                bbox,
-                response.estimatedVolumeM3(),
-                response.quantity()
-        );
+    private static String externalJobId(AnalysisJob job) {
+        return job.externalJobId() != null ? job.externalJobId() : job.id().toString();
     }
 }
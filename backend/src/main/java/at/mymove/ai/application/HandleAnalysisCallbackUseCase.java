@@ -0,0 +1,59 @@
+package at.mymove.ai.application;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisCallback;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case: Verarbeitet einen (bereits verifizierten) Webhook-Callback des AI-Service.
+ *
+ * Der AI-Service meldet Abschluss und Ergebnis selbst, statt dass jeder Job abgefragt werden
+ * muss. Der Job wird direkt aktualisiert und bei Erfolg ins Inventar übernommen
+ * ({@link AnalysisJobCompletion}). Wiederholte Callbacks für abgeschlossene Jobs sind ohne
+ * Wirkung; verlorene Callbacks holt der {@link AnalysisJobPoller} nach.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HandleAnalysisCallbackUseCase {
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisJobCompletion analysisJobCompletion;
+
+    /**
+     * @param callback Gemeldeter Status (jobId = externe Job-ID beim AI-Service)
+     * @return Der aktualisierte Job
+     */
+    public AnalysisJob execute(AnalysisCallback callback) {
+        if (callback == null || callback.jobId() == null || callback.jobId().isBlank()) {
+            throw new IllegalArgumentException("jobId is required");
+        }
+        if (callback.status() == null || callback.status().isBlank()) {
+            throw new IllegalArgumentException("status is required");
+        }
+
+        AnalysisJob job = analysisJobRepository.findByExternalJobId(callback.jobId())
+                .orElseThrow(() -> new IllegalArgumentException("AnalysisJob not found: " + callback.jobId()));
+
+        if (job.isCompleted()) {
+            log.debug("Ignoring callback for job {}, already {}", job.id(), job.status());
+            return job;
+        }
+
+        log.debug("Received callback '{}' for job {}", callback.status(), job.id());
+
+        return switch (callback.status().toLowerCase()) {
+            case "pending", "running" -> job;
+            case "succeeded" -> {
+                if (callback.result() == null) {
+                    throw new IllegalArgumentException("result is required for status succeeded");
+                }
+                yield analysisJobCompletion.succeed(job, callback.result());
+            }
+            case "failed" -> analysisJobCompletion.fail(job, callback.errorMessage());
+            default -> throw new IllegalArgumentException("Unknown status: " + callback.status());
+        };
+    }
+}
@@ -1,14 +1,27 @@
 package at.mymove.ai.application;
 
 import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobStatus;
 import at.mymove.ai.infrastructure.client.AiServiceClient;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisSubmission;
+import at.mymove.ai.infrastructure.client.AiServiceClient.SubmittedJob;
 import at.mymove.video.application.VideoRepository;
 import at.mymove.video.domain.Video;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -19,15 +32,73 @@ import java.util.UUID;
  * 2. Erstellt einen AnalysisJob
  * 3. Schickt den Job an den AI-Service
  * 4. Speichert den Job mit externer ID
+ *
+ * Für viele Videos (z. B. Neuanalyse nach einem Modell-Update) gibt es {@link #executeBatch}:
+ * - Prüfung und Anlage aller Jobs in einer Transaktion, die Jobs als ein JDBC-Batch
+ * - Übermittlung in Fenstern zu {@code mymove.ai.trigger.window-size} Jobs (Kapazität des
+ *   AI-Service), jedes Fenster über die Batch-Schnittstelle des {@link AiServiceClient}
+ * - Pro Fenster eine kurze Transaktion für die Statusänderungen, keine offene Transaktion
+ *   während der Remote-Aufrufe
+ *
+ * Die PENDING-Jobs sind committet, bevor das erste Fenster übermittelt wird. Bricht der Batch
+ * danach ab (Absturz, Fehler beim Speichern), bleiben sie PENDING. Ein PENDING-Job älter als
+ * {@code mymove.ai.trigger.pending-timeout-ms} gilt daher nicht mehr als laufend: er wird beim
+ * nächsten Start für sein Video als FAILED abgeschlossen und durch einen neuen Job ersetzt.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TriggerAnalysisUseCase {
 
+    /** Max. Anzahl IDs pro IN-Abfrage. */
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
     private final AnalysisJobRepository analysisJobRepository;
     private final VideoRepository videoRepository;
     private final AiServiceClient aiServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int windowSize;
+    private final int maxVideos;
+    private final Duration pendingTimeout;
+
+    /**
+     * Ergebnis von {@link #executeBatch}.
+     *
+     * @param jobs            Neu angelegte Jobs (RUNNING oder bei abgelehnter Übermittlung FAILED)
+     * @param alreadyActive   Bereits laufende Jobs, für deren Videos kein neuer Job angelegt wurde
+     * @param unknownVideoIds Video-IDs, zu denen es kein Video gibt
+     */
+    public record BatchResult(
+            List<AnalysisJob> jobs,
+            List<AnalysisJob> alreadyActive,
+            List<UUID> unknownVideoIds
+    ) {}
+
+    public TriggerAnalysisUseCase(
+            AnalysisJobRepository analysisJobRepository,
+            VideoRepository videoRepository,
+            AiServiceClient aiServiceClient,
+            TransactionTemplate transactionTemplate,
+            @Value("${mymove.ai.trigger.window-size:200}") int windowSize,
+            @Value("${mymove.ai.trigger.max-videos:10000}") int maxVideos,
+            @Value("${mymove.ai.trigger.pending-timeout-ms:1800000}") long pendingTimeoutMs
+    ) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("ai trigger window-size must be positive");
+        }
+        if (maxVideos < 1) {
+            throw new IllegalArgumentException("ai trigger max-videos must be positive");
+        }
+        if (pendingTimeoutMs < 1) {
+            throw new IllegalArgumentException("ai trigger pending-timeout-ms must be positive");
+        }
+        this.analysisJobRepository = analysisJobRepository;
+        this.videoRepository = videoRepository;
+        this.aiServiceClient = aiServiceClient;
+        this.transactionTemplate = transactionTemplate;
+        this.windowSize = windowSize;
+        this.maxVideos = maxVideos;
+        this.pendingTimeout = Duration.ofMillis(pendingTimeoutMs);
+    }
 
     /**
      * Startet die Analyse für ein Video.
@@ -46,9 +117,12 @@ public class TriggerAnalysisUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("Video not found: " + videoId));
 
         // Prüfen ob bereits ein Job läuft
+        Instant now = Instant.now();
         var existingJobs = analysisJobRepository.findByVideoId(videoId);
         for (var job : existingJobs) {
-            if (!job.isCompleted()) {
+            if (isAbandoned(job, now)) {
+                analysisJobRepository.save(abandon(job, now));
+            } else if (!job.isCompleted()) {
                 log.info("Analysis already in progress for video {}, returning existing job {}",
                         videoId, job.id());
                 return job;
@@ -62,7 +136,7 @@ public class TriggerAnalysisUseCase {
 
         // Video-URL bauen (für den AI-Service)
         // In Produktion: echte URL oder temporärer Download-Link
-        String videoUrl = buildVideoUrl(video);
+        String videoUrl = buildVideoUrl(video.id());
 
         // An AI-Service senden
         try {
@@ -70,7 +144,7 @@ public class TriggerAnalysisUseCase {
             log.info("Submitted job {} to AI-Service, external ID: {}", job.id(), externalJobId);
 
             // Job auf RUNNING setzen
-            job = job.start(java.time.Instant.now());
+            job = job.start(externalJobId, java.time.Instant.now());
             job = analysisJobRepository.save(job);
 
         } catch (Exception e) {
@@ -99,9 +173,136 @@ public class TriggerAnalysisUseCase {
         return job;
     }
 
-    private String buildVideoUrl(Video video) {
+    /**
+     * Startet die Analyse für viele Videos auf einmal.
+     *
+     * Doppelte IDs werden ignoriert; Videos mit laufendem Job und unbekannte Videos werden im
+     * Ergebnis ausgewiesen statt den ganzen Batch abzubrechen.
+     *
+     * @param videoIds IDs der Videos (höchstens {@code mymove.ai.trigger.max-videos})
+     */
+    public BatchResult executeBatch(List<UUID> videoIds) {
+        if (videoIds == null || videoIds.isEmpty()) {
+            throw new IllegalArgumentException("videoIds is required");
+        }
+        if (videoIds.contains(null)) {
+            throw new IllegalArgumentException("videoIds must not contain null");
+        }
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(videoIds));
+        if (distinct.size() > maxVideos) {
+            throw new IllegalArgumentException("At most " + maxVideos + " videos per batch");
+        }
+
+        BatchResult created = transactionTemplate.execute(status -> createJobs(distinct));
+        log.info("Created {} analysis jobs in batch ({} already active, {} unknown videos)",
+                created.jobs().size(), created.alreadyActive().size(), created.unknownVideoIds().size());
+
+        List<AnalysisJob> jobs = new ArrayList<>(created.jobs().size());
+        for (int from = 0; from < created.jobs().size(); from += windowSize) {
+            List<AnalysisJob> window = created.jobs()
+                    .subList(from, Math.min(created.jobs().size(), from + windowSize));
+            List<AnalysisJob> submitted = submitWindow(window);
+            jobs.addAll(transactionTemplate.execute(status -> analysisJobRepository.saveAll(submitted)));
+        }
+
+        return new BatchResult(jobs, created.alreadyActive(), created.unknownVideoIds());
+    }
+
+    /**
+     * Legt die PENDING-Jobs für alle bekannten Videos ohne laufenden Job an (ein saveAll).
+     * Liegengebliebene PENDING-Jobs werden dabei als FAILED abgeschlossen.
+     */
+    private BatchResult createJobs(List<UUID> videoIds) {
+        Instant now = Instant.now();
+        List<AnalysisJob> newJobs = new ArrayList<>();
+        List<AnalysisJob> abandoned = new ArrayList<>();
+        List<AnalysisJob> alreadyActive = new ArrayList<>();
+        List<UUID> unknownVideoIds = new ArrayList<>();
+
+        for (int from = 0; from < videoIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<UUID> chunk = videoIds.subList(from, Math.min(videoIds.size(), from + QUERY_CHUNK_SIZE));
+            Set<UUID> existing = new HashSet<>(videoRepository.findExistingIds(chunk));
+            Map<UUID, AnalysisJob> active = new HashMap<>();
+            for (AnalysisJob job : analysisJobRepository.findActiveByVideoIds(chunk)) {
+                if (isAbandoned(job, now)) {
+                    abandoned.add(abandon(job, now));
+                } else {
+                    active.putIfAbsent(job.videoId(), job);
+                }
+            }
+
+            for (UUID videoId : chunk) {
+                if (!existing.contains(videoId)) {
+                    unknownVideoIds.add(videoId);
+                } else if (active.containsKey(videoId)) {
+                    alreadyActive.add(active.get(videoId));
+                } else {
+                    newJobs.add(AnalysisJob.create(videoId));
+                }
+            }
+        }
+
+        if (!abandoned.isEmpty()) {
+            analysisJobRepository.saveAll(abandoned);
+            log.warn("Failed {} analysis jobs left PENDING for more than {}", abandoned.size(), pendingTimeout);
+        }
+        return new BatchResult(analysisJobRepository.saveAll(newJobs), alreadyActive, unknownVideoIds);
+    }
+
+    /**
+     * PENDING-Job, dessen Batch nie bis zur Übermittlung kam.
+     */
+    private boolean isAbandoned(AnalysisJob job, Instant now) {
+        return job.status() == AnalysisJobStatus.PENDING
+                && job.createdAt().plus(pendingTimeout).isBefore(now);
+    }
+
+    private AnalysisJob abandon(AnalysisJob job, Instant now) {
+        return job.completeFailure("Not submitted to AI-Service within " + pendingTimeout, now);
+    }
+
+    /**
+     * Übermittelt ein Fenster an den AI-Service und gibt die Jobs im neuen Zustand zurück
+     * (RUNNING mit externer ID oder FAILED mit Fehlermeldung).
+     */
+    private List<AnalysisJob> submitWindow(List<AnalysisJob> window) {
+        List<AnalysisSubmission> submissions = window.stream()
+                .map(job -> new AnalysisSubmission(job.videoId(), buildVideoUrl(job.videoId())))
+                .toList();
+
+        Map<UUID, SubmittedJob> byVideo = new HashMap<>();
+        String windowError = null;
+        try {
+            for (SubmittedJob submitted : aiServiceClient.submitAnalysisJobs(submissions)) {
+                byVideo.put(submitted.videoId(), submitted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to submit {} jobs to AI-Service: {}", window.size(), e.getMessage());
+            windowError = e.getMessage();
+        }
+
+        Instant now = Instant.now();
+        List<AnalysisJob> result = new ArrayList<>(window.size());
+        int accepted = 0;
+        for (AnalysisJob job : window) {
+            SubmittedJob submitted = byVideo.get(job.videoId());
+            if (submitted != null && submitted.accepted()) {
+                result.add(job.start(submitted.jobId(), now));
+                accepted++;
+            } else {
+                String error = windowError != null ? windowError
+                        : submitted != null ? submitted.errorMessage()
+                        : "No response from AI-Service";
+                result.add(job.completeFailure("Failed to connect to AI-Service: " + error, now));
+            }
+        }
+        log.info("Submitted {} of {} jobs to AI-Service", accepted, window.size());
+        return result;
+    }
+
+    private String buildVideoUrl(UUID videoId) {
         // Mock: Lokaler Pfad oder URL
         // In Produktion: Presigned URL oder interner Storage-Link
-        return "/videos/" + video.id();
+        return "/videos/" + videoId;
     }
 }
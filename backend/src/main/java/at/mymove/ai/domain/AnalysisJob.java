@@ -14,6 +14,7 @@ import java.util.UUID;
  * @param id              Eindeutige Job-ID
  * @param videoId         Referenz zum Video
  * @param offerId         Referenz zum Offer (optional bis zur Verknüpfung)
+ * @param externalJobId   Job-ID beim AI-Service (null bis zum Start)
  * @param status          Aktueller Status
  * @param detectedItems   Erkannte Items (nur bei SUCCEEDED)
  * @param errorMessage    Fehlermeldung (nur bei FAILED)
@@ -29,6 +30,7 @@ public record AnalysisJob(
         UUID id,
         UUID videoId,
         UUID offerId,
+        String externalJobId,
         AnalysisJobStatus status,
         List<DetectedItem> detectedItems,
         String errorMessage,
@@ -98,6 +100,7 @@ public record AnalysisJob(
                 UUID.randomUUID(),
                 videoId,
                 null,
+                null,
                 AnalysisJobStatus.PENDING,
                 null,
                 null,
@@ -112,18 +115,22 @@ public record AnalysisJob(
     }
 
     /**
-     * Startet den Job.
+     * Startet den Job, nachdem ihn der AI-Service unter {@code externalJobId} angenommen hat.
      */
-    public AnalysisJob start(Instant now) {
+    public AnalysisJob start(String externalJobId, Instant now) {
         if (status != AnalysisJobStatus.PENDING) {
             throw new IllegalStateException("Only PENDING jobs can be started");
         }
+        if (externalJobId == null || externalJobId.isBlank()) {
+            throw new IllegalArgumentException("externalJobId is required");
+        }
         if (now == null) throw new IllegalArgumentException("now is required");
 
         return new AnalysisJob(
                 id,
                 videoId,
                 offerId,
+                externalJobId,
                 AnalysisJobStatus.RUNNING,
                 null,
                 null,
@@ -157,6 +164,7 @@ public record AnalysisJob(
                 id,
                 videoId,
                 offerId,
+                externalJobId,
                 AnalysisJobStatus.SUCCEEDED,
                 items,
                 null,
@@ -184,6 +192,7 @@ public record AnalysisJob(
                 id,
                 videoId,
                 offerId,
+                externalJobId,
                 AnalysisJobStatus.FAILED,
                 null,
                 error,
@@ -208,6 +217,7 @@ public record AnalysisJob(
                 id,
                 videoId,
                 offerId,
+                externalJobId,
                 status,
                 detectedItems,
                 errorMessage,
@@ -229,6 +239,7 @@ public record AnalysisJob(
                 id,
                 videoId,
                 offerId,
+                null,
                 AnalysisJobStatus.PENDING,
                 null,
                 null,
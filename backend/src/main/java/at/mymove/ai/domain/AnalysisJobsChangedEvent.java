@@ -0,0 +1,19 @@
+package at.mymove.ai.domain;
+
+import java.util.List;
+
+/**
+ * Wird nach dem Speichern eines oder mehrerer AnalysisJobs veröffentlicht
+ * (synchron, innerhalb der laufenden Transaktion).
+ *
+ * @param jobs Gespeicherter Stand der Jobs
+ */
+public record AnalysisJobsChangedEvent(List<AnalysisJob> jobs) {
+
+    public AnalysisJobsChangedEvent {
+        if (jobs == null) {
+            throw new IllegalArgumentException("jobs is required");
+        }
+        jobs = List.copyOf(jobs);
+    }
+}
@@ -0,0 +1,24 @@
+package at.mymove.ai.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Schlanke Sicht auf einen laufenden AnalysisJob für den Status-Poller.
+ *
+ * @param id        Job-ID
+ * @param createdAt Erstellungszeitpunkt (Basis für die Zeit bis zum Abschluss)
+ * @param startedAt Start beim AI-Service (Basis für das Poll-Intervall)
+ */
+public record RunningAnalysisJob(
+        UUID id,
+        Instant createdAt,
+        Instant startedAt
+) {
+
+    public RunningAnalysisJob {
+        if (id == null) throw new IllegalArgumentException("id is required");
+        if (createdAt == null) throw new IllegalArgumentException("createdAt is required");
+        if (startedAt == null) throw new IllegalArgumentException("startedAt is required");
+    }
+}
@@ -0,0 +1,96 @@
+package at.mymove.ai.infrastructure.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Signatur der Webhook-Callbacks des AI-Service.
+ *
+ * Signiert wird {@code <timestamp>.<body>} per HMAC-SHA256 mit dem gemeinsamen Secret
+ * ({@code ai.callback.secret}); der Header enthält {@code sha256=<hex>}. Callbacks, deren
+ * Zeitstempel mehr als {@code ai.callback.tolerance-seconds} abweicht, werden abgelehnt,
+ * damit mitgeschnittene Requests nicht später erneut eingespielt werden können.
+ */
+@Slf4j
+@Component
+public class AiCallbackSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PREFIX = "sha256=";
+
+    private final byte[] secret;
+    private final Duration tolerance;
+
+    public AiCallbackSigner(
+            @Value("${ai.callback.secret:}") String secret,
+            @Value("${ai.callback.tolerance-seconds:300}") long toleranceSeconds
+    ) {
+        if (toleranceSeconds < 1) {
+            throw new IllegalArgumentException("ai.callback.tolerance-seconds must be positive");
+        }
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.tolerance = Duration.ofSeconds(toleranceSeconds);
+        if (this.secret.length == 0) {
+            log.warn("ai.callback.secret is not set, AI callbacks will be rejected");
+        }
+    }
+
+    public boolean isConfigured() {
+        return secret.length > 0;
+    }
+
+    /**
+     * Signatur-Header für einen Body zum Zeitpunkt {@code timestamp} (Epoch-Sekunden).
+     */
+    public String sign(long timestamp, byte[] body) {
+        if (!isConfigured()) {
+            throw new IllegalStateException("ai.callback.secret is not configured");
+        }
+        return PREFIX + HexFormat.of().formatHex(hmac(timestamp, body));
+    }
+
+    /**
+     * Prüft Signatur und Zeitstempel eines eingehenden Callbacks.
+     */
+    public boolean verify(String timestamp, String signature, byte[] body, Instant now) {
+        if (!isConfigured() || timestamp == null || signature == null || !signature.startsWith(PREFIX)) {
+            return false;
+        }
+        long epochSeconds;
+        byte[] provided;
+        try {
+            epochSeconds = Long.parseLong(timestamp.trim());
+            provided = HexFormat.of().parseHex(signature.substring(PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        Duration skew = Duration.between(Instant.ofEpochSecond(epochSeconds), now).abs();
+        if (skew.compareTo(tolerance) > 0) {
+            return false;
+        }
+        return MessageDigest.isEqual(hmac(epochSeconds, body), provided);
+    }
+
+    // ---- Helper ----
+
+    private byte[] hmac(long timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
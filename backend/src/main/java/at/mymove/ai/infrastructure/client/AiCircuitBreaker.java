@@ -0,0 +1,104 @@
+package at.mymove.ai.infrastructure.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Einfacher Circuit Breaker für den AI-Service.
+ *
+ * - CLOSED: Aufrufe laufen durch; nach {@code failureThreshold} Fehlern in Folge → OPEN
+ * - OPEN: Aufrufe werden sofort abgelehnt, bis {@code openDuration} vorbei ist → HALF_OPEN
+ * - HALF_OPEN: genau ein Probeaufruf; Erfolg → CLOSED, Fehler → wieder OPEN, Abbruch ohne
+ *   Ergebnis → der nächste Aufruf darf proben
+ *
+ * Fehler im Sinne des Breakers sind nur Netzwerkfehler, Timeouts und 5xx - Antworten wie 404
+ * zeigen, dass der Service erreichbar ist.
+ */
+class AiCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Darf ein Aufruf starten? Im HALF_OPEN-Zustand wird dabei der Probeaufruf vergeben.
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (nanoClock.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                return true;
+            }
+            default -> {
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * Aufruf ohne Ergebnis abgebrochen (z. B. Interrupt): sagt nichts über den Service aus, gibt
+     * aber einen vergebenen Probeaufruf wieder frei, damit HALF_OPEN nicht hängen bleibt.
+     */
+    synchronized void onAbort() {
+        probeInFlight = false;
+    }
+
+    /**
+     * Aktueller Zustand; ein abgelaufenes OPEN wird als HALF_OPEN gemeldet.
+     */
+    synchronized State state() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+}
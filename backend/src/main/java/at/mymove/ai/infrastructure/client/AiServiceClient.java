@@ -2,6 +2,8 @@ package at.mymove.ai.infrastructure.client;
 
 import at.mymove.ai.domain.AnalysisJob;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -37,6 +39,56 @@ public interface AiServiceClient {
      */
     AnalysisResultResponse getJobResult(String externalJobId);
 
+    /**
+     * Startet Analysen für viele Videos auf einmal.
+     *
+     * Implementierungen teilen große Listen selbst in Requests passender Größe auf. Ein Fehler
+     * betrifft nur den jeweiligen Eintrag bzw. Request ({@link SubmittedJob#errorMessage()}).
+     * Die Standard-Implementierung ruft {@link #submitAnalysisJob} einzeln auf.
+     *
+     * @return Ein Eintrag pro Submission, in derselben Reihenfolge
+     */
+    default List<SubmittedJob> submitAnalysisJobs(List<AnalysisSubmission> submissions) {
+        List<SubmittedJob> submitted = new ArrayList<>(submissions.size());
+        for (AnalysisSubmission submission : submissions) {
+            try {
+                String jobId = submitAnalysisJob(submission.videoId(), submission.videoUrl());
+                submitted.add(new SubmittedJob(submission.videoId(), jobId, null));
+            } catch (RuntimeException e) {
+                submitted.add(new SubmittedJob(submission.videoId(), null, e.getMessage()));
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * Status vieler Jobs; unbekannte Jobs fehlen im Ergebnis.
+     */
+    default List<AnalysisJobStatusResponse> getJobStatuses(List<String> externalJobIds) {
+        List<AnalysisJobStatusResponse> statuses = new ArrayList<>(externalJobIds.size());
+        for (String externalJobId : externalJobIds) {
+            AnalysisJobStatusResponse status = getJobStatus(externalJobId);
+            if (status != null) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Ergebnisse vieler Jobs; unbekannte oder noch nicht fertige Jobs fehlen im Ergebnis.
+     */
+    default List<AnalysisResultResponse> getJobResults(List<String> externalJobIds) {
+        List<AnalysisResultResponse> results = new ArrayList<>(externalJobIds.size());
+        for (String externalJobId : externalJobIds) {
+            AnalysisResultResponse result = getJobResult(externalJobId);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
     /**
      * Bricht einen laufenden Job ab.
      *
@@ -52,8 +104,28 @@ public interface AiServiceClient {
      */
     boolean isHealthy();
 
+    // ---- Request DTOs ----
+
+    record AnalysisSubmission(
+            UUID videoId,
+            String videoUrl
+    ) {}
+
     // ---- Response DTOs ----
 
+    /**
+     * Ergebnis einer Submission im Batch: entweder {@code jobId} oder {@code errorMessage}.
+     */
+    record SubmittedJob(
+            UUID videoId,
+            String jobId,
+            String errorMessage
+    ) {
+        public boolean accepted() {
+            return jobId != null && !jobId.isBlank();
+        }
+    }
+
     record AnalysisJobStatusResponse(
             String jobId,
             String status,  // "pending", "running", "succeeded", "failed"
@@ -77,6 +149,17 @@ public interface AiServiceClient {
             int quantity
     ) {}
 
+    /**
+     * Body des Webhooks, mit dem der AI-Service einen Statuswechsel meldet
+     * ({@code POST /api/v1/ai/callbacks}, signiert über {@link AiCallbackSigner}).
+     */
+    record AnalysisCallback(
+            String jobId,
+            String status,  // "pending", "running", "succeeded", "failed"
+            String errorMessage,
+            AnalysisResultResponse result  // nur bei "succeeded"
+    ) {}
+
     record BoundingBoxResponse(
             int x,
             int y,
@@ -1,11 +1,20 @@
 package at.mymove.ai.infrastructure.client;
 
-import at.mymove.ai.domain.DetectedItem;
+import at.mymove.core.api.ApiHeaders;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -17,6 +26,9 @@ import java.util.concurrent.TimeUnit;
  *
  * Simuliert die AI-Analyse mit zufälligen Verzögerungen und Dummy-Daten.
  * Keine echte KI - perfekt zum Testen des Backends ohne Python-Service!
+ *
+ * Wie der echte Service meldet der Mock den Abschluss per signiertem Webhook an
+ * {@code ai.callback.url} (leer = kein Callback, dann greift nur das Polling).
  */
 @Slf4j
 @Component
@@ -25,6 +37,20 @@ public class AiServiceClientMock implements AiServiceClient {
 
     private final Map<String, MockJob> jobs = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final AiCallbackSigner callbackSigner;
+    private final ObjectMapper objectMapper;
+    private final RestClient restClient = RestClient.create();
+    private final String callbackUrl;
+
+    public AiServiceClientMock(
+            AiCallbackSigner callbackSigner,
+            ObjectMapper objectMapper,
+            @Value("${ai.callback.url:}") String callbackUrl
+    ) {
+        this.callbackSigner = callbackSigner;
+        this.objectMapper = objectMapper;
+        this.callbackUrl = callbackUrl;
+    }
 
     // Vorgefertigte Dummy-Erkennungen für realistische Testdaten
     private static final DetectedItemResponse[] SAMPLE_ITEMS = {
@@ -59,6 +85,34 @@ public class AiServiceClientMock implements AiServiceClient {
         return jobId;
     }
 
+    @Override
+    public List<SubmittedJob> submitAnalysisJobs(List<AnalysisSubmission> submissions) {
+        log.info("[MOCK] Submitting batch of {} analysis jobs", submissions.size());
+        return submissions.stream()
+                .map(submission -> new SubmittedJob(
+                        submission.videoId(),
+                        submitAnalysisJob(submission.videoId(), submission.videoUrl()),
+                        null
+                ))
+                .toList();
+    }
+
+    @Override
+    public List<AnalysisJobStatusResponse> getJobStatuses(List<String> externalJobIds) {
+        return externalJobIds.stream()
+                .map(this::getJobStatus)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<AnalysisResultResponse> getJobResults(List<String> externalJobIds) {
+        return externalJobIds.stream()
+                .map(this::getJobResult)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public AnalysisJobStatusResponse getJobStatus(String externalJobId) {
         MockJob job = jobs.get(externalJobId);
@@ -110,6 +164,7 @@ public class AiServiceClientMock implements AiServiceClient {
             job.status = "failed";
             job.errorMessage = "Simulated processing error";
             log.info("[MOCK] Job {} failed (simulated)", jobId);
+            fireCallback(job);
             return;
         }
 
@@ -145,6 +200,38 @@ public class AiServiceClientMock implements AiServiceClient {
 
         log.info("[MOCK] Job {} completed with {} items, {} m³",
                 jobId, itemCount, String.format("%.2f", totalVolume));
+        fireCallback(job);
+    }
+
+    /**
+     * Meldet den Endstatus wie der echte AI-Service per signiertem Webhook.
+     */
+    private void fireCallback(MockJob job) {
+        if (callbackUrl == null || callbackUrl.isBlank() || !callbackSigner.isConfigured()) {
+            return;
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new AnalysisCallback(
+                    job.jobId,
+                    job.status,
+                    job.errorMessage,
+                    job.result
+            ));
+            long timestamp = Instant.now().getEpochSecond();
+
+            restClient.post()
+                    .uri(callbackUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(ApiHeaders.CALLBACK_TIMESTAMP, Long.toString(timestamp))
+                    .header(ApiHeaders.CALLBACK_SIGNATURE, callbackSigner.sign(timestamp, body))
+                    .body(body)
+                    .retrieve()
+                    .toBodilessEntity();
+            log.info("[MOCK] Callback for job {} delivered", job.jobId);
+        } catch (JsonProcessingException | RestClientException e) {
+            // Kein Retry: der Poller gleicht verlorene Callbacks ab
+            log.warn("[MOCK] Callback for job {} failed: {}", job.jobId, e.getMessage());
+        }
     }
 
     private static class MockJob {
@@ -0,0 +1,14 @@
+package at.mymove.ai.infrastructure.client;
+
+/**
+ * Aufruf beim AI-Service fehlgeschlagen (Netzwerk, Timeout, Fehlerstatus oder offener Circuit Breaker).
+ */
+public class AiServiceException extends RuntimeException {
+    public AiServiceException(String message) {
+        super(message);
+    }
+
+    public AiServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,442 @@
+package at.mymove.ai.infrastructure.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP-Implementierung des AiServiceClient auf Basis des JDK-{@link HttpClient}.
+ *
+ * - HTTP/2 mit wiederverwendeten Verbindungen (ein Client für alle Aufrufe)
+ * - Eigene Deadline pro Aufrufart ({@code ai.service.timeouts.*}) statt eines globalen Timeouts;
+ *   Wiederholungen müssen innerhalb derselben Deadline bleiben
+ * - Wiederholung mit exponentiellem Backoff und Full Jitter nur für idempotente Aufrufe (GET),
+ *   nur bei Netzwerkfehlern, Timeouts, 429 und 5xx
+ * - Circuit Breaker ({@link AiCircuitBreaker}): bei offenem Breaker wird sofort abgelehnt und
+ *   {@link #isHealthy()} meldet false
+ * - Batch-Aufrufe werden in Requests zu höchstens {@code ai.service.batch.max-size} Einträgen
+ *   aufgeteilt; Status- und Ergebnisabfragen im Batch gelten als idempotent
+ *
+ * Endpunkte beim AI-Service: {@code POST /jobs}, {@code GET /jobs/{id}}, {@code GET /jobs/{id}/result},
+ * {@code POST /jobs/{id}/cancel}, {@code GET /health}, {@code POST /jobs/batch},
+ * {@code POST /jobs/batch/status}, {@code POST /jobs/batch/results}.
+ *
+ * Metriken: {@code mymove.ai.client.requests} (Histogramm; operation, outcome),
+ * {@code mymove.ai.client.retries}, {@code mymove.ai.client.circuit.open}.
+ */
+@Slf4j
+@Component
+@Profile("!dev & !test & !mock-ai")
+public class AiServiceHttpClient implements AiServiceClient {
+
+    private static final String OP_SUBMIT = "submit";
+    private static final String OP_STATUS = "status";
+    private static final String OP_RESULT = "result";
+    private static final String OP_CANCEL = "cancel";
+    private static final String OP_HEALTH = "health";
+    private static final String OP_SUBMIT_BATCH = "submit-batch";
+    private static final String OP_STATUS_BATCH = "status-batch";
+    private static final String OP_RESULT_BATCH = "result-batch";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final URI baseUri;
+    private final String callbackUrl;
+    private final Duration submitTimeout;
+    private final Duration readTimeout;
+    private final Duration healthTimeout;
+    private final int maxAttempts;
+    private final int batchMaxSize;
+    private final long retryBaseMs;
+    private final long retryMaxMs;
+    private final AiCircuitBreaker circuitBreaker;
+    private final Counter retries;
+
+    private record SubmitRequest(UUID videoId, String videoUrl, String callbackUrl) {}
+
+    private record SubmitResponse(String jobId) {}
+
+    private record BatchSubmitRequest(List<AnalysisSubmission> jobs, String callbackUrl) {}
+
+    private record BatchSubmitResponse(List<SubmittedJob> jobs) {}
+
+    private record BatchJobIdsRequest(List<String> jobIds) {}
+
+    private record BatchStatusResponse(List<AnalysisJobStatusResponse> jobs) {}
+
+    private record BatchResultResponse(List<AnalysisResultResponse> results) {}
+
+    public AiServiceHttpClient(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${ai.service.url}") String baseUrl,
+            @Value("${ai.callback.url:}") String callbackUrl,
+            @Value("${ai.service.timeouts.connect-ms:2000}") long connectTimeoutMs,
+            @Value("${ai.service.timeouts.submit-ms:10000}") long submitTimeoutMs,
+            @Value("${ai.service.timeouts.read-ms:5000}") long readTimeoutMs,
+            @Value("${ai.service.timeouts.health-ms:1000}") long healthTimeoutMs,
+            @Value("${ai.service.retry.max-attempts:3}") int maxAttempts,
+            @Value("${ai.service.retry.base-backoff-ms:100}") long retryBaseMs,
+            @Value("${ai.service.retry.max-backoff-ms:2000}") long retryMaxMs,
+            @Value("${ai.service.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ai.service.circuit-breaker.open-ms:30000}") long openMs,
+            @Value("${ai.service.batch.max-size:100}") int batchMaxSize
+    ) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalArgumentException("ai.service.url is required");
+        }
+        if (connectTimeoutMs < 1 || submitTimeoutMs < 1 || readTimeoutMs < 1 || healthTimeoutMs < 1) {
+            throw new IllegalArgumentException("ai.service.timeouts must be positive");
+        }
+        if (maxAttempts < 1 || retryBaseMs < 0 || retryMaxMs < retryBaseMs) {
+            throw new IllegalArgumentException("ai.service.retry settings are invalid");
+        }
+        if (batchMaxSize < 1) {
+            throw new IllegalArgumentException("ai.service.batch.max-size must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.callbackUrl = callbackUrl == null || callbackUrl.isBlank() ? null : callbackUrl;
+        this.submitTimeout = Duration.ofMillis(submitTimeoutMs);
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.healthTimeout = Duration.ofMillis(healthTimeoutMs);
+        this.maxAttempts = maxAttempts;
+        this.batchMaxSize = batchMaxSize;
+        this.retryBaseMs = retryBaseMs;
+        this.retryMaxMs = retryMaxMs;
+        this.circuitBreaker = new AiCircuitBreaker(failureThreshold, Duration.ofMillis(openMs));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.retries = Counter.builder("mymove.ai.client.retries")
+                .description("Wiederholte Aufrufe beim AI-Service")
+                .register(meterRegistry);
+        Gauge.builder("mymove.ai.client.circuit.open", circuitBreaker,
+                        breaker -> breaker.state() == AiCircuitBreaker.State.OPEN ? 1 : 0)
+                .description("1 = Circuit Breaker zum AI-Service offen")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String submitAnalysisJob(UUID videoId, String videoUrl) {
+        if (videoId == null) {
+            throw new IllegalArgumentException("videoId is required");
+        }
+        HttpRequest.Builder request = jsonPost("jobs", new SubmitRequest(videoId, videoUrl, callbackUrl));
+
+        // Nicht idempotent: ein Retry könnte den Job doppelt anlegen
+        HttpResponse<byte[]> response = execute(OP_SUBMIT, request, submitTimeout, false);
+        requireSuccess(OP_SUBMIT, response);
+
+        SubmitResponse submitted = fromJson(response.body(), SubmitResponse.class);
+        if (submitted == null || submitted.jobId() == null || submitted.jobId().isBlank()) {
+            throw new AiServiceException("AI service returned no jobId for video " + videoId);
+        }
+        log.info("Submitted analysis for video {} to AI service, job {}", videoId, submitted.jobId());
+        return submitted.jobId();
+    }
+
+    @Override
+    public List<SubmittedJob> submitAnalysisJobs(List<AnalysisSubmission> submissions) {
+        List<SubmittedJob> submitted = new ArrayList<>(submissions.size());
+        for (List<AnalysisSubmission> chunk : chunks(submissions)) {
+            submitted.addAll(submitChunk(chunk));
+        }
+        return submitted;
+    }
+
+    @Override
+    public List<AnalysisJobStatusResponse> getJobStatuses(List<String> externalJobIds) {
+        List<AnalysisJobStatusResponse> statuses = new ArrayList<>(externalJobIds.size());
+        for (List<String> chunk : chunks(externalJobIds)) {
+            HttpResponse<byte[]> response = execute(OP_STATUS_BATCH,
+                    jsonPost("jobs/batch/status", new BatchJobIdsRequest(chunk)), readTimeout, true);
+            requireSuccess(OP_STATUS_BATCH, response);
+            BatchStatusResponse body = fromJson(response.body(), BatchStatusResponse.class);
+            if (body != null && body.jobs() != null) {
+                statuses.addAll(body.jobs());
+            }
+        }
+        return statuses;
+    }
+
+    @Override
+    public List<AnalysisResultResponse> getJobResults(List<String> externalJobIds) {
+        List<AnalysisResultResponse> results = new ArrayList<>(externalJobIds.size());
+        for (List<String> chunk : chunks(externalJobIds)) {
+            HttpResponse<byte[]> response = execute(OP_RESULT_BATCH,
+                    jsonPost("jobs/batch/results", new BatchJobIdsRequest(chunk)), readTimeout, true);
+            requireSuccess(OP_RESULT_BATCH, response);
+            BatchResultResponse body = fromJson(response.body(), BatchResultResponse.class);
+            if (body != null && body.results() != null) {
+                results.addAll(body.results());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public AnalysisJobStatusResponse getJobStatus(String externalJobId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jobUri(externalJobId, "")).GET();
+        HttpResponse<byte[]> response = execute(OP_STATUS, request, readTimeout, true);
+        if (response.statusCode() == 404) {
+            return null;
+        }
+        requireSuccess(OP_STATUS, response);
+        return fromJson(response.body(), AnalysisJobStatusResponse.class);
+    }
+
+    @Override
+    public AnalysisResultResponse getJobResult(String externalJobId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jobUri(externalJobId, "/result")).GET();
+        HttpResponse<byte[]> response = execute(OP_RESULT, request, readTimeout, true);
+        // 404 = unbekannt, 409 = noch nicht fertig
+        if (response.statusCode() == 404 || response.statusCode() == 409) {
+            return null;
+        }
+        requireSuccess(OP_RESULT, response);
+        return fromJson(response.body(), AnalysisResultResponse.class);
+    }
+
+    @Override
+    public boolean cancelJob(String externalJobId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jobUri(externalJobId, "/cancel"))
+                .POST(HttpRequest.BodyPublishers.noBody());
+        HttpResponse<byte[]> response = execute(OP_CANCEL, request, readTimeout, false);
+        if (response.statusCode() == 404 || response.statusCode() == 409) {
+            return false;
+        }
+        requireSuccess(OP_CANCEL, response);
+        return true;
+    }
+
+    @Override
+    public boolean isHealthy() {
+        if (circuitBreaker.state() == AiCircuitBreaker.State.OPEN) {
+            return false;
+        }
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve("health")).GET();
+            HttpResponse<byte[]> response = execute(OP_HEALTH, request, healthTimeout, true);
+            return response.statusCode() / 100 == 2;
+        } catch (AiServiceException e) {
+            log.debug("AI service health check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        httpClient.close();
+    }
+
+    // ---- Helper ----
+
+    /**
+     * Ein Batch-Request; schlägt er als Ganzes fehl, gilt der Fehler für alle Einträge.
+     * Einträge, die der Service nicht bestätigt, gelten als abgelehnt.
+     */
+    private List<SubmittedJob> submitChunk(List<AnalysisSubmission> chunk) {
+        BatchSubmitResponse body;
+        try {
+            // Nicht idempotent: kein Retry
+            HttpResponse<byte[]> response = execute(OP_SUBMIT_BATCH,
+                    jsonPost("jobs/batch", new BatchSubmitRequest(chunk, callbackUrl)), submitTimeout, false);
+            requireSuccess(OP_SUBMIT_BATCH, response);
+            body = fromJson(response.body(), BatchSubmitResponse.class);
+        } catch (AiServiceException e) {
+            log.warn("Batch submit of {} analysis jobs failed: {}", chunk.size(), e.getMessage());
+            return chunk.stream()
+                    .map(submission -> new SubmittedJob(submission.videoId(), null, e.getMessage()))
+                    .toList();
+        }
+
+        Map<UUID, SubmittedJob> byVideoId = body == null || body.jobs() == null
+                ? Map.of()
+                : body.jobs().stream()
+                        .filter(job -> job.videoId() != null)
+                        .collect(Collectors.toMap(SubmittedJob::videoId, Function.identity(), (a, b) -> a));
+        return chunk.stream()
+                .map(submission -> byVideoId.getOrDefault(submission.videoId(),
+                        new SubmittedJob(submission.videoId(), null, "Not accepted by AI service")))
+                .toList();
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += batchMaxSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + batchMaxSize)));
+        }
+        return chunks;
+    }
+
+    private HttpRequest.Builder jsonPost(String path, Object body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+    }
+
+    /**
+     * Führt einen Aufruf innerhalb der Deadline {@code timeout} aus; idempotente Aufrufe werden
+     * bei vorübergehenden Fehlern wiederholt, solange die Deadline es zulässt.
+     *
+     * @return Antwort mit Status < 500 (außer 429); alles andere endet in einer {@link AiServiceException}
+     */
+    private HttpResponse<byte[]> execute(
+            String operation,
+            HttpRequest.Builder request,
+            Duration timeout,
+            boolean idempotent
+    ) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int attempts = idempotent ? maxAttempts : 1;
+        AiServiceException lastError = null;
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                record(operation, "rejected", 0);
+                throw new AiServiceException("AI service circuit breaker is open (" + operation + ")");
+            }
+
+            long start = System.nanoTime();
+            boolean settled = false;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(
+                        request.timeout(Duration.ofNanos(remaining)).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()
+                );
+                int status = response.statusCode();
+                settled = true;
+                if (status < 500 && status != 429) {
+                    circuitBreaker.onSuccess();
+                    record(operation, status >= 400 ? "client-error" : "success", System.nanoTime() - start);
+                    return response;
+                }
+                circuitBreaker.onFailure();
+                record(operation, "server-error", System.nanoTime() - start);
+                lastError = new AiServiceException("AI service " + operation + " returned HTTP " + status);
+            } catch (HttpTimeoutException e) {
+                settled = true;
+                circuitBreaker.onFailure();
+                record(operation, "timeout", System.nanoTime() - start);
+                lastError = new AiServiceException("AI service " + operation + " timed out after " + timeout, e);
+            } catch (IOException e) {
+                settled = true;
+                circuitBreaker.onFailure();
+                record(operation, "io-error", System.nanoTime() - start);
+                lastError = new AiServiceException("AI service " + operation + " failed: " + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AiServiceException("Interrupted while calling AI service " + operation, e);
+            } finally {
+                // Abbruch ohne Ergebnis (Interrupt, unerwartete Exception): Probeaufruf freigeben
+                if (!settled) {
+                    circuitBreaker.onAbort();
+                }
+            }
+
+            if (attempt < attempts) {
+                if (!backoff(attempt, deadline)) {
+                    break;
+                }
+                retries.increment();
+                log.debug("Retrying AI service {} (attempt {}): {}", operation, attempt + 1, lastError.getMessage());
+            }
+        }
+        throw lastError != null
+                ? lastError
+                : new AiServiceException("AI service " + operation + " exceeded its deadline of " + timeout);
+    }
+
+    /**
+     * Wartet exponentiell mit Full Jitter; false, wenn danach keine Zeit mehr bis zur Deadline bliebe.
+     */
+    private boolean backoff(int attempt, long deadline) {
+        long capMs = Math.min(retryMaxMs, retryBaseMs << Math.min(attempt - 1, 20));
+        long sleepMs = capMs > 0 ? ThreadLocalRandom.current().nextLong(capMs + 1) : 0;
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMs) >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(sleepMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("Interrupted while waiting to retry AI service call", e);
+        }
+    }
+
+    private void record(String operation, String outcome, long nanos) {
+        Timer.builder("mymove.ai.client.requests")
+                .description("Aufrufe beim AI-Service")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private URI jobUri(String externalJobId, String suffix) {
+        if (externalJobId == null || externalJobId.isBlank()) {
+            throw new IllegalArgumentException("externalJobId is required");
+        }
+        String encoded = URLEncoder.encode(externalJobId, StandardCharsets.UTF_8).replace("+", "%20");
+        return baseUri.resolve("jobs/" + encoded + suffix);
+    }
+
+    private static void requireSuccess(String operation, HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new AiServiceException("AI service " + operation + " returned HTTP " + response.statusCode());
+        }
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new AiServiceException("Could not serialize AI service request", e);
+        }
+    }
+
+    private <T> T fromJson(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new AiServiceException("Invalid response from AI service", e);
+        }
+    }
+}
@@ -15,7 +15,14 @@ import java.util.UUID;
  * JPA Entity für AnalysisJob.
  */
 @Entity
-@Table(name = "analysis_jobs")
+@Table(
+        name = "analysis_jobs",
+        indexes = {
+                @Index(name = "idx_analysis_jobs_status", columnList = "status"),
+                @Index(name = "idx_analysis_jobs_video_status", columnList = "videoId, status"),
+                @Index(name = "idx_analysis_jobs_external_job_id", columnList = "externalJobId")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -32,6 +39,9 @@ public class AnalysisJobJpaEntity {
     @Column
     private UUID offerId;
 
+    @Column(length = 128)
+    private String externalJobId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AnalysisJobStatus status;
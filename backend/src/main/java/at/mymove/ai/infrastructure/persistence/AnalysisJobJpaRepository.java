@@ -1,9 +1,15 @@
 package at.mymove.ai.infrastructure.persistence;
 
 import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.RunningAnalysisJob;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +20,28 @@ import java.util.UUID;
 @Repository
 public interface AnalysisJobJpaRepository extends JpaRepository<AnalysisJobJpaEntity, UUID> {
 
+    /**
+     * Lädt den Job mit Schreibsperre auf der Zeile ({@code select ... for update}),
+     * gehalten bis zum Ende der Transaktion.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from AnalysisJobJpaEntity j where j.id = :id")
+    Optional<AnalysisJobJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+
     List<AnalysisJobJpaEntity> findByVideoId(UUID videoId);
 
     Optional<AnalysisJobJpaEntity> findByOfferId(UUID offerId);
 
+    Optional<AnalysisJobJpaEntity> findByExternalJobId(String externalJobId);
+
     List<AnalysisJobJpaEntity> findByStatus(AnalysisJobStatus status);
+
+    List<AnalysisJobJpaEntity> findByVideoIdInAndStatusIn(Collection<UUID> videoIds, Collection<AnalysisJobStatus> statuses);
+
+    @Query("""
+            select new at.mymove.ai.domain.RunningAnalysisJob(j.id, j.createdAt, j.startedAt)
+            from AnalysisJobJpaEntity j
+            where j.status = :status and j.startedAt is not null
+            """)
+    List<RunningAnalysisJob> findRefsByStatus(@Param("status") AnalysisJobStatus status);
 }
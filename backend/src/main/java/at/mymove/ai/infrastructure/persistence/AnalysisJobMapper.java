@@ -16,6 +16,7 @@ public class AnalysisJobMapper {
                 .id(domain.id())
                 .videoId(domain.videoId())
                 .offerId(domain.offerId())
+                .externalJobId(domain.externalJobId())
                 .status(domain.status())
                 .detectedItems(domain.detectedItems())
                 .errorMessage(domain.errorMessage())
@@ -29,6 +30,23 @@ public class AnalysisJobMapper {
                 .build();
     }
 
+    /**
+     * Überträgt den veränderlichen Zustand auf eine managed Entity (ID, Video und Erstellung bleiben).
+     */
+    public void copyInto(AnalysisJobJpaEntity source, AnalysisJobJpaEntity target) {
+        target.setOfferId(source.getOfferId());
+        target.setExternalJobId(source.getExternalJobId());
+        target.setStatus(source.getStatus());
+        target.setDetectedItems(source.getDetectedItems());
+        target.setErrorMessage(source.getErrorMessage());
+        target.setTotalVolumeM3(source.getTotalVolumeM3());
+        target.setRoomType(source.getRoomType());
+        target.setProcessingTimeSeconds(source.getProcessingTimeSeconds());
+        target.setStartedAt(source.getStartedAt());
+        target.setCompletedAt(source.getCompletedAt());
+        target.setRetryCount(source.getRetryCount());
+    }
+
     public AnalysisJob toDomainEntity(AnalysisJobJpaEntity jpa) {
         if (jpa == null) return null;
 
@@ -36,6 +54,7 @@ public class AnalysisJobMapper {
                 jpa.getId(),
                 jpa.getVideoId(),
                 jpa.getOfferId(),
+                jpa.getExternalJobId(),
                 jpa.getStatus(),
                 jpa.getDetectedItems(),
                 jpa.getErrorMessage(),
@@ -3,12 +3,22 @@ package at.mymove.ai.infrastructure.persistence;
 import at.mymove.ai.application.AnalysisJobRepository;
 import at.mymove.ai.domain.AnalysisJob;
 import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.AnalysisJobsChangedEvent;
+import at.mymove.ai.domain.RunningAnalysisJob;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementierung des AnalysisJobRepository Interface.
@@ -19,12 +29,54 @@ public class AnalysisJobRepositoryImpl implements AnalysisJobRepository {
 
     private final AnalysisJobJpaRepository jpaRepository;
     private final AnalysisJobMapper mapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final Set<AnalysisJobStatus> ACTIVE_STATUSES =
+            Set.of(AnalysisJobStatus.PENDING, AnalysisJobStatus.RUNNING);
 
     @Override
     public AnalysisJob save(AnalysisJob job) {
         AnalysisJobJpaEntity entity = mapper.toJpaEntity(job);
         AnalysisJobJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        AnalysisJob result = mapper.toDomainEntity(saved);
+        eventPublisher.publishEvent(new AnalysisJobsChangedEvent(List.of(result)));
+        return result;
+    }
+
+    /**
+     * Upsert wie in {@code PriceEstimateRepositoryImpl}: bestehende Zeilen mit einem SELECT laden
+     * und als managed Entities ändern, neue per persist anlegen ({@code jpaRepository.saveAll}
+     * würde wegen der vergebenen UUIDs pro Zeile ein merge-SELECT auslösen). Beim flush bündelt
+     * Hibernate die Statements gemäß {@code hibernate.jdbc.batch_size}.
+     */
+    @Override
+    public List<AnalysisJob> saveAll(List<AnalysisJob> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, AnalysisJobJpaEntity> existing = jpaRepository.findAllById(
+                        jobs.stream().map(AnalysisJob::id).toList()).stream()
+                .collect(Collectors.toMap(AnalysisJobJpaEntity::getId, Function.identity()));
+
+        List<AnalysisJobJpaEntity> entities = new ArrayList<>(jobs.size());
+        for (AnalysisJob job : jobs) {
+            AnalysisJobJpaEntity entity = mapper.toJpaEntity(job);
+            AnalysisJobJpaEntity managed = existing.get(job.id());
+            if (managed != null) {
+                mapper.copyInto(entity, managed);
+                entities.add(managed);
+            } else {
+                entityManager.persist(entity);
+                entities.add(entity);
+            }
+        }
+        entityManager.flush();
+        List<AnalysisJob> result = entities.stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+        eventPublisher.publishEvent(new AnalysisJobsChangedEvent(result));
+        return result;
     }
 
     @Override
@@ -32,6 +84,11 @@ public class AnalysisJobRepositoryImpl implements AnalysisJobRepository {
         return jpaRepository.findById(id).map(mapper::toDomainEntity);
     }
 
+    @Override
+    public Optional<AnalysisJob> findByIdForUpdate(UUID id) {
+        return jpaRepository.findByIdForUpdate(id).map(mapper::toDomainEntity);
+    }
+
     @Override
     public List<AnalysisJob> findByVideoId(UUID videoId) {
         return jpaRepository.findByVideoId(videoId).stream()
@@ -39,11 +96,26 @@ public class AnalysisJobRepositoryImpl implements AnalysisJobRepository {
                 .toList();
     }
 
+    @Override
+    public List<AnalysisJob> findActiveByVideoIds(Collection<UUID> videoIds) {
+        if (videoIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByVideoIdInAndStatusIn(videoIds, ACTIVE_STATUSES).stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+    }
+
     @Override
     public Optional<AnalysisJob> findByOfferId(UUID offerId) {
         return jpaRepository.findByOfferId(offerId).map(mapper::toDomainEntity);
     }
 
+    @Override
+    public Optional<AnalysisJob> findByExternalJobId(String externalJobId) {
+        return jpaRepository.findByExternalJobId(externalJobId).map(mapper::toDomainEntity);
+    }
+
     @Override
     public List<AnalysisJob> findByStatus(AnalysisJobStatus status) {
         return jpaRepository.findByStatus(status).stream()
@@ -51,6 +123,11 @@ public class AnalysisJobRepositoryImpl implements AnalysisJobRepository {
                 .toList();
     }
 
+    @Override
+    public List<RunningAnalysisJob> findRunning() {
+        return jpaRepository.findRefsByStatus(AnalysisJobStatus.RUNNING);
+    }
+
     @Override
     public void delete(AnalysisJob job) {
         jpaRepository.deleteById(job.id());
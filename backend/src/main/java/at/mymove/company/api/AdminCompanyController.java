@@ -2,7 +2,9 @@ package at.mymove.company.api;
 
 import at.mymove.company.api.dto.CompanyAdminResponse;
 import at.mymove.company.api.dto.CompanyStatsResponse;
+import at.mymove.company.api.dto.OfferFeedRebuildResponse;
 import at.mymove.company.application.ApproveCompanyUseCase;
+import at.mymove.company.application.CompanyOfferFeedProjection;
 import at.mymove.company.application.ListApprovedCompaniesUseCase;
 import at.mymove.company.application.ListPendingCompaniesUseCase;
 import at.mymove.company.application.ListRejectedCompaniesUseCase;
@@ -34,6 +36,7 @@ public class AdminCompanyController {
     private final ApproveCompanyUseCase approveCompanyUseCase;
     private final RejectCompanyUseCase rejectCompanyUseCase;
     private final CompanyRepository companyRepository;
+    private final CompanyOfferFeedProjection offerFeedProjection;
 
     /**
      * Statistik über alle Firmen-Status
@@ -107,6 +110,17 @@ public class AdminCompanyController {
         return CompanyAdminResponse.from(rejected);
     }
 
+    /**
+     * Baut das Dashboard Read Model (company_offer_feed) vollständig neu auf,
+     * z.B. als Backfill nach dem Deployment oder nach manuellen Datenkorrekturen.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/offer-feed/rebuild")
+    public OfferFeedRebuildResponse rebuildOfferFeed() {
+        CompanyOfferFeedProjection.RebuildResult result = offerFeedProjection.rebuild();
+        return new OfferFeedRebuildResponse(result.offers(), result.rows(), result.durationMillis());
+    }
+
     // ---- Helper ----
 
     private static UUID parseCompanyId(String id) {
@@ -1,8 +1,13 @@
 package at.mymove.company.api;
 
+import at.mymove.company.api.dto.CompanyOfferFeedRequest;
 import at.mymove.company.api.dto.CompanyOfferResponse;
+import at.mymove.company.application.CompanyOfferFeedItem;
 import at.mymove.company.application.GetAvailableOffersForCompanyUseCase;
+import at.mymove.company.application.GetAvailableOffersForCompanyUseCase.OfferPage;
 import at.mymove.company.application.GetAvailableOffersForCompanyUseCase.OfferWithEstimate;
+import at.mymove.company.application.OfferFeedCursor;
+import at.mymove.core.api.ApiHeaders;
 import at.mymove.inventory.api.dto.InventoryResponse;
 import at.mymove.inventory.application.GetInventoryUseCase;
 import at.mymove.inventory.domain.InventoryList;
@@ -17,6 +22,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -26,7 +32,7 @@ import java.util.UUID;
  * REST Controller für das Company Dashboard.
  *
  * Endpunkte:
- * - GET /api/v1/company/dashboard/offers              - Verfügbare Offers
+ * - GET /api/v1/company/dashboard/offers?cursor=&limit=&sort=&... - Verfügbare Offers (gefiltert, seitenweise)
  * - GET /api/v1/company/dashboard/offers/{offerId}    - Offer Details
  * - GET /api/v1/company/dashboard/offers/{offerId}/inventory - Inventory Details
  */
@@ -40,19 +46,31 @@ public class CompanyDashboardController {
     private final GetInventoryUseCase getInventoryUseCase;
 
     /**
-     * Listet alle verfügbaren Offers für die eingeloggte Firma.
+     * Listet die verfügbaren Offers für die eingeloggte Firma, gefiltert und sortiert
+     * (Parameter siehe {@link CompanyOfferFeedRequest}; Standard: neueste zuerst).
+     * Gibt es weitere Seiten, steht der Cursor dafür im Header {@code X-Next-Cursor};
+     * Folgeseiten müssen mit denselben Filtern und derselben Sortierung abgefragt werden.
      */
     @GetMapping("/offers")
-    public ResponseEntity<List<CompanyOfferResponse>> getAvailableOffers() {
+    public ResponseEntity<List<CompanyOfferResponse>> getAvailableOffers(
+            CompanyOfferFeedRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + GetAvailableOffersForCompanyUseCase.DEFAULT_PAGE_SIZE) int limit
+    ) {
         UUID companyId = getCurrentCompanyId();
 
-        List<OfferWithEstimate> offers = getAvailableOffersUseCase.execute(companyId);
+        OfferPage page = getAvailableOffersUseCase.execute(
+                filter.toQuery(companyId), OfferFeedCursor.decode(cursor), limit);
 
-        List<CompanyOfferResponse> responses = offers.stream()
-                .map(this::mapToResponse)
+        List<CompanyOfferResponse> responses = page.items().stream()
+                .map(this::mapFeedItemToResponse)
                 .toList();
 
-        return ResponseEntity.ok(responses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(ApiHeaders.NEXT_CURSOR, page.nextCursor().encode());
+        }
+        return response.body(responses);
     }
 
     /**
@@ -113,6 +131,22 @@ public class CompanyDashboardController {
         );
     }
 
+    private CompanyOfferResponse mapFeedItemToResponse(CompanyOfferFeedItem item) {
+        return new CompanyOfferResponse(
+                item.offerId(),
+                item.offerStatus(),
+                item.moveDate(),
+                item.fromCity(),
+                item.toCity(),
+                item.fromFloor(),
+                item.toFloor(),
+                item.fromHasElevator(),
+                item.toHasElevator(),
+                PriceEstimateResponse.from(item.toEstimate()),
+                item.canSubmitFinalOffer()
+        );
+    }
+
     private UUID getCurrentCompanyId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || auth.getName() == null) {
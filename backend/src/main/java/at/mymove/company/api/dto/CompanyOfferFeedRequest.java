@@ -0,0 +1,145 @@
+package at.mymove.company.api.dto;
+
+import at.mymove.company.application.OfferFeedQuery;
+import at.mymove.company.application.OfferFeedSort;
+import at.mymove.offer.domain.OfferStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query-Parameter des Company-Dashboard Feeds. Alle Parameter sind optional.
+ *
+ * - {@code sort}: NEWEST (Standard), MOVE_DATE, DISTANCE, PRICE
+ * - {@code order}: asc oder desc (Standard je Sortierung: NEWEST desc, sonst asc)
+ * - Datumswerte als ISO-Datum (yyyy-MM-dd), Bereiche inklusive
+ * - {@code serviceArea=true}: nur Offers im Einzugsgebiet der Firma (Umkreis um ihre PLZ, Umzugstermin im Zeitfenster)
+ */
+public record CompanyOfferFeedRequest(
+        List<String> status,
+        String fromCity,
+        String toCity,
+        String fromPostalCode,
+        String toPostalCode,
+        String moveDateFrom,
+        String moveDateTo,
+        String volumeMin,
+        String volumeMax,
+        String priceMin,
+        String priceMax,
+        String sort,
+        String order,
+        String serviceArea
+) {
+
+    public OfferFeedQuery toQuery(UUID companyId) {
+        OfferFeedSort feedSort = parseSort(sort);
+        return new OfferFeedQuery(
+                companyId,
+                parseStatuses(status),
+                fromCity,
+                toCity,
+                fromPostalCode,
+                toPostalCode,
+                parseDate(moveDateFrom, "moveDateFrom"),
+                parseDate(moveDateTo, "moveDateTo"),
+                parseDouble(volumeMin, "volumeMin"),
+                parseDouble(volumeMax, "volumeMax"),
+                parseDecimal(priceMin, "priceMin"),
+                parseDecimal(priceMax, "priceMax"),
+                feedSort,
+                parseDescending(order, feedSort),
+                parseBoolean(serviceArea, "serviceArea"),
+                null
+        );
+    }
+
+    private static OfferFeedSort parseSort(String value) {
+        if (isBlank(value)) {
+            return OfferFeedSort.NEWEST;
+        }
+        try {
+            return OfferFeedSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("sort must be one of: NEWEST, MOVE_DATE, DISTANCE, PRICE");
+        }
+    }
+
+    private static boolean parseDescending(String value, OfferFeedSort sort) {
+        if (isBlank(value)) {
+            return sort.descendingByDefault();
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("order must be asc or desc");
+        };
+    }
+
+    private static boolean parseBoolean(String value, String fieldName) {
+        if (isBlank(value)) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException(fieldName + " must be true or false");
+        };
+    }
+
+    private static Set<OfferStatus> parseStatuses(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<OfferStatus> result = EnumSet.noneOf(OfferStatus.class);
+        for (String value : values) {
+            try {
+                result.add(OfferStatus.valueOf(value.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("status must be a valid offer status: " + value);
+            }
+        }
+        return result;
+    }
+
+    private static LocalDate parseDate(String value, String fieldName) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(fieldName + " must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    private static Double parseDouble(String value, String fieldName) {
+        BigDecimal decimal = parseDecimal(value, fieldName);
+        return decimal != null ? decimal.doubleValue() : null;
+    }
+
+    private static BigDecimal parseDecimal(String value, String fieldName) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            BigDecimal decimal = new BigDecimal(value.trim());
+            if (decimal.signum() < 0) {
+                throw new IllegalArgumentException(fieldName + " must not be negative");
+            }
+            return decimal;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(fieldName + " must be a number");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
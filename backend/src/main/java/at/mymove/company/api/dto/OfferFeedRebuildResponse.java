@@ -0,0 +1,7 @@
+package at.mymove.company.api.dto;
+
+public record OfferFeedRebuildResponse(
+        long offers,
+        long rows,
+        long durationMillis
+) {}
@@ -18,6 +18,7 @@ import java.util.UUID;
 public class ApproveCompanyUseCase {
 
     private final CompanyRepository companyRepository;
+    private final CompanyTariffCache tariffCache;
 
     @Transactional
     public Company execute(UUID companyId) {
@@ -35,7 +36,9 @@ public class ApproveCompanyUseCase {
         String adminEmail = requireAuthenticatedUsername();
         Company approved = company.approve(adminEmail, Instant.now());
 
-        return companyRepository.save(approved);
+        Company saved = companyRepository.save(approved);
+        tariffCache.invalidate(companyId);
+        return saved;
     }
 
     private static String requireAuthenticatedUsername() {
@@ -0,0 +1,194 @@
+package at.mymove.company.application;
+
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PriceEstimate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Eine Zeile des Company-Dashboard Read Models (eine Zeile pro Firma und Offer).
+ *
+ * Enthält alles, was das Dashboard anzeigt, bereits denormalisiert: die benötigten
+ * Felder aus MoveDetails, die Schätzung der Firma und den Stand ihrer finalen Offerte.
+ * Wird bei Änderungen an Offer, PriceEstimate und FinalOffer fortgeschrieben
+ * ({@link CompanyOfferFeedProjection}).
+ *
+ * @param companyId         Firma
+ * @param offerId           Offer
+ * @param estimateId        Schätzung der Firma für das Offer
+ * @param offerStatus       Status des Offers
+ * @param assignedCompanyId Firma, der das Offer zugewiesen ist (null = keine)
+ * @param offerCreatedAt    Erstellungszeitpunkt des Offers (Sortierung)
+ * @param distanceKm        Geschätzte Strecke Auszug → Einzug in km
+ * @param finalOfferStatus  Status der finalen Offerte der Firma (null = keine)
+ */
+public record CompanyOfferFeedItem(
+        UUID companyId,
+        UUID offerId,
+        UUID estimateId,
+        OfferStatus offerStatus,
+        UUID assignedCompanyId,
+        Instant offerCreatedAt,
+        LocalDate moveDate,
+        String fromCity,
+        String toCity,
+        String fromPostalCode,
+        String toPostalCode,
+        int fromFloor,
+        int toFloor,
+        boolean fromHasElevator,
+        boolean toHasElevator,
+        double distanceKm,
+        BigDecimal totalPrice,
+        BigDecimal priceRangeLow,
+        BigDecimal priceRangeHigh,
+        PriceBreakdown breakdown,
+        double estimatedHours,
+        double estimatedVolume,
+        String currency,
+        Instant calculatedAt,
+        Instant validUntil,
+        FinalOfferStatus finalOfferStatus
+) {
+
+    /**
+     * Offers in diesen Status erscheinen im Dashboard.
+     */
+    public static final Set<OfferStatus> LISTED_STATUSES = Set.of(
+            OfferStatus.ESTIMATES_READY,
+            OfferStatus.COMPANY_SELECTED,
+            OfferStatus.FINAL_OFFER_PENDING,
+            OfferStatus.FINAL_OFFER_SUBMITTED
+    );
+
+    public CompanyOfferFeedItem {
+        if (companyId == null) throw new IllegalArgumentException("companyId is required");
+        if (offerId == null) throw new IllegalArgumentException("offerId is required");
+        if (estimateId == null) throw new IllegalArgumentException("estimateId is required");
+        if (offerStatus == null) throw new IllegalArgumentException("offerStatus is required");
+        if (offerCreatedAt == null) throw new IllegalArgumentException("offerCreatedAt is required");
+        if (totalPrice == null) throw new IllegalArgumentException("totalPrice is required");
+        if (distanceKm < 0) throw new IllegalArgumentException("distanceKm must not be negative");
+    }
+
+    /**
+     * Baut die Zeile aus Offer, Schätzung, Strecke und (optional) dem Status der finalen Offerte.
+     */
+    public static CompanyOfferFeedItem of(
+            Offer offer,
+            PriceEstimate estimate,
+            double distanceKm,
+            FinalOfferStatus finalOfferStatus
+    ) {
+        if (!offer.id().equals(estimate.offerId())) {
+            throw new IllegalArgumentException("estimate does not belong to offer");
+        }
+        MoveDetails moveDetails = offer.moveDetails();
+        return new CompanyOfferFeedItem(
+                estimate.companyId(),
+                offer.id(),
+                estimate.id(),
+                offer.status(),
+                offer.companyId(),
+                offer.createdAt(),
+                moveDetails.moveDate(),
+                moveDetails.fromAddress().city(),
+                moveDetails.toAddress().city(),
+                moveDetails.fromAddress().postalCode(),
+                moveDetails.toAddress().postalCode(),
+                moveDetails.fromFloor().floor(),
+                moveDetails.toFloor().floor(),
+                moveDetails.fromFloor().hasElevator(),
+                moveDetails.toFloor().hasElevator(),
+                distanceKm,
+                estimate.totalPrice(),
+                estimate.priceRangeLow(),
+                estimate.priceRangeHigh(),
+                estimate.breakdown(),
+                estimate.estimatedHours(),
+                estimate.estimatedVolume(),
+                estimate.currency(),
+                estimate.calculatedAt(),
+                estimate.validUntil(),
+                finalOfferStatus
+        );
+    }
+
+    /**
+     * Übernimmt den neuen Stand des Offers, Schätzung und finale Offerte bleiben.
+     */
+    public CompanyOfferFeedItem withOffer(Offer offer, double distanceKm) {
+        return of(offer, toEstimate(), distanceKm, finalOfferStatus);
+    }
+
+    public CompanyOfferFeedItem withFinalOfferStatus(FinalOfferStatus status) {
+        return new CompanyOfferFeedItem(
+                companyId, offerId, estimateId, offerStatus, assignedCompanyId, offerCreatedAt,
+                moveDate, fromCity, toCity, fromPostalCode, toPostalCode, fromFloor, toFloor,
+                fromHasElevator, toHasElevator, distanceKm, totalPrice, priceRangeLow, priceRangeHigh,
+                breakdown, estimatedHours, estimatedVolume, currency, calculatedAt, validUntil, status
+        );
+    }
+
+    /**
+     * Erscheint das Offer im Dashboard?
+     */
+    public boolean listed() {
+        return LISTED_STATUSES.contains(offerStatus);
+    }
+
+    /**
+     * Kann die Firma für dieses Offer ein FinalOffer einreichen?
+     */
+    public boolean canSubmitFinalOffer() {
+        return canSubmitFinalOffer(companyId, assignedCompanyId, finalOfferStatus);
+    }
+
+    /**
+     * Firma kann ein FinalOffer einreichen wenn:
+     * - Das Offer noch nicht einer anderen Firma zugewiesen ist
+     * - Sie noch keine Offerte abgegeben hat (bzw. diese nicht angenommen wurde)
+     *
+     * Gilt für Feed und Detailansicht gleichermaßen; dass eine Schätzung existiert,
+     * prüft der Aufrufer (eine Feed-Zeile hat immer eine).
+     *
+     * @param companyId         Anfragende Firma
+     * @param assignedCompanyId Firma, der das Offer zugewiesen ist (null = keine)
+     * @param finalOfferStatus  Status der finalen Offerte der Firma (null = keine)
+     */
+    public static boolean canSubmitFinalOffer(UUID companyId, UUID assignedCompanyId, FinalOfferStatus finalOfferStatus) {
+        boolean assignable = assignedCompanyId == null || assignedCompanyId.equals(companyId);
+        boolean alreadySubmitted = finalOfferStatus == FinalOfferStatus.SUBMITTED
+                || finalOfferStatus == FinalOfferStatus.ACCEPTED;
+        return assignable && !alreadySubmitted;
+    }
+
+    /**
+     * Schätzung der Firma, wie sie gespeichert wurde (ohne Input-Hash).
+     */
+    public PriceEstimate toEstimate() {
+        return new PriceEstimate(
+                estimateId,
+                offerId,
+                companyId,
+                totalPrice,
+                priceRangeLow,
+                priceRangeHigh,
+                breakdown,
+                estimatedHours,
+                estimatedVolume,
+                currency,
+                calculatedAt,
+                validUntil,
+                null
+        );
+    }
+}
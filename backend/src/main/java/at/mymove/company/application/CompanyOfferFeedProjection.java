@@ -0,0 +1,222 @@
+package at.mymove.company.application;
+
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferChangedEvent;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OffersExpiredEvent;
+import at.mymove.pricing.application.FinalOfferRepository;
+import at.mymove.pricing.application.PriceEstimateRepository;
+import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.FinalOfferChangedEvent;
+import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.FinalOffersStatusChangedEvent;
+import at.mymove.pricing.domain.PriceEstimate;
+import at.mymove.pricing.domain.PriceEstimateDeletedEvent;
+import at.mymove.pricing.domain.PriceEstimatesChangedEvent;
+import at.mymove.pricing.domain.PricingEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Schreibt das Company-Dashboard Read Model ({@link CompanyOfferFeedItem}) fort.
+ *
+ * - Die Listener laufen synchron in der Transaktion der auslösenden Änderung,
+ *   das Read Model ist damit nie älter als der committete Stand
+ * - Es werden nur die Zeilen des betroffenen Offers bzw. der betroffenen Firma angefasst
+ * - {@link #rebuild()} baut das Read Model vollständig aus Offers, Schätzungen und
+ *   finalen Offerten neu auf (Backfill, Reparatur)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyOfferFeedProjection {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final CompanyOfferFeedRepository feedRepository;
+    private final OfferRepository offerRepository;
+    private final PriceEstimateRepository priceEstimateRepository;
+    private final FinalOfferRepository finalOfferRepository;
+    private final PricingEngine pricingEngine;
+
+    /**
+     * Ergebnis eines Neuaufbaus.
+     *
+     * @param offers         Anzahl durchlaufener Offers
+     * @param rows           Anzahl geschriebener Zeilen
+     * @param durationMillis Laufzeit in Millisekunden
+     */
+    public record RebuildResult(long offers, long rows, long durationMillis) {}
+
+    @EventListener
+    @Transactional
+    public void on(OfferChangedEvent event) {
+        Offer offer = event.offer();
+        List<CompanyOfferFeedItem> items = feedRepository.findByOfferId(offer.id());
+        if (items.isEmpty()) {
+            return;
+        }
+        double distanceKm = distanceOf(offer);
+        feedRepository.saveAll(items.stream()
+                .map(item -> item.withOffer(offer, distanceKm))
+                .toList());
+    }
+
+    @EventListener
+    @Transactional
+    public void on(PriceEstimatesChangedEvent event) {
+        Map<UUID, List<PriceEstimate>> byOffer = new LinkedHashMap<>();
+        for (PriceEstimate estimate : event.estimates()) {
+            byOffer.computeIfAbsent(estimate.offerId(), id -> new ArrayList<>()).add(estimate);
+        }
+
+        for (Map.Entry<UUID, List<PriceEstimate>> entry : byOffer.entrySet()) {
+            Offer offer = offerRepository.findById(entry.getKey()).orElse(null);
+            if (offer == null) {
+                log.warn("Offer {} not found, skipping company offer feed update", entry.getKey());
+                continue;
+            }
+            Map<UUID, FinalOfferStatus> finalOfferStatuses = finalOfferStatusByCompany(
+                    finalOfferRepository.findByOfferId(offer.id()));
+            double distanceKm = distanceOf(offer);
+
+            feedRepository.saveAll(entry.getValue().stream()
+                    .map(estimate -> CompanyOfferFeedItem.of(
+                            offer, estimate, distanceKm, finalOfferStatuses.get(estimate.companyId())))
+                    .toList());
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void on(PriceEstimateDeletedEvent event) {
+        feedRepository.deleteByEstimateId(event.estimateId());
+    }
+
+    @EventListener
+    @Transactional
+    public void on(FinalOfferChangedEvent event) {
+        feedRepository.findByCompanyIdAndOfferId(event.companyId(), event.offerId())
+                .ifPresent(item -> feedRepository.saveAll(List.of(item.withFinalOfferStatus(event.status()))));
+    }
+
+    /**
+     * Gesammelter Ablauf: ein Massen-Update über alle Zeilen der Offers.
+     */
+    @EventListener
+    @Transactional
+    public void on(OffersExpiredEvent event) {
+        feedRepository.updateOfferStatus(event.offerIds(), event.status());
+    }
+
+    /**
+     * Massen-Update finaler Offerten (Ablauf, automatische Ablehnung): ein SELECT über alle
+     * betroffenen Offers, nur die Zeilen der betroffenen Firmen werden fortgeschrieben.
+     */
+    @EventListener
+    @Transactional
+    public void on(FinalOffersStatusChangedEvent event) {
+        Map<UUID, Set<UUID>> companyIdsByOfferId = event.companyIdsByOfferId();
+        feedRepository.saveAll(feedRepository.findByOfferIds(companyIdsByOfferId.keySet()).stream()
+                .filter(item -> companyIdsByOfferId.get(item.offerId()).contains(item.companyId()))
+                .map(item -> item.withFinalOfferStatus(event.status()))
+                .toList());
+    }
+
+    /**
+     * Baut das Read Model vollständig neu auf.
+     *
+     * Läuft in einer Transaktion: Leser sehen bis zum Commit den alten Stand. Offers werden
+     * über einen DB-Cursor gestreamt, Schätzungen und finale Offerten blockweise nachgeladen.
+     */
+    @Transactional
+    public RebuildResult rebuild() {
+        long start = System.nanoTime();
+        feedRepository.deleteAll();
+
+        long offers = 0;
+        long rows = 0;
+        try (Stream<Offer> stream = offerRepository.streamWithInventory()) {
+            Iterator<Offer> iterator = stream.iterator();
+            List<Offer> chunk = new ArrayList<>(REBUILD_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == REBUILD_CHUNK_SIZE || !iterator.hasNext()) {
+                    offers += chunk.size();
+                    rows += rebuildChunk(chunk);
+                    chunk = new ArrayList<>(REBUILD_CHUNK_SIZE);
+                }
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt company offer feed: {} rows for {} offers in {} ms", rows, offers, durationMillis);
+        return new RebuildResult(offers, rows, durationMillis);
+    }
+
+    // ---- Helper ----
+
+    private int rebuildChunk(List<Offer> chunk) {
+        List<UUID> offerIds = chunk.stream().map(Offer::id).toList();
+
+        // Altbestände können mehrere Schätzungen pro Firma und Offer enthalten - die neueste gewinnt
+        Map<UUID, Map<UUID, PriceEstimate>> estimates = new HashMap<>();
+        for (PriceEstimate estimate : priceEstimateRepository.findByOfferIds(offerIds)) {
+            estimates.computeIfAbsent(estimate.offerId(), id -> new HashMap<>())
+                    .merge(estimate.companyId(), estimate,
+                            (a, b) -> a.calculatedAt().isAfter(b.calculatedAt()) ? a : b);
+        }
+
+        Map<UUID, List<FinalOffer>> finalOffers = new HashMap<>();
+        for (FinalOffer finalOffer : finalOfferRepository.findByOfferIds(offerIds)) {
+            finalOffers.computeIfAbsent(finalOffer.offerId(), id -> new ArrayList<>()).add(finalOffer);
+        }
+
+        List<CompanyOfferFeedItem> items = new ArrayList<>();
+        for (Offer offer : chunk) {
+            Map<UUID, PriceEstimate> byCompany = estimates.get(offer.id());
+            if (byCompany == null) {
+                continue;
+            }
+            Map<UUID, FinalOfferStatus> finalOfferStatuses = finalOfferStatusByCompany(
+                    finalOffers.getOrDefault(offer.id(), List.of()));
+            double distanceKm = distanceOf(offer);
+            for (PriceEstimate estimate : byCompany.values()) {
+                items.add(CompanyOfferFeedItem.of(offer, estimate, distanceKm, finalOfferStatuses.get(estimate.companyId())));
+            }
+        }
+        feedRepository.insertAll(items);
+        return items.size();
+    }
+
+    /**
+     * Gleiche Streckenschätzung wie bei der Preisberechnung (PLZ-Index).
+     */
+    private double distanceOf(Offer offer) {
+        MoveDetails moveDetails = offer.moveDetails();
+        return pricingEngine.estimateDistance(moveDetails.fromAddress(), moveDetails.toAddress());
+    }
+
+    private static Map<UUID, FinalOfferStatus> finalOfferStatusByCompany(Collection<FinalOffer> finalOffers) {
+        Map<UUID, FinalOfferStatus> statuses = new HashMap<>();
+        for (FinalOffer finalOffer : finalOffers) {
+            statuses.put(finalOffer.companyId(), finalOffer.status());
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,63 @@
+package at.mymove.company.application;
+
+import at.mymove.offer.domain.OfferStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository für das Company-Dashboard Read Model ({@code company_offer_feed}).
+ *
+ * Eine Zeile pro Firma und Offer; Offers ohne Schätzung der Firma haben keine Zeile.
+ */
+public interface CompanyOfferFeedRepository {
+
+    /**
+     * Lädt eine Seite der gelisteten Offers einer Firma, gefiltert und sortiert nach
+     * {@code query} (Tie-Breaker offerId). Ein Statement, Range Scan über den zur
+     * Sortierung passenden Index (companyId, listed, Sortierschlüssel, offerId).
+     *
+     * @param query Firma, Filter und Sortierung
+     * @param after Cursor des letzten Eintrags der vorigen Seite (null = erste Seite)
+     * @param limit Maximale Anzahl Einträge
+     */
+    List<CompanyOfferFeedItem> findPage(OfferFeedQuery query, OfferFeedCursor after, int limit);
+
+    /**
+     * Alle Zeilen eines Offers (eine pro Firma mit Schätzung).
+     */
+    List<CompanyOfferFeedItem> findByOfferId(UUID offerId);
+
+    /**
+     * Alle Zeilen mehrerer Offers in einem Query.
+     */
+    List<CompanyOfferFeedItem> findByOfferIds(Collection<UUID> offerIds);
+
+    Optional<CompanyOfferFeedItem> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
+
+    /**
+     * Setzt Offer-Status (und damit {@code listed}) aller Zeilen der Offers per Massen-Update,
+     * ohne die Zeilen zu laden (gesammelter Ablauf).
+     */
+    void updateOfferStatus(Collection<UUID> offerIds, OfferStatus status);
+
+    /**
+     * Insert oder Update pro (companyId, offerId).
+     */
+    void saveAll(Collection<CompanyOfferFeedItem> items);
+
+    /**
+     * Reiner Insert ohne Abgleich mit bestehenden Zeilen (nur für den Neuaufbau nach
+     * {@link #deleteAll()}). Gibt die Zeilen danach aus dem Persistence Context frei.
+     */
+    void insertAll(Collection<CompanyOfferFeedItem> items);
+
+    void deleteByEstimateId(UUID estimateId);
+
+    /**
+     * Leert das Read Model (nur für den vollständigen Neuaufbau).
+     */
+    void deleteAll();
+}
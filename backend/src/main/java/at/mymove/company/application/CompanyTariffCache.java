@@ -0,0 +1,165 @@
+package at.mymove.company.application;
+
+import at.mymove.company.domain.Company;
+import at.mymove.company.domain.CompanyRepository;
+import at.mymove.company.domain.CompiledTariff;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-Memory-Cache der kompilierten Tarife pro Firma.
+ *
+ * - LRU mit fester Maximalgröße ({@code mymove.pricing.tariff-cache.max-size})
+ * - Versioniert: jede Invalidierung erhöht die Version; ein Tarif, der während
+ *   einer Invalidierung geladen wurde, wird nicht mehr in den Cache geschrieben
+ * - Invalidierung explizit über {@link #invalidate(UUID)} (Freigabe, Ablehnung)
+ * - Nur lokal in dieser JVM: laufen mehrere Instanzen, sehen die anderen eine Änderung erst,
+ *   wenn der Eintrag verdrängt wird oder die Instanz neu startet. Wer Konditionen zur Laufzeit
+ *   ändert, braucht dafür eine instanzübergreifende Invalidierung
+ * - Metriken: {@code mymove.tariff.cache.requests} (result=hit|miss),
+ *   {@code mymove.tariff.cache.evictions}, {@code mymove.tariff.cache.size}
+ */
+@Slf4j
+@Component
+public class CompanyTariffCache {
+
+    private final CompanyRepository companyRepository;
+    private final Map<UUID, CompiledTariff> entries;
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public CompanyTariffCache(
+            CompanyRepository companyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.pricing.tariff-cache.max-size:1000}") int maxSize
+    ) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("tariff cache max-size must be positive");
+        }
+        this.companyRepository = companyRepository;
+        this.evictions = Counter.builder("mymove.tariff.cache.evictions")
+                .description("Tarife, die wegen der Größenbeschränkung verdrängt wurden")
+                .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CompiledTariff> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits = Counter.builder("mymove.tariff.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("mymove.tariff.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("mymove.tariff.cache.size", this, CompanyTariffCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Liefert den Tarif einer Firma, lädt und kompiliert ihn bei Bedarf.
+     *
+     * @throws IllegalArgumentException wenn die Firma nicht existiert
+     */
+    public CompiledTariff get(UUID companyId) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        CompiledTariff cached = lookup(companyId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadVersion = version.get();
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+        return store(CompiledTariff.compile(company, loadVersion));
+    }
+
+    /**
+     * Liefert den Tarif für ein bereits geladenes Company-Aggregat (ohne DB-Zugriff).
+     */
+    public CompiledTariff get(Company company) {
+        if (company == null) {
+            throw new IllegalArgumentException("company is required");
+        }
+        CompiledTariff cached = lookup(company.id());
+        if (cached != null) {
+            return cached;
+        }
+        return store(CompiledTariff.compile(company, version.get()));
+    }
+
+    /**
+     * Entfernt den Tarif einer Firma. Läuft eine Transaktion, wird nach dem Commit
+     * nochmals invalidiert, damit kein zwischenzeitlich geladener Altstand liegen bleibt.
+     */
+    public void invalidate(UUID companyId) {
+        evict(companyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(companyId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // ---- Helper ----
+
+    private CompiledTariff lookup(UUID companyId) {
+        CompiledTariff cached;
+        synchronized (entries) {
+            cached = entries.get(companyId);
+        }
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    private CompiledTariff store(CompiledTariff tariff) {
+        synchronized (entries) {
+            // Nur cachen, wenn seit dem Laden keine Invalidierung stattgefunden hat
+            if (version.get() == tariff.version()) {
+                entries.put(tariff.companyId(), tariff);
+            }
+        }
+        return tariff;
+    }
+
+    private void evict(UUID companyId) {
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.remove(companyId);
+        }
+        log.debug("Invalidated tariff cache for company {}", companyId);
+    }
+}
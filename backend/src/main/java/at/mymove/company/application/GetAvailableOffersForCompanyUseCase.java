@@ -4,15 +4,18 @@ import at.mymove.company.domain.Company;
 import at.mymove.company.domain.CompanyRepository;
 import at.mymove.offer.domain.Offer;
 import at.mymove.offer.domain.OfferRepository;
-import at.mymove.offer.domain.OfferStatus;
+import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.FinalOfferStatus;
 import at.mymove.pricing.domain.PriceEstimate;
 import at.mymove.pricing.application.CalculateEstimateUseCase;
+import at.mymove.pricing.application.FinalOfferRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,14 +25,26 @@ import java.util.UUID;
  * - Im Status ESTIMATES_READY oder höher
  * - Für die eine Preisschätzung existiert
  * - Noch nicht einer anderen Firma zugewiesen (oder an diese Firma)
+ *
+ * Ob die Firma ein FinalOffer einreichen kann, entscheidet in Feed und Detailansicht
+ * dieselbe Regel ({@link CompanyOfferFeedItem#canSubmitFinalOffer(UUID, UUID, FinalOfferStatus)}).
+ *
+ * Der Feed wird seitenweise aus dem Read Model {@code company_offer_feed} gelesen
+ * ({@link CompanyOfferFeedRepository}), neueste Offers zuerst.
  */
 @Service
 @RequiredArgsConstructor
 public class GetAvailableOffersForCompanyUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final CompanyRepository companyRepository;
     private final OfferRepository offerRepository;
+    private final CompanyOfferFeedRepository offerFeedRepository;
+    private final OpenOfferMatchingIndex matchingIndex;
     private final CalculateEstimateUseCase calculateEstimateUseCase;
+    private final FinalOfferRepository finalOfferRepository;
 
     /**
      * DTO für Offer mit Schätzungs-Info.
@@ -41,13 +56,34 @@ public class GetAvailableOffersForCompanyUseCase {
     ) {}
 
     /**
-     * Holt alle verfügbaren Offers für eine Firma.
+     * Eine Seite des Feeds.
+     *
+     * @param items      Offers mit Schätzung der Firma (denormalisiert)
+     * @param nextCursor Cursor für die nächste Seite (null wenn keine weitere Seite existiert)
+     */
+    public record OfferPage(
+            List<CompanyOfferFeedItem> items,
+            OfferFeedCursor nextCursor
+    ) {}
+
+    /**
+     * Holt eine Seite der verfügbaren Offers für eine Firma, gefiltert und sortiert.
      *
-     * @param companyId ID der Firma
-     * @return Liste von Offers mit deren Schätzungen
+     * @param query Firma, Filter und Sortierung
+     * @param after Cursor der vorigen Seite (null = erste Seite), muss zur Sortierung passen
+     * @param limit Seitengröße (1 bis {@value #MAX_PAGE_SIZE})
+     * @return Offers mit deren Schätzungen und Cursor der nächsten Seite
      */
     @Transactional(readOnly = true)
-    public List<OfferWithEstimate> execute(UUID companyId) {
+    public OfferPage execute(OfferFeedQuery query, OfferFeedCursor after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!query.accepts(after)) {
+            throw new IllegalArgumentException("cursor does not match sort");
+        }
+
+        UUID companyId = query.companyId();
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
@@ -55,18 +91,26 @@ public class GetAvailableOffersForCompanyUseCase {
             throw new IllegalStateException("Company is not approved");
         }
 
-        // Alle Offers im Status ESTIMATES_READY oder höher
-        List<Offer> availableOffers = offerRepository.findByStatusIn(List.of(
-                OfferStatus.ESTIMATES_READY,
-                OfferStatus.COMPANY_SELECTED,
-                OfferStatus.FINAL_OFFER_PENDING,
-                OfferStatus.FINAL_OFFER_SUBMITTED
-        ));
-
-        return availableOffers.stream()
-                .map(offer -> mapToOfferWithEstimate(offer, companyId))
-                .filter(owe -> owe.estimate() != null) // Nur Offers mit Schätzung
-                .toList();
+        // Einzugsgebiet aus dem Matching-Index, als ID-Filter in dieselbe Abfrage
+        if (query.serviceAreaOnly()) {
+            Optional<Set<UUID>> matched = matchingIndex.matchServiceArea(company);
+            if (matched.isPresent()) {
+                if (matched.get().isEmpty()) {
+                    return new OfferPage(List.of(), null);
+                }
+                query = query.restrictTo(matched.get());
+            }
+        }
+
+        // Eine Zeile mehr laden, um zu wissen, ob es eine nächste Seite gibt
+        List<CompanyOfferFeedItem> items = offerFeedRepository.findPage(query, after, limit + 1);
+        if (items.size() <= limit) {
+            return new OfferPage(items, null);
+        }
+
+        List<CompanyOfferFeedItem> page = List.copyOf(items.subList(0, limit));
+        CompanyOfferFeedItem last = page.get(page.size() - 1);
+        return new OfferPage(page, OfferFeedCursor.after(query.sort(), query.descending(), last));
     }
 
     /**
@@ -89,11 +133,12 @@ public class GetAvailableOffersForCompanyUseCase {
         Optional<PriceEstimate> estimate = calculateEstimateUseCase
                 .findEstimateForCompanyAndOffer(companyId, offer.id());
 
-        // Firma kann ein FinalOffer einreichen wenn:
-        // - Eine Schätzung existiert
-        // - Das Offer noch nicht einer anderen Firma zugewiesen ist
-        boolean canSubmit = estimate.isPresent() &&
-                (offer.companyId() == null || offer.companyId().equals(companyId));
+        // Dieselbe Regel wie im Feed, zusätzlich muss eine Schätzung existieren
+        FinalOfferStatus finalOfferStatus = finalOfferRepository.findByCompanyIdAndOfferId(companyId, offer.id())
+                .map(FinalOffer::status)
+                .orElse(null);
+        boolean canSubmit = estimate.isPresent()
+                && CompanyOfferFeedItem.canSubmitFinalOffer(companyId, offer.companyId(), finalOfferStatus);
 
         return new OfferWithEstimate(
                 offer,
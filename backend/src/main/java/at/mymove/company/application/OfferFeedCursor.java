@@ -0,0 +1,82 @@
+package at.mymove.company.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset-Cursor für den Offer-Feed einer Firma.
+ *
+ * Zeigt auf das letzte gelieferte Offer: dessen Sortierschlüssel und ID (Tie-Breaker).
+ * Sortierung und Richtung sind Teil des Cursors, damit er nicht mit einer anderen
+ * Sortierung weiterverwendet werden kann. Nach außen wird er als opaker
+ * Base64url-String weitergegeben.
+ *
+ * @param sort       Sortierung, mit der die Seite geladen wurde
+ * @param descending Richtung, mit der die Seite geladen wurde
+ * @param key        Sortierschlüssel des letzten Offers der Seite (siehe {@link OfferFeedSort#keyOf})
+ * @param offerId    ID des letzten Offers der Seite
+ */
+public record OfferFeedCursor(
+        OfferFeedSort sort,
+        boolean descending,
+        String key,
+        UUID offerId
+) {
+
+    private static final String SEP = "~";
+
+    public OfferFeedCursor {
+        if (sort == null) {
+            throw new IllegalArgumentException("sort is required");
+        }
+        if (key == null || key.isBlank() || key.contains(SEP)) {
+            throw new IllegalArgumentException("key is invalid");
+        }
+        if (offerId == null) {
+            throw new IllegalArgumentException("offerId is required");
+        }
+    }
+
+    /**
+     * Cursor hinter der angegebenen Zeile.
+     */
+    public static OfferFeedCursor after(OfferFeedSort sort, boolean descending, CompanyOfferFeedItem item) {
+        return new OfferFeedCursor(sort, descending, sort.keyOf(item), item.offerId());
+    }
+
+    /**
+     * Typisierter Sortierschlüssel für die Abfrage.
+     */
+    public Object keyValue() {
+        return sort.parseKey(key);
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEP + (descending ? "d" : "a") + SEP + key + SEP + offerId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return Cursor oder null wenn {@code value} leer ist
+     * @throws IllegalArgumentException bei ungültigem Cursor
+     */
+    public static OfferFeedCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        String[] parts = raw.split(SEP, -1);
+        if (parts.length != 4 || !(parts[1].equals("d") || parts[1].equals("a"))) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+        OfferFeedCursor cursor = new OfferFeedCursor(
+                OfferFeedSort.valueOf(parts[0]),
+                parts[1].equals("d"),
+                parts[2],
+                UUID.fromString(parts[3])
+        );
+        cursor.keyValue(); // Schlüssel früh validieren
+        return cursor;
+    }
+}
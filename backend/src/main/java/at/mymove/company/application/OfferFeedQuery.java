@@ -0,0 +1,109 @@
+package at.mymove.company.application;
+
+import at.mymove.offer.domain.OfferStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filter und Sortierung für den Offer-Feed einer Firma.
+ *
+ * Alle Filter sind optional (null = kein Filter) und werden in der Datenbank
+ * ausgewertet. Bereiche sind jeweils inklusive.
+ *
+ * @param companyId      Firma (Pflicht)
+ * @param statuses       Nur Offers in einem dieser Status (leer = alle gelisteten)
+ * @param fromCity       Auszugsort
+ * @param toCity         Einzugsort
+ * @param fromPostalCode PLZ Auszug
+ * @param toPostalCode   PLZ Einzug
+ * @param moveDateFrom   Umzugsdatum ab
+ * @param moveDateTo     Umzugsdatum bis
+ * @param volumeMin      Volumen ab (m³)
+ * @param volumeMax      Volumen bis (m³)
+ * @param priceMin       Geschätzter Preis ab (EUR)
+ * @param priceMax       Geschätzter Preis bis (EUR)
+ * @param sort           Sortierung
+ * @param descending     Absteigend sortieren
+ * @param serviceAreaOnly Nur Offers im Einzugsgebiet der Firma ({@link OpenOfferMatchingIndex})
+ * @param offerIds       Nur diese Offers (null = keine Einschränkung), aufgelöst aus dem Einzugsgebiet
+ */
+public record OfferFeedQuery(
+        UUID companyId,
+        Set<OfferStatus> statuses,
+        String fromCity,
+        String toCity,
+        String fromPostalCode,
+        String toPostalCode,
+        LocalDate moveDateFrom,
+        LocalDate moveDateTo,
+        Double volumeMin,
+        Double volumeMax,
+        BigDecimal priceMin,
+        BigDecimal priceMax,
+        OfferFeedSort sort,
+        boolean descending,
+        boolean serviceAreaOnly,
+        Set<UUID> offerIds
+) {
+
+    public OfferFeedQuery {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        if (sort == null) {
+            throw new IllegalArgumentException("sort is required");
+        }
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        if (!CompanyOfferFeedItem.LISTED_STATUSES.containsAll(statuses)) {
+            throw new IllegalArgumentException("status must be one of: " + CompanyOfferFeedItem.LISTED_STATUSES);
+        }
+        offerIds = offerIds == null ? null : Set.copyOf(offerIds);
+        fromCity = normalize(fromCity);
+        toCity = normalize(toCity);
+        fromPostalCode = normalize(fromPostalCode);
+        toPostalCode = normalize(toPostalCode);
+
+        if (moveDateFrom != null && moveDateTo != null && moveDateFrom.isAfter(moveDateTo)) {
+            throw new IllegalArgumentException("moveDateFrom must not be after moveDateTo");
+        }
+        if (volumeMin != null && volumeMax != null && volumeMin > volumeMax) {
+            throw new IllegalArgumentException("volumeMin must not exceed volumeMax");
+        }
+        if (priceMin != null && priceMax != null && priceMin.compareTo(priceMax) > 0) {
+            throw new IllegalArgumentException("priceMin must not exceed priceMax");
+        }
+    }
+
+    /**
+     * Alle gelisteten Offers der Firma, neueste zuerst.
+     */
+    public static OfferFeedQuery newest(UUID companyId) {
+        return new OfferFeedQuery(companyId, Set.of(), null, null, null, null, null, null,
+                null, null, null, null, OfferFeedSort.NEWEST, true, false, null);
+    }
+
+    /**
+     * Dieselbe Abfrage, eingeschränkt auf die angegebenen Offers.
+     */
+    public OfferFeedQuery restrictTo(Set<UUID> ids) {
+        return new OfferFeedQuery(companyId, statuses, fromCity, toCity, fromPostalCode, toPostalCode,
+                moveDateFrom, moveDateTo, volumeMin, volumeMax, priceMin, priceMax, sort, descending,
+                serviceAreaOnly, ids);
+    }
+
+    /**
+     * Passt der Cursor zu Sortierung und Richtung dieser Abfrage?
+     */
+    public boolean accepts(OfferFeedCursor cursor) {
+        return cursor == null || (cursor.sort() == sort && cursor.descending() == descending);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,66 @@
+package at.mymove.company.application;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Sortierung des Offer-Feeds einer Firma.
+ *
+ * Jede Sortierung hat eine Standard-Richtung und einen Schlüssel, der zusammen mit der
+ * Offer-ID als Tie-Breaker den Keyset-Cursor bildet.
+ */
+public enum OfferFeedSort {
+
+    /** Neueste Offers zuerst */
+    NEWEST(true, CompanyOfferFeedItem::offerCreatedAt, Instant::parse),
+
+    /** Nächster Umzugstermin zuerst */
+    MOVE_DATE(false, CompanyOfferFeedItem::moveDate, LocalDate::parse),
+
+    /** Kürzeste Strecke zuerst */
+    DISTANCE(false, CompanyOfferFeedItem::distanceKm, Double::valueOf),
+
+    /** Günstigste Schätzung zuerst */
+    PRICE(false, CompanyOfferFeedItem::totalPrice, BigDecimal::new);
+
+    private final boolean descendingByDefault;
+    private final Function<CompanyOfferFeedItem, Object> key;
+    private final Function<String, Object> parser;
+
+    OfferFeedSort(
+            boolean descendingByDefault,
+            Function<CompanyOfferFeedItem, Object> key,
+            Function<String, Object> parser
+    ) {
+        this.descendingByDefault = descendingByDefault;
+        this.key = key;
+        this.parser = parser;
+    }
+
+    public boolean descendingByDefault() {
+        return descendingByDefault;
+    }
+
+    /**
+     * Sortierschlüssel einer Zeile in Textform (für den Cursor).
+     */
+    public String keyOf(CompanyOfferFeedItem item) {
+        Object value = key.apply(item);
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+
+    /**
+     * Liest einen Sortierschlüssel aus dem Cursor zurück.
+     *
+     * @throws IllegalArgumentException bei ungültigem Schlüssel
+     */
+    public Object parseKey(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package at.mymove.company.application;
+
+import at.mymove.company.domain.Company;
+import at.mymove.move.domain.GeoLocator;
+import at.mymove.move.domain.GeoPoint;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferChangedEvent;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OffersExpiredEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-Memory-Index der offenen Offers für das Matching mit dem Einzugsgebiet einer Firma.
+ *
+ * - Offen = Status in {@link CompanyOfferFeedItem#LISTED_STATUSES}; Offers, die einer
+ *   anderen Firma zugewiesen sind, matchen nicht
+ * - Räumlich: Gitter über die Auszugs-Position (PLZ-Zentroid) mit Zellen von
+ *   {@code mymove.matching.cell-size-km}; pro Zelle sind die Offers nach Umzugstag sortiert
+ * - Eine Abfrage liest nur die Zellen im Umkreis und darin nur die Tage im Zeitfenster,
+ *   danach wird exakt per Luftlinie gefiltert
+ * - Einzugsgebiet einer Firma: Umkreis {@code mymove.matching.service-radius-km} um ihre
+ *   PLZ, Umzugstermin heute bis heute + {@code mymove.matching.date-window-days}
+ * - Wird beim Start aus der DB geladen und nach jedem Commit über {@link OfferChangedEvent}
+ *   fortgeschrieben
+ * - Metriken: {@code mymove.matching.open-offers}, {@code mymove.matching.query}
+ */
+@Slf4j
+@Component
+public class OpenOfferMatchingIndex {
+
+    private static final double KM_PER_DEGREE = 111.195;
+    // Zellbreite in Längengraden für die Mitte des Marktgebiets (AT/DE/CH)
+    private static final double REFERENCE_LATITUDE = 50.0;
+
+    /**
+     * Einzugsgebiet einer Firma.
+     */
+    private record ServiceArea(UUID companyId, GeoPoint base, double radiusKm, int fromDay, int toDay) {}
+
+    /**
+     * Ein offenes Offer im Index.
+     */
+    private record Entry(UUID offerId, UUID assignedCompanyId, GeoPoint origin, int moveDay, long cell) {}
+
+    private final OfferRepository offerRepository;
+    private final GeoLocator geoLocator;
+    private final TransactionTemplate transactionTemplate;
+    private final double serviceRadiusKm;
+    private final int dateWindowDays;
+    private final double cellLatDegrees;
+    private final double cellLonDegrees;
+    private final Timer queryTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<Long, NavigableMap<Integer, List<Entry>>> cells = new HashMap<>();
+
+    // Während des Start-Ladens: IDs, die per Event entfernt wurden (gewinnen gegen den Ladestand)
+    private Set<UUID> removedWhileLoading;
+    private volatile boolean ready;
+
+    public OpenOfferMatchingIndex(
+            OfferRepository offerRepository,
+            GeoLocator geoLocator,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.matching.service-radius-km:50}") double serviceRadiusKm,
+            @Value("${mymove.matching.date-window-days:90}") int dateWindowDays,
+            @Value("${mymove.matching.cell-size-km:25}") double cellSizeKm
+    ) {
+        if (serviceRadiusKm <= 0) {
+            throw new IllegalArgumentException("matching service-radius-km must be positive");
+        }
+        if (dateWindowDays < 0) {
+            throw new IllegalArgumentException("matching date-window-days must not be negative");
+        }
+        if (cellSizeKm <= 0) {
+            throw new IllegalArgumentException("matching cell-size-km must be positive");
+        }
+        this.offerRepository = offerRepository;
+        this.geoLocator = geoLocator;
+        this.transactionTemplate = transactionTemplate;
+        this.serviceRadiusKm = serviceRadiusKm;
+        this.dateWindowDays = dateWindowDays;
+        this.cellLatDegrees = cellSizeKm / KM_PER_DEGREE;
+        this.cellLonDegrees = cellSizeKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(REFERENCE_LATITUDE)));
+        this.queryTimer = Timer.builder("mymove.matching.query")
+                .description("Dauer einer Matching-Abfrage gegen den Index")
+                .register(meterRegistry);
+        Gauge.builder("mymove.matching.open-offers", this, OpenOfferMatchingIndex::size)
+                .register(meterRegistry);
+    }
+
+    // ---- Abfragen ----
+
+    /**
+     * Offene Offers im Einzugsgebiet der Firma.
+     *
+     * @return IDs der passenden Offers; leer (Optional) solange der Index noch lädt oder
+     *         die Firmenadresse nicht aufgelöst werden kann - dann gibt es keine Einschränkung
+     */
+    public Optional<Set<UUID>> matchServiceArea(Company company) {
+        ServiceArea area = serviceArea(company);
+        if (area == null || !ready) {
+            return Optional.empty();
+        }
+        return Optional.of(queryTimer.record(() -> match(area)));
+    }
+
+    /**
+     * Anzahl der offenen Offers mit bekannter Position.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- Fortschreiben ----
+
+    /**
+     * Nach dem Commit: ein abgebrochenes Speichern darf den Index nicht verändern.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferChanged(OfferChangedEvent event) {
+        Offer offer = event.offer();
+        Entry entry = toEntry(offer);
+
+        lock.writeLock().lock();
+        try {
+            remove(offer.id());
+            if (entry != null) {
+                add(entry);
+            } else if (removedWhileLoading != null) {
+                removedWhileLoading.add(offer.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gesammelter Ablauf: abgelaufene Offers sind nicht mehr offen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOffersExpired(OffersExpiredEvent event) {
+        if (CompanyOfferFeedItem.LISTED_STATUSES.contains(event.status())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (UUID offerId : event.offerIds()) {
+                remove(offerId);
+                if (removedWhileLoading != null) {
+                    removedWhileLoading.add(offerId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Lädt alle offenen Offers beim Start über einen DB-Cursor. Events, die währenddessen
+     * eintreffen, haben Vorrang vor dem geladenen Stand.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int[] loaded = {0};
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Offer> offers = offerRepository.streamByStatusIn(CompanyOfferFeedItem.LISTED_STATUSES)) {
+                    offers.map(this::toEntry)
+                            .filter(Objects::nonNull)
+                            .forEach(entry -> {
+                                lock.writeLock().lock();
+                                try {
+                                    if (!entries.containsKey(entry.offerId())
+                                            && !removedWhileLoading.contains(entry.offerId())) {
+                                        add(entry);
+                                        loaded[0]++;
+                                    }
+                                } finally {
+                                    lock.writeLock().unlock();
+                                }
+                            });
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                removedWhileLoading = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("Loaded {} open offers into matching index in {} ms",
+                loaded[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // ---- Helper ----
+
+    private ServiceArea serviceArea(Company company) {
+        GeoPoint base = geoLocator.locate(company.country(), company.postalCode(), company.city());
+        if (base == null) {
+            log.debug("Service area of company {} unknown: postal code {} not resolvable", company.id(), company.postalCode());
+            return null;
+        }
+        int today = (int) LocalDate.now().toEpochDay();
+        return new ServiceArea(company.id(), base, serviceRadiusKm, today, today + dateWindowDays);
+    }
+
+    private Set<UUID> match(ServiceArea area) {
+        double latRadius = area.radiusKm() / KM_PER_DEGREE;
+        double maxAbsLat = Math.min(89.0, Math.abs(area.base().latitude()) + latRadius);
+        double lonRadius = area.radiusKm() / (KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat)));
+
+        int minRow = row(area.base().latitude() - latRadius);
+        int maxRow = row(area.base().latitude() + latRadius);
+        int minColumn = column(area.base().longitude() - lonRadius);
+        int maxColumn = column(area.base().longitude() + lonRadius);
+
+        Set<UUID> result = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    NavigableMap<Integer, List<Entry>> days = cells.get(cellKey(row, column));
+                    if (days == null) {
+                        continue;
+                    }
+                    for (List<Entry> bucket : days.subMap(area.fromDay(), true, area.toDay(), true).values()) {
+                        for (Entry entry : bucket) {
+                            if (assignableTo(entry, area.companyId())
+                                    && area.base().distanceKm(entry.origin()) <= area.radiusKm()) {
+                                result.add(entry.offerId());
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static boolean assignableTo(Entry entry, UUID companyId) {
+        return entry.assignedCompanyId() == null || entry.assignedCompanyId().equals(companyId);
+    }
+
+    /**
+     * Index-Eintrag eines offenen Offers oder null (nicht offen / Auszug nicht auflösbar).
+     */
+    private Entry toEntry(Offer offer) {
+        if (!CompanyOfferFeedItem.LISTED_STATUSES.contains(offer.status())) {
+            return null;
+        }
+        GeoPoint origin = geoLocator.locate(offer.moveDetails().fromAddress());
+        if (origin == null) {
+            return null;
+        }
+        return new Entry(
+                offer.id(),
+                offer.companyId(),
+                origin,
+                (int) offer.moveDetails().moveDate().toEpochDay(),
+                cellKey(row(origin.latitude()), column(origin.longitude()))
+        );
+    }
+
+    /** Aufrufer hält das Write-Lock. */
+    private void add(Entry entry) {
+        entries.put(entry.offerId(), entry);
+        cells.computeIfAbsent(entry.cell(), key -> new TreeMap<>())
+                .computeIfAbsent(entry.moveDay(), key -> new ArrayList<>(2))
+                .add(entry);
+    }
+
+    /** Aufrufer hält das Write-Lock. */
+    private Entry remove(UUID offerId) {
+        Entry entry = entries.remove(offerId);
+        if (entry == null) {
+            return null;
+        }
+        NavigableMap<Integer, List<Entry>> days = cells.get(entry.cell());
+        List<Entry> bucket = days.get(entry.moveDay());
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+            days.remove(entry.moveDay());
+            if (days.isEmpty()) {
+                cells.remove(entry.cell());
+            }
+        }
+        return entry;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellLatDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor(longitude / cellLonDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+}
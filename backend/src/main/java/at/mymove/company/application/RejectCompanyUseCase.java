@@ -15,6 +15,7 @@ import java.util.UUID;
 public class RejectCompanyUseCase {
 
     private final CompanyRepository companyRepository;
+    private final CompanyTariffCache tariffCache;
 
     @Transactional
     public Company execute(UUID companyId, String adminEmail, String reason) {
@@ -32,6 +33,8 @@ public class RejectCompanyUseCase {
                 .orElseThrow(() -> new GlobalExceptionHandler.CompanyNotFoundException(companyId));
 
         Company rejected = company.reject(adminEmail, reason, Instant.now());
-        return companyRepository.save(rejected);
+        Company saved = companyRepository.save(rejected);
+        tariffCache.invalidate(companyId);
+        return saved;
     }
 }
\ No newline at end of file
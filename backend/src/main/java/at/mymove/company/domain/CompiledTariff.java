@@ -0,0 +1,86 @@
+package at.mymove.company.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Vorkompilierter, unveränderlicher Tarif einer Firma.
+ *
+ * Wird einmal aus den {@link PricingConditions} gebaut: optionale Felder sind
+ * aufgelöst (null → 0) und alle Geldbeträge liegen zusätzlich als long Cent vor,
+ * damit die Preisberechnung nichts mehr prüfen oder umrechnen muss.
+ *
+ * @param companyId            Firma, zu der der Tarif gehört
+ * @param version              Cache-Version, unter der der Tarif kompiliert wurde
+ * @param canReceiveOffers     Firma ist APPROVED
+ * @param conditions           Original-Konditionen (für den BigDecimal-Pfad)
+ * @param hourlyRateCents      Stundensatz in Cent
+ * @param travelFeeCents       Anfahrtsgebühr in Cent
+ * @param baseFeeCents         Grundgebühr in Cent (0 wenn nicht gesetzt)
+ * @param basePriceCents       Grundgebühr + Anfahrt in Cent
+ * @param extraChargeBasisPoints Zuschlag in Basispunkten (10.00 % = 1000)
+ * @param minimumPriceCents    Mindestpreis in Cent (0 wenn nicht gesetzt)
+ */
+public record CompiledTariff(
+        UUID companyId,
+        long version,
+        boolean canReceiveOffers,
+        PricingConditions conditions,
+        long hourlyRateCents,
+        long travelFeeCents,
+        long baseFeeCents,
+        long basePriceCents,
+        long extraChargeBasisPoints,
+        long minimumPriceCents
+) {
+
+    public CompiledTariff {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        if (conditions == null) {
+            throw new IllegalArgumentException("conditions is required");
+        }
+    }
+
+    /**
+     * Factory-Methode: Kompiliert den Tarif einer Firma.
+     */
+    public static CompiledTariff compile(Company company, long version) {
+        if (company == null) {
+            throw new IllegalArgumentException("company is required");
+        }
+        PricingConditions conditions = company.pricingConditions();
+
+        long hourlyRate = toCents(conditions.hourlyRate());
+        long travelFee = toCents(conditions.travelFee());
+        long baseFee = conditions.baseFee() != null ? toCents(conditions.baseFee()) : 0;
+        long extraCharge = conditions.extraChargePercent() != null ? toCents(conditions.extraChargePercent()) : 0;
+        long minimumPrice = conditions.minimumPrice() != null ? toCents(conditions.minimumPrice()) : 0;
+
+        return new CompiledTariff(
+                company.id(),
+                version,
+                company.canReceiveOffers(),
+                conditions,
+                hourlyRate,
+                travelFee,
+                baseFee,
+                travelFee + baseFee,
+                extraCharge,
+                minimumPrice
+        );
+    }
+
+    /**
+     * Wendet den Mindestpreis an (identisch zu {@link PricingConditions#applyMinimumPrice}).
+     */
+    public BigDecimal applyMinimumPrice(BigDecimal calculatedPrice) {
+        return conditions.applyMinimumPrice(calculatedPrice);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
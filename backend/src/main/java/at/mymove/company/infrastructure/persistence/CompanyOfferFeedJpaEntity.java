@@ -0,0 +1,133 @@
+package at.mymove.company.infrastructure.persistence;
+
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.infrastructure.persistence.PriceBreakdownConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * JPA Entity für das Company-Dashboard Read Model.
+ *
+ * Primärschlüssel ist die ID der Schätzung (eine Schätzung pro Firma und Offer).
+ * {@code listed} und {@code canSubmitFinalOffer} werden beim Schreiben abgeleitet,
+ * damit die Dashboard-Abfrage ein reiner Range Scan über den Listing-Index ist.
+ *
+ * Indizes: je Sortierung (companyId, listed, Sortierschlüssel, offerId), damit jede Seite
+ * in Sortierreihenfolge gelesen wird, sowie (companyId, listed, Auszugsort/-PLZ, moveDate)
+ * für die selektivsten Filter.
+ */
+@Entity
+@Table(
+        name = "company_offer_feed",
+        uniqueConstraints = @UniqueConstraint(name = "uk_company_offer_feed_company_offer", columnNames = {"companyId", "offerId"}),
+        indexes = {
+                @Index(name = "idx_company_offer_feed_listing", columnList = "companyId, listed, offerCreatedAt, offerId"),
+                @Index(name = "idx_company_offer_feed_move_date", columnList = "companyId, listed, moveDate, offerId"),
+                @Index(name = "idx_company_offer_feed_distance", columnList = "companyId, listed, distanceKm, offerId"),
+                @Index(name = "idx_company_offer_feed_price", columnList = "companyId, listed, totalPrice, offerId"),
+                @Index(name = "idx_company_offer_feed_from_city", columnList = "companyId, listed, fromCity, moveDate"),
+                @Index(name = "idx_company_offer_feed_from_postal_code", columnList = "companyId, listed, fromPostalCode, moveDate"),
+                @Index(name = "idx_company_offer_feed_offer", columnList = "offerId")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CompanyOfferFeedJpaEntity {
+
+    @Id
+    private UUID estimateId;
+
+    @Column(nullable = false)
+    private UUID companyId;
+
+    @Column(nullable = false)
+    private UUID offerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OfferStatus offerStatus;
+
+    @Column(nullable = false)
+    private boolean listed;
+
+    @Column
+    private UUID assignedCompanyId;
+
+    @Column(nullable = false)
+    private Instant offerCreatedAt;
+
+    @Column
+    private LocalDate moveDate;
+
+    @Column
+    private String fromCity;
+
+    @Column
+    private String toCity;
+
+    @Column
+    private String fromPostalCode;
+
+    @Column
+    private String toPostalCode;
+
+    @Column(nullable = false)
+    private int fromFloor;
+
+    @Column(nullable = false)
+    private int toFloor;
+
+    @Column(nullable = false)
+    private boolean fromHasElevator;
+
+    @Column(nullable = false)
+    private boolean toHasElevator;
+
+    @Column(nullable = false)
+    private double distanceKm;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal priceRangeLow;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal priceRangeHigh;
+
+    @Convert(converter = PriceBreakdownConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private PriceBreakdown breakdown;
+
+    @Column(nullable = false)
+    private double estimatedHours;
+
+    @Column(nullable = false)
+    private double estimatedVolume;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private Instant calculatedAt;
+
+    @Column
+    private Instant validUntil;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private FinalOfferStatus finalOfferStatus;
+
+    @Column(nullable = false)
+    private boolean canSubmitFinalOffer;
+}
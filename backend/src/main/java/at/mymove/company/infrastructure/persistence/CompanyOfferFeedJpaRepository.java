@@ -0,0 +1,39 @@
+package at.mymove.company.infrastructure.persistence;
+
+import at.mymove.offer.domain.OfferStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA Repository für CompanyOfferFeedJpaEntity.
+ */
+public interface CompanyOfferFeedJpaRepository extends JpaRepository<CompanyOfferFeedJpaEntity, UUID> {
+
+    List<CompanyOfferFeedJpaEntity> findByOfferId(UUID offerId);
+
+    List<CompanyOfferFeedJpaEntity> findByOfferIdIn(Collection<UUID> offerIds);
+
+    Optional<CompanyOfferFeedJpaEntity> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CompanyOfferFeedJpaEntity f set f.offerStatus = :status, f.listed = :listed
+            where f.offerId in :offerIds
+            """)
+    int updateOfferStatus(
+            @Param("offerIds") Collection<UUID> offerIds,
+            @Param("status") OfferStatus status,
+            @Param("listed") boolean listed
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CompanyOfferFeedJpaEntity f")
+    int deleteAllRows();
+}
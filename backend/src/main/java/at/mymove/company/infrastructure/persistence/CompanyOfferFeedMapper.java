@@ -0,0 +1,83 @@
+package at.mymove.company.infrastructure.persistence;
+
+import at.mymove.company.application.CompanyOfferFeedItem;
+
+/**
+ * Mapper zwischen CompanyOfferFeedItem und JPA Entity.
+ */
+final class CompanyOfferFeedMapper {
+
+    private CompanyOfferFeedMapper() {}
+
+    static CompanyOfferFeedItem toDomain(CompanyOfferFeedJpaEntity entity) {
+        return new CompanyOfferFeedItem(
+                entity.getCompanyId(),
+                entity.getOfferId(),
+                entity.getEstimateId(),
+                entity.getOfferStatus(),
+                entity.getAssignedCompanyId(),
+                entity.getOfferCreatedAt(),
+                entity.getMoveDate(),
+                entity.getFromCity(),
+                entity.getToCity(),
+                entity.getFromPostalCode(),
+                entity.getToPostalCode(),
+                entity.getFromFloor(),
+                entity.getToFloor(),
+                entity.isFromHasElevator(),
+                entity.isToHasElevator(),
+                entity.getDistanceKm(),
+                entity.getTotalPrice(),
+                entity.getPriceRangeLow(),
+                entity.getPriceRangeHigh(),
+                entity.getBreakdown(),
+                entity.getEstimatedHours(),
+                entity.getEstimatedVolume(),
+                entity.getCurrency(),
+                entity.getCalculatedAt(),
+                entity.getValidUntil(),
+                entity.getFinalOfferStatus()
+        );
+    }
+
+    static CompanyOfferFeedJpaEntity toJpa(CompanyOfferFeedItem item) {
+        CompanyOfferFeedJpaEntity entity = CompanyOfferFeedJpaEntity.builder()
+                .estimateId(item.estimateId())
+                .build();
+        copyInto(item, entity);
+        return entity;
+    }
+
+    /**
+     * Überträgt alle Felder auf eine (managed) Entity; die ID bleibt unverändert.
+     */
+    static void copyInto(CompanyOfferFeedItem item, CompanyOfferFeedJpaEntity target) {
+        target.setCompanyId(item.companyId());
+        target.setOfferId(item.offerId());
+        target.setOfferStatus(item.offerStatus());
+        target.setListed(item.listed());
+        target.setAssignedCompanyId(item.assignedCompanyId());
+        target.setOfferCreatedAt(item.offerCreatedAt());
+        target.setMoveDate(item.moveDate());
+        target.setFromCity(item.fromCity());
+        target.setToCity(item.toCity());
+        target.setFromPostalCode(item.fromPostalCode());
+        target.setToPostalCode(item.toPostalCode());
+        target.setFromFloor(item.fromFloor());
+        target.setToFloor(item.toFloor());
+        target.setFromHasElevator(item.fromHasElevator());
+        target.setToHasElevator(item.toHasElevator());
+        target.setDistanceKm(item.distanceKm());
+        target.setTotalPrice(item.totalPrice());
+        target.setPriceRangeLow(item.priceRangeLow());
+        target.setPriceRangeHigh(item.priceRangeHigh());
+        target.setBreakdown(item.breakdown());
+        target.setEstimatedHours(item.estimatedHours());
+        target.setEstimatedVolume(item.estimatedVolume());
+        target.setCurrency(item.currency());
+        target.setCalculatedAt(item.calculatedAt());
+        target.setValidUntil(item.validUntil());
+        target.setFinalOfferStatus(item.finalOfferStatus());
+        target.setCanSubmitFinalOffer(item.canSubmitFinalOffer());
+    }
+}
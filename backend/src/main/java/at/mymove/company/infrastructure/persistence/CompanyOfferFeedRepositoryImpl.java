@@ -0,0 +1,278 @@
+package at.mymove.company.infrastructure.persistence;
+
+import at.mymove.company.application.CompanyOfferFeedItem;
+import at.mymove.company.application.CompanyOfferFeedRepository;
+import at.mymove.company.application.OfferFeedCursor;
+import at.mymove.company.application.OfferFeedQuery;
+import at.mymove.company.application.OfferFeedSort;
+import at.mymove.offer.domain.OfferStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementierung des CompanyOfferFeedRepository.
+ *
+ * Die Dashboard-Seite ist ein Range Scan über den zur Sortierung passenden Index mit
+ * Keyset-Pagination statt OFFSET - jede Seite kostet genau ein Statement, ohne Join und
+ * ohne JSON-Parsing der MoveDetails. Filter werden als WHERE-Bedingungen angehängt.
+ *
+ * Ein ID-Filter (Einzugsgebiet) geht mit höchstens {@value #MAX_ID_FILTER} IDs pro Statement
+ * als IN-Liste in die Abfrage; größere Mengen werden in Blöcken abgefragt und die Teilseiten
+ * in derselben Ordnung wie die Datenbank zusammengeführt.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyOfferFeedRepositoryImpl implements CompanyOfferFeedRepository {
+
+    private static final String SELECT = """
+            select f from CompanyOfferFeedJpaEntity f
+            where f.companyId = :companyId
+              and f.listed = true""";
+
+    static final int MAX_ID_FILTER = 500;
+
+    private final CompanyOfferFeedJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<CompanyOfferFeedItem> findPage(OfferFeedQuery feedQuery, OfferFeedCursor after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        Set<UUID> offerIds = feedQuery.offerIds();
+        if (offerIds != null && offerIds.isEmpty()) {
+            return List.of();
+        }
+        if (offerIds == null || offerIds.size() <= MAX_ID_FILTER) {
+            return findPage(feedQuery, offerIds, after, limit);
+        }
+
+        // Jeder Block liefert seine ersten limit Zeilen, die Seite sind die ersten limit aller Blöcke
+        List<UUID> ids = List.copyOf(offerIds);
+        List<CompanyOfferFeedItem> merged = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_ID_FILTER) {
+            merged.addAll(findPage(feedQuery, ids.subList(from, Math.min(from + MAX_ID_FILTER, ids.size())), after, limit));
+        }
+        merged.sort(order(feedQuery.sort(), feedQuery.descending()));
+        return merged.size() <= limit ? merged : List.copyOf(merged.subList(0, limit));
+    }
+
+    /**
+     * Baut das JPQL aus den gesetzten Filtern. Der Keyset-Vergleich und die Sortierung
+     * laufen über (Sortierschlüssel, offerId) in derselben Richtung.
+     */
+    private List<CompanyOfferFeedItem> findPage(
+            OfferFeedQuery feedQuery,
+            Collection<UUID> offerIds,
+            OfferFeedCursor after,
+            int limit
+    ) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("companyId", feedQuery.companyId());
+
+        if (offerIds != null) {
+            jpql.append(" and f.offerId in :offerIds");
+            params.put("offerIds", offerIds);
+        }
+        if (!feedQuery.statuses().isEmpty()) {
+            jpql.append(" and f.offerStatus in :statuses");
+            params.put("statuses", feedQuery.statuses());
+        }
+        appendEquals(jpql, params, "fromCity", feedQuery.fromCity());
+        appendEquals(jpql, params, "toCity", feedQuery.toCity());
+        appendEquals(jpql, params, "fromPostalCode", feedQuery.fromPostalCode());
+        appendEquals(jpql, params, "toPostalCode", feedQuery.toPostalCode());
+        appendRange(jpql, params, "moveDate", feedQuery.moveDateFrom(), feedQuery.moveDateTo());
+        appendRange(jpql, params, "estimatedVolume", feedQuery.volumeMin(), feedQuery.volumeMax());
+        appendRange(jpql, params, "totalPrice", feedQuery.priceMin(), feedQuery.priceMax());
+
+        String sortProperty = sortProperty(feedQuery.sort());
+        String direction = feedQuery.descending() ? "desc" : "asc";
+        if (after != null) {
+            String cmp = feedQuery.descending() ? "<" : ">";
+            jpql.append(" and (f.").append(sortProperty).append(' ').append(cmp).append(" :afterKey")
+                    .append(" or (f.").append(sortProperty).append(" = :afterKey and f.offerId ")
+                    .append(cmp).append(" :afterId))");
+            params.put("afterKey", after.keyValue());
+            params.put("afterId", after.offerId());
+        }
+        jpql.append(" order by f.").append(sortProperty).append(' ').append(direction)
+                .append(", f.offerId ").append(direction);
+
+        TypedQuery<CompanyOfferFeedJpaEntity> query = entityManager.createQuery(jpql.toString(), CompanyOfferFeedJpaEntity.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit);
+        params.forEach(query::setParameter);
+
+        // Read-only-Instanzen nicht im Persistence Context lassen: ein späteres saveAll in
+        // derselben Transaktion bekäme sie zurück und verwürfe jede Änderung daran
+        List<CompanyOfferFeedJpaEntity> entities = query.getResultList();
+        List<CompanyOfferFeedItem> items = entities.stream()
+                .map(CompanyOfferFeedMapper::toDomain)
+                .toList();
+        entities.forEach(entityManager::detach);
+        return items;
+    }
+
+    @Override
+    public List<CompanyOfferFeedItem> findByOfferId(UUID offerId) {
+        return jpaRepository.findByOfferId(offerId).stream()
+                .map(CompanyOfferFeedMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<CompanyOfferFeedItem> findByOfferIds(Collection<UUID> offerIds) {
+        if (offerIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByOfferIdIn(offerIds).stream()
+                .map(CompanyOfferFeedMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateOfferStatus(Collection<UUID> offerIds, OfferStatus status) {
+        if (offerIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.updateOfferStatus(offerIds, status, CompanyOfferFeedItem.LISTED_STATUSES.contains(status));
+    }
+
+    @Override
+    public Optional<CompanyOfferFeedItem> findByCompanyIdAndOfferId(UUID companyId, UUID offerId) {
+        return jpaRepository.findByCompanyIdAndOfferId(companyId, offerId)
+                .map(CompanyOfferFeedMapper::toDomain);
+    }
+
+    /**
+     * Lädt alle bestehenden Zeilen der betroffenen Offers mit einem SELECT. Zeilen mit gleicher
+     * Schätzungs-ID werden aktualisiert; hat eine Firma inzwischen eine neue Schätzung
+     * (neue ID), wird ihre alte Zeile vor dem Insert entfernt und geflusht, da Hibernate
+     * sonst Inserts vor Deletes ausführt und der Unique Key (companyId, offerId) verletzt wäre.
+     */
+    @Override
+    public void saveAll(Collection<CompanyOfferFeedItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<UUID> offerIds = items.stream().map(CompanyOfferFeedItem::offerId).distinct().toList();
+
+        Map<UUID, CompanyOfferFeedJpaEntity> byEstimateId = new HashMap<>();
+        Map<String, CompanyOfferFeedJpaEntity> byCompanyAndOffer = new HashMap<>();
+        for (CompanyOfferFeedJpaEntity entity : jpaRepository.findByOfferIdIn(offerIds)) {
+            byEstimateId.put(entity.getEstimateId(), entity);
+            byCompanyAndOffer.put(key(entity.getCompanyId(), entity.getOfferId()), entity);
+        }
+
+        List<CompanyOfferFeedItem> inserts = new ArrayList<>();
+        boolean removed = false;
+        for (CompanyOfferFeedItem item : items) {
+            CompanyOfferFeedJpaEntity managed = byEstimateId.get(item.estimateId());
+            if (managed != null) {
+                CompanyOfferFeedMapper.copyInto(item, managed);
+                continue;
+            }
+            CompanyOfferFeedJpaEntity replaced = byCompanyAndOffer.get(key(item.companyId(), item.offerId()));
+            if (replaced != null) {
+                entityManager.remove(replaced);
+                removed = true;
+            }
+            inserts.add(item);
+        }
+
+        if (removed) {
+            entityManager.flush();
+        }
+        for (CompanyOfferFeedItem item : inserts) {
+            entityManager.persist(CompanyOfferFeedMapper.toJpa(item));
+        }
+        entityManager.flush();
+    }
+
+    @Override
+    public void insertAll(Collection<CompanyOfferFeedItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        for (CompanyOfferFeedItem item : items) {
+            entityManager.persist(CompanyOfferFeedMapper.toJpa(item));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public void deleteByEstimateId(UUID estimateId) {
+        jpaRepository.deleteById(estimateId);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaRepository.deleteAllRows();
+    }
+
+    private static String sortProperty(OfferFeedSort sort) {
+        return switch (sort) {
+            case NEWEST -> "offerCreatedAt";
+            case MOVE_DATE -> "moveDate";
+            case DISTANCE -> "distanceKm";
+            case PRICE -> "totalPrice";
+        };
+    }
+
+    /**
+     * Ordnung der Seite wie im ORDER BY. UUIDs vergleicht die Datenbank vorzeichenlos
+     * (BINARY(16) bzw. H2-UUID), {@link UUID#compareTo} dagegen vorzeichenbehaftet.
+     */
+    private static Comparator<CompanyOfferFeedItem> order(OfferFeedSort sort, boolean descending) {
+        Comparator<CompanyOfferFeedItem> byKey = switch (sort) {
+            case NEWEST -> Comparator.comparing(CompanyOfferFeedItem::offerCreatedAt);
+            case MOVE_DATE -> Comparator.comparing(CompanyOfferFeedItem::moveDate);
+            case DISTANCE -> Comparator.comparingDouble(CompanyOfferFeedItem::distanceKm);
+            case PRICE -> Comparator.comparing(CompanyOfferFeedItem::totalPrice);
+        };
+        Comparator<CompanyOfferFeedItem> order = byKey.thenComparing(CompanyOfferFeedItem::offerId, (a, b) -> {
+            int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+        });
+        return descending ? order.reversed() : order;
+    }
+
+    private static void appendEquals(StringBuilder jpql, Map<String, Object> params, String property, Object value) {
+        if (value != null) {
+            jpql.append(" and f.").append(property).append(" = :").append(property);
+            params.put(property, value);
+        }
+    }
+
+    private static void appendRange(StringBuilder jpql, Map<String, Object> params, String property, Object min, Object max) {
+        if (min != null) {
+            jpql.append(" and f.").append(property).append(" >= :").append(property).append("Min");
+            params.put(property + "Min", min);
+        }
+        if (max != null) {
+            jpql.append(" and f.").append(property).append(" <= :").append(property).append("Max");
+            params.put(property + "Max", max);
+        }
+    }
+
+    private static String key(UUID companyId, UUID offerId) {
+        return companyId + ":" + offerId;
+    }
+}
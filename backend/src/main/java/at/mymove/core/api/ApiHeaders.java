@@ -4,4 +4,9 @@ public final class ApiHeaders {
     private ApiHeaders() {}
 
     public static final String REQUEST_ID = "X-Request-Id";
-}
\ No newline at end of file
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    public static final String CALLBACK_TIMESTAMP = "X-MyMove-Timestamp";
+    public static final String CALLBACK_SIGNATURE = "X-MyMove-Signature";
+}
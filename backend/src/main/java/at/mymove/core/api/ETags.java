@@ -0,0 +1,102 @@
+package at.mymove.core.api;
+
+import at.mymove.core.domain.EntityVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Starke ETags aus Entity-Versionen und Auswertung von {@code If-None-Match}.
+ *
+ * Das ETag einer Ressource hängt nur von IDs und Versionen der enthaltenen Entities ab
+ * (Reihenfolge egal) und kann daher aus einer Version-only-Query berechnet werden.
+ * Wichtig: die Versionen vor dem Laden der Entities lesen - ein ETag darf nie neuer
+ * sein als der ausgelieferte Body.
+ *
+ * Enthält der Body sprachabhängige Texte (z. B. Preispositionen), muss die Sprache über
+ * {@link #of(Collection, Locale)} in das ETag eingehen - sonst bekäme ein Client nach dem
+ * Sprachwechsel ein 304 für den alten Body. Alle Antworten tragen {@code Vary: Accept-Language}.
+ */
+public final class ETags {
+    private ETags() {}
+
+    // Client darf cachen, muss aber vor jeder Verwendung per If-None-Match nachfragen
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    public static String of(EntityVersion version) {
+        return of(List.of(version));
+    }
+
+    public static String of(Collection<EntityVersion> versions) {
+        long hash = 0xcbf29ce484222325L;
+        for (EntityVersion version : versions.stream().sorted(Comparator.comparing(EntityVersion::id)).toList()) {
+            hash = mix(hash, version.id().getMostSignificantBits());
+            hash = mix(hash, version.id().getLeastSignificantBits());
+            hash = mix(hash, version.version());
+        }
+        return "\"" + Long.toHexString(mix(hash, versions.size())) + "\"";
+    }
+
+    /**
+     * ETag für einen Body, der in der Sprache {@code locale} gerendert wird.
+     */
+    public static String of(Collection<EntityVersion> versions, Locale locale) {
+        String etag = of(versions);
+        if (locale == null || locale.getLanguage().isEmpty()) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + locale.getLanguage() + "\"";
+    }
+
+    /**
+     * Trifft {@code If-None-Match} das ETag? Unterstützt Listen und {@code *};
+     * schwache Vergleiche ({@code W/}) zählen laut RFC 9110 ebenfalls.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 200 mit ETag.
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .body(body);
+    }
+
+    /**
+     * 304 ohne Body.
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .build();
+    }
+
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * 0x100000001b3L;
+        return hash ^ (hash >>> 29);
+    }
+}
@@ -4,6 +4,7 @@ import at.mymove.core.api.dto.ApiErrorResponse;
 import at.mymove.infrastructure.storage.FileStorageException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -61,6 +62,15 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(InvalidSignatureException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidSignature(
+            InvalidSignatureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("[401] Invalid Signature - Path: {}, Reason: {}", request.getRequestURI(), ex.getMessage());
+        return build(HttpStatus.UNAUTHORIZED, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalState(
             IllegalStateException ex,
@@ -70,6 +80,18 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, ex.getMessage(), request);
     }
 
+    /**
+     * Gleichzeitige Änderung derselben Entity ({@code @Version}) - Client soll neu laden.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("[409] Concurrent Modification - Path: {}, Message: {}", request.getRequestURI(), ex.getMessage());
+        return build(HttpStatus.CONFLICT, "Resource was modified concurrently, please reload", request);
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ApiErrorResponse> handleMethodNotSupported(
             HttpRequestMethodNotSupportedException ex,
@@ -135,4 +157,10 @@ public class GlobalExceptionHandler {
             super("Company not found: " + companyId);
         }
     }
+
+    public static class InvalidSignatureException extends RuntimeException {
+        public InvalidSignatureException(String message) {
+            super(message);
+        }
+    }
 }
@@ -0,0 +1,402 @@
+package at.mymove.core.api;
+
+import at.mymove.core.api.dto.ApiErrorResponse;
+import at.mymove.core.domain.IdempotentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key für POST-Requests (Offer anlegen, Video-Upload, KI-Analyse, Annahme
+ * einer finalen Offerte, ...).
+ *
+ * - Schlüssel = SHA-256 über Benutzer und {@code Idempotency-Key}, damit sich Clients
+ *   nicht gegenseitig Antworten abholen können; anonyme Aufrufer haben keinen eigenen Namen,
+ *   ihr Schlüssel umfasst daher zusätzlich Methode, Pfad und Body
+ * - Fingerprint = SHA-256 über den Request-Body (bei Multipart über die Parts, bei Formularen
+ *   über die Parameter); Bodies über {@code mymove.idempotency.max-request-bytes}: 413
+ * - Wiederholung: gespeicherte Antwort (Status, Content-Type, Body) mit
+ *   {@code Idempotent-Replayed: true}, ohne erneute Ausführung
+ * - Gleichzeitige Duplikate warten auf den laufenden Request statt selbst auszuführen
+ * - Gespeichert werden Antworten < 500 bis {@code mymove.idempotency.max-body-bytes};
+ *   Serverfehler dürfen wiederholt werden
+ * - Gleicher Schlüssel für einen anderen Pfad oder Body: 422
+ *
+ * Läuft wie {@link RequestIdFilter} nach der Security-Chain, der Benutzer ist also bekannt.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final int maxRequestBytes;
+    private final long waitTimeoutSeconds;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            ObjectMapper objectMapper,
+            @Value("${mymove.idempotency.max-body-bytes:65536}") int maxBodyBytes,
+            @Value("${mymove.idempotency.max-request-bytes:1048576}") int maxRequestBytes,
+            @Value("${mymove.idempotency.wait-timeout-seconds:30}") long waitTimeoutSeconds
+    ) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxRequestBytes = maxRequestBytes;
+        this.waitTimeoutSeconds = waitTimeoutSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(ApiHeaders.IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String header = request.getHeader(ApiHeaders.IDEMPOTENCY_KEY).trim();
+        if (header.isEmpty() || header.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+
+        HttpServletRequest fingerprinted = request;
+        MessageDigest digest = sha256();
+        if (isMultipart(request)) {
+            digestParts(request, digest);
+        } else if (isForm(request)) {
+            digestParameters(request, digest);
+        } else {
+            byte[] body = readBody(request);
+            if (body == null) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Request body exceeds " + maxRequestBytes + " bytes for Idempotency-Key requests");
+                return;
+            }
+            digest.update(body);
+            fingerprinted = new CachedBodyRequest(request, body);
+        }
+        String requestHash = HexFormat.of().formatHex(digest.digest());
+
+        String principal = principal();
+        String key = principal != null
+                ? hash(principal + ":" + header)
+                : hash("anonymous:" + header + ":" + method + " " + path + ":" + requestHash);
+
+        while (true) {
+            Optional<IdempotentResponse> stored = store.find(key);
+            if (stored.isPresent()) {
+                replay(request, response, stored.get(), method, path, requestHash);
+                return;
+            }
+
+            CompletableFuture<IdempotentResponse> running = store.claim(key);
+            if (running == null) {
+                execute(fingerprinted, response, filterChain, key, method, path, requestHash);
+                return;
+            }
+
+            IdempotentResponse result;
+            try {
+                result = running.get(waitTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still in progress");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for idempotent request", e);
+            } catch (ExecutionException e) {
+                throw new ServletException("Idempotent request failed", e.getCause());
+            }
+            if (result != null) {
+                replay(request, response, result, method, path, requestHash);
+                return;
+            }
+            // Ursprünglicher Request wurde nicht gespeichert (z.B. 5xx): erneut versuchen
+        }
+    }
+
+    // ---- Helper ----
+
+    private void execute(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String key,
+            String method,
+            String path,
+            String requestHash
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            result = toStored(wrapper, method, path, requestHash);
+        } finally {
+            store.complete(key, result);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private IdempotentResponse toStored(
+            ContentCachingResponseWrapper wrapper,
+            String method,
+            String path,
+            String requestHash
+    ) {
+        int status = wrapper.getStatus();
+        byte[] body = wrapper.getContentAsByteArray();
+        if (status >= 500 || body.length > maxBodyBytes) {
+            return null;
+        }
+        Instant now = Instant.now();
+        return new IdempotentResponse(
+                method,
+                path,
+                requestHash,
+                status,
+                wrapper.getContentType(),
+                body,
+                now,
+                store.expiresAt(now)
+        );
+    }
+
+    private void replay(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            IdempotentResponse stored,
+            String method,
+            String path,
+            String requestHash
+    ) throws IOException {
+        if (!stored.matches(method, path, requestHash)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(ApiHeaders.IDEMPOTENT_REPLAYED, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String message
+    ) throws IOException {
+        String requestId = (String) request.getAttribute(RequestIdFilter.ATTR_REQUEST_ID);
+        ApiErrorResponse body = ApiErrorResponse.of(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI(),
+                requestId
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * Angemeldeter Benutzer; null für anonyme Aufrufer.
+     */
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT)
+                .startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    /**
+     * Der Container liest Parts selbst und hält sie für den Controller vor; die Boundary
+     * ändert sich bei jeder Wiederholung und zählt daher nicht zum Fingerprint.
+     */
+    private static void digestParts(HttpServletRequest request, MessageDigest digest)
+            throws IOException, ServletException {
+        for (Part part : request.getParts()) {
+            update(digest, part.getName());
+            update(digest, part.getSubmittedFileName());
+            update(digest, part.getContentType());
+            try (InputStream in = part.getInputStream()) {
+                in.transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            }
+        }
+    }
+
+    private static void digestParameters(HttpServletRequest request, MessageDigest digest) {
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            update(digest, name);
+            for (String value : values) {
+                update(digest, value);
+            }
+        });
+    }
+
+    /**
+     * Liest den Body vollständig; null, wenn er {@code maxRequestBytes} überschreitet.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        return body.length > maxRequestBytes ? null : body;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static String hash(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request mit bereits gelesenem Body, der der Chain erneut bereitgestellt wird.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * Der Body liegt schon im Speicher: sofort lesbar und danach vollständig.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
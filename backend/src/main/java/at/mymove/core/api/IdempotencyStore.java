@@ -0,0 +1,183 @@
+package at.mymove.core.api;
+
+import at.mymove.core.domain.IdempotencyRepository;
+import at.mymove.core.domain.IdempotentResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Antworten zu Idempotency-Keys: In-Memory-LRU vor der DB-Tabelle, dazu die gerade
+ * laufenden Requests pro Schlüssel.
+ *
+ * - Lesen: erst der Cache ({@code mymove.idempotency.cache-max-size}), dann die DB
+ * - Laufende Requests: wer einen Schlüssel zuerst beansprucht, führt aus; gleichzeitige
+ *   Duplikate warten auf dessen Ergebnis ({@link #claim(String)})
+ * - Einträge gelten {@code mymove.idempotency.ttl-hours}, abgelaufene Zeilen werden
+ *   periodisch per Massen-Delete entfernt
+ * - Metriken: {@code mymove.idempotency.requests} (result=miss|replayed|coalesced),
+ *   {@code mymove.idempotency.cache.size}
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRepository repository;
+    private final Map<String, IdempotentResponse> entries;
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    private final Counter misses;
+    private final Counter replays;
+    private final Counter coalesced;
+
+    public IdempotencyStore(
+            IdempotencyRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.idempotency.cache-max-size:10000}") int maxSize,
+            @Value("${mymove.idempotency.ttl-hours:24}") int ttlHours
+    ) {
+        if (maxSize < 1 || ttlHours < 1) {
+            throw new IllegalArgumentException("idempotency cache-max-size and ttl-hours must be positive");
+        }
+        this.repository = repository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.misses = Counter.builder("mymove.idempotency.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.replays = Counter.builder("mymove.idempotency.requests")
+                .tag("result", "replayed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("mymove.idempotency.requests")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("mymove.idempotency.cache.size", this, IdempotencyStore::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gespeicherte, noch gültige Antwort zum Schlüssel.
+     */
+    public Optional<IdempotentResponse> find(String key) {
+        Instant now = Instant.now();
+        IdempotentResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached == null) {
+            cached = repository.findByKey(key).orElse(null);
+            if (cached != null && !cached.isExpired(now)) {
+                remember(key, cached);
+            }
+        }
+        if (cached == null || cached.isExpired(now)) {
+            return Optional.empty();
+        }
+        replays.increment();
+        return Optional.of(cached);
+    }
+
+    /**
+     * Beansprucht den Schlüssel für die Ausführung.
+     *
+     * @return null, wenn der Aufrufer ausführen und danach {@link #complete} aufrufen muss;
+     *         sonst das Ergebnis des bereits laufenden Requests (liefert null, wenn dessen
+     *         Antwort nicht gespeichert wurde)
+     */
+    public CompletableFuture<IdempotentResponse> claim(String key) {
+        CompletableFuture<IdempotentResponse> claimed = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, claimed);
+        if (running != null) {
+            coalesced.increment();
+            return running;
+        }
+
+        // Zwischen find und claim abgeschlossen: complete() legt die Antwort vor der Freigabe ab
+        IdempotentResponse completed;
+        synchronized (entries) {
+            completed = entries.get(key);
+        }
+        if (completed != null && !completed.isExpired(Instant.now())) {
+            inFlight.remove(key, claimed);
+            claimed.complete(completed);
+            coalesced.increment();
+            return claimed;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Gibt den Schlüssel frei. Eine Antwort wird zuerst gespeichert, dann an wartende
+     * Duplikate übergeben; ohne Antwort (null) führen die Duplikate selbst aus.
+     */
+    public void complete(String key, IdempotentResponse response) {
+        if (response != null) {
+            remember(key, response);
+            try {
+                repository.saveIfAbsent(key, response);
+            } catch (DataAccessException e) {
+                log.warn("Could not persist idempotent response for key {}: {}", key, e.getMessage());
+            }
+        }
+        CompletableFuture<IdempotentResponse> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(response);
+        }
+    }
+
+    /**
+     * Ablaufzeitpunkt für eine jetzt gespeicherte Antwort.
+     */
+    public Instant expiresAt(Instant now) {
+        return now.plus(ttl);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${mymove.idempotency.purge-interval-ms:3600000}",
+            fixedDelayString = "${mymove.idempotency.purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        try {
+            int deleted = repository.deleteExpired(Instant.now());
+            if (deleted > 0) {
+                log.info("Purged {} expired idempotency records", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Purging idempotency records failed: {}", e.getMessage());
+        }
+    }
+
+    // ---- Helper ----
+
+    private void remember(String key, IdempotentResponse response) {
+        synchronized (entries) {
+            entries.put(key, response);
+        }
+    }
+}
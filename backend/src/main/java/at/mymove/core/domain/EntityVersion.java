@@ -0,0 +1,24 @@
+package at.mymove.core.domain;
+
+import java.util.UUID;
+
+/**
+ * Stand einer gespeicherten Entity: ID und Versionszähler ({@code @Version}).
+ *
+ * Wird per Version-only-Query gelesen, um unveränderte Ressourcen zu erkennen,
+ * ohne die Entity selbst zu laden.
+ *
+ * @param id      ID der Entity
+ * @param version Versionszähler, steigt mit jeder Änderung
+ */
+public record EntityVersion(UUID id, long version) {
+
+    public EntityVersion {
+        if (id == null) {
+            throw new IllegalArgumentException("id is required");
+        }
+        if (version < 0) {
+            throw new IllegalArgumentException("version must not be negative");
+        }
+    }
+}
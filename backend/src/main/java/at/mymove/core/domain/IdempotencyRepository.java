@@ -0,0 +1,29 @@
+package at.mymove.core.domain;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Dauerhafte Ablage der Antworten zu Idempotency-Keys (überlebt Neustarts und ist
+ * zwischen mehreren Instanzen geteilt).
+ */
+public interface IdempotencyRepository {
+
+    Optional<IdempotentResponse> findByKey(String key);
+
+    /**
+     * Speichert die Antwort, sofern zum Schlüssel noch keine existiert.
+     *
+     * @return false wenn bereits eine Antwort gespeichert war
+     * @throws org.springframework.dao.DataIntegrityViolationException wenn eine andere Instanz
+     *         denselben Schlüssel gleichzeitig speichert
+     */
+    boolean saveIfAbsent(String key, IdempotentResponse response);
+
+    /**
+     * Löscht alle bis {@code now} abgelaufenen Einträge in einem Statement.
+     *
+     * @return Anzahl gelöschter Einträge
+     */
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,59 @@
+package at.mymove.core.domain;
+
+import java.time.Instant;
+
+/**
+ * Gespeicherte Antwort auf einen Request mit {@code Idempotency-Key}.
+ *
+ * Wiederholungen mit demselben Schlüssel erhalten genau diese Antwort, ohne dass der
+ * Request erneut ausgeführt wird.
+ *
+ * @param method      HTTP-Methode des ursprünglichen Requests
+ * @param path        Pfad des ursprünglichen Requests (Wiederholungen müssen übereinstimmen)
+ * @param requestHash SHA-256 über den Body des ursprünglichen Requests (null = Altbestand, nicht geprüft)
+ * @param status      HTTP-Status der Antwort
+ * @param contentType Content-Type der Antwort (null = kein Body)
+ * @param body        Body der Antwort (leer = kein Body)
+ * @param createdAt   Zeitpunkt der ursprünglichen Ausführung
+ * @param expiresAt   Ab diesem Zeitpunkt wird der Schlüssel vergessen
+ */
+public record IdempotentResponse(
+        String method,
+        String path,
+        String requestHash,
+        int status,
+        String contentType,
+        byte[] body,
+        Instant createdAt,
+        Instant expiresAt
+) {
+
+    public IdempotentResponse {
+        if (method == null || method.isBlank()) {
+            throw new IllegalArgumentException("method is required");
+        }
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("path is required");
+        }
+        if (status < 100 || status > 599) {
+            throw new IllegalArgumentException("status must be a valid HTTP status");
+        }
+        if (createdAt == null || expiresAt == null) {
+            throw new IllegalArgumentException("createdAt and expiresAt are required");
+        }
+        body = body != null ? body : new byte[0];
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Gehört eine Wiederholung mit diesem Schlüssel zum ursprünglichen Request?
+     */
+    public boolean matches(String method, String path, String requestHash) {
+        return this.method.equals(method)
+                && this.path.equals(path)
+                && (this.requestHash == null || this.requestHash.equals(requestHash));
+    }
+}
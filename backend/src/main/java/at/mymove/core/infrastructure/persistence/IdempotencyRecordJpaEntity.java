@@ -0,0 +1,54 @@
+package at.mymove.core.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * JPA Entity für gespeicherte Antworten zu Idempotency-Keys.
+ *
+ * Der Schlüssel ist ein SHA-256-Hash über Aufrufer und Header-Wert, damit beliebig lange
+ * Client-Schlüssel in eine feste Spalte passen. Index auf expiresAt für das Aufräumen.
+ */
+@Entity
+@Table(
+        name = "idempotency_records",
+        indexes = @Index(name = "idx_idempotency_records_expires_at", columnList = "expiresAt")
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecordJpaEntity {
+
+    @Id
+    @Column(length = 64)
+    private String recordKey;
+
+    @Column(nullable = false, length = 10)
+    private String method;
+
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    /** SHA-256 über den Request-Body; null bei Einträgen von vor der Body-Prüfung. */
+    @Column(length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private int status;
+
+    @Column
+    private String contentType;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+}
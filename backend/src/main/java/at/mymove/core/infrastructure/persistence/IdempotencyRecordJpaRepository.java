@@ -0,0 +1,18 @@
+package at.mymove.core.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * Spring Data JPA Repository für IdempotencyRecordJpaEntity.
+ */
+public interface IdempotencyRecordJpaRepository extends JpaRepository<IdempotencyRecordJpaEntity, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecordJpaEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,74 @@
+package at.mymove.core.infrastructure.persistence;
+
+import at.mymove.core.domain.IdempotencyRepository;
+import at.mymove.core.domain.IdempotentResponse;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Implementierung des IdempotencyRepository.
+ *
+ * Speichern ist ein Insert in eigener Transaktion. Speichert eine andere Instanz denselben
+ * Schlüssel gleichzeitig, schlägt beim Commit der Primary Key zu
+ * ({@link org.springframework.dao.DataIntegrityViolationException}), der vorhandene Eintrag bleibt.
+ */
+@Repository
+@RequiredArgsConstructor
+class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private final IdempotencyRecordJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<IdempotentResponse> findByKey(String key) {
+        return jpaRepository.findById(key).map(IdempotencyRepositoryImpl::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfAbsent(String key, IdempotentResponse response) {
+        if (jpaRepository.existsById(key)) {
+            return false;
+        }
+        entityManager.persist(toJpa(key, response));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return jpaRepository.deleteExpired(now);
+    }
+
+    private static IdempotencyRecordJpaEntity toJpa(String key, IdempotentResponse response) {
+        return IdempotencyRecordJpaEntity.builder()
+                .recordKey(key)
+                .method(response.method())
+                .path(response.path())
+                .requestHash(response.requestHash())
+                .status(response.status())
+                .contentType(response.contentType())
+                .body(response.body())
+                .createdAt(response.createdAt())
+                .expiresAt(response.expiresAt())
+                .build();
+    }
+
+    private static IdempotentResponse toDomain(IdempotencyRecordJpaEntity entity) {
+        return new IdempotentResponse(
+                entity.getMethod(),
+                entity.getPath(),
+                entity.getRequestHash(),
+                entity.getStatus(),
+                entity.getContentType(),
+                entity.getBody(),
+                entity.getCreatedAt(),
+                entity.getExpiresAt()
+        );
+    }
+}
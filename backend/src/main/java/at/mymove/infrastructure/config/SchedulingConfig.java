@@ -0,0 +1,12 @@
+package at.mymove.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Aktiviert {@code @Scheduled}-Jobs (z.B. den Ablauf-Sweep).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
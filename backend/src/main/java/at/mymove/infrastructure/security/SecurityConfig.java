@@ -1,6 +1,7 @@
 package at.mymove.infrastructure.security;
 
 import at.mymove.auth.domain.Role;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +30,9 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
 
+                        // Async-Dispatch von SSE-Streams: der ursprüngliche Request ist bereits autorisiert
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ─────────────────────────────────────
                         // Public
                         // ─────────────────────────────────────
@@ -36,6 +40,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/ping/**").permitAll()
 
+                        // Webhook des AI-Service (per HMAC-Signatur statt Login geschützt)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/ai/callbacks").permitAll()
+
                         // Kunde erstellt Offer (öffentlich)
                         .requestMatchers(HttpMethod.POST, "/api/v1/offers", "/api/v1/offers/").permitAll()
 
@@ -54,6 +61,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/admin/**")
                         .hasRole(Role.ADMIN.name())
 
+                        .requestMatchers(HttpMethod.POST, "/api/v1/ai/analyze/batch")
+                        .hasRole(Role.ADMIN.name())
+
                         // ─────────────────────────────────────
                         // Alles andere → authentifiziert
                         // ─────────────────────────────────────
@@ -1,11 +1,13 @@
 package at.mymove.inventory.api;
 
+import at.mymove.core.api.ETags;
 import at.mymove.inventory.api.dto.InventoryItemRequest;
 import at.mymove.inventory.api.dto.InventoryResponse;
 import at.mymove.inventory.application.*;
 import at.mymove.inventory.domain.InventoryList;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -51,15 +53,25 @@ public class InventoryController {
 
     /**
      * Holt die InventoryList für ein bestimmtes Offer.
+     * Mit ETag; bei passendem {@code If-None-Match} 304 ohne die Liste zu laden.
      */
     @GetMapping("/by-offer/{offerId}")
-    public ResponseEntity<InventoryResponse> getByOfferId(@PathVariable String offerId) {
+    public ResponseEntity<InventoryResponse> getByOfferId(
+            @PathVariable String offerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         UUID offerUuid = parseUuid(offerId, "offerId");
 
+        String etag = ETags.of(getInventoryUseCase.versionByOfferId(offerUuid)
+                .orElseThrow(() -> new IllegalArgumentException("Inventory not found for offer: " + offerId)));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
+
         InventoryList inventory = getInventoryUseCase.byOfferId(offerUuid)
                 .orElseThrow(() -> new IllegalArgumentException("Inventory not found for offer: " + offerId));
 
-        return ResponseEntity.ok(InventoryResponse.from(inventory));
+        return ETags.ok(etag, InventoryResponse.from(inventory));
     }
 
     /**
@@ -1,8 +1,5 @@
 package at.mymove.inventory.application;
 
-import at.mymove.company.domain.Company;
-import at.mymove.company.domain.CompanyRepository;
-import at.mymove.company.domain.CompanyStatus;
 import at.mymove.inventory.domain.InventoryList;
 import at.mymove.inventory.domain.InventoryStatus;
 import at.mymove.offer.domain.Offer;
@@ -14,7 +11,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -32,7 +28,6 @@ public class ConfirmInventoryUseCase {
 
     private final InventoryRepository inventoryRepository;
     private final OfferRepository offerRepository;
-    private final CompanyRepository companyRepository;
     private final CalculateEstimateUseCase calculateEstimateUseCase;
 
     /**
@@ -91,32 +86,17 @@ public class ConfirmInventoryUseCase {
         log.info("Updated offer {} to status ESTIMATES_READY", offer.id());
 
         // Preisschätzungen für alle approved Companies berechnen
-        calculateEstimatesForAllCompanies(updatedOffer);
+        calculateEstimatesForAllCompanies(updatedOffer, inventory);
     }
 
     /**
      * Berechnet Preisschätzungen für alle genehmigten Firmen.
+     *
+     * Offer und Inventory sind bereits geladen und werden einmalig an den
+     * Bulk-Pfad übergeben (parallele Berechnung, gesammeltes Speichern).
      */
-    private void calculateEstimatesForAllCompanies(Offer offer) {
-        List<Company> approvedCompanies = companyRepository.findAllByStatus(CompanyStatus.APPROVED);
-
-        if (approvedCompanies.isEmpty()) {
-            log.warn("No approved companies found - cannot calculate estimates");
-            return;
-        }
-
-        log.info("Calculating estimates for {} approved companies", approvedCompanies.size());
-
-        for (Company company : approvedCompanies) {
-            try {
-                calculateEstimateUseCase.execute(company.id(), offer.id());
-                log.debug("Calculated estimate for company {} and offer {}", company.id(), offer.id());
-            } catch (Exception e) {
-                log.error("Failed to calculate estimate for company {}: {}", company.id(), e.getMessage());
-                // Fehler bei einer Firma soll andere nicht blockieren
-            }
-        }
-
+    private void calculateEstimatesForAllCompanies(Offer offer, InventoryList inventory) {
+        calculateEstimateUseCase.executeForApprovedCompanies(offer, inventory);
         log.info("Finished calculating estimates for offer {}", offer.id());
     }
 }
@@ -1,5 +1,6 @@
 package at.mymove.inventory.application;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.inventory.domain.InventoryList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -39,6 +40,17 @@ public class GetInventoryUseCase {
         return inventoryRepository.findByOfferId(offerId);
     }
 
+    /**
+     * Aktuelle Version der InventoryList eines Offers, ohne sie zu laden (für ETag / If-None-Match).
+     */
+    @Transactional(readOnly = true)
+    public Optional<EntityVersion> versionByOfferId(UUID offerId) {
+        if (offerId == null) {
+            throw new IllegalArgumentException("offerId is required");
+        }
+        return inventoryRepository.findVersionByOfferId(offerId);
+    }
+
     /**
      * Prüft ob eine InventoryList für ein Offer existiert.
      */
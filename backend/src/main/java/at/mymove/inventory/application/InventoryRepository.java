@@ -1,7 +1,9 @@
 package at.mymove.inventory.application;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.inventory.domain.InventoryList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,11 +31,22 @@ public interface InventoryRepository {
      */
     Optional<InventoryList> findByOfferId(UUID offerId);
 
+    /**
+     * Nur ID und Version der Inventarliste eines Offers, ohne sie zu laden (ETag-Prüfung).
+     */
+    Optional<EntityVersion> findVersionByOfferId(UUID offerId);
+
     /**
      * Prüft ob eine Inventarliste für ein Offer existiert.
      */
     boolean existsByOfferId(UUID offerId);
 
+    /**
+     * Findet die bestätigten Inventarlisten mehrerer Offers in einem Query.
+     * Für Massen-Auswertungen: die Ergebnisse werden nicht im Persistence Context gehalten.
+     */
+    List<InventoryList> findConfirmedByOfferIds(Collection<UUID> offerIds);
+
     /**
      * Löscht eine Inventarliste.
      */
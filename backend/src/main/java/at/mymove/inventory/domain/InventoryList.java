@@ -10,13 +10,19 @@ import java.util.*;
  * Die Liste wird nach Video-Analyse durch KI erstellt und vom Kunden korrigiert.
  * Nach Bestätigung wird sie für die Preisberechnung verwendet.
  *
+ * Volumen, Anzahl und AI-Kennzahlen liegen als {@link InventoryTotals} vor und werden
+ * bei add/remove/update in O(1) fortgeschrieben, nicht über alle Items neu berechnet.
+ * Erst {@link #confirm} rechnet sie einmal exakt aus den Items nach.
+ *
  * @param id          Eindeutige ID der Inventarliste
  * @param offerId     Referenz zum zugehörigen Offer
  * @param items       Liste der Inventar-Items (immutable)
  * @param status      Status der Liste
  * @param createdAt   Erstellungszeitpunkt
  * @param confirmedAt Zeitpunkt der Bestätigung durch Kunden (null bis zur Bestätigung)
- * @param totalVolume Gesamtvolumen aller Items (gerechnet)
+ * @param totals      Laufende Summen (Volumen, Anzahl, AI/manuell, Confidence);
+ *                    null = einmalig aus den Items berechnen
+ * @param version     Version für Optimistic Locking (null = noch nicht gespeichert)
  */
 public record InventoryList(
         UUID id,
@@ -25,7 +31,8 @@ public record InventoryList(
         InventoryStatus status,
         Instant createdAt,
         Instant confirmedAt,
-        double totalVolume
+        InventoryTotals totals,
+        Long version
 ) {
 
     public InventoryList {
@@ -53,9 +60,9 @@ public record InventoryList(
         // Items als unveränderliche Kopie speichern
         items = items != null ? List.copyOf(items) : List.of();
 
-        // Gesamtvolumen berechnen falls nicht explizit gesetzt
-        if (totalVolume < 0) {
-            throw new IllegalArgumentException("totalVolume must not be negative");
+        // Summen berechnen falls nicht explizit gesetzt
+        if (totals == null) {
+            totals = InventoryTotals.of(items);
         }
     }
 
@@ -70,7 +77,8 @@ public record InventoryList(
                 InventoryStatus.DRAFT,
                 Instant.now(),
                 null,
-                0.0
+                InventoryTotals.EMPTY,
+                null
         );
     }
 
@@ -88,7 +96,6 @@ public record InventoryList(
             }
         }
 
-        double volume = calculateTotalVolume(aiDetectedItems);
         return new InventoryList(
                 UUID.randomUUID(),
                 offerId,
@@ -96,7 +103,8 @@ public record InventoryList(
                 InventoryStatus.DRAFT,
                 Instant.now(),
                 null,
-                volume
+                InventoryTotals.of(aiDetectedItems),
+                null
         );
     }
 
@@ -116,7 +124,8 @@ public record InventoryList(
                 status,
                 createdAt,
                 confirmedAt,
-                calculateTotalVolume(newItems)
+                totals.plus(newItem),
+                version
         );
     }
 
@@ -131,7 +140,7 @@ public record InventoryList(
             throw new IndexOutOfBoundsException("Invalid item index: " + index);
         }
         List<InventoryItem> newItems = new ArrayList<>(items);
-        newItems.remove(index);
+        InventoryItem removed = newItems.remove(index);
         return new InventoryList(
                 id,
                 offerId,
@@ -139,7 +148,8 @@ public record InventoryList(
                 status,
                 createdAt,
                 confirmedAt,
-                calculateTotalVolume(newItems)
+                totals.minus(removed),
+                version
         );
     }
 
@@ -154,7 +164,7 @@ public record InventoryList(
             throw new IndexOutOfBoundsException("Invalid item index: " + index);
         }
         List<InventoryItem> newItems = new ArrayList<>(items);
-        newItems.set(index, updatedItem);
+        InventoryItem previous = newItems.set(index, updatedItem);
         return new InventoryList(
                 id,
                 offerId,
@@ -162,7 +172,8 @@ public record InventoryList(
                 status,
                 createdAt,
                 confirmedAt,
-                calculateTotalVolume(newItems)
+                totals.replace(previous, updatedItem),
+                version
         );
     }
 
@@ -181,13 +192,19 @@ public record InventoryList(
                 status,
                 createdAt,
                 confirmedAt,
-                calculateTotalVolume(itemsCopy)
+                InventoryTotals.of(itemsCopy),
+                version
         );
     }
 
     /**
      * Bestätigt die Inventarliste (nach Kundenkorrektur).
      * Danach keine Änderungen mehr möglich.
+     *
+     * Die Summen werden dabei einmal über alle Items neu berechnet: das fortgeschriebene
+     * Volumen trägt je nach Bearbeitungsverlauf Rundungsreste, die bestätigte Liste geht
+     * aber in Preis und {@code EstimateInputHash} ein und muss für dieselben Items
+     * dasselbe Volumen haben.
      */
     public InventoryList confirm(Instant now) {
         if (status != InventoryStatus.DRAFT) {
@@ -203,7 +220,8 @@ public record InventoryList(
                 InventoryStatus.CONFIRMED,
                 createdAt,
                 now,
-                totalVolume
+                InventoryTotals.of(items),
+                version
         );
     }
 
@@ -211,18 +229,14 @@ public record InventoryList(
      * Zählt alle AI-erkannten Items.
      */
     public long aiDetectedItemCount() {
-        return items.stream()
-                .filter(item -> item.source() == ItemSource.AI_DETECTED)
-                .count();
+        return totals.aiDetectedCount();
     }
 
     /**
      * Zählt alle manuell hinzugefügten Items.
      */
     public long manualItemCount() {
-        return items.stream()
-                .filter(item -> item.source() == ItemSource.MANUAL)
-                .count();
+        return totals.manualCount();
     }
 
     /**
@@ -230,10 +244,10 @@ public record InventoryList(
      * Liefert Optional.empty() wenn keine AI-Items vorhanden.
      */
     public OptionalDouble averageAiConfidence() {
-        return items.stream()
-                .filter(item -> item.source() == ItemSource.AI_DETECTED)
-                .mapToDouble(InventoryItem::confidence)
-                .average();
+        if (totals.aiDetectedCount() == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(totals.aiConfidenceSum() / totals.aiDetectedCount());
     }
 
     /**
@@ -254,14 +268,13 @@ public record InventoryList(
      * Liefert die Gesamtanzahl aller Items (Summe der Quantities).
      */
     public int totalItemCount() {
-        return items.stream()
-                .mapToInt(InventoryItem::quantity)
-                .sum();
+        return totals.quantity();
     }
 
-    private static double calculateTotalVolume(List<InventoryItem> items) {
-        return items.stream()
-                .mapToDouble(InventoryItem::totalVolume)
-                .sum();
+    /**
+     * Gesamtvolumen aller Items in m³.
+     */
+    public double totalVolume() {
+        return totals.volume();
     }
 }
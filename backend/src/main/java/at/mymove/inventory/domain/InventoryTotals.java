@@ -0,0 +1,91 @@
+package at.mymove.inventory.domain;
+
+import java.util.List;
+
+/**
+ * Laufende Summen einer Inventarliste.
+ *
+ * Werden bei jeder Änderung in O(1) fortgeschrieben statt über alle Items neu
+ * gerechnet und als Summenspalten mit der Liste gespeichert. Die Double-Summen können
+ * dabei Rundungsreste ansammeln; beim Bestätigen wird daher einmal mit {@link #of}
+ * neu gerechnet.
+ *
+ * @param volume          Gesamtvolumen aller Items in m³ (Summe quantity * volume)
+ * @param quantity        Gesamtanzahl aller Items (Summe der Quantities)
+ * @param aiDetectedCount Anzahl der AI-erkannten Einträge
+ * @param manualCount     Anzahl der manuell hinzugefügten Einträge
+ * @param aiConfidenceSum Summe der Confidence aller AI-erkannten Einträge
+ */
+public record InventoryTotals(
+        double volume,
+        int quantity,
+        int aiDetectedCount,
+        int manualCount,
+        double aiConfidenceSum
+) {
+
+    public static final InventoryTotals EMPTY = new InventoryTotals(0.0, 0, 0, 0, 0.0);
+
+    public InventoryTotals {
+        if (volume < 0) {
+            throw new IllegalArgumentException("volume must not be negative");
+        }
+        if (quantity < 0 || aiDetectedCount < 0 || manualCount < 0) {
+            throw new IllegalArgumentException("counts must not be negative");
+        }
+        if (aiConfidenceSum < 0) {
+            throw new IllegalArgumentException("aiConfidenceSum must not be negative");
+        }
+    }
+
+    /**
+     * Berechnet die Summen einmalig über alle Items (Neuanlage, Ersetzen, Altdaten).
+     */
+    public static InventoryTotals of(List<InventoryItem> items) {
+        InventoryTotals totals = EMPTY;
+        for (InventoryItem item : items) {
+            totals = totals.plus(item);
+        }
+        return totals;
+    }
+
+    public InventoryTotals plus(InventoryItem item) {
+        boolean ai = item.source() == ItemSource.AI_DETECTED;
+        return new InventoryTotals(
+                volume + item.totalVolume(),
+                quantity + item.quantity(),
+                aiDetectedCount + (ai ? 1 : 0),
+                manualCount + (ai ? 0 : 1),
+                aiConfidenceSum + (ai ? item.confidence() : 0.0)
+        );
+    }
+
+    /**
+     * Zieht ein Item ab. Rundungsreste bei Volumen und Confidence werden bei 0 abgeschnitten,
+     * eine leere Liste hat immer exakt {@link #EMPTY}.
+     */
+    public InventoryTotals minus(InventoryItem item) {
+        if (itemCount() <= 1) {
+            return EMPTY;
+        }
+        boolean ai = item.source() == ItemSource.AI_DETECTED;
+        return new InventoryTotals(
+                Math.max(0.0, volume - item.totalVolume()),
+                quantity - item.quantity(),
+                aiDetectedCount - (ai ? 1 : 0),
+                manualCount - (ai ? 0 : 1),
+                aiDetectedCount - (ai ? 1 : 0) == 0 ? 0.0 : Math.max(0.0, aiConfidenceSum - (ai ? item.confidence() : 0.0))
+        );
+    }
+
+    public InventoryTotals replace(InventoryItem oldItem, InventoryItem newItem) {
+        return minus(oldItem).plus(newItem);
+    }
+
+    /**
+     * Anzahl der Einträge (AI + manuell).
+     */
+    public int itemCount() {
+        return aiDetectedCount + manualCount;
+    }
+}
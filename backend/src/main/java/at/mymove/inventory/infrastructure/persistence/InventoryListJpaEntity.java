@@ -51,6 +51,27 @@ public class InventoryListJpaEntity {
     @Builder.Default
     private double totalVolume = 0.0;
 
+    // Summenspalten - null bei Altdaten, dann werden sie beim Laden aus den Items berechnet
+    @Column
+    private Integer totalQuantity;
+
+    @Column
+    private Integer aiItemCount;
+
+    @Column
+    private Integer manualItemCount;
+
+    @Column
+    private Double aiConfidenceSum;
+
+    /**
+     * Optimistic-Locking-Version, Grundlage für ETags. Wird mit dem Domain-Objekt geladen und
+     * beim Speichern zurückgegeben; ein veralteter Stand schlägt fehl. Altbestände starten bei 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     void prePersist() {
         if (status == null) {
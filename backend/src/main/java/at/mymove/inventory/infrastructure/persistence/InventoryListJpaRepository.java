@@ -1,8 +1,15 @@
 package at.mymove.inventory.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
+import at.mymove.inventory.domain.InventoryStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +22,13 @@ public interface InventoryListJpaRepository extends JpaRepository<InventoryListJ
     Optional<InventoryListJpaEntity> findByOfferId(UUID offerId);
 
     boolean existsByOfferId(UUID offerId);
+
+    @Query("select new at.mymove.core.domain.EntityVersion(i.id, i.version) from InventoryListJpaEntity i where i.offerId = :offerId")
+    Optional<EntityVersion> findEntityVersionByOfferId(@Param("offerId") UUID offerId);
+
+    /**
+     * Lädt die Items per Join mit, statt pro Liste ein eigenes SELECT abzusetzen.
+     */
+    @EntityGraph(attributePaths = "items")
+    List<InventoryListJpaEntity> findByOfferIdInAndStatus(Collection<UUID> offerIds, InventoryStatus status);
 }
@@ -2,6 +2,7 @@ package at.mymove.inventory.infrastructure.persistence;
 
 import at.mymove.inventory.domain.InventoryItem;
 import at.mymove.inventory.domain.InventoryList;
+import at.mymove.inventory.domain.InventoryTotals;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -23,6 +24,7 @@ public class InventoryMapper {
         List<InventoryItemJpaEmbeddable> jpaItems = domain.items().stream()
                 .map(this::toJpaEmbeddable)
                 .toList();
+        InventoryTotals totals = domain.totals();
 
         return InventoryListJpaEntity.builder()
                 .id(domain.id())
@@ -31,7 +33,12 @@ public class InventoryMapper {
                 .status(domain.status())
                 .createdAt(domain.createdAt())
                 .confirmedAt(domain.confirmedAt())
-                .totalVolume(domain.totalVolume())
+                .totalVolume(totals.volume())
+                .totalQuantity(totals.quantity())
+                .aiItemCount(totals.aiDetectedCount())
+                .manualItemCount(totals.manualCount())
+                .aiConfidenceSum(totals.aiConfidenceSum())
+                .version(domain.version())
                 .build();
     }
 
@@ -54,7 +61,27 @@ public class InventoryMapper {
                 jpa.getStatus(),
                 jpa.getCreatedAt(),
                 jpa.getConfirmedAt(),
-                jpa.getTotalVolume()
+                toTotals(jpa),
+                jpa.getVersion()
+        );
+    }
+
+    /**
+     * Summen aus den Spalten; fehlt eine (Altdaten), rechnet die Domain sie aus den Items.
+     */
+    private InventoryTotals toTotals(InventoryListJpaEntity jpa) {
+        if (jpa.getTotalQuantity() == null
+                || jpa.getAiItemCount() == null
+                || jpa.getManualItemCount() == null
+                || jpa.getAiConfidenceSum() == null) {
+            return null;
+        }
+        return new InventoryTotals(
+                jpa.getTotalVolume(),
+                jpa.getTotalQuantity(),
+                jpa.getAiItemCount(),
+                jpa.getManualItemCount(),
+                jpa.getAiConfidenceSum()
         );
     }
 
@@ -1,10 +1,14 @@
 package at.mymove.inventory.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.inventory.application.InventoryRepository;
 import at.mymove.inventory.domain.InventoryList;
+import at.mymove.inventory.domain.InventoryStatus;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +16,10 @@ import java.util.UUID;
 /**
  * Implementierung des InventoryRepository Interface.
  * Adapter zwischen Domain Layer und JPA.
+ *
+ * Die Version kommt mit dem Domain-Objekt zurück: wurde der Datensatz seit dem Laden geändert,
+ * schlägt das Speichern mit einer Optimistic-Locking-Exception fehl (409). Gespeichert wird mit
+ * Flush, damit das Ergebnis bereits die hochgezählte Version trägt.
  */
 @Repository
 @RequiredArgsConstructor
@@ -19,11 +27,12 @@ public class InventoryRepositoryImpl implements InventoryRepository {
 
     private final InventoryListJpaRepository jpaRepository;
     private final InventoryMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public InventoryList save(InventoryList inventory) {
         InventoryListJpaEntity entity = mapper.toJpaEntity(inventory);
-        InventoryListJpaEntity saved = jpaRepository.save(entity);
+        InventoryListJpaEntity saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomainEntity(saved);
     }
 
@@ -39,11 +48,29 @@ public class InventoryRepositoryImpl implements InventoryRepository {
                 .map(mapper::toDomainEntity);
     }
 
+    @Override
+    public Optional<EntityVersion> findVersionByOfferId(UUID offerId) {
+        return jpaRepository.findEntityVersionByOfferId(offerId);
+    }
+
     @Override
     public boolean existsByOfferId(UUID offerId) {
         return jpaRepository.existsByOfferId(offerId);
     }
 
+    @Override
+    public List<InventoryList> findConfirmedByOfferIds(Collection<UUID> offerIds) {
+        if (offerIds.isEmpty()) {
+            return List.of();
+        }
+        List<InventoryListJpaEntity> entities = jpaRepository.findByOfferIdInAndStatus(offerIds, InventoryStatus.CONFIRMED);
+        List<InventoryList> result = entities.stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+        entities.forEach(entityManager::detach);
+        return result;
+    }
+
     @Override
     public void delete(InventoryList inventory) {
         jpaRepository.deleteById(inventory.id());
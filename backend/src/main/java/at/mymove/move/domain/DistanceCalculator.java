@@ -0,0 +1,21 @@
+package at.mymove.move.domain;
+
+/**
+ * Port für die Straßendistanz zwischen zwei Adressen.
+ *
+ * Liefert {@link Double#NaN}, wenn für eine der Adressen keine Position bekannt ist -
+ * bewusst ohne Optional, da der Aufruf pro Firma und Offer im Preis-Hot-Path liegt.
+ */
+@FunctionalInterface
+public interface DistanceCalculator {
+
+    /**
+     * Kein Geo-Wissen: liefert immer NaN.
+     */
+    DistanceCalculator UNKNOWN = (from, to) -> Double.NaN;
+
+    /**
+     * Geschätzte Straßendistanz in km oder NaN wenn unbekannt.
+     */
+    double roadDistanceKm(Address from, Address to);
+}
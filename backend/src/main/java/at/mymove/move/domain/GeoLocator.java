@@ -0,0 +1,24 @@
+package at.mymove.move.domain;
+
+/**
+ * Port für die ungefähre Position einer Adresse (PLZ-Zentroid).
+ *
+ * Liefert null, wenn die Adresse nicht aufgelöst werden kann.
+ */
+@FunctionalInterface
+public interface GeoLocator {
+
+    /**
+     * Kein Geo-Wissen: liefert immer null.
+     */
+    GeoLocator UNKNOWN = (country, postalCode, city) -> null;
+
+    /**
+     * Position zu Land, PLZ und Ort oder null wenn unbekannt.
+     */
+    GeoPoint locate(String country, String postalCode, String city);
+
+    default GeoPoint locate(Address address) {
+        return address != null ? locate(address.country(), address.postalCode(), address.city()) : null;
+    }
+}
@@ -0,0 +1,36 @@
+package at.mymove.move.domain;
+
+/**
+ * Geografische Position (WGS84, Grad).
+ *
+ * @param latitude  Breitengrad (-90 bis 90)
+ * @param longitude Längengrad (-180 bis 180)
+ */
+public record GeoPoint(
+        double latitude,
+        double longitude
+) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public GeoPoint {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("latitude must be between -90 and 90");
+        }
+        if (Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("longitude must be between -180 and 180");
+        }
+    }
+
+    /**
+     * Luftlinie in km (Haversine).
+     */
+    public double distanceKm(GeoPoint other) {
+        double lat1 = Math.toRadians(latitude);
+        double lat2 = Math.toRadians(other.latitude);
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(other.longitude - longitude) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,368 @@
+package at.mymove.move.infrastructure.geo;
+
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.DistanceCalculator;
+import at.mymove.move.domain.GeoLocator;
+import at.mymove.move.domain.GeoPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Offline-Index der PLZ-Zentroide für AT/DE/CH.
+ *
+ * Beim Start werden die Zentroide in sortierte Primitive-Arrays geladen
+ * (Schlüssel = Land * 100000 + PLZ). Ein Lookup ist eine Binärsuche ohne Allokation,
+ * die Distanz ist Haversine × Straßenfaktor, auf ganze Meter gerundet.
+ * Paar-Distanzen landen zusätzlich in einem begrenzten, lock-freien Cache.
+ *
+ * Datenquellen:
+ * - {@code classpath:geo/postal-centroids.csv} (mitgelieferter Auszug, {@code country;postalCode;city;lat;lon})
+ * - optional {@code mymove.geo.centroids-file}: zusätzliche Datei im selben Format
+ *   oder ein GeoNames-Postal-Export (Tab-getrennt, z.B. AT.txt/DE.txt/CH.txt zusammengefügt)
+ *
+ * Auflösung einer Adresse: exakte PLZ → nächste PLZ mit gleichem Leitbereich → Ortsname.
+ * Dieselbe Auflösung liefert als {@link GeoLocator} auch die Position selbst.
+ */
+@Slf4j
+@Component
+public class PostalCodeDistanceIndex implements DistanceCalculator, GeoLocator {
+
+    private static final String BUNDLED_RESOURCE = "/geo/postal-centroids.csv";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int COUNTRY_AT = 0;
+    private static final int COUNTRY_DE = 1;
+    private static final int COUNTRY_CH = 2;
+    private static final int[] POSTAL_CODE_LENGTH = {4, 5, 4};
+    private static final int[] REGION_DIVISOR = {100, 1000, 100}; // Leitbereich = erste 2 Ziffern
+    private static final int KEY_FACTOR = 100_000;
+
+    private static final Map<String, Integer> COUNTRY_ALIASES = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (String alias : List.of("AT", "AUT", "A", "Österreich", "Oesterreich", "Austria")) {
+            COUNTRY_ALIASES.put(alias, COUNTRY_AT);
+        }
+        for (String alias : List.of("DE", "DEU", "D", "Deutschland", "Germany")) {
+            COUNTRY_ALIASES.put(alias, COUNTRY_DE);
+        }
+        for (String alias : List.of("CH", "CHE", "Schweiz", "Switzerland", "Suisse", "Svizzera")) {
+            COUNTRY_ALIASES.put(alias, COUNTRY_CH);
+        }
+    }
+
+    // Sortierter Index
+    private final int[] keys;
+    private final double[] latRad;
+    private final double[] lonRad;
+    private final double[] cosLat;
+
+    // Ortsname → Index, pro Land (case-insensitiv, Lookup ohne Allokation)
+    private final List<Map<String, Integer>> cityIndex;
+
+    private final double roadFactor;
+
+    // Paar-Cache: pro Slot ein long = [i:20][j:20][meter:24]
+    private static final int INDEX_BITS = 20;
+    private static final long METERS_MASK = (1L << 24) - 1;
+    private final AtomicLongArray pairCache;
+    private final int pairCacheMask;
+
+    public PostalCodeDistanceIndex(
+            @Value("${mymove.geo.centroids-file:}") String centroidsFile,
+            @Value("${mymove.geo.road-factor:1.25}") double roadFactor,
+            @Value("${mymove.geo.pair-cache-size:65536}") int pairCacheSize
+    ) {
+        if (roadFactor < 1.0) {
+            throw new IllegalArgumentException("road-factor must be >= 1.0");
+        }
+        this.roadFactor = roadFactor;
+
+        List<Centroid> centroids = new ArrayList<>();
+        try (InputStream in = PostalCodeDistanceIndex.class.getResourceAsStream(BUNDLED_RESOURCE)) {
+            if (in != null) {
+                read(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), centroids);
+            }
+            if (centroidsFile != null && !centroidsFile.isBlank()) {
+                try (BufferedReader reader = Files.newBufferedReader(Path.of(centroidsFile), StandardCharsets.UTF_8)) {
+                    read(reader, centroids);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load postal code centroids", e);
+        }
+
+        // Sortieren, doppelte PLZ (mehrere Orte) zu einem Mittelpunkt zusammenfassen
+        centroids.sort(Comparator.comparingInt(Centroid::key));
+        int[] k = new int[centroids.size()];
+        double[] lat = new double[centroids.size()];
+        double[] lon = new double[centroids.size()];
+        List<Map<String, Integer>> cities = List.of(
+                new TreeMap<>(String.CASE_INSENSITIVE_ORDER),
+                new TreeMap<>(String.CASE_INSENSITIVE_ORDER),
+                new TreeMap<>(String.CASE_INSENSITIVE_ORDER)
+        );
+
+        int size = 0;
+        for (int i = 0; i < centroids.size(); ) {
+            int key = centroids.get(i).key();
+            double latSum = 0;
+            double lonSum = 0;
+            int count = 0;
+            for (; i < centroids.size() && centroids.get(i).key() == key; i++, count++) {
+                Centroid c = centroids.get(i);
+                latSum += c.lat();
+                lonSum += c.lon();
+                cities.get(key / KEY_FACTOR).putIfAbsent(c.city(), size);
+            }
+            k[size] = key;
+            lat[size] = latSum / count;
+            lon[size] = lonSum / count;
+            size++;
+        }
+
+        this.keys = Arrays.copyOf(k, size);
+        this.latRad = new double[size];
+        this.lonRad = new double[size];
+        this.cosLat = new double[size];
+        for (int i = 0; i < size; i++) {
+            latRad[i] = Math.toRadians(lat[i]);
+            lonRad[i] = Math.toRadians(lon[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+        this.cityIndex = cities;
+
+        boolean cacheable = pairCacheSize > 0 && size < (1 << INDEX_BITS);
+        int slots = cacheable ? Integer.highestOneBit(Math.max(pairCacheSize - 1, 1)) << 1 : 0;
+        this.pairCache = cacheable ? new AtomicLongArray(slots) : null;
+        this.pairCacheMask = slots - 1;
+
+        log.info("Loaded {} postal code centroids (road factor {}, pair cache {})", size, roadFactor, slots);
+    }
+
+    @Override
+    public double roadDistanceKm(Address from, Address to) {
+        if (from == null || to == null) {
+            return Double.NaN;
+        }
+        int a = resolve(from.country(), from.postalCode(), from.city());
+        int b = resolve(to.country(), to.postalCode(), to.city());
+        if (a < 0 || b < 0) {
+            return Double.NaN;
+        }
+        return distanceMeters(a, b) / 1000.0;
+    }
+
+    @Override
+    public GeoPoint locate(String country, String postalCode, String city) {
+        int pos = resolve(country, postalCode, city);
+        if (pos < 0) {
+            return null;
+        }
+        return new GeoPoint(Math.toDegrees(latRad[pos]), Math.toDegrees(lonRad[pos]));
+    }
+
+    /**
+     * Anzahl der geladenen PLZ-Zentroide.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    // ---- Helper ----
+
+    private long distanceMeters(int a, int b) {
+        if (a == b) {
+            return 0;
+        }
+        int i = Math.min(a, b);
+        int j = Math.max(a, b);
+
+        if (pairCache == null) {
+            return computeMeters(i, j);
+        }
+
+        long pairBits = ((long) i << (64 - INDEX_BITS)) | ((long) j << 24);
+        int slot = mix(i * 31 + j) & pairCacheMask;
+        long cached = pairCache.get(slot);
+        if ((cached & ~METERS_MASK) == pairBits) {
+            return cached & METERS_MASK;
+        }
+
+        long meters = computeMeters(i, j);
+        pairCache.set(slot, pairBits | meters);
+        return meters;
+    }
+
+    private long computeMeters(int i, int j) {
+        double sinLat = Math.sin((latRad[j] - latRad[i]) / 2);
+        double sinLon = Math.sin((lonRad[j] - lonRad[i]) / 2);
+        double h = sinLat * sinLat + cosLat[i] * cosLat[j] * sinLon * sinLon;
+        double km = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+        return Math.min(Math.round(km * roadFactor * 1000), METERS_MASK);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Liefert den Index-Eintrag einer Adresse oder -1.
+     */
+    private int resolve(String countryValue, String postalCodeValue, String city) {
+        Integer country = countryValue != null ? COUNTRY_ALIASES.get(countryValue) : null;
+        if (country == null) {
+            return resolveCity(city, -1);
+        }
+
+        int postalCode = parsePostalCode(postalCodeValue, POSTAL_CODE_LENGTH[country]);
+        if (postalCode >= 0) {
+            int key = country * KEY_FACTOR + postalCode;
+            int pos = Arrays.binarySearch(keys, key);
+            if (pos >= 0) {
+                return pos;
+            }
+            int nearest = nearestInRegion(-pos - 1, key, country);
+            if (nearest >= 0) {
+                return nearest;
+            }
+        }
+        return resolveCity(city, country);
+    }
+
+    /**
+     * Nächste bekannte PLZ im selben Leitbereich (PLZ sind regional vergeben).
+     */
+    private int nearestInRegion(int insertionPoint, int key, int country) {
+        int below = insertionPoint - 1;
+        int above = insertionPoint;
+        boolean belowMatches = below >= 0 && sameRegion(keys[below], key, country);
+        boolean aboveMatches = above < keys.length && sameRegion(keys[above], key, country);
+
+        if (belowMatches && aboveMatches) {
+            return key - keys[below] <= keys[above] - key ? below : above;
+        }
+        if (belowMatches) {
+            return below;
+        }
+        return aboveMatches ? above : -1;
+    }
+
+    private static boolean sameRegion(int candidateKey, int key, int country) {
+        return candidateKey / KEY_FACTOR == country
+                && (candidateKey % KEY_FACTOR) / REGION_DIVISOR[country] == (key % KEY_FACTOR) / REGION_DIVISOR[country];
+    }
+
+    private int resolveCity(String city, int country) {
+        if (city == null || city.isBlank()) {
+            return -1;
+        }
+        if (country >= 0) {
+            Integer pos = cityIndex.get(country).get(city.strip());
+            return pos != null ? pos : -1;
+        }
+        for (Map<String, Integer> cities : cityIndex) {
+            Integer pos = cities.get(city.strip());
+            if (pos != null) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Liest die Ziffern einer PLZ (Präfixe wie "A-" oder "D-" werden ignoriert).
+     * Liefert -1 wenn die Ziffernanzahl nicht passt.
+     */
+    private static int parsePostalCode(String value, int expectedLength) {
+        if (value == null) {
+            return -1;
+        }
+        int code = 0;
+        int digits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > expectedLength) {
+                    return -1;
+                }
+                code = code * 10 + (c - '0');
+            }
+        }
+        return digits == expectedLength ? code : -1;
+    }
+
+    private static void read(BufferedReader reader, List<Centroid> target) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            Centroid centroid = line.indexOf('\t') >= 0 ? parseGeoNames(line) : parseCsv(line);
+            if (centroid != null) {
+                target.add(centroid);
+            }
+        }
+    }
+
+    private static Centroid parseCsv(String line) {
+        String[] parts = line.split(";");
+        if (parts.length < 5) {
+            return null;
+        }
+        return centroid(parts[0], parts[1], parts[2], parts[3], parts[4]);
+    }
+
+    /**
+     * GeoNames Postal: country, postal code, place name, admin1..3 (name/code), lat, lon, accuracy.
+     */
+    private static Centroid parseGeoNames(String line) {
+        String[] parts = line.split("\t");
+        if (parts.length < 11) {
+            return null;
+        }
+        return centroid(parts[0], parts[1], parts[2], parts[9], parts[10]);
+    }
+
+    private static Centroid centroid(String countryValue, String postalCodeValue, String city, String lat, String lon) {
+        Integer country = COUNTRY_ALIASES.get(countryValue);
+        if (country == null) {
+            return null;
+        }
+        int postalCode = parsePostalCode(postalCodeValue, POSTAL_CODE_LENGTH[country]);
+        if (postalCode < 0) {
+            return null;
+        }
+        try {
+            return new Centroid(
+                    country * KEY_FACTOR + postalCode,
+                    city.strip(),
+                    Double.parseDouble(lat.strip()),
+                    Double.parseDouble(lon.strip())
+            );
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Centroid(int key, String city, double lat, double lon) {}
+}
@@ -1,16 +1,35 @@
 package at.mymove.offer.api;
 
 import at.mymove.offer.api.dto.OfferListItemResponse;
+import at.mymove.offer.application.ExportOffersUseCase;
 import at.mymove.offer.application.ListOffersAdminUseCase;
-import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferExportCriteria;
+import at.mymove.offer.domain.OfferSearchCriteria;
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.offer.domain.OfferSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -18,18 +37,91 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AdminOfferController {
 
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
     private final ListOffersAdminUseCase listOffersAdminUseCase;
+    private final ExportOffersUseCase exportOffersUseCase;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * Listet Offers, neueste zuerst. Alle Filter sind optional und werden in der
+     * Datenbank ausgewertet, z.B. Umzüge aus Wien in einem Zeitraum:
+     * {@code ?fromCity=Wien&moveDateFrom=2026-10-19&moveDateTo=2026-10-25}
+     */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public List<OfferListItemResponse> list(@RequestParam(required = false) String companyId) {
-        UUID companyUuid = parseCompanyId(companyId);
-        return listOffersAdminUseCase.execute(companyUuid)
+    public List<OfferListItemResponse> list(
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String fromCity,
+            @RequestParam(required = false) String toCity,
+            @RequestParam(required = false) String fromPostalCode,
+            @RequestParam(required = false) String toPostalCode,
+            @RequestParam(required = false) String moveDateFrom,
+            @RequestParam(required = false) String moveDateTo,
+            @RequestParam(defaultValue = "" + OfferSearchCriteria.DEFAULT_LIMIT) int limit
+    ) {
+        OfferSearchCriteria criteria = new OfferSearchCriteria(
+                parseCompanyId(companyId),
+                parseStatuses(status),
+                fromCity,
+                toCity,
+                fromPostalCode,
+                toPostalCode,
+                parseDate(moveDateFrom, "moveDateFrom"),
+                parseDate(moveDateTo, "moveDateTo"),
+                limit
+        );
+        return listOffersAdminUseCase.execute(criteria)
                 .stream()
                 .map(AdminOfferController::toListItemResponse)
                 .toList();
     }
 
+    /**
+     * Exportiert alle passenden Offers als NDJSON (ein JSON-Objekt pro Zeile, älteste zuerst),
+     * ohne Limit und mit konstantem Speicherbedarf. Filter optional, z.B.
+     * {@code ?status=ACCEPTED&createdFrom=2026-01-01&createdTo=2026-04-01}.
+     * Zeitpunkte als ISO-Datum (UTC, Tagesbeginn) oder ISO-Instant; {@code createdTo} ist exklusiv.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(
+            @RequestParam(required = false) String companyId,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String createdFrom,
+            @RequestParam(required = false) String createdTo,
+            HttpServletResponse response
+    ) throws IOException {
+        // Filter vor dem ersten Byte prüfen, damit Fehler noch als 400 zurückgehen
+        OfferExportCriteria criteria = new OfferExportCriteria(
+                parseCompanyId(companyId),
+                parseStatuses(status),
+                parseInstant(createdFrom, "createdFrom"),
+                parseInstant(createdTo, "createdTo")
+        );
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"offers.ndjson\"");
+
+        ObjectWriter writer = objectMapper.writerFor(OfferListItemResponse.class);
+        OutputStream out = response.getOutputStream();
+        long[] rows = {0};
+        exportOffersUseCase.execute(criteria, offer -> {
+            try {
+                out.write(writer.writeValueAsBytes(toListItemResponse(offer)));
+                out.write('\n');
+                if (++rows[0] % EXPORT_FLUSH_ROWS == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
     private static UUID parseCompanyId(String companyId) {
         if (companyId == null) {
             return null;
@@ -44,12 +136,55 @@ public class AdminOfferController {
         }
     }
 
-    private static OfferListItemResponse toListItemResponse(Offer offer) {
+    private static Set<OfferStatus> parseStatuses(List<String> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return Set.of();
+        }
+        Set<OfferStatus> result = EnumSet.noneOf(OfferStatus.class);
+        for (String status : statuses) {
+            try {
+                result.add(OfferStatus.valueOf(status.trim()));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("status must be a valid offer status: " + status);
+            }
+        }
+        return result;
+    }
+
+    private static LocalDate parseDate(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(fieldName + " must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    private static Instant parseInstant(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.length() == 10
+                    ? LocalDate.parse(trimmed).atStartOfDay(ZoneOffset.UTC).toInstant()
+                    : Instant.parse(trimmed);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(fieldName + " must be an ISO date (yyyy-MM-dd) or instant");
+        }
+    }
+
+    private static OfferListItemResponse toListItemResponse(OfferSummary offer) {
         return new OfferListItemResponse(
                 offer.id(),
                 offer.status().name(),
                 offer.videoId(),
                 offer.companyId(),
+                offer.moveDate(),
+                offer.fromCity(),
+                offer.toCity(),
                 offer.createdAt(),
                 offer.sentAt()
         );
@@ -1,5 +1,6 @@
 package at.mymove.offer.api;
 
+import at.mymove.core.api.ETags;
 import at.mymove.offer.api.dto.AssignCompanyRequest;
 import at.mymove.offer.api.dto.CreateOfferRequest;
 import at.mymove.offer.api.dto.OfferResponse;
@@ -12,6 +13,7 @@ import at.mymove.offer.domain.Offer;
 import at.mymove.infrastructure.security.MyMoveUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -60,11 +62,20 @@ public class OfferController {
 
     @PreAuthorize("hasRole('COMPANY')")
     @GetMapping("/{id}")
-    public ResponseEntity<OfferResponse> getOfferById(@PathVariable String id) {
+    public ResponseEntity<OfferResponse> getOfferById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         UUID offerId = parseOfferId(id);
         UUID companyId = requireCompanyId();
+
+        // Version vor dem Laden lesen; unverändert → 304 ohne Laden und Serialisieren
+        String etag = ETags.of(getOfferForCompanyUseCase.version(offerId, companyId));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
         Offer offer = getOfferForCompanyUseCase.execute(offerId, companyId);
-        return ResponseEntity.ok(toResponse(offer));
+        return ETags.ok(etag, toResponse(offer));
     }
 
     @PreAuthorize("isAuthenticated()")
@@ -1,6 +1,7 @@
 package at.mymove.offer.api.dto;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 public record OfferListItemResponse(
@@ -8,6 +9,9 @@ public record OfferListItemResponse(
         String status,
         UUID videoId,
         UUID companyId,
+        LocalDate moveDate,
+        String fromCity,
+        String toCity,
         Instant createdAt,
         Instant sentAt
-) {}
\ No newline at end of file
+) {}
@@ -0,0 +1,52 @@
+package at.mymove.offer.application;
+
+import at.mymove.offer.domain.OfferExportCriteria;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OfferSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Exportiert alle passenden Offers zeilenweise.
+ *
+ * Jede Zeile wird direkt an den Empfänger weitergereicht, es wird nichts gesammelt -
+ * der Speicherbedarf ist unabhängig von der Anzahl Offers. Bewusst ohne
+ * {@code @Transactional}: der Export liest über eine eigene, zustandslose Session.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportOffersUseCase {
+
+    private final OfferRepository offerRepository;
+
+    /**
+     * @param criteria Filter
+     * @param sink     Empfänger jeder Zeile (z.B. der Response-Writer)
+     * @return Anzahl exportierter Offers
+     */
+    public long execute(OfferExportCriteria criteria, Consumer<OfferSummary> sink) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("criteria is required");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("sink is required");
+        }
+
+        long start = System.nanoTime();
+        long count = 0;
+        try (Stream<OfferSummary> offers = offerRepository.streamSummaries(criteria)) {
+            var iterator = offers.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                count++;
+            }
+        }
+        log.info("Exported {} offers in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+}
@@ -1,6 +1,7 @@
 package at.mymove.offer.application;
 
 import at.mymove.core.api.GlobalExceptionHandler.OfferNotFoundException;
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.offer.domain.Offer;
 import at.mymove.offer.domain.OfferRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,4 +28,20 @@ public class GetOfferForCompanyUseCase {
         return offerRepository.findByIdAndCompanyId(offerId, companyId)
                 .orElseThrow(() -> new OfferNotFoundException(offerId));
     }
+
+    /**
+     * Aktuelle Version des Offers, ohne es zu laden (für ETag / If-None-Match).
+     */
+    @Transactional(readOnly = true)
+    public EntityVersion version(UUID offerId, UUID companyId) {
+        if (offerId == null) {
+            throw new IllegalArgumentException("offerId is required");
+        }
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+
+        return offerRepository.findVersionByIdAndCompanyId(offerId, companyId)
+                .orElseThrow(() -> new OfferNotFoundException(offerId));
+    }
 }
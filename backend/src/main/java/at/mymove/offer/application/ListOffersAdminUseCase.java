@@ -1,13 +1,13 @@
 package at.mymove.offer.application;
 
-import at.mymove.offer.domain.Offer;
 import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OfferSearchCriteria;
+import at.mymove.offer.domain.OfferSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -16,10 +16,10 @@ public class ListOffersAdminUseCase {
     private final OfferRepository offerRepository;
 
     @Transactional(readOnly = true)
-    public List<Offer> execute(UUID companyId) {
-        if (companyId == null) {
-            return offerRepository.findAll();
+    public List<OfferSummary> execute(OfferSearchCriteria criteria) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("criteria is required");
         }
-        return offerRepository.findAllByCompanyId(companyId);
+        return offerRepository.search(criteria);
     }
 }
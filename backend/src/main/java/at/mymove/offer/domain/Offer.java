@@ -21,6 +21,7 @@ import java.util.UUID;
  * @param updatedAt   Letzte Aktualisierung
  * @param sentAt      Zeitpunkt des Versands (Legacy)
  * @param expiresAt   Ablaufzeitpunkt des Offers
+ * @param version     Version für Optimistic Locking (null = noch nicht gespeichert)
  */
 public record Offer(
         UUID id,
@@ -32,7 +33,8 @@ public record Offer(
         Instant createdAt,
         Instant updatedAt,
         Instant sentAt,
-        Instant expiresAt
+        Instant expiresAt,
+        Long version
 ) {
 
     public Offer {
@@ -76,6 +78,7 @@ public record Offer(
                 now,
                 now,
                 null,
+                null,
                 null
         );
     }
@@ -99,7 +102,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -124,7 +128,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -146,7 +151,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -166,7 +172,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -188,7 +195,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                null
+                null,
+                version
         );
     }
 
@@ -210,7 +218,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                null
+                null,
+                version
         );
     }
 
@@ -228,7 +237,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 this.sentAt,
-                null
+                null,
+                version
         );
     }
 
@@ -245,7 +255,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 null,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -261,7 +272,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 now,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -276,7 +288,8 @@ public record Offer(
                 this.createdAt,
                 Instant.now(),
                 null,
-                this.expiresAt
+                this.expiresAt,
+                this.version
         );
     }
 
@@ -0,0 +1,16 @@
+package at.mymove.offer.domain;
+
+/**
+ * Wird nach jedem Speichern eines Offers veröffentlicht (synchron, innerhalb der
+ * laufenden Transaktion). Dient dem Fortschreiben von Read Models.
+ *
+ * @param offer Gespeicherter Stand des Offers
+ */
+public record OfferChangedEvent(Offer offer) {
+
+    public OfferChangedEvent {
+        if (offer == null) {
+            throw new IllegalArgumentException("offer is required");
+        }
+    }
+}
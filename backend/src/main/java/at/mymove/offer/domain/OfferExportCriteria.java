@@ -0,0 +1,28 @@
+package at.mymove.offer.domain;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filter für den Offer-Export. Alle Kriterien sind optional (null = kein Filter).
+ *
+ * @param companyId   Nur Offers dieser Firma
+ * @param statuses    Nur Offers in einem dieser Status (leer = alle)
+ * @param createdFrom Erstellt ab (inklusive)
+ * @param createdTo   Erstellt vor (exklusive)
+ */
+public record OfferExportCriteria(
+        UUID companyId,
+        Set<OfferStatus> statuses,
+        Instant createdFrom,
+        Instant createdTo
+) {
+
+    public OfferExportCriteria {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+}
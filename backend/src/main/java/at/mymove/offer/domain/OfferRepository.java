@@ -1,8 +1,13 @@
 package at.mymove.offer.domain;
 
+import at.mymove.core.domain.EntityVersion;
+
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository Interface für Offer (Domain Layer).
@@ -13,12 +18,23 @@ public interface OfferRepository {
 
     Optional<Offer> findById(UUID id);
 
+    /**
+     * Lädt ein Offer und sperrt es bis zum Ende der laufenden Transaktion für andere
+     * Schreiber. Serialisiert konkurrierende Zustandswechsel desselben Offers (z.B. Annahme).
+     */
+    Optional<Offer> findByIdForUpdate(UUID id);
+
     List<Offer> findAll();
 
     List<Offer> findAllByCompanyId(UUID companyId);
 
     Optional<Offer> findByIdAndCompanyId(UUID offerId, UUID companyId);
 
+    /**
+     * Nur ID und Version des Offers der Firma, ohne es zu laden (ETag-Prüfung).
+     */
+    Optional<EntityVersion> findVersionByIdAndCompanyId(UUID offerId, UUID companyId);
+
     /**
      * Findet Offers mit einem der angegebenen Status.
      */
@@ -28,4 +44,46 @@ public interface OfferRepository {
      * Findet Offers mit einem spezifischen Status.
      */
     List<Offer> findByStatus(OfferStatus status);
+
+    /**
+     * Sucht Offers nach den angegebenen Kriterien, neueste zuerst. Filtert vollständig
+     * in der Datenbank über die indizierten MoveDetails-Spalten.
+     */
+    List<OfferSummary> search(OfferSearchCriteria criteria);
+
+    /**
+     * Streamt alle Offers mit Inventar über einen DB-Cursor, ohne sie im Speicher zu halten.
+     * Muss innerhalb einer Transaktion konsumiert und danach geschlossen werden.
+     */
+    Stream<Offer> streamWithInventory();
+
+    /**
+     * Streamt alle Offers mit einem der angegebenen Status über einen DB-Cursor.
+     * Muss innerhalb einer Transaktion konsumiert und danach geschlossen werden.
+     */
+    Stream<Offer> streamByStatusIn(Collection<OfferStatus> statuses);
+
+    /**
+     * Streamt die Listenansicht aller passenden Offers, älteste zuerst, für Exporte.
+     * Liest über eine eigene, zustandslose Session mit JDBC-Cursor - unabhängig von einer
+     * laufenden Transaktion und mit konstantem Speicherbedarf. Muss geschlossen werden.
+     */
+    Stream<OfferSummary> streamSummaries(OfferExportCriteria criteria);
+
+    /**
+     * Setzt bis zu {@code limit} aktive Offers, deren Ablaufzeitpunkt bis {@code now} erreicht
+     * ist, per Massen-Update auf EXPIRED und veröffentlicht dafür ein {@link OffersExpiredEvent}.
+     *
+     * @return Anzahl abgelaufener Offers
+     */
+    int expireDue(Instant now, int limit);
+
+    /**
+     * Setzt bis zu {@code limit} Offers in ESTIMATES_READY, von deren Schätzungen zum
+     * Zeitpunkt {@code now} keine mehr gültig ist, per Massen-Update auf ESTIMATES_EXPIRED
+     * und veröffentlicht dafür ein {@link OffersExpiredEvent}.
+     *
+     * @return Anzahl umgestellter Offers
+     */
+    int expireEstimates(Instant now, int limit);
 }
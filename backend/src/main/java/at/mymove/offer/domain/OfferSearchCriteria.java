@@ -0,0 +1,59 @@
+package at.mymove.offer.domain;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filter für die Offer-Suche. Alle Kriterien sind optional (null = kein Filter) und
+ * werden als WHERE-Bedingungen auf indizierte Spalten an die Datenbank durchgereicht.
+ *
+ * Beispiel "Umzüge aus Wien nächste Woche": {@code fromCity = "Wien"},
+ * {@code moveDateFrom} / {@code moveDateTo} = Montag / Sonntag der nächsten Woche.
+ *
+ * @param companyId      Nur Offers dieser Firma
+ * @param statuses       Nur Offers in einem dieser Status (leer = alle)
+ * @param fromCity       Auszugsort (exakt; Groß-/Kleinschreibung gemäß DB-Collation)
+ * @param toCity         Einzugsort
+ * @param fromPostalCode PLZ Auszug
+ * @param toPostalCode   PLZ Einzug
+ * @param moveDateFrom   Umzugsdatum ab (inklusive)
+ * @param moveDateTo     Umzugsdatum bis (inklusive)
+ * @param limit          Maximale Anzahl Treffer (1 bis {@value #MAX_LIMIT})
+ */
+public record OfferSearchCriteria(
+        UUID companyId,
+        Set<OfferStatus> statuses,
+        String fromCity,
+        String toCity,
+        String fromPostalCode,
+        String toPostalCode,
+        LocalDate moveDateFrom,
+        LocalDate moveDateTo,
+        int limit
+) {
+
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    public OfferSearchCriteria {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        fromCity = normalize(fromCity);
+        toCity = normalize(toCity);
+        fromPostalCode = normalize(fromPostalCode);
+        toPostalCode = normalize(toPostalCode);
+
+        if (moveDateFrom != null && moveDateTo != null && moveDateFrom.isAfter(moveDateTo)) {
+            throw new IllegalArgumentException("moveDateFrom must not be after moveDateTo");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,34 @@
+package at.mymove.offer.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Schlanke Listenansicht eines Offers.
+ *
+ * Wird direkt aus den indizierten Spalten gelesen - die vollständigen MoveDetails
+ * (JSON) werden dafür weder geladen noch geparst.
+ *
+ * @param id        ID des Offers
+ * @param status    Status im Lifecycle
+ * @param videoId   Referenz zum Video
+ * @param companyId Referenz zur ausgewählten Firma (null bis zur Auswahl)
+ * @param moveDate  Umzugsdatum (null bei noch nicht migrierten Altbeständen)
+ * @param fromCity  Auszugsort
+ * @param toCity    Einzugsort
+ * @param createdAt Erstellungszeitpunkt
+ * @param sentAt    Zeitpunkt des Versands (Legacy)
+ */
+public record OfferSummary(
+        UUID id,
+        OfferStatus status,
+        UUID videoId,
+        UUID companyId,
+        LocalDate moveDate,
+        String fromCity,
+        String toCity,
+        Instant createdAt,
+        Instant sentAt
+) {
+}
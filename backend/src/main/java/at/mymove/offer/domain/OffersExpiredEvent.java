@@ -0,0 +1,25 @@
+package at.mymove.offer.domain;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Wird nach dem gesammelten Statuswechsel abgelaufener Offers veröffentlicht
+ * (Massen-Update ohne {@link OfferChangedEvent} pro Offer, synchron innerhalb der
+ * laufenden Transaktion).
+ *
+ * @param offerIds Betroffene Offers
+ * @param status   Neuer Status ({@link OfferStatus#EXPIRED} oder {@link OfferStatus#ESTIMATES_EXPIRED})
+ */
+public record OffersExpiredEvent(Set<UUID> offerIds, OfferStatus status) {
+
+    public OffersExpiredEvent {
+        if (offerIds == null || offerIds.isEmpty()) {
+            throw new IllegalArgumentException("offerIds must not be empty");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        offerIds = Set.copyOf(offerIds);
+    }
+}
@@ -3,29 +3,53 @@ package at.mymove.offer.infrastructure.persistence;
 import at.mymove.move.domain.MoveDetails;
 import at.mymove.offer.domain.OfferStatus;
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
  * JPA Entity für Offer.
+ *
+ * Die vollständigen MoveDetails liegen weiterhin als JSON in {@code move_details} und
+ * werden erst beim ersten Zugriff auf {@link #getMoveDetails()} geparst. Die Felder,
+ * nach denen gefiltert wird (Orte, PLZ, Umzugsdatum, Stockwerke), sind zusätzlich als
+ * eigene, indizierte Spalten abgelegt und werden beim Setzen der MoveDetails mitgeschrieben.
+ * Altbestände ohne diese Spalten ({@code move_date is null}) füllt {@link OfferMoveDetailsBackfill}.
  */
 @Getter
 @Setter
 @Entity
-@Table(name = "offers")
+@Table(
+        name = "offers",
+        indexes = {
+                @Index(name = "idx_offers_move_date", columnList = "moveDate"),
+                @Index(name = "idx_offers_from_city_move_date", columnList = "fromCity, moveDate"),
+                @Index(name = "idx_offers_to_city_move_date", columnList = "toCity, moveDate"),
+                @Index(name = "idx_offers_from_postal_code_move_date", columnList = "fromPostalCode, moveDate"),
+                @Index(name = "idx_offers_to_postal_code_move_date", columnList = "toPostalCode, moveDate"),
+                @Index(name = "idx_offers_created_at", columnList = "createdAt, id"),
+                @Index(name = "idx_offers_company_created_at", columnList = "companyId, createdAt"),
+                @Index(name = "idx_offers_status_expires_at", columnList = "status, expiresAt")
+        }
+)
 public class OfferJpaEntity {
 
+    private static final MoveDetailsJsonConverter MOVE_DETAILS_CODEC = new MoveDetailsJsonConverter();
+
     @Id
     private UUID id;
 
@@ -42,10 +66,56 @@ public class OfferJpaEntity {
     @Column
     private UUID companyId;
 
-    @Convert(converter = MoveDetailsJsonConverter.class)
+    @Setter(AccessLevel.NONE)
     @Column(name = "move_details", nullable = false, columnDefinition = "LONGTEXT")
+    private String moveDetailsJson;
+
+    /**
+     * Geparste MoveDetails, erst bei Bedarf aus {@link #moveDetailsJson} erzeugt.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Transient
     private MoveDetails moveDetails;
 
+    // ---- Aus MoveDetails abgeleitete Spalten (Filter/Indizes) ----
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private String fromCity;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private String toCity;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private String fromPostalCode;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private String toPostalCode;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private LocalDate moveDate;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private Integer fromFloor;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private Integer toFloor;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private Boolean fromHasElevator;
+
+    @Setter(AccessLevel.NONE)
+    @Column
+    private Boolean toHasElevator;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -58,6 +128,14 @@ public class OfferJpaEntity {
     @Column
     private Instant expiresAt;
 
+    /**
+     * Optimistic-Locking-Version, Grundlage für ETags. Wird mit dem Domain-Objekt geladen und
+     * beim Speichern zurückgegeben; ein veralteter Stand schlägt fehl. Altbestände starten bei 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     protected OfferJpaEntity() {}
 
     public OfferJpaEntity(
@@ -77,13 +155,43 @@ public class OfferJpaEntity {
         this.videoId = videoId;
         this.inventoryId = inventoryId;
         this.companyId = companyId;
-        this.moveDetails = moveDetails;
+        setMoveDetails(moveDetails);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.sentAt = sentAt;
         this.expiresAt = expiresAt;
     }
 
+    /**
+     * Parst das JSON beim ersten Zugriff.
+     */
+    public MoveDetails getMoveDetails() {
+        if (moveDetails == null && moveDetailsJson != null) {
+            moveDetails = MOVE_DETAILS_CODEC.convertToEntityAttribute(moveDetailsJson);
+        }
+        return moveDetails;
+    }
+
+    /**
+     * Setzt MoveDetails, JSON und die abgeleiteten Spalten gemeinsam.
+     */
+    public void setMoveDetails(MoveDetails moveDetails) {
+        this.moveDetails = moveDetails;
+        this.moveDetailsJson = MOVE_DETAILS_CODEC.convertToDatabaseColumn(moveDetails);
+        if (moveDetails == null) {
+            return;
+        }
+        this.fromCity = moveDetails.fromAddress().city();
+        this.toCity = moveDetails.toAddress().city();
+        this.fromPostalCode = moveDetails.fromAddress().postalCode();
+        this.toPostalCode = moveDetails.toAddress().postalCode();
+        this.moveDate = moveDetails.moveDate();
+        this.fromFloor = moveDetails.fromFloor().floor();
+        this.toFloor = moveDetails.toFloor().floor();
+        this.fromHasElevator = moveDetails.fromFloor().hasElevator();
+        this.toHasElevator = moveDetails.toFloor().hasElevator();
+    }
+
     @PrePersist
     void prePersist() {
         Instant now = Instant.now();
@@ -1,17 +1,32 @@
 package at.mymove.offer.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.offer.domain.OfferStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository für OfferJpaEntity.
  */
 public interface OfferJpaRepository extends JpaRepository<OfferJpaEntity, UUID> {
 
+    int STREAM_FETCH_SIZE = 500;
+
     List<OfferJpaEntity> findAllByCompanyId(UUID companyId);
 
     Optional<OfferJpaEntity> findByIdAndCompanyId(UUID id, UUID companyId);
@@ -19,4 +34,93 @@ public interface OfferJpaRepository extends JpaRepository<OfferJpaEntity, UUID>
     List<OfferJpaEntity> findByStatusIn(List<OfferStatus> statuses);
 
     List<OfferJpaEntity> findByStatus(OfferStatus status);
+
+    /**
+     * Lädt das Offer mit Schreibsperre auf der Zeile ({@code select ... for update}),
+     * gehalten bis zum Ende der Transaktion.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OfferJpaEntity o where o.id = :id")
+    Optional<OfferJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("""
+            select new at.mymove.core.domain.EntityVersion(o.id, o.version)
+            from OfferJpaEntity o where o.id = :id and o.companyId = :companyId
+            """)
+    Optional<EntityVersion> findEntityVersionByIdAndCompanyId(@Param("id") UUID id, @Param("companyId") UUID companyId);
+
+    /**
+     * Alle Offers mit Inventar als JDBC-Cursor (read-only, Zeilen werden in Blöcken
+     * von {@value #STREAM_FETCH_SIZE} vom Server geholt statt komplett geladen).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from OfferJpaEntity o where o.inventoryId is not null")
+    Stream<OfferJpaEntity> streamAllWithInventory();
+
+    /**
+     * Offers in den angegebenen Status als JDBC-Cursor (wie {@link #streamAllWithInventory()}).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from OfferJpaEntity o where o.status in :statuses")
+    Stream<OfferJpaEntity> streamByStatusIn(@Param("statuses") Collection<OfferStatus> statuses);
+
+    /**
+     * IDs der Offers in den angegebenen Status, deren Ablaufzeitpunkt bis {@code now}
+     * erreicht ist, älteste zuerst (Range Scan über idx_offers_status_expires_at).
+     */
+    @Query("""
+            select o.id from OfferJpaEntity o
+            where o.status in :statuses and o.expiresAt <= :now
+            order by o.expiresAt
+            """)
+    List<UUID> findIdsByStatusInAndExpiresAtUpTo(
+            @Param("statuses") Collection<OfferStatus> statuses,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    /**
+     * IDs der Offers in einem Status, die Schätzungen haben, von denen zum Zeitpunkt
+     * {@code now} keine mehr gültig ist. Die Existenzprüfungen laufen über den Index
+     * (offerId, validUntil) der Schätzungen.
+     */
+    @Query("""
+            select o.id from OfferJpaEntity o
+            where o.status = :status
+              and exists (select e.id from PriceEstimateJpaEntity e where e.offerId = o.id)
+              and not exists (
+                  select e.id from PriceEstimateJpaEntity e
+                  where e.offerId = o.id and (e.validUntil is null or e.validUntil > :now))
+            order by o.id
+            """)
+    List<UUID> findIdsByStatusWithoutValidEstimate(
+            @Param("status") OfferStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    /**
+     * Setzt den Status der angegebenen Offers, sofern sie noch in einem der erwarteten
+     * Status sind. Zählt die Version hoch (ETags), umgeht aber den Persistence Context.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update OfferJpaEntity o set o.status = :to, o.updatedAt = :now, o.version = o.version + 1
+            where o.id in :ids and o.status in :from
+            """)
+    int updateStatus(
+            @Param("ids") Collection<UUID> ids,
+            @Param("from") Collection<OfferStatus> from,
+            @Param("to") OfferStatus to,
+            @Param("now") Instant now
+    );
+
+    @Query("select o.id from OfferJpaEntity o where o.id in :ids and o.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") OfferStatus status);
 }
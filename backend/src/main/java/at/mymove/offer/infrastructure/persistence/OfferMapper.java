@@ -12,7 +12,7 @@ final class OfferMapper {
     static OfferJpaEntity toJpa(Offer offer) {
         if (offer == null) return null;
 
-        return new OfferJpaEntity(
+        OfferJpaEntity entity = new OfferJpaEntity(
                 offer.id(),
                 offer.status(),
                 offer.videoId(),
@@ -24,6 +24,8 @@ final class OfferMapper {
                 offer.sentAt(),
                 offer.expiresAt()
         );
+        entity.setVersion(offer.version());
+        return entity;
     }
 
     static Offer toDomain(OfferJpaEntity entity) {
@@ -39,7 +41,8 @@ final class OfferMapper {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
                 entity.getSentAt(),
-                entity.getExpiresAt()
+                entity.getExpiresAt(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,112 @@
+package at.mymove.offer.infrastructure.persistence;
+
+import at.mymove.move.domain.MoveDetails;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Backfill der MoveDetails-Spalten für Offers, die vor Einführung der Spalten
+ * gespeichert wurden ({@code move_date is null}).
+ *
+ * - Läuft beim Start in Blöcken von {@value #BATCH_SIZE} Zeilen, jeder Block in eigener
+ *   Transaktion; ist nichts zu tun, kostet das genau ein indiziertes SELECT
+ * - Schreibt per UPDATE nur die abgeleiteten Spalten, {@code updatedAt} bleibt unverändert
+ * - Nicht lesbares JSON wird geloggt und übersprungen (Keyset über die ID, keine Endlosschleife)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class OfferMoveDetailsBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_PENDING = """
+            select o.id, o.moveDetailsJson from OfferJpaEntity o
+            where o.moveDate is null and o.id > :after
+            order by o.id
+            """;
+
+    private static final String UPDATE_COLUMNS = """
+            update OfferJpaEntity o set
+                o.fromCity = :fromCity, o.toCity = :toCity,
+                o.fromPostalCode = :fromPostalCode, o.toPostalCode = :toPostalCode,
+                o.moveDate = :moveDate,
+                o.fromFloor = :fromFloor, o.toFloor = :toFloor,
+                o.fromHasElevator = :fromHasElevator, o.toHasElevator = :toHasElevator
+            where o.id = :id
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MoveDetailsJsonConverter codec = new MoveDetailsJsonConverter();
+
+    private record Batch(UUID lastId, int rows, int migrated) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UUID after = new UUID(0L, 0L);
+        long migrated = 0;
+        long skipped = 0;
+
+        while (true) {
+            UUID from = after;
+            Batch batch = transactionTemplate.execute(status -> backfill(from));
+            if (batch == null || batch.rows() == 0) {
+                break;
+            }
+            migrated += batch.migrated();
+            skipped += batch.rows() - batch.migrated();
+            after = batch.lastId();
+        }
+
+        if (migrated > 0 || skipped > 0) {
+            log.info("Backfilled move details columns for {} offers ({} skipped)", migrated, skipped);
+        }
+    }
+
+    private Batch backfill(UUID after) {
+        List<Object[]> rows = entityManager.createQuery(SELECT_PENDING, Object[].class)
+                .setParameter("after", after)
+                .setMaxResults(BATCH_SIZE)
+                .getResultList();
+
+        int migrated = 0;
+        UUID lastId = after;
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            lastId = id;
+            MoveDetails moveDetails;
+            try {
+                moveDetails = codec.convertToEntityAttribute((String) row[1]);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping offer {}: move details are not readable ({})", id, e.getMessage());
+                continue;
+            }
+            if (moveDetails == null) {
+                continue;
+            }
+            entityManager.createQuery(UPDATE_COLUMNS)
+                    .setParameter("fromCity", moveDetails.fromAddress().city())
+                    .setParameter("toCity", moveDetails.toAddress().city())
+                    .setParameter("fromPostalCode", moveDetails.fromAddress().postalCode())
+                    .setParameter("toPostalCode", moveDetails.toAddress().postalCode())
+                    .setParameter("moveDate", moveDetails.moveDate())
+                    .setParameter("fromFloor", moveDetails.fromFloor().floor())
+                    .setParameter("toFloor", moveDetails.toFloor().floor())
+                    .setParameter("fromHasElevator", moveDetails.fromFloor().hasElevator())
+                    .setParameter("toHasElevator", moveDetails.toFloor().hasElevator())
+                    .setParameter("id", id)
+                    .executeUpdate();
+            migrated++;
+        }
+        return new Batch(lastId, rows.size(), migrated);
+    }
+}
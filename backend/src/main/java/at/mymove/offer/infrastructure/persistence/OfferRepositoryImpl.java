@@ -1,29 +1,75 @@
 package at.mymove.offer.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferChangedEvent;
+import at.mymove.offer.domain.OfferExportCriteria;
 import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OfferSearchCriteria;
 import at.mymove.offer.domain.OfferStatus;
+import at.mymove.offer.domain.OfferSummary;
+import at.mymove.offer.domain.OffersExpiredEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementierung des OfferRepository Interface.
+ * Veröffentlicht nach jedem Speichern ein {@link OfferChangedEvent}, nach dem
+ * gesammelten Ablauf ein {@link OffersExpiredEvent}.
+ *
+ * Die Version kommt mit dem Domain-Objekt zurück: wurde der Datensatz seit dem Laden geändert,
+ * schlägt das Speichern mit einer Optimistic-Locking-Exception fehl (409). Gespeichert wird mit
+ * Flush, damit das Ergebnis bereits die hochgezählte Version trägt.
  */
 @Repository
 @RequiredArgsConstructor
 class OfferRepositoryImpl implements OfferRepository {
 
+    private static final String SEARCH_SELECT = """
+            select new at.mymove.offer.domain.OfferSummary(
+                o.id, o.status, o.videoId, o.companyId, o.moveDate, o.fromCity, o.toCity, o.createdAt, o.sentAt)
+            from OfferJpaEntity o
+            where 1 = 1
+            """;
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Status, aus denen ein Offer ablaufen kann (wie {@link Offer#isActive()}).
+     */
+    private static final Set<OfferStatus> ACTIVE_STATUSES = EnumSet.complementOf(
+            EnumSet.of(OfferStatus.ACCEPTED, OfferStatus.REJECTED, OfferStatus.EXPIRED));
+
     private final OfferJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Offer save(Offer offer) {
         OfferJpaEntity entity = OfferMapper.toJpa(offer);
-        OfferJpaEntity saved = jpaRepository.save(entity);
-        return OfferMapper.toDomain(saved);
+        OfferJpaEntity saved = jpaRepository.saveAndFlush(entity);
+        Offer result = OfferMapper.toDomain(saved);
+        eventPublisher.publishEvent(new OfferChangedEvent(result));
+        return result;
     }
 
     @Override
@@ -32,6 +78,11 @@ class OfferRepositoryImpl implements OfferRepository {
                 .map(OfferMapper::toDomain);
     }
 
+    @Override
+    public Optional<Offer> findByIdForUpdate(UUID id) {
+        return jpaRepository.findByIdForUpdate(id).map(OfferMapper::toDomain);
+    }
+
     @Override
     public List<Offer> findAll() {
         return jpaRepository.findAll()
@@ -54,6 +105,11 @@ class OfferRepositoryImpl implements OfferRepository {
                 .map(OfferMapper::toDomain);
     }
 
+    @Override
+    public Optional<EntityVersion> findVersionByIdAndCompanyId(UUID offerId, UUID companyId) {
+        return jpaRepository.findEntityVersionByIdAndCompanyId(offerId, companyId);
+    }
+
     @Override
     public List<Offer> findByStatusIn(List<OfferStatus> statuses) {
         return jpaRepository.findByStatusIn(statuses)
@@ -69,4 +125,147 @@ class OfferRepositoryImpl implements OfferRepository {
                 .map(OfferMapper::toDomain)
                 .toList();
     }
+
+    /**
+     * Baut das JPQL aus den gesetzten Kriterien zusammen; es werden nur die Listenspalten
+     * selektiert, das MoveDetails-JSON bleibt ungelesen.
+     */
+    @Override
+    public List<OfferSummary> search(OfferSearchCriteria criteria) {
+        StringBuilder jpql = new StringBuilder(SEARCH_SELECT);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (criteria.companyId() != null) {
+            jpql.append(" and o.companyId = :companyId");
+            params.put("companyId", criteria.companyId());
+        }
+        if (!criteria.statuses().isEmpty()) {
+            jpql.append(" and o.status in :statuses");
+            params.put("statuses", criteria.statuses());
+        }
+        if (criteria.fromCity() != null) {
+            jpql.append(" and o.fromCity = :fromCity");
+            params.put("fromCity", criteria.fromCity());
+        }
+        if (criteria.toCity() != null) {
+            jpql.append(" and o.toCity = :toCity");
+            params.put("toCity", criteria.toCity());
+        }
+        if (criteria.fromPostalCode() != null) {
+            jpql.append(" and o.fromPostalCode = :fromPostalCode");
+            params.put("fromPostalCode", criteria.fromPostalCode());
+        }
+        if (criteria.toPostalCode() != null) {
+            jpql.append(" and o.toPostalCode = :toPostalCode");
+            params.put("toPostalCode", criteria.toPostalCode());
+        }
+        if (criteria.moveDateFrom() != null) {
+            jpql.append(" and o.moveDate >= :moveDateFrom");
+            params.put("moveDateFrom", criteria.moveDateFrom());
+        }
+        if (criteria.moveDateTo() != null) {
+            jpql.append(" and o.moveDate <= :moveDateTo");
+            params.put("moveDateTo", criteria.moveDateTo());
+        }
+        jpql.append(" order by o.createdAt desc, o.id desc");
+
+        TypedQuery<OfferSummary> query = entityManager.createQuery(jpql.toString(), OfferSummary.class)
+                .setMaxResults(criteria.limit());
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    /**
+     * Jede Entity wird nach dem Mapping detached, damit der Persistence Context
+     * beim Durchlaufen großer Bestände nicht mitwächst.
+     */
+    @Override
+    public Stream<Offer> streamWithInventory() {
+        return jpaRepository.streamAllWithInventory()
+                .map(this::toDetachedDomain);
+    }
+
+    @Override
+    public Stream<Offer> streamByStatusIn(Collection<OfferStatus> statuses) {
+        return jpaRepository.streamByStatusIn(statuses)
+                .map(this::toDetachedDomain);
+    }
+
+    /**
+     * Konstruktor-Projektion über eine StatelessSession: keine Entities, kein Persistence
+     * Context, die Zeilen kommen blockweise über den JDBC-Cursor. Die Session (und damit
+     * die Verbindung) wird mit dem Stream geschlossen.
+     */
+    @Override
+    public Stream<OfferSummary> streamSummaries(OfferExportCriteria criteria) {
+        StringBuilder jpql = new StringBuilder(SEARCH_SELECT);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (criteria.companyId() != null) {
+            jpql.append(" and o.companyId = :companyId");
+            params.put("companyId", criteria.companyId());
+        }
+        if (!criteria.statuses().isEmpty()) {
+            jpql.append(" and o.status in :statuses");
+            params.put("statuses", criteria.statuses());
+        }
+        if (criteria.createdFrom() != null) {
+            jpql.append(" and o.createdAt >= :createdFrom");
+            params.put("createdFrom", criteria.createdFrom());
+        }
+        if (criteria.createdTo() != null) {
+            jpql.append(" and o.createdAt < :createdTo");
+            params.put("createdTo", criteria.createdTo());
+        }
+        jpql.append(" order by o.createdAt, o.id");
+
+        StatelessSession session = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .openStatelessSession();
+        try {
+            SelectionQuery<OfferSummary> query = session.createSelectionQuery(jpql.toString(), OfferSummary.class)
+                    .setFetchSize(EXPORT_FETCH_SIZE)
+                    .setReadOnly(true);
+            params.forEach(query::setParameter);
+            return query.getResultStream().onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int expireDue(Instant now, int limit) {
+        List<UUID> ids = jpaRepository.findIdsByStatusInAndExpiresAtUpTo(ACTIVE_STATUSES, now, PageRequest.of(0, limit));
+        return transition(ids, ACTIVE_STATUSES, OfferStatus.EXPIRED, now);
+    }
+
+    @Override
+    public int expireEstimates(Instant now, int limit) {
+        List<UUID> ids = jpaRepository.findIdsByStatusWithoutValidEstimate(
+                OfferStatus.ESTIMATES_READY, now, PageRequest.of(0, limit));
+        return transition(ids, EnumSet.of(OfferStatus.ESTIMATES_READY), OfferStatus.ESTIMATES_EXPIRED, now);
+    }
+
+    /**
+     * Ein UPDATE mit Status-Bedingung (parallel geänderte Offers bleiben unberührt), danach
+     * die tatsächlich umgestellten IDs für das Event.
+     */
+    private int transition(List<UUID> ids, Collection<OfferStatus> from, OfferStatus to, Instant now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = jpaRepository.updateStatus(ids, from, to, now);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new OffersExpiredEvent(
+                    new HashSet<>(jpaRepository.findIdsByIdInAndStatus(ids, to)), to));
+        }
+        return updated;
+    }
+
+    private Offer toDetachedDomain(OfferJpaEntity entity) {
+        Offer offer = OfferMapper.toDomain(entity);
+        entityManager.detach(entity);
+        return offer;
+    }
 }
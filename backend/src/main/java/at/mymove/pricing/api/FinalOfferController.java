@@ -1,5 +1,6 @@
 package at.mymove.pricing.api;
 
+import at.mymove.core.api.ETags;
 import at.mymove.pricing.api.dto.FinalOfferRequest;
 import at.mymove.pricing.api.dto.FinalOfferResponse;
 import at.mymove.pricing.application.*;
@@ -7,6 +8,8 @@ import at.mymove.pricing.domain.FinalOffer;
 import at.mymove.pricing.domain.PriceBreakdown;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,8 @@ import java.util.UUID;
  *
  * Customer Endpunkte:
  * - GET  /api/v1/offers/{offerId}/final-offers
+ * - GET  /api/v1/offers/{offerId}/best-offer
+ * - GET  /api/v1/offers/{offerId}/top-offers
  * - POST /api/v1/final-offers/{finalOfferId}/accept
  * - POST /api/v1/final-offers/{finalOfferId}/reject
  */
@@ -148,22 +153,33 @@ public class FinalOfferController {
 
     /**
      * Listet alle FinalOffers für ein Offer (für Kunden-Vergleich).
+     *
+     * Das ETag umfasst genau die sichtbaren (eingereichten, nicht abgelaufenen) Offerten -
+     * läuft eine ab, ändert es sich - und die Sprache der Preispositionen.
+     * Bei passendem {@code If-None-Match} 304 ohne Laden.
      */
     @GetMapping("/api/v1/offers/{offerId}/final-offers")
     public ResponseEntity<List<FinalOfferResponse>> getFinalOffersForOffer(
-            @PathVariable String offerId
+            @PathVariable String offerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         UUID offerUuid = parseUuid(offerId, "offerId");
+        java.time.Instant now = java.time.Instant.now();
+
+        // Die Preispositionen werden in der Sprache des Requests gerendert
+        String etag = ETags.of(finalOfferRepository.findSubmittedVersionsByOfferId(offerUuid, now),
+                LocaleContextHolder.getLocale());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ETags.notModified(etag);
+        }
 
         List<FinalOfferResponse> offers = finalOfferRepository
-                .findByOfferId(offerUuid)
+                .findSubmittedByOfferId(offerUuid, now)
                 .stream()
-                .filter(o -> o.status() == at.mymove.pricing.domain.FinalOfferStatus.SUBMITTED)
-                .filter(o -> !o.isExpired(java.time.Instant.now()))
                 .map(FinalOfferResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(offers);
+        return ETags.ok(etag, offers);
     }
 
     /**
@@ -184,6 +200,24 @@ public class FinalOfferController {
         return ResponseEntity.ok(FinalOfferResponse.from(bestOffer));
     }
 
+    /**
+     * Die günstigsten offenen Angebote für ein Offer, Preis aufsteigend.
+     */
+    @GetMapping("/api/v1/offers/{offerId}/top-offers")
+    public ResponseEntity<List<FinalOfferResponse>> getTopOffers(
+            @PathVariable String offerId,
+            @RequestParam(defaultValue = "3") int limit
+    ) {
+        UUID offerUuid = parseUuid(offerId, "offerId");
+
+        List<FinalOfferResponse> offers = acceptFinalOfferUseCase.findTopOffers(offerUuid, limit)
+                .stream()
+                .map(FinalOfferResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(offers);
+    }
+
     /**
      * Kunde nimmt ein FinalOffer an.
      */
@@ -1,11 +1,19 @@
 package at.mymove.pricing.api;
 
+import at.mymove.infrastructure.security.MyMoveUserDetails;
 import at.mymove.pricing.api.dto.PriceEstimateResponse;
+import at.mymove.pricing.api.dto.RepricingSimulationRequest;
+import at.mymove.pricing.api.dto.RepricingSimulationResponse;
 import at.mymove.pricing.application.CalculateEstimateUseCase;
+import at.mymove.pricing.application.SimulateRepricingUseCase;
 import at.mymove.pricing.domain.PriceEstimate;
+import at.mymove.pricing.domain.RepricingSimulation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,6 +26,7 @@ import java.util.UUID;
  * - POST /api/v1/pricing/calculate?companyId={}&offerId={}  - Preis berechnen
  * - GET  /api/v1/pricing/estimates/{id}                     - Schätzung abrufen
  * - GET  /api/v1/pricing/estimates/by-offer/{offerId}       - Alle Schätzungen für Offer
+ * - POST /api/v1/pricing/simulations[?companyId={}]          - Neue Konditionen gegen historische Offers simulieren
  */
 @RestController
 @RequestMapping("/api/v1/pricing")
@@ -25,6 +34,7 @@ import java.util.UUID;
 public class PricingController {
 
     private final CalculateEstimateUseCase calculateEstimateUseCase;
+    private final SimulateRepricingUseCase simulateRepricingUseCase;
 
     /**
      * Berechnet eine Preisschätzung für eine Firma und ein Offer.
@@ -95,8 +105,49 @@ public class PricingController {
         return ResponseEntity.ok(PriceEstimateResponse.from(estimate));
     }
 
+    /**
+     * Simuliert, wie sich neue Preiskonditionen auf alle bisherigen Offers ausgewirkt hätten.
+     * Schreibt nichts - die Konditionen der Firma bleiben unverändert.
+     *
+     * Firmen simulieren immer ihre eigenen Offers (companyId aus dem Login, ein abweichender
+     * Parameter wird abgelehnt); nur Admins geben die Firma per {@code companyId} an.
+     */
+    @PreAuthorize("hasRole('COMPANY') or hasRole('ADMIN')")
+    @PostMapping("/simulations")
+    public ResponseEntity<RepricingSimulationResponse> simulateRepricing(
+            @RequestParam(required = false) String companyId,
+            @Valid @RequestBody RepricingSimulationRequest request
+    ) {
+        UUID companyUuid = resolveCompanyId(companyId);
+
+        RepricingSimulation simulation = simulateRepricingUseCase.execute(companyUuid, request.toPricingConditions());
+        return ResponseEntity.ok(RepricingSimulationResponse.from(simulation));
+    }
+
     // ---- Helper ----
 
+    private static UUID resolveCompanyId(String companyId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (admin) {
+            return parseUuid(companyId, "companyId");
+        }
+
+        if (!(authentication.getPrincipal() instanceof MyMoveUserDetails userDetails)
+                || userDetails.getCompanyId() == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        UUID ownCompanyId = userDetails.getCompanyId();
+        if (companyId != null && !companyId.isBlank() && !parseUuid(companyId, "companyId").equals(ownCompanyId)) {
+            throw new IllegalArgumentException("Not authorized");
+        }
+        return ownCompanyId;
+    }
+
     private static UUID parseUuid(String value, String fieldName) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException(fieldName + " is required");
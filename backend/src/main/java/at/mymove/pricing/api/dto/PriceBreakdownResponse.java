@@ -1,12 +1,22 @@
 package at.mymove.pricing.api.dto;
 
 import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PriceLineItem;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * Response DTO für PriceBreakdown.
+ *
+ * Die Bezeichnungen der Positionen werden erst hier gerendert, in der Sprache
+ * des Requests (Accept-Language, Deutsch oder Englisch). {@code details} enthält
+ * dieselben Positionen als Bezeichnung → Betrag wie bisher.
  */
 public record PriceBreakdownResponse(
         BigDecimal baseFee,
@@ -18,15 +28,30 @@ public record PriceBreakdownResponse(
         BigDecimal otherSurcharges,
         BigDecimal subtotal,
         BigDecimal total,
+        List<PriceLineItemResponse> lineItems,
         Map<String, BigDecimal> details
 ) {
     /**
-     * Factory-Methode aus Domain Entity.
+     * Factory-Methode aus Domain Entity, in der Sprache des aktuellen Requests.
      */
     public static PriceBreakdownResponse from(PriceBreakdown breakdown) {
+        return from(breakdown, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * Factory-Methode aus Domain Entity mit expliziter Sprache.
+     */
+    public static PriceBreakdownResponse from(PriceBreakdown breakdown, Locale locale) {
         if (breakdown == null) {
             return null;
         }
+        List<PriceLineItemResponse> lineItems = new ArrayList<>(breakdown.lineItems().size());
+        Map<String, BigDecimal> details = new LinkedHashMap<>();
+        for (PriceLineItem item : breakdown.lineItems()) {
+            PriceLineItemResponse response = PriceLineItemResponse.from(item, locale);
+            lineItems.add(response);
+            details.put(response.label(), response.amount());
+        }
         return new PriceBreakdownResponse(
                 breakdown.baseFee(),
                 breakdown.travelFee(),
@@ -37,7 +62,8 @@ public record PriceBreakdownResponse(
                 breakdown.otherSurcharges(),
                 breakdown.subtotal(),
                 breakdown.total(),
-                breakdown.details()
+                lineItems,
+                details
         );
     }
 }
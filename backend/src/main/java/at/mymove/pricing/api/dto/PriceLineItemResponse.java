@@ -0,0 +1,64 @@
+package at.mymove.pricing.api.dto;
+
+import at.mymove.pricing.domain.PriceLineItem;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Response DTO für eine Position der Preisaufschlüsselung, inkl. gerenderter Bezeichnung.
+ */
+public record PriceLineItemResponse(
+        PriceLineItem.Code code,
+        BigDecimal quantity,
+        PriceLineItem.Unit unit,
+        BigDecimal amount,
+        String label
+) {
+    /**
+     * Factory-Methode aus Domain Entity; die Bezeichnung wird in der angefragten Sprache erzeugt.
+     */
+    public static PriceLineItemResponse from(PriceLineItem item, Locale locale) {
+        return new PriceLineItemResponse(
+                item.code(),
+                item.quantity(),
+                item.unit(),
+                item.amount(),
+                label(item, locale)
+        );
+    }
+
+    /**
+     * Rendert die Bezeichnung einer Position, z.B. "Volumenkosten (12,34 m³)" bzw. "Volume (12.34 m³)".
+     * Unterstützt Deutsch (Standard) und Englisch.
+     */
+    public static String label(PriceLineItem item, Locale locale) {
+        boolean english = locale != null && Locale.ENGLISH.getLanguage().equals(locale.getLanguage());
+        String name = switch (item.code()) {
+            case BASE_FEE -> english ? "Base fee" : "Grundgebühr";
+            case TRAVEL_FEE -> english ? "Travel fee" : "Anfahrtsgebühr";
+            case VOLUME -> english ? "Volume" : "Volumenkosten";
+            case DISTANCE -> english ? "Distance surcharge" : "Distanzzuschlag";
+            case FLOOR -> english ? "Floor surcharge" : "Stockwerkzuschlag";
+            case LABOR -> english ? "Labour" : "Arbeitskosten";
+        };
+        if (item.quantity() == null) {
+            return name;
+        }
+        return name + " (" + formatQuantity(item.quantity(), item.unit(), english) + ")";
+    }
+
+    private static String formatQuantity(BigDecimal quantity, PriceLineItem.Unit unit, boolean english) {
+        if (unit == PriceLineItem.Unit.MINUTE) {
+            long minutes = quantity.longValue();
+            long m = minutes % 60;
+            return (minutes / 60) + "h " + (m < 10 ? "0" : "") + m + "min";
+        }
+        String number = english ? quantity.toPlainString() : quantity.toPlainString().replace('.', ',');
+        return switch (unit) {
+            case CUBIC_METER -> number + " m³";
+            case KILOMETER -> number + " km";
+            default -> number;
+        };
+    }
+}
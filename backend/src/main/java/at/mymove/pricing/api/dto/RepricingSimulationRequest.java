@@ -0,0 +1,32 @@
+package at.mymove.pricing.api.dto;
+
+import at.mymove.company.domain.PricingConditions;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO für eine Tarif-Simulation (zu testende Preiskonditionen).
+ */
+public record RepricingSimulationRequest(
+        @NotNull @DecimalMin("0.01") @DecimalMax("500.00")
+        BigDecimal hourlyRate,
+
+        @NotNull @DecimalMin("0.00") @DecimalMax("1000.00")
+        BigDecimal travelFee,
+
+        @DecimalMin("0.00")
+        BigDecimal baseFee,
+
+        @DecimalMin("0.00") @DecimalMax("100.00")
+        BigDecimal extraChargePercent,
+
+        @DecimalMin("0.00")
+        BigDecimal minimumPrice
+) {
+    public PricingConditions toPricingConditions() {
+        return PricingConditions.of(hourlyRate, travelFee, baseFee, extraChargePercent, minimumPrice);
+    }
+}
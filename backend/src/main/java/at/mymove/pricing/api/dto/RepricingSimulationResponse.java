@@ -0,0 +1,69 @@
+package at.mymove.pricing.api.dto;
+
+import at.mymove.pricing.domain.RepricingSimulation;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response DTO für RepricingSimulation.
+ */
+public record RepricingSimulationResponse(
+        UUID companyId,
+        long offersSimulated,
+        long offersSkipped,
+        BigDecimal currentRevenue,
+        BigDecimal candidateRevenue,
+        BigDecimal revenueDelta,
+        BigDecimal revenueDeltaPercent,
+        BigDecimal minPriceDelta,
+        BigDecimal maxPriceDelta,
+        PercentilesResponse priceDeltaPercentiles,
+        long offersWithCompetition,
+        long winsCurrent,
+        long winsCandidate,
+        long offersGained,
+        long offersLost,
+        long durationMillis
+) {
+
+    public record PercentilesResponse(
+            BigDecimal p5,
+            BigDecimal p25,
+            BigDecimal p50,
+            BigDecimal p75,
+            BigDecimal p95
+    ) {
+    }
+
+    /**
+     * Factory-Methode aus Domain Entity.
+     */
+    public static RepricingSimulationResponse from(RepricingSimulation simulation) {
+        RepricingSimulation.Percentiles percentiles = simulation.priceDeltaPercentiles();
+        return new RepricingSimulationResponse(
+                simulation.companyId(),
+                simulation.offersSimulated(),
+                simulation.offersSkipped(),
+                simulation.currentRevenue(),
+                simulation.candidateRevenue(),
+                simulation.revenueDelta(),
+                simulation.revenueDeltaPercent(),
+                simulation.minPriceDelta(),
+                simulation.maxPriceDelta(),
+                new PercentilesResponse(
+                        percentiles.p5(),
+                        percentiles.p25(),
+                        percentiles.p50(),
+                        percentiles.p75(),
+                        percentiles.p95()
+                ),
+                simulation.offersWithCompetition(),
+                simulation.winsCurrent(),
+                simulation.winsCandidate(),
+                simulation.offersGained(),
+                simulation.offersLost(),
+                simulation.durationMillis()
+        );
+    }
+}
@@ -17,24 +17,40 @@ import java.util.UUID;
  * Use Case: Ein Kunde nimmt eine FinalOffer an.
  *
  * Die Offerte wird akzeptiert und alle anderen Offerte für
-das gleiche Offer werden automatisch abgelehnt.
+ * das gleiche Offer werden automatisch abgelehnt.
+ *
+ * Konkurrierende Annahmen desselben Offers werden über eine Zeilensperre auf dem Offer
+ * serialisiert: der Status der Offerte wird erst unter der Sperre gelesen, nur die erste
+ * Annahme findet sie noch SUBMITTED vor, alle weiteren enden mit 409. Die übrigen Gebote
+ * werden in einem einzigen UPDATE abgelehnt.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AcceptFinalOfferUseCase {
 
+    private static final String AUTO_REJECTION_REASON = "Customer accepted another offer";
+
     private final FinalOfferRepository finalOfferRepository;
     private final OfferRepository offerRepository;
+    private final FinalOfferRankingCache rankingCache;
 
     /**
      * Nimmt eine FinalOffer an.
      *
      * @param finalOfferId ID der anzunehmenden FinalOffer
      * @return Die akzeptierte FinalOffer
+     * @throws IllegalStateException wenn die Offerte nicht (mehr) eingereicht oder abgelaufen ist
      */
     @Transactional
     public FinalOffer execute(UUID finalOfferId) {
+        UUID offerId = finalOfferRepository.findOfferIdById(finalOfferId)
+                .orElseThrow(() -> new IllegalArgumentException("FinalOffer not found: " + finalOfferId));
+
+        // Sperre auf dem Offer vor dem Lesen der Offerte: hält parallele Annahmen an
+        Offer mainOffer = offerRepository.findByIdForUpdate(offerId)
+                .orElseThrow(() -> new IllegalStateException("Offer not found: " + offerId));
+
         FinalOffer offer = finalOfferRepository.findById(finalOfferId)
                 .orElseThrow(() -> new IllegalArgumentException("FinalOffer not found: " + finalOfferId));
 
@@ -43,63 +59,42 @@ public class AcceptFinalOfferUseCase {
             throw new IllegalStateException("Can only accept offers in SUBMITTED status, current: " + offer.status());
         }
 
-        // Prüfen ob nicht abgelaufen
-        if (offer.isExpired(Instant.now())) {
-            // Zuerst als expired markieren
-            FinalOffer expired = offer.expire();
-            finalOfferRepository.save(expired);
+        // Prüfen ob nicht abgelaufen (der Statuswechsel auf EXPIRED folgt im nächsten Ablauf-Lauf)
+        Instant now = Instant.now();
+        if (offer.isExpired(now)) {
             throw new IllegalStateException("Offer has expired");
         }
 
         // Annehmen
-        FinalOffer accepted = offer.accept(Instant.now());
-        accepted = finalOfferRepository.save(accepted);
+        FinalOffer accepted = finalOfferRepository.save(offer.accept(now));
 
         // Alle anderen Offerte ablehnen
-        rejectOtherOffers(offer);
+        int rejected = finalOfferRepository.rejectOtherSubmitted(offerId, finalOfferId, now, AUTO_REJECTION_REASON);
 
         // Offer aktualisieren
-        Offer mainOffer = offerRepository.findById(offer.offerId())
-                .orElseThrow(() -> new IllegalStateException("Offer not found: " + offer.offerId()));
-        
-        Offer updatedOffer = mainOffer.accept();
-        offerRepository.save(updatedOffer);
+        offerRepository.save(mainOffer.accept());
 
-        log.info("FinalOffer {} accepted by customer, offer {} is now ACCEPTED", 
-                finalOfferId, offer.offerId());
+        log.info("FinalOffer {} accepted by customer, offer {} is now ACCEPTED ({} other offers rejected)",
+                finalOfferId, offerId, rejected);
 
         return accepted;
     }
 
     /**
      * Findet die beste/empfohlene Offerte für ein Offer.
-     * Nützlich für die UI ("Top-Angebot").
+     * Nützlich für die UI ("Top-Angebot"). Aus dem Ranking-Cache, bei Fehlschlag eine
+     * indizierte Abfrage über die günstigsten offenen Offerten.
      */
-    @Transactional(readOnly = true)
     public FinalOffer findBestOffer(UUID offerId) {
-        List<FinalOffer> offers = finalOfferRepository.findByOfferId(offerId);
-        
-        return offers.stream()
-                .filter(o -> o.status() == FinalOfferStatus.SUBMITTED)
-                .filter(o -> !o.isExpired(Instant.now()))
-                .min(java.util.Comparator.comparing(FinalOffer::totalPrice))
-                .orElse(null);
+        return rankingCache.best(offerId).orElse(null);
     }
 
-    private void rejectOtherOffers(FinalOffer acceptedOffer) {
-        List<FinalOffer> otherOffers = finalOfferRepository.findByOfferId(acceptedOffer.offerId());
-        
-        for (FinalOffer other : otherOffers) {
-            if (!other.id().equals(acceptedOffer.id()) && 
-                other.status() == FinalOfferStatus.SUBMITTED) {
-                
-                FinalOffer rejected = other.reject(Instant.now(), 
-                        "Customer accepted another offer");
-                finalOfferRepository.save(rejected);
-                
-                log.debug("Auto-rejected offer {} from company {}", 
-                        other.id(), other.companyId());
-            }
-        }
+    /**
+     * Die {@code limit} günstigsten offenen Offerten eines Offers (Preisvergleich).
+     *
+     * @throws IllegalArgumentException wenn {@code limit} außerhalb 1..top-N liegt
+     */
+    public List<FinalOffer> findTopOffers(UUID offerId, int limit) {
+        return rankingCache.top(offerId, limit);
     }
 }
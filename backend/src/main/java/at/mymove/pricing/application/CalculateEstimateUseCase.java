@@ -1,39 +1,60 @@
 package at.mymove.pricing.application;
 
+import at.mymove.company.application.CompanyTariffCache;
 import at.mymove.company.domain.Company;
 import at.mymove.company.domain.CompanyRepository;
+import at.mymove.company.domain.CompanyStatus;
+import at.mymove.company.domain.CompiledTariff;
 import at.mymove.inventory.domain.InventoryList;
 import at.mymove.inventory.domain.InventoryStatus;
 import at.mymove.inventory.application.GetInventoryUseCase;
 import at.mymove.move.domain.MoveDetails;
 import at.mymove.offer.domain.Offer;
 import at.mymove.offer.domain.OfferRepository;
+import at.mymove.pricing.domain.EstimateInputHash;
 import at.mymove.pricing.domain.PriceBreakdown;
 import at.mymove.pricing.domain.PriceEstimate;
 import at.mymove.pricing.domain.PricingEngine;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Use Case: Berechnet eine Preisschätzung für ein Offer.
  *
  * Diese Schätzung basiert auf den Preiskonditionen einer spezifischen Firma
  * und den Details des Umzugs (MoveDetails + Inventory).
+ *
+ * Pro Firma und Offer gibt es genau eine Zeile. Sie wird nur neu berechnet und
+ * geschrieben, wenn sich der {@link EstimateInputHash} geändert hat oder sie abgelaufen ist.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CalculateEstimateUseCase {
 
+    private static final int VALIDITY_DAYS = 7;
+
     private final CompanyRepository companyRepository;
+    private final CompanyTariffCache tariffCache;
     private final OfferRepository offerRepository;
     private final GetInventoryUseCase getInventoryUseCase;
     private final PricingEngine pricingEngine;
     private final PriceEstimateRepository priceEstimateRepository;
+    private final ExecutorService pricingExecutor;
 
     /**
      * Berechnet eine Preisschätzung für eine Firma und ein Offer.
@@ -44,11 +65,10 @@ public class CalculateEstimateUseCase {
      */
     @Transactional
     public PriceEstimate execute(UUID companyId, UUID offerId) {
-        // 1. Firma laden
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
+        // 1. Tarif der Firma (aus dem Cache, lädt die Firma nur bei Bedarf)
+        CompiledTariff tariff = tariffCache.get(companyId);
 
-        if (!company.canReceiveOffers()) {
+        if (!tariff.canReceiveOffers()) {
             throw new IllegalStateException("Company is not approved and cannot calculate estimates");
         }
 
@@ -64,43 +84,114 @@ public class CalculateEstimateUseCase {
             throw new IllegalStateException("Inventory must be confirmed before calculating estimates");
         }
 
-        // 4. Berechnung durchführen
-        MoveDetails moveDetails = offer.moveDetails();
+        // 4. Eingaben hashen - unveränderte, gültige Schätzung direkt zurückgeben
+        double distanceKm = estimateDistance(offer.moveDetails());
+        String inputHash = EstimateInputHash.of(tariff, offer.moveDetails(), inventory, distanceKm);
 
-        PriceBreakdown breakdown = pricingEngine.calculateEstimate(
-                company.pricingConditions(),
-                moveDetails.fromAddress(),
-                moveDetails.toAddress(),
-                moveDetails.fromFloor(),
-                moveDetails.toFloor(),
-                inventory
-        );
+        Optional<PriceEstimate> existing = priceEstimateRepository.findByCompanyIdAndOfferId(companyId, offerId);
+        if (existing.isPresent() && existing.get().isReusableFor(inputHash, Instant.now())) {
+            return existing.get();
+        }
 
-        // 5. Geschätzte Stunden berechnen
-        double estimatedHours = pricingEngine.estimateWorkHours(
-                moveDetails.fromFloor(),
-                moveDetails.toFloor(),
-                inventory.totalVolume(),
-                pricingEngine.estimateDistance(moveDetails.fromAddress(), moveDetails.toAddress()),
-                inventory.totalItemCount()
-        );
+        // 5. Geschätzte Stunden berechnen (firmenunabhängig)
+        double estimatedHours = estimateWorkHours(offer.moveDetails(), inventory, distanceKm);
 
-        // 6. Mindestpreis anwenden
-        BigDecimal finalPrice = company.pricingConditions().applyMinimumPrice(breakdown.total());
+        // 6. Berechnung durchführen
+        PriceEstimate estimate = createEstimate(tariff, offer, inventory, estimatedHours, inputHash);
 
-        // 7. PriceEstimate erstellen
-        PriceEstimate estimate = PriceEstimate.create(
-                offerId,
-                companyId,
-                finalPrice,
-                breakdown,
-                estimatedHours,
-                inventory.totalVolume(),
-                7 // 7 Tage gültig
-        );
+        // 7. Speichern - bestehende Zeile der Firma für dieses Offer wird aktualisiert
+        return priceEstimateRepository.save(existing.map(e -> estimate.withId(e.id())).orElse(estimate));
+    }
 
-        // 8. Speichern
-        return priceEstimateRepository.save(estimate);
+    /**
+     * Berechnet Preisschätzungen für alle genehmigten Firmen in einem Durchlauf.
+     *
+     * Offer und Inventory werden nur einmal geladen, die Berechnung läuft parallel
+     * auf dem Pricing-Executor und alle Schätzungen werden gesammelt gespeichert.
+     *
+     * @param offerId ID des Offers
+     * @return Die gespeicherten Schätzungen (ohne fehlgeschlagene Firmen)
+     */
+    @Transactional
+    public List<PriceEstimate> executeForApprovedCompanies(UUID offerId) {
+        Offer offer = offerRepository.findById(offerId)
+                .orElseThrow(() -> new IllegalArgumentException("Offer not found: " + offerId));
+
+        InventoryList inventory = getInventoryUseCase.byOfferId(offerId)
+                .orElseThrow(() -> new IllegalArgumentException("Inventory not found for offer: " + offerId));
+
+        return executeForApprovedCompanies(offer, inventory);
+    }
+
+    /**
+     * Wie {@link #executeForApprovedCompanies(UUID)}, aber mit bereits geladenem
+     * Offer und Inventory (z.B. direkt nach der Inventarbestätigung).
+     *
+     * Fehler bei einer Firma blockieren die anderen nicht.
+     */
+    @Transactional
+    public List<PriceEstimate> executeForApprovedCompanies(Offer offer, InventoryList inventory) {
+        if (inventory.status() != InventoryStatus.CONFIRMED) {
+            throw new IllegalStateException("Inventory must be confirmed before calculating estimates");
+        }
+
+        List<Company> companies = companyRepository.findAllByStatus(CompanyStatus.APPROVED);
+        if (companies.isEmpty()) {
+            log.warn("No approved companies found - cannot calculate estimates");
+            return List.of();
+        }
+
+        double distanceKm = estimateDistance(offer.moveDetails());
+        double estimatedHours = estimateWorkHours(offer.moveDetails(), inventory, distanceKm);
+        Instant now = Instant.now();
+
+        // Bestehende Schätzungen für das Offer in einem Query laden
+        Map<UUID, PriceEstimate> existingByCompany = new HashMap<>();
+        for (PriceEstimate existing : priceEstimateRepository.findByOfferId(offer.id())) {
+            existingByCompany.merge(existing.companyId(), existing,
+                    (a, b) -> a.calculatedAt().isAfter(b.calculatedAt()) ? a : b);
+        }
+
+        List<PriceEstimate> unchanged = new ArrayList<>();
+        List<Company> calculated = new ArrayList<>(companies.size());
+        List<Future<PriceEstimate>> futures = new ArrayList<>(companies.size());
+        for (Company company : companies) {
+            CompiledTariff tariff = tariffCache.get(company);
+            String inputHash = EstimateInputHash.of(tariff, offer.moveDetails(), inventory, distanceKm);
+            PriceEstimate existing = existingByCompany.get(company.id());
+
+            if (existing != null && existing.isReusableFor(inputHash, now)) {
+                unchanged.add(existing);
+                continue;
+            }
+
+            calculated.add(company);
+            futures.add(pricingExecutor.submit(() -> {
+                PriceEstimate estimate = createEstimate(tariff, offer, inventory, estimatedHours, inputHash);
+                return existing != null ? estimate.withId(existing.id()) : estimate;
+            }));
+        }
+
+        List<PriceEstimate> estimates = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                estimates.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                log.error("Failed to calculate estimate for company {}: {}",
+                        calculated.get(i).id(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Estimate calculation interrupted", e);
+            }
+        }
+
+        log.info("Offer {}: {} estimates calculated, {} unchanged, {} companies total",
+                offer.id(), estimates.size(), unchanged.size(), companies.size());
+
+        List<PriceEstimate> result = new ArrayList<>(priceEstimateRepository.saveAll(estimates));
+        result.addAll(unchanged);
+        return result;
     }
 
     /**
@@ -126,4 +217,56 @@ public class CalculateEstimateUseCase {
     public Optional<PriceEstimate> findEstimateForCompanyAndOffer(UUID companyId, UUID offerId) {
         return priceEstimateRepository.findByCompanyIdAndOfferId(companyId, offerId);
     }
+
+    // ---- Helper ----
+
+    private double estimateDistance(MoveDetails moveDetails) {
+        return pricingEngine.estimateDistance(moveDetails.fromAddress(), moveDetails.toAddress());
+    }
+
+    private double estimateWorkHours(MoveDetails moveDetails, InventoryList inventory, double distanceKm) {
+        return pricingEngine.estimateWorkHours(
+                moveDetails.fromFloor(),
+                moveDetails.toFloor(),
+                inventory.totalVolume(),
+                distanceKm,
+                inventory.totalItemCount()
+        );
+    }
+
+    /**
+     * Reine Berechnung ohne Repository-Zugriff, daher auch aus Worker-Threads aufrufbar.
+     */
+    private PriceEstimate createEstimate(
+            CompiledTariff tariff,
+            Offer offer,
+            InventoryList inventory,
+            double estimatedHours,
+            String inputHash
+    ) {
+        MoveDetails moveDetails = offer.moveDetails();
+
+        PriceBreakdown breakdown = pricingEngine.calculateEstimate(
+                tariff,
+                moveDetails.fromAddress(),
+                moveDetails.toAddress(),
+                moveDetails.fromFloor(),
+                moveDetails.toFloor(),
+                inventory
+        );
+
+        // Mindestpreis anwenden
+        BigDecimal finalPrice = tariff.applyMinimumPrice(breakdown.total());
+
+        return PriceEstimate.create(
+                offer.id(),
+                tariff.companyId(),
+                finalPrice,
+                breakdown,
+                estimatedHours,
+                inventory.totalVolume(),
+                VALIDITY_DAYS,
+                inputHash
+        );
+    }
 }
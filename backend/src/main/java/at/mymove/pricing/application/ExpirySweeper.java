@@ -0,0 +1,136 @@
+package at.mymove.pricing.application;
+
+import at.mymove.offer.domain.OfferRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Lässt abgelaufene finale Offerten, Offers und Schätzungen periodisch per Massen-Update ablaufen,
+ * statt den Ablauf erst beim Lesen bzw. Annehmen zu prüfen.
+ *
+ * - Finale Offerten: SUBMITTED mit {@code expires_at <= now} → EXPIRED
+ * - Offers: aktiv mit {@code expires_at <= now} → EXPIRED
+ * - Schätzungen: Offers in ESTIMATES_READY ohne gültige Schätzung ({@code valid_until}) → ESTIMATES_EXPIRED
+ *
+ * Jede Art läuft in Blöcken von {@code mymove.expiry.batch-size} Zeilen, jeder Block in eigener
+ * Transaktion, höchstens {@code mymove.expiry.max-batches} Blöcke pro Lauf; der Rest folgt im
+ * nächsten Lauf. Read Models werden über die Sammel-Events der Repositories fortgeschrieben.
+ *
+ * Metriken: {@code mymove.expiry.expired} (type=final-offer|offer|estimates),
+ * {@code mymove.expiry.sweep} (Dauer eines Laufs).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mymove.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpirySweeper {
+
+    private final FinalOfferRepository finalOfferRepository;
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter expiredFinalOffers;
+    private final Counter expiredOffers;
+    private final Counter expiredEstimates;
+    private final Timer sweepTimer;
+
+    /**
+     * Ergebnis eines Laufs.
+     *
+     * @param finalOffers Abgelaufene finale Offerten
+     * @param offers      Abgelaufene Offers
+     * @param estimates   Offers, deren Schätzungen abgelaufen sind
+     */
+    public record SweepResult(int finalOffers, int offers, int estimates) {}
+
+    public ExpirySweeper(
+            FinalOfferRepository finalOfferRepository,
+            OfferRepository offerRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.expiry.batch-size:500}") int batchSize,
+            @Value("${mymove.expiry.max-batches:20}") int maxBatches
+    ) {
+        if (batchSize < 1 || maxBatches < 1) {
+            throw new IllegalArgumentException("expiry batch-size and max-batches must be positive");
+        }
+        this.finalOfferRepository = finalOfferRepository;
+        this.offerRepository = offerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expiredFinalOffers = expiredCounter(meterRegistry, "final-offer");
+        this.expiredOffers = expiredCounter(meterRegistry, "offer");
+        this.expiredEstimates = expiredCounter(meterRegistry, "estimates");
+        this.sweepTimer = Timer.builder("mymove.expiry.sweep")
+                .description("Dauer eines Ablauf-Laufs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${mymove.expiry.initial-delay-ms:60000}",
+            fixedDelayString = "${mymove.expiry.interval-ms:60000}"
+    )
+    public void scheduledSweep() {
+        try {
+            sweep(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("Expiry sweep failed", e);
+        }
+    }
+
+    /**
+     * Ein Lauf für den Stichtag {@code now}.
+     */
+    public SweepResult sweep(Instant now) {
+        return sweepTimer.record(() -> {
+            int finalOffers = drain(finalOfferRepository::expireSubmitted, now, expiredFinalOffers);
+            int offers = drain(offerRepository::expireDue, now, expiredOffers);
+            int estimates = drain(offerRepository::expireEstimates, now, expiredEstimates);
+
+            if (finalOffers > 0 || offers > 0 || estimates > 0) {
+                log.info("Expired {} final offers, {} offers and estimates of {} offers",
+                        finalOffers, offers, estimates);
+            }
+            return new SweepResult(finalOffers, offers, estimates);
+        });
+    }
+
+    // ---- Helper ----
+
+    /**
+     * Wiederholt {@code expire} blockweise, bis ein Block nicht mehr voll ist oder die
+     * Blockgrenze erreicht ist.
+     */
+    private int drain(ToIntBiFunction<Instant, Integer> expire, Instant now, Counter counter) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer expired = transactionTemplate.execute(status -> expire.applyAsInt(now, batchSize));
+            int count = expired != null ? expired : 0;
+            counter.increment(count);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static Counter expiredCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("mymove.expiry.expired")
+                .description("Per Ablauf-Lauf umgestellte Zeilen")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
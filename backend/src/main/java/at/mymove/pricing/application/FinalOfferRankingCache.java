@@ -0,0 +1,183 @@
+package at.mymove.pricing.application;
+
+import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.FinalOfferChangedEvent;
+import at.mymove.pricing.domain.FinalOffersStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-Memory-Cache der günstigsten offenen finalen Offerten pro Offer (Top-N, Preis aufsteigend).
+ *
+ * - Geladen über die indizierte Ranking-Abfrage (offerId, status, totalPrice), nur die ersten
+ *   {@code mymove.pricing.ranking-cache.top-n} Zeilen
+ * - Ein Eintrag gilt bis zum frühesten Ablauf einer seiner Offerten und wird danach neu geladen
+ * - Invalidierung über {@link FinalOfferChangedEvent} (Einreichen, Ändern, Annehmen, Ablehnen,
+ *   Löschen) und {@link FinalOffersStatusChangedEvent}; versioniert wie {@code CompanyTariffCache}
+ * - LRU mit fester Maximalgröße ({@code mymove.pricing.ranking-cache.max-size})
+ * - Metriken: {@code mymove.final-offer.ranking.requests} (result=hit|miss),
+ *   {@code mymove.final-offer.ranking.size}
+ */
+@Slf4j
+@Component
+public class FinalOfferRankingCache {
+
+    private final FinalOfferRepository finalOfferRepository;
+    private final Map<UUID, Ranking> entries;
+    private final AtomicLong version = new AtomicLong();
+    private final int topN;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Gecachte Rangliste eines Offers.
+     *
+     * @param offers     Günstigste offene Offerten, höchstens top-N
+     * @param validUntil Frühester Ablauf einer enthaltenen Offerte ({@link Instant#MAX} wenn leer)
+     */
+    private record Ranking(List<FinalOffer> offers, Instant validUntil) {}
+
+    public FinalOfferRankingCache(
+            FinalOfferRepository finalOfferRepository,
+            MeterRegistry meterRegistry,
+            @Value("${mymove.pricing.ranking-cache.max-size:10000}") int maxSize,
+            @Value("${mymove.pricing.ranking-cache.top-n:5}") int topN
+    ) {
+        if (maxSize < 1 || topN < 1) {
+            throw new IllegalArgumentException("ranking cache max-size and top-n must be positive");
+        }
+        this.finalOfferRepository = finalOfferRepository;
+        this.topN = topN;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Ranking> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hits = Counter.builder("mymove.final-offer.ranking.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("mymove.final-offer.ranking.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("mymove.final-offer.ranking.size", this, FinalOfferRankingCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Günstigste offene Offerte eines Offers.
+     */
+    public Optional<FinalOffer> best(UUID offerId) {
+        List<FinalOffer> ranking = top(offerId, 1);
+        return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.get(0));
+    }
+
+    /**
+     * Die {@code limit} günstigsten offenen Offerten eines Offers (höchstens top-N).
+     */
+    public List<FinalOffer> top(UUID offerId, int limit) {
+        if (offerId == null) {
+            throw new IllegalArgumentException("offerId is required");
+        }
+        if (limit < 1 || limit > topN) {
+            throw new IllegalArgumentException("limit must be between 1 and " + topN);
+        }
+        Instant now = Instant.now();
+        Ranking ranking = lookup(offerId, now);
+        if (ranking == null) {
+            ranking = load(offerId, now);
+        }
+        List<FinalOffer> offers = ranking.offers();
+        return offers.size() <= limit ? offers : offers.subList(0, limit);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @EventListener
+    public void on(FinalOfferChangedEvent event) {
+        invalidate(event.offerId());
+    }
+
+    @EventListener
+    public void on(FinalOffersStatusChangedEvent event) {
+        event.companyIdsByOfferId().keySet().forEach(this::invalidate);
+    }
+
+    /**
+     * Entfernt die Rangliste eines Offers. Läuft eine Transaktion, wird nach dem Commit
+     * nochmals invalidiert, damit kein zwischenzeitlich geladener Altstand liegen bleibt.
+     */
+    public void invalidate(UUID offerId) {
+        evict(offerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(offerId);
+                }
+            });
+        }
+    }
+
+    // ---- Helper ----
+
+    private Ranking lookup(UUID offerId, Instant now) {
+        Ranking cached;
+        synchronized (entries) {
+            cached = entries.get(offerId);
+        }
+        // Abgelaufene Offerte in der Liste: neu laden statt Lücke auffüllen
+        if (cached != null && now.isBefore(cached.validUntil())) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return null;
+    }
+
+    private Ranking load(UUID offerId, Instant now) {
+        long loadVersion = version.get();
+        List<FinalOffer> offers = finalOfferRepository.findCheapestSubmittedByOfferId(offerId, now, topN);
+        Instant validUntil = offers.stream()
+                .map(FinalOffer::calculateExpiryDate)
+                .min(Instant::compareTo)
+                .orElse(Instant.MAX);
+        Ranking ranking = new Ranking(List.copyOf(offers), validUntil);
+
+        synchronized (entries) {
+            // Nur cachen, wenn seit dem Laden keine Invalidierung stattgefunden hat
+            if (version.get() == loadVersion) {
+                entries.put(offerId, ranking);
+            }
+        }
+        return ranking;
+    }
+
+    private void evict(UUID offerId) {
+        synchronized (entries) {
+            version.incrementAndGet();
+            entries.remove(offerId);
+        }
+        log.debug("Invalidated final offer ranking for offer {}", offerId);
+    }
+}
@@ -1,8 +1,11 @@
 package at.mymove.pricing.application;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.pricing.domain.FinalOffer;
 import at.mymove.pricing.domain.FinalOfferStatus;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,14 +19,65 @@ public interface FinalOfferRepository {
 
     Optional<FinalOffer> findById(UUID id);
 
+    /**
+     * Nur die Offer-ID einer finalen Offerte, ohne sie zu laden (z.B. um vor dem Lesen
+     * das Offer zu sperren).
+     */
+    Optional<UUID> findOfferIdById(UUID id);
+
     List<FinalOffer> findByOfferId(UUID offerId);
 
+    /**
+     * Eingereichte, zum Zeitpunkt {@code now} nicht abgelaufene finale Offerten eines Offers.
+     * Gefiltert in der Datenbank, abgelaufene Zeilen werden nicht geladen.
+     */
+    List<FinalOffer> findSubmittedByOfferId(UUID offerId, Instant now);
+
+    /**
+     * Die {@code limit} günstigsten eingereichten, zum Zeitpunkt {@code now} nicht abgelaufenen
+     * finalen Offerten eines Offers (Preis aufsteigend, bei Gleichstand nach ID).
+     */
+    List<FinalOffer> findCheapestSubmittedByOfferId(UUID offerId, Instant now, int limit);
+
+    /**
+     * IDs und Versionen der eingereichten, zum Zeitpunkt {@code now} nicht abgelaufenen
+     * finalen Offerten eines Offers - ohne sie zu laden (ETag-Prüfung).
+     */
+    List<EntityVersion> findSubmittedVersionsByOfferId(UUID offerId, Instant now);
+
+    /**
+     * Setzt bis zu {@code limit} eingereichte Offerten, die bis {@code now} abgelaufen sind,
+     * per Massen-Update auf EXPIRED (älteste zuerst) und veröffentlicht dafür ein
+     * {@link at.mymove.pricing.domain.FinalOffersStatusChangedEvent}.
+     *
+     * @return Anzahl abgelaufener Offerten
+     */
+    int expireSubmitted(Instant now, int limit);
+
+    /**
+     * Finale Offerten mehrerer Offers in einem Query, ohne sie im Persistence Context zu halten.
+     */
+    List<FinalOffer> findByOfferIds(Collection<UUID> offerIds);
+
     List<FinalOffer> findByCompanyId(UUID companyId);
 
     Optional<FinalOffer> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
 
     List<FinalOffer> findByStatus(FinalOfferStatus status);
 
+    /**
+     * Lehnt alle übrigen eingereichten Offerten eines Offers per Massen-Update ab und
+     * veröffentlicht dafür ein {@link at.mymove.pricing.domain.FinalOffersStatusChangedEvent}.
+     * Der Aufrufer muss konkurrierende Änderungen des Offers ausschließen (Sperre).
+     *
+     * @param offerId      Offer
+     * @param acceptedId   Angenommene Offerte (bleibt unberührt)
+     * @param now          Ablehnungszeitpunkt
+     * @param reason       Ablehnungsgrund
+     * @return Anzahl abgelehnter Offerten
+     */
+    int rejectOtherSubmitted(UUID offerId, UUID acceptedId, Instant now, String reason);
+
     void delete(FinalOffer offer);
 
     void deleteById(UUID id);
@@ -2,6 +2,7 @@ package at.mymove.pricing.application;
 
 import at.mymove.pricing.domain.PriceEstimate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +17,12 @@ public interface PriceEstimateRepository {
      */
     PriceEstimate save(PriceEstimate estimate);
 
+    /**
+     * Speichert mehrere Schätzungen gesammelt (Insert oder Update per ID, ein JDBC-Batch
+     * statt einzelner Round Trips).
+     */
+    List<PriceEstimate> saveAll(List<PriceEstimate> estimates);
+
     /**
      * Findet eine PriceEstimate anhand ihrer ID.
      */
@@ -26,13 +33,18 @@ public interface PriceEstimateRepository {
      */
     List<PriceEstimate> findByOfferId(UUID offerId);
 
+    /**
+     * Findet alle Schätzungen mehrerer Offers in einem Query (detached, für Massenverarbeitung).
+     */
+    List<PriceEstimate> findByOfferIds(Collection<UUID> offerIds);
+
     /**
      * Findet alle Schätzungen einer Firma.
      */
     List<PriceEstimate> findByCompanyId(UUID companyId);
 
     /**
-     * Findet die Schätzung einer Firma für ein spezifisches Offer.
+     * Findet die Schätzung einer Firma für ein spezifisches Offer (eine Zeile pro Firma und Offer).
      */
     Optional<PriceEstimate> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
 
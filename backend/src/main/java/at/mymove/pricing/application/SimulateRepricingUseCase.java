@@ -0,0 +1,200 @@
+package at.mymove.pricing.application;
+
+import at.mymove.company.application.CompanyTariffCache;
+import at.mymove.company.domain.Company;
+import at.mymove.company.domain.CompanyRepository;
+import at.mymove.company.domain.CompiledTariff;
+import at.mymove.company.domain.PricingConditions;
+import at.mymove.core.api.GlobalExceptionHandler;
+import at.mymove.inventory.application.InventoryRepository;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PricingEngine;
+import at.mymove.pricing.domain.RepricingSimulation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Simuliert neue Preiskonditionen einer Firma gegen alle historischen Offers.
+ *
+ * - Offers werden über einen DB-Cursor gestreamt (kein findAll), Inventare und
+ *   Konkurrenz-Offerten blockweise nachgeladen
+ * - Jeder Block wird auf dem Pricing-Executor mit aktuellem und neuem Tarif bepreist;
+ *   höchstens {@value #MAX_CHUNKS_IN_FLIGHT} Blöcke sind gleichzeitig im Speicher
+ * - Ergebnis sind nur Aggregate (Umsatz, Perzentile, Gewinn/Verlust gegenüber der
+ *   günstigsten abgegebenen Konkurrenz-Offerte) - es wird nichts gespeichert
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimulateRepricingUseCase {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_IN_FLIGHT = 8;
+
+    private final CompanyRepository companyRepository;
+    private final CompanyTariffCache tariffCache;
+    private final OfferRepository offerRepository;
+    private final InventoryRepository inventoryRepository;
+    private final FinalOfferRepository finalOfferRepository;
+    private final PricingEngine pricingEngine;
+    private final ExecutorService pricingExecutor;
+
+    /**
+     * @param companyId  Firma, deren Tarif simuliert wird
+     * @param candidate  Zu testende Preiskonditionen
+     * @return Aggregierte Abweichungen gegenüber dem aktuellen Tarif
+     */
+    @Transactional(readOnly = true)
+    public RepricingSimulation execute(UUID companyId, PricingConditions candidate) {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        if (candidate == null) {
+            throw new IllegalArgumentException("pricingConditions is required");
+        }
+
+        long start = System.nanoTime();
+
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new GlobalExceptionHandler.CompanyNotFoundException(companyId));
+        CompiledTariff current = tariffCache.get(company);
+        CompiledTariff proposed = CompiledTariff.compile(company.updatePricingConditions(candidate), current.version());
+
+        RepricingSimulation.Accumulator total = new RepricingSimulation.Accumulator();
+        Deque<Future<RepricingSimulation.Accumulator>> inFlight = new ArrayDeque<>();
+
+        try (Stream<Offer> offers = offerRepository.streamWithInventory()) {
+            Iterator<Offer> iterator = offers.iterator();
+            List<Offer> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    submitChunk(chunk, companyId, current, proposed, inFlight, total);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submitChunk(chunk, companyId, current, proposed, inFlight, total);
+            }
+            while (!inFlight.isEmpty()) {
+                total.merge(await(inFlight));
+            }
+        } finally {
+            inFlight.forEach(f -> f.cancel(true));
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        RepricingSimulation result = total.toResult(companyId, durationMillis);
+        log.info("Repricing simulation for company {}: {} offers, revenue delta {} ({}%) in {} ms",
+                companyId, result.offersSimulated(), result.revenueDelta(), result.revenueDeltaPercent(), durationMillis);
+        return result;
+    }
+
+    // ---- Helper ----
+
+    /**
+     * Lädt Inventare und Konkurrenzpreise des Blocks (auf dem Aufrufer-Thread, innerhalb
+     * der Transaktion) und übergibt die reine Berechnung an den Executor.
+     */
+    private void submitChunk(
+            List<Offer> chunk,
+            UUID companyId,
+            CompiledTariff current,
+            CompiledTariff proposed,
+            Deque<Future<RepricingSimulation.Accumulator>> inFlight,
+            RepricingSimulation.Accumulator total
+    ) {
+        List<UUID> offerIds = chunk.stream().map(Offer::id).toList();
+
+        Map<UUID, InventoryList> inventories = new HashMap<>();
+        for (InventoryList inventory : inventoryRepository.findConfirmedByOfferIds(offerIds)) {
+            inventories.put(inventory.offerId(), inventory);
+        }
+
+        Map<UUID, Long> bestCompetitor = new HashMap<>();
+        for (FinalOffer finalOffer : finalOfferRepository.findByOfferIds(offerIds)) {
+            if (finalOffer.companyId().equals(companyId) || finalOffer.submittedAt() == null) {
+                continue;
+            }
+            bestCompetitor.merge(finalOffer.offerId(), toCents(finalOffer.totalPrice()), Math::min);
+        }
+
+        while (inFlight.size() >= MAX_CHUNKS_IN_FLIGHT) {
+            total.merge(await(inFlight));
+        }
+
+        inFlight.add(pricingExecutor.submit(() -> {
+            RepricingSimulation.Accumulator partial = new RepricingSimulation.Accumulator();
+            for (Offer offer : chunk) {
+                InventoryList inventory = inventories.get(offer.id());
+                if (inventory == null) {
+                    partial.skip();
+                    continue;
+                }
+                try {
+                    partial.add(
+                            price(current, offer.moveDetails(), inventory),
+                            price(proposed, offer.moveDetails(), inventory),
+                            bestCompetitor.getOrDefault(offer.id(), RepricingSimulation.Accumulator.NO_COMPETITION)
+                    );
+                } catch (RuntimeException e) {
+                    log.debug("Skipping offer {} in repricing simulation: {}", offer.id(), e.getMessage());
+                    partial.skip();
+                }
+            }
+            return partial;
+        }));
+    }
+
+    private RepricingSimulation.Accumulator await(Deque<Future<RepricingSimulation.Accumulator>> inFlight) {
+        try {
+            return inFlight.removeFirst().get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Repricing simulation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Repricing simulation interrupted", e);
+        }
+    }
+
+    /**
+     * Gleiche Berechnung wie bei einer echten Schätzung, inkl. Mindestpreis.
+     */
+    private long price(CompiledTariff tariff, MoveDetails moveDetails, InventoryList inventory) {
+        PriceBreakdown breakdown = pricingEngine.calculateEstimate(
+                tariff,
+                moveDetails.fromAddress(),
+                moveDetails.toAddress(),
+                moveDetails.fromFloor(),
+                moveDetails.toFloor(),
+                inventory
+        );
+        return toCents(tariff.applyMinimumPrice(breakdown.total()));
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,121 @@
+package at.mymove.pricing.domain;
+
+import at.mymove.company.domain.CompiledTariff;
+import at.mymove.inventory.domain.InventoryItem;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import at.mymove.move.domain.MoveDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stabiler Inhalts-Hash (SHA-256, hex) aller Eingaben einer Preisschätzung.
+ *
+ * Gleicher Hash = gleiches Ergebnis, die Schätzung muss nicht neu berechnet werden.
+ * Der Tarif fließt über seine Werte ein (nicht über die prozessinterne Cache-Version),
+ * damit der Hash über Neustarts hinweg stabil bleibt. Die Distanz wird mitgehasht,
+ * weil sie von den geladenen Geo-Daten abhängt.
+ */
+public final class EstimateInputHash {
+
+    /**
+     * Bei Änderungen an der Preisformel erhöhen - macht alle gespeicherten Hashes ungültig.
+     */
+    public static final int PRICING_MODEL_VERSION = 2;
+
+    private static final char SEP = '|';
+
+    /**
+     * Das Volumen geht auf cm³ gerundet ein, damit Rundungsreste aus der laufenden Summe
+     * (z. B. bei Altbeständen) den Hash nicht verändern.
+     */
+    private static final double CUBIC_CENTIMETERS_PER_M3 = 1_000_000.0;
+
+    private EstimateInputHash() {}
+
+    public static String of(CompiledTariff tariff, MoveDetails moveDetails, InventoryList inventory, double distanceKm) {
+        if (tariff == null) {
+            throw new IllegalArgumentException("tariff is required");
+        }
+        if (moveDetails == null) {
+            throw new IllegalArgumentException("moveDetails is required");
+        }
+        if (inventory == null) {
+            throw new IllegalArgumentException("inventory is required");
+        }
+
+        StringBuilder sb = new StringBuilder(256 + inventory.items().size() * 32);
+        sb.append('v').append(PRICING_MODEL_VERSION).append(SEP);
+
+        // Tarif
+        sb.append(tariff.hourlyRateCents()).append(SEP)
+                .append(tariff.travelFeeCents()).append(SEP)
+                .append(tariff.baseFeeCents()).append(SEP)
+                .append(tariff.extraChargeBasisPoints()).append(SEP)
+                .append(tariff.minimumPriceCents()).append(SEP)
+                .append(tariff.conditions().currency()).append(SEP);
+
+        // Umzug
+        appendAddress(sb, moveDetails.fromAddress());
+        appendAddress(sb, moveDetails.toAddress());
+        appendFloor(sb, moveDetails.fromFloor());
+        appendFloor(sb, moveDetails.toFloor());
+        sb.append(moveDetails.needsBoxes()).append(SEP)
+                .append(moveDetails.boxesCount()).append(SEP)
+                .append(moveDetails.moveDate()).append(SEP)
+                .append(Double.doubleToLongBits(distanceKm)).append(SEP);
+
+        // Bestätigtes Inventar
+        sb.append(inventory.id()).append(SEP)
+                .append(inventory.status()).append(SEP)
+                .append(Math.round(inventory.totalVolume() * CUBIC_CENTIMETERS_PER_M3)).append(SEP)
+                .append(inventory.items().size()).append(SEP);
+        for (InventoryItem item : inventory.items()) {
+            sb.append(item.name()).append(SEP)
+                    .append(item.quantity()).append(SEP)
+                    .append(item.volume()).append(SEP);
+        }
+
+        return sha256(sb.toString());
+    }
+
+    // ---- Helper ----
+
+    private static void appendAddress(StringBuilder sb, Address address) {
+        if (address == null) {
+            sb.append("-").append(SEP);
+            return;
+        }
+        sb.append(address.postalCode()).append(SEP)
+                .append(address.city()).append(SEP)
+                .append(address.country()).append(SEP)
+                .append(address.street()).append(SEP)
+                .append(address.houseNumber()).append(SEP);
+    }
+
+    private static void appendFloor(StringBuilder sb, FloorDetails floor) {
+        if (floor == null) {
+            sb.append("-").append(SEP);
+            return;
+        }
+        sb.append(floor.floor()).append(SEP)
+                .append(floor.hasElevator()).append(SEP)
+                .append(floor.needsNoParkingZone()).append(SEP)
+                .append(floor.walkingDistanceMeters()).append(SEP)
+                .append(floor.narrowStairs()).append(SEP)
+                .append(floor.carryOverThresholds()).append(SEP);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.UUID;
  * @param acceptedAt        Annahmezeitpunkt (null bis zur Annahme durch Kunden)
  * @param rejectedAt        Ablehnungszeitpunkt
  * @param rejectionReason   Ablehnungsgrund
+ * @param version           Version für Optimistic Locking (null = noch nicht gespeichert)
  */
 public record FinalOffer(
         UUID id,
@@ -40,7 +41,8 @@ public record FinalOffer(
         Instant submittedAt,
         Instant acceptedAt,
         Instant rejectedAt,
-        String rejectionReason
+        String rejectionReason,
+        Long version
 ) {
 
     public FinalOffer {
@@ -129,6 +131,7 @@ public record FinalOffer(
                 null,
                 null,
                 null,
+                null,
                 null
         );
     }
@@ -160,6 +163,7 @@ public record FinalOffer(
                 null,
                 null,
                 null,
+                null,
                 null
         );
     }
@@ -187,7 +191,8 @@ public record FinalOffer(
                 now,
                 null,
                 null,
-                null
+                null,
+                version
         );
     }
 
@@ -213,7 +218,8 @@ public record FinalOffer(
                 submittedAt,
                 acceptedAt,
                 rejectedAt,
-                rejectionReason
+                rejectionReason,
+                version
         );
     }
 
@@ -240,7 +246,8 @@ public record FinalOffer(
                 submittedAt,
                 now,
                 null,
-                null
+                null,
+                version
         );
     }
 
@@ -268,7 +275,8 @@ public record FinalOffer(
                 submittedAt,
                 null,
                 now,
-                reason.trim()
+                reason.trim(),
+                version
         );
     }
 
@@ -294,7 +302,8 @@ public record FinalOffer(
                 submittedAt,
                 null,
                 null,
-                null
+                null,
+                version
         );
     }
 
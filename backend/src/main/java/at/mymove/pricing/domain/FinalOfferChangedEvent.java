@@ -0,0 +1,35 @@
+package at.mymove.pricing.domain;
+
+import java.util.UUID;
+
+/**
+ * Wird nach dem Speichern oder Löschen einer finalen Offerte veröffentlicht
+ * (synchron, innerhalb der laufenden Transaktion).
+ *
+ * @param offerId   Referenz zum Offer
+ * @param companyId Referenz zur Firma
+ * @param status    Neuer Status der Offerte (null wenn gelöscht)
+ */
+public record FinalOfferChangedEvent(
+        UUID offerId,
+        UUID companyId,
+        FinalOfferStatus status
+) {
+
+    public FinalOfferChangedEvent {
+        if (offerId == null) {
+            throw new IllegalArgumentException("offerId is required");
+        }
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+    }
+
+    public static FinalOfferChangedEvent saved(FinalOffer finalOffer) {
+        return new FinalOfferChangedEvent(finalOffer.offerId(), finalOffer.companyId(), finalOffer.status());
+    }
+
+    public static FinalOfferChangedEvent deleted(FinalOffer finalOffer) {
+        return new FinalOfferChangedEvent(finalOffer.offerId(), finalOffer.companyId(), null);
+    }
+}
@@ -0,0 +1,29 @@
+package at.mymove.pricing.domain;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Wird nach einem Massen-Update des Status finaler Offerten veröffentlicht (gesammelter
+ * Ablauf, automatische Ablehnung nach Annahme), synchron innerhalb der laufenden
+ * Transaktion. Ersetzt die einzelnen {@link FinalOfferChangedEvent}s.
+ *
+ * @param companyIdsByOfferId Betroffene Firmen je Offer
+ * @param status              Neuer Status aller betroffenen Offerten
+ */
+public record FinalOffersStatusChangedEvent(
+        Map<UUID, Set<UUID>> companyIdsByOfferId,
+        FinalOfferStatus status
+) {
+
+    public FinalOffersStatusChangedEvent {
+        if (companyIdsByOfferId == null || companyIdsByOfferId.isEmpty()) {
+            throw new IllegalArgumentException("companyIdsByOfferId must not be empty");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        companyIdsByOfferId = Map.copyOf(companyIdsByOfferId);
+    }
+}
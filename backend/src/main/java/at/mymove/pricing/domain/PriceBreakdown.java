@@ -2,13 +2,15 @@ package at.mymove.pricing.domain;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Detaillierte Aufschlüsselung eines Preises.
  * Zeigt alle Komponenten transparent auf.
+ *
+ * Die Positionen ({@link PriceLineItem}) sind typisiert (Code, Menge, Betrag);
+ * lesbare Bezeichnungen werden erst in der API gerendert.
  */
 public record PriceBreakdown(
         BigDecimal baseFee,
@@ -20,7 +22,7 @@ public record PriceBreakdown(
         BigDecimal otherSurcharges,
         BigDecimal subtotal,
         BigDecimal total,
-        Map<String, BigDecimal> details
+        List<PriceLineItem> lineItems
 ) {
 
     public PriceBreakdown {
@@ -34,7 +36,7 @@ public record PriceBreakdown(
         otherSurcharges = defaultZero(otherSurcharges);
         subtotal = defaultZero(subtotal);
         total = defaultZero(total);
-        details = details != null ? Map.copyOf(details) : Map.of();
+        lineItems = lineItems != null ? List.copyOf(lineItems) : List.of();
     }
 
     /**
@@ -59,7 +61,7 @@ public record PriceBreakdown(
         private BigDecimal floorSurcharge = BigDecimal.ZERO;
         private BigDecimal distanceSurcharge = BigDecimal.ZERO;
         private BigDecimal otherSurcharges = BigDecimal.ZERO;
-        private final Map<String, BigDecimal> details = new LinkedHashMap<>();
+        private final List<PriceLineItem> lineItems = new ArrayList<>(6);
 
         public Builder baseFee(BigDecimal value) {
             this.baseFee = value;
@@ -96,9 +98,12 @@ public record PriceBreakdown(
             return this;
         }
 
-        public Builder addDetail(String key, BigDecimal value) {
-            if (value != null && value.compareTo(BigDecimal.ZERO) > 0) {
-                this.details.put(key, value);
+        /**
+         * Fügt eine Position hinzu; Positionen ohne positiven Betrag werden ausgelassen.
+         */
+        public Builder addLineItem(PriceLineItem.Code code, BigDecimal quantity, BigDecimal amount) {
+            if (amount != null && amount.compareTo(BigDecimal.ZERO) > 0) {
+                this.lineItems.add(new PriceLineItem(code, quantity, amount));
             }
             return this;
         }
@@ -125,7 +130,7 @@ public record PriceBreakdown(
                     otherSurcharges,
                     subtotal,
                     total,
-                    details
+                    lineItems
             );
         }
     }
@@ -23,6 +23,7 @@ import java.util.UUID;
  * @param currency        Währung
  * @param calculatedAt    Zeitpunkt der Berechnung
  * @param validUntil      Gültig bis (z.B. 7 Tage)
+ * @param inputHash       Inhalts-Hash der Berechnungseingaben (null bei Altbeständen)
  */
 public record PriceEstimate(
         UUID id,
@@ -36,7 +37,8 @@ public record PriceEstimate(
         double estimatedVolume,
         String currency,
         Instant calculatedAt,
-        Instant validUntil
+        Instant validUntil,
+        String inputHash
 ) {
 
     public PriceEstimate {
@@ -86,7 +88,8 @@ public record PriceEstimate(
             PriceBreakdown breakdown,
             double estimatedHours,
             double estimatedVolume,
-            int validityDays
+            int validityDays,
+            String inputHash
     ) {
         Instant now = Instant.now();
         Instant validUntil = now.plusSeconds(validityDays * 24 * 60 * 60L);
@@ -107,10 +110,39 @@ public record PriceEstimate(
                 estimatedVolume,
                 "EUR",
                 now,
-                validUntil
+                validUntil,
+                inputHash
         );
     }
 
+    /**
+     * Übernimmt die ID einer bestehenden Schätzung (Upsert der Zeile pro Firma und Offer).
+     */
+    public PriceEstimate withId(UUID existingId) {
+        return new PriceEstimate(
+                existingId,
+                offerId,
+                companyId,
+                totalPrice,
+                priceRangeLow,
+                priceRangeHigh,
+                breakdown,
+                estimatedHours,
+                estimatedVolume,
+                currency,
+                calculatedAt,
+                validUntil,
+                inputHash
+        );
+    }
+
+    /**
+     * Prüft ob die Schätzung für dieselben Eingaben berechnet wurde und noch gültig ist.
+     */
+    public boolean isReusableFor(String hash, Instant now) {
+        return inputHash != null && inputHash.equals(hash) && isValid(now);
+    }
+
     /**
      * Prüft ob die Schätzung noch gültig ist.
      */
@@ -0,0 +1,18 @@
+package at.mymove.pricing.domain;
+
+import java.util.UUID;
+
+/**
+ * Wird nach dem Löschen einer Schätzung veröffentlicht (synchron, innerhalb der
+ * laufenden Transaktion).
+ *
+ * @param estimateId ID der gelöschten Schätzung
+ */
+public record PriceEstimateDeletedEvent(UUID estimateId) {
+
+    public PriceEstimateDeletedEvent {
+        if (estimateId == null) {
+            throw new IllegalArgumentException("estimateId is required");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package at.mymove.pricing.domain;
+
+import java.util.List;
+
+/**
+ * Wird nach dem Speichern einer oder mehrerer Schätzungen veröffentlicht
+ * (synchron, innerhalb der laufenden Transaktion).
+ *
+ * @param estimates Gespeicherte Schätzungen
+ */
+public record PriceEstimatesChangedEvent(List<PriceEstimate> estimates) {
+
+    public PriceEstimatesChangedEvent {
+        if (estimates == null) {
+            throw new IllegalArgumentException("estimates is required");
+        }
+        estimates = List.copyOf(estimates);
+    }
+}
@@ -0,0 +1,74 @@
+package at.mymove.pricing.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Eine typisierte Position der Preisaufschlüsselung.
+ *
+ * Enthält nur Werte - Bezeichnungen und Formatierung (DE/EN) entstehen erst
+ * in der API-Schicht, nicht im Rechenpfad.
+ *
+ * @param code     Art der Position
+ * @param quantity Menge in {@link Code#unit()} (null bei Pauschalen und Altdaten)
+ * @param amount   Betrag in EUR
+ */
+public record PriceLineItem(
+        Code code,
+        BigDecimal quantity,
+        BigDecimal amount
+) {
+
+    /**
+     * Einheit der Menge einer Position.
+     */
+    public enum Unit {
+        FLAT,           // Pauschale, keine Menge
+        CUBIC_METER,    // m³, 2 Nachkommastellen
+        KILOMETER,      // km, 1 Nachkommastelle
+        MINUTE          // ganze Minuten
+    }
+
+    /**
+     * Art einer Position, jeweils mit fester Einheit.
+     */
+    public enum Code {
+        BASE_FEE(Unit.FLAT),
+        TRAVEL_FEE(Unit.FLAT),
+        VOLUME(Unit.CUBIC_METER),
+        DISTANCE(Unit.KILOMETER),
+        FLOOR(Unit.FLAT),
+        LABOR(Unit.MINUTE);
+
+        private final Unit unit;
+
+        Code(Unit unit) {
+            this.unit = unit;
+        }
+
+        public Unit unit() {
+            return unit;
+        }
+    }
+
+    public PriceLineItem {
+        if (code == null) {
+            throw new IllegalArgumentException("code is required");
+        }
+        if (amount == null) {
+            throw new IllegalArgumentException("amount is required");
+        }
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Factory-Methode für Pauschalen (ohne Menge).
+     */
+    public static PriceLineItem flat(Code code, BigDecimal amount) {
+        return new PriceLineItem(code, null, amount);
+    }
+
+    public Unit unit() {
+        return code.unit();
+    }
+}
@@ -1,13 +1,19 @@
 package at.mymove.pricing.domain;
 
+import at.mymove.company.domain.CompiledTariff;
 import at.mymove.company.domain.PricingConditions;
 import at.mymove.move.domain.Address;
+import at.mymove.move.domain.DistanceCalculator;
 import at.mymove.move.domain.FloorDetails;
 import at.mymove.inventory.domain.InventoryList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Domain Service für Preisberechnungen.
@@ -18,10 +24,26 @@ import java.math.RoundingMode;
  * - Inventarliste (Volumen, Menge)
  *
  * Die Engine ist stateless und isoliert testbar.
+ *
+ * Zwei Rechenmodi mit identischem Ergebnis:
+ * - BIG_DECIMAL: Referenzpfad, rechnet durchgehend mit BigDecimal
+ * - FIXED_POINT: rechnet in long Euro-Cent (HALF_UP) ohne Zwischen-BigDecimals;
+ *   nur bei Werten knapp an einer Rundungsgrenze wird exakt nachgerechnet
+ *
+ * Die Aufschlüsselung enthält nur typisierte Positionen ({@link PriceLineItem});
+ * Texte werden hier bewusst nicht formatiert.
  */
 @Component
 public class PricingEngine {
 
+    /**
+     * Rechenmodus der Engine ({@code mymove.pricing.engine-mode}).
+     */
+    public enum Mode {
+        BIG_DECIMAL,
+        FIXED_POINT
+    }
+
     // Konstanten für Berechnung
     private static final BigDecimal VOLUME_RATE_PER_M3 = new BigDecimal("15.00"); // 15 EUR pro m³
     private static final BigDecimal FLOOR_SURCHARGE_PER_LEVEL = new BigDecimal("25.00"); // 25 EUR pro Stockwerk ohne Aufzug
@@ -31,8 +53,44 @@ public class PricingEngine {
     private static final int SETUP_TIME_MINUTES = 30; // Auf- und Abbauzeit pro Seite
     private static final BigDecimal WORKERS_PER_TRUCK = new BigDecimal("2"); // 2 Arbeiter pro LKW
 
+    // Dieselben Konstanten in Cent für den Fixed-Point-Pfad
+    private static final long VOLUME_RATE_CENTS = 1500;
+    private static final long FLOOR_SURCHARGE_CENTS = 2500;
+    private static final long FLOOR_SURCHARGE_ELEVATOR_CENTS = 2000; // 25.00 * 0.80
+    private static final long KM_RATE_CENTS = 250;
+    private static final long WORKERS = 2;
+
+    // Ab hier ist das double-Produkt nicht mehr sicher genug für eine Rundungsentscheidung
+    private static final double MAX_FAST_PRODUCT = 1e9;
+    private static final double TIE_EPSILON = 1e-4;
+    private static final long NO_FAST_RESULT = Long.MIN_VALUE;
+
+    private final Mode mode;
+    private final DistanceCalculator distanceCalculator;
+
+    public PricingEngine() {
+        this(Mode.BIG_DECIMAL);
+    }
+
+    public PricingEngine(Mode mode) {
+        this(mode, DistanceCalculator.UNKNOWN);
+    }
+
+    @Autowired
+    public PricingEngine(
+            @Value("${mymove.pricing.engine-mode:BIG_DECIMAL}") Mode mode,
+            DistanceCalculator distanceCalculator
+    ) {
+        this.mode = mode != null ? mode : Mode.BIG_DECIMAL;
+        this.distanceCalculator = distanceCalculator != null ? distanceCalculator : DistanceCalculator.UNKNOWN;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
     /**
-     * Berechnet eine Preisschätzung für ein Umzugsangebot.
+     * Berechnet eine Preisschätzung für ein Umzugsangebot im konfigurierten Modus.
      */
     public PriceBreakdown calculateEstimate(
             PricingConditions conditions,
@@ -41,6 +99,46 @@ public class PricingEngine {
             FloorDetails fromFloor,
             FloorDetails toFloor,
             InventoryList inventory
+    ) {
+        return mode == Mode.FIXED_POINT
+                ? calculateEstimateFixedPoint(conditions, fromAddress, toAddress, fromFloor, toFloor, inventory)
+                : calculateEstimateBigDecimal(conditions, fromAddress, toAddress, fromFloor, toFloor, inventory);
+    }
+
+    /**
+     * Berechnet eine Preisschätzung mit einem vorkompilierten Tarif.
+     * Im FIXED_POINT-Modus werden die Cent-Werte des Tarifs direkt verwendet.
+     */
+    public PriceBreakdown calculateEstimate(
+            CompiledTariff tariff,
+            Address fromAddress,
+            Address toAddress,
+            FloorDetails fromFloor,
+            FloorDetails toFloor,
+            InventoryList inventory
+    ) {
+        if (tariff == null) {
+            throw new IllegalArgumentException("tariff is required");
+        }
+        if (mode != Mode.FIXED_POINT) {
+            return calculateEstimateBigDecimal(tariff.conditions(), fromAddress, toAddress, fromFloor, toFloor, inventory);
+        }
+        return calculateFixedPoint(
+                tariff.baseFeeCents(), tariff.travelFeeCents(), tariff.hourlyRateCents(),
+                fromAddress, toAddress, fromFloor, toFloor, inventory
+        );
+    }
+
+    /**
+     * Referenzpfad: Berechnung vollständig mit BigDecimal.
+     */
+    public PriceBreakdown calculateEstimateBigDecimal(
+            PricingConditions conditions,
+            Address fromAddress,
+            Address toAddress,
+            FloorDetails fromFloor,
+            FloorDetails toFloor,
+            InventoryList inventory
     ) {
         if (conditions == null) {
             throw new IllegalArgumentException("conditions is required");
@@ -51,29 +149,27 @@ public class PricingEngine {
         // 1. Basisgebühren
         builder.baseFee(conditions.baseFee() != null ? conditions.baseFee() : BigDecimal.ZERO);
         builder.travelFee(conditions.travelFee());
-        builder.addDetail("Grundgebühr", conditions.baseFee());
-        builder.addDetail("Anfahrtsgebühr", conditions.travelFee());
+        builder.addLineItem(PriceLineItem.Code.BASE_FEE, null, conditions.baseFee());
+        builder.addLineItem(PriceLineItem.Code.TRAVEL_FEE, null, conditions.travelFee());
 
         // 2. Inventar/Volumen-Kosten
         double totalVolume = inventory != null ? inventory.totalVolume() : 0.0;
         BigDecimal volumeCost = calculateVolumeCost(totalVolume);
         builder.volumeCost(volumeCost);
-        builder.addDetail("Volumenkosten (" + formatVolume(totalVolume) + ")", volumeCost);
+        builder.addLineItem(PriceLineItem.Code.VOLUME, BigDecimal.valueOf(totalVolume).setScale(2, RoundingMode.HALF_UP), volumeCost);
 
         // 3. Distanz-basierte Kosten
         double distanceKm = estimateDistance(fromAddress, toAddress);
         BigDecimal distanceCost = calculateDistanceCost(distanceKm, conditions);
         builder.distanceSurcharge(distanceCost);
         if (distanceCost.compareTo(BigDecimal.ZERO) > 0) {
-            builder.addDetail("Distanzzuschlag (" + String.format("%.1f", distanceKm) + " km)", distanceCost);
+            builder.addLineItem(PriceLineItem.Code.DISTANCE, BigDecimal.valueOf(distanceKm).setScale(1, RoundingMode.HALF_UP), distanceCost);
         }
 
         // 4. Stockwerk-Zuschläge
         BigDecimal floorSurcharge = calculateFloorSurcharge(fromFloor, toFloor, conditions);
         builder.floorSurcharge(floorSurcharge);
-        if (floorSurcharge.compareTo(BigDecimal.ZERO) > 0) {
-            builder.addDetail("Stockwerkzuschlag", floorSurcharge);
-        }
+        builder.addLineItem(PriceLineItem.Code.FLOOR, null, floorSurcharge);
 
         // 5. Arbeitszeit-Kosten
         double estimatedHours = estimateWorkHours(
@@ -81,7 +177,7 @@ public class PricingEngine {
         );
         BigDecimal laborCost = calculateLaborCost(estimatedHours, conditions);
         builder.laborCost(laborCost);
-        builder.addDetail("Arbeitskosten (" + formatHours(estimatedHours) + ")", laborCost);
+        builder.addLineItem(PriceLineItem.Code.LABOR, BigDecimal.valueOf(workMinutes(estimatedHours)), laborCost);
 
         // 6. Extra-Charge-Percentage anwenden
         if (conditions.extraChargePercent() != null && conditions.extraChargePercent().compareTo(BigDecimal.ZERO) > 0) {
@@ -100,6 +196,89 @@ public class PricingEngine {
         return breakdown;
     }
 
+    /**
+     * Fixed-Point-Pfad: alle Geldbeträge als long Cent, Ergebnis identisch zu
+     * {@link #calculateEstimateBigDecimal}. BigDecimals entstehen nur für das Ergebnis.
+     */
+    public PriceBreakdown calculateEstimateFixedPoint(
+            PricingConditions conditions,
+            Address fromAddress,
+            Address toAddress,
+            FloorDetails fromFloor,
+            FloorDetails toFloor,
+            InventoryList inventory
+    ) {
+        if (conditions == null) {
+            throw new IllegalArgumentException("conditions is required");
+        }
+        return calculateFixedPoint(
+                conditions.baseFee() != null ? toCents(conditions.baseFee()) : 0,
+                toCents(conditions.travelFee()),
+                toCents(conditions.hourlyRate()),
+                fromAddress, toAddress, fromFloor, toFloor, inventory
+        );
+    }
+
+    private PriceBreakdown calculateFixedPoint(
+            long baseFeeCents,
+            long travelFeeCents,
+            long hourlyRateCents,
+            Address fromAddress,
+            Address toAddress,
+            FloorDetails fromFloor,
+            FloorDetails toFloor,
+            InventoryList inventory
+    ) {
+        // 1. Basisgebühren: bereits in Cent übergeben
+
+        // 2. Inventar/Volumen-Kosten
+        double totalVolume = inventory != null ? inventory.totalVolume() : 0.0;
+        long volumeCents = multiplyHalfUp(VOLUME_RATE_CENTS, totalVolume);
+
+        // 3. Distanz-basierte Kosten
+        double distanceKm = estimateDistance(fromAddress, toAddress);
+        long distanceCents = distanceKm > 50 ? multiplyHalfUp(KM_RATE_CENTS, distanceKm - 50) : 0;
+
+        // 4. Stockwerk-Zuschläge
+        long floorCents = singleFloorSurchargeCents(fromFloor) + singleFloorSurchargeCents(toFloor);
+
+        // 5. Arbeitszeit-Kosten
+        double estimatedHours = estimateWorkHours(
+                fromFloor, toFloor, totalVolume, distanceKm, inventory != null ? inventory.totalItemCount() : 0
+        );
+        long laborCents = multiplyHalfUp(hourlyRateCents * WORKERS, estimatedHours);
+
+        long subtotalCents = baseFeeCents + travelFeeCents + laborCents + volumeCents + floorCents + distanceCents;
+
+        // Positionen in derselben Reihenfolge und mit denselben Mengen wie der Referenzpfad
+        List<PriceLineItem> lineItems = new ArrayList<>(6);
+        addLineItem(lineItems, PriceLineItem.Code.BASE_FEE, null, baseFeeCents);
+        addLineItem(lineItems, PriceLineItem.Code.TRAVEL_FEE, null, travelFeeCents);
+        if (volumeCents > 0) {
+            addLineItem(lineItems, PriceLineItem.Code.VOLUME, BigDecimal.valueOf(scaledHalfUp(totalVolume, 100, 2), 2), volumeCents);
+        }
+        if (distanceCents > 0) {
+            addLineItem(lineItems, PriceLineItem.Code.DISTANCE, BigDecimal.valueOf(scaledHalfUp(distanceKm, 10, 1), 1), distanceCents);
+        }
+        addLineItem(lineItems, PriceLineItem.Code.FLOOR, null, floorCents);
+        if (laborCents > 0) {
+            addLineItem(lineItems, PriceLineItem.Code.LABOR, BigDecimal.valueOf(workMinutes(estimatedHours)), laborCents);
+        }
+
+        return new PriceBreakdown(
+                fromCents(baseFeeCents),
+                fromCents(travelFeeCents),
+                fromCents(laborCents),
+                fromCents(volumeCents),
+                fromCents(floorCents),
+                fromCents(distanceCents),
+                BigDecimal.ZERO,
+                fromCents(subtotalCents),
+                fromCents(subtotalCents),
+                lineItems
+        );
+    }
+
     /**
      * Berechnet die geschätzte Arbeitszeit in Stunden.
      */
@@ -137,12 +316,20 @@ public class PricingEngine {
 
     /**
      * Schätzt die Distanz zwischen zwei Adressen.
+     *
+     * Primär über den {@link DistanceCalculator} (PLZ-Zentroide, Straßenfaktor);
+     * nur wenn eine Adresse dort unbekannt ist, greifen die pauschalen Werte.
      */
     public double estimateDistance(Address from, Address to) {
         if (from == null || to == null) {
             return 10.0; // Default 10 km
         }
 
+        double roadDistanceKm = distanceCalculator.roadDistanceKm(from, to);
+        if (!Double.isNaN(roadDistanceKm)) {
+            return roadDistanceKm;
+        }
+
         // Wenn beide Adressen in derselben Stadt sind
         if (from.city() != null && from.city().equalsIgnoreCase(to.city())) {
             return 8.0;
@@ -223,13 +410,88 @@ public class PricingEngine {
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
-    private String formatVolume(double volume) {
-        return String.format("%.2f m³", volume);
-    }
-
-    private String formatHours(double hours) {
+    /**
+     * Arbeitszeit in ganzen Minuten (Minutenanteil abgeschnitten).
+     */
+    private static long workMinutes(double hours) {
         int h = (int) hours;
         int m = (int) ((hours - h) * 60);
-        return String.format("%dh %02dmin", h, m);
+        return h * 60L + m;
+    }
+
+    // ---- Fixed-Point Helper ----
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static void addLineItem(List<PriceLineItem> lineItems, PriceLineItem.Code code, BigDecimal quantity, long cents) {
+        if (cents > 0) {
+            lineItems.add(new PriceLineItem(code, quantity, fromCents(cents)));
+        }
+    }
+
+    /**
+     * value × 10^scale, HALF_UP auf eine ganze Zahl gerundet - identisch zu
+     * {@code BigDecimal.valueOf(value).setScale(scale, HALF_UP).unscaledValue()}.
+     */
+    private static long scaledHalfUp(double value, long factor, int scale) {
+        long fast = tryMultiplyHalfUp(factor, value);
+        if (fast != NO_FAST_RESULT) {
+            return fast;
+        }
+        return BigDecimal.valueOf(value)
+                .setScale(scale, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * rateCents × factor, HALF_UP auf ganze Cent gerundet - identisch zu
+     * {@code BigDecimal.valueOf(rateCents, 2).multiply(BigDecimal.valueOf(factor)).setScale(2, HALF_UP)}.
+     */
+    private static long multiplyHalfUp(long rateCents, double factor) {
+        long fast = tryMultiplyHalfUp(rateCents, factor);
+        if (fast != NO_FAST_RESULT) {
+            return fast;
+        }
+        return BigDecimal.valueOf(rateCents, 2)
+                .multiply(BigDecimal.valueOf(factor))
+                .setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * Rundet im double-Raum. Der Abstand zwischen {@code factor} und seiner Dezimaldarstellung
+     * ist so klein, dass nur Produkte direkt an einer .5-Grenze anders gerundet werden könnten -
+     * genau dann wird {@link #NO_FAST_RESULT} geliefert und exakt nachgerechnet.
+     */
+    private static long tryMultiplyHalfUp(long scaledRate, double factor) {
+        if (!(factor >= 0) || Double.isInfinite(factor)) {
+            return NO_FAST_RESULT;
+        }
+        double product = scaledRate * factor;
+        if (product > MAX_FAST_PRODUCT) {
+            return NO_FAST_RESULT;
+        }
+        double floor = Math.floor(product);
+        double fraction = product - floor;
+        if (Math.abs(fraction - 0.5) < TIE_EPSILON) {
+            return NO_FAST_RESULT;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    private static long singleFloorSurchargeCents(FloorDetails floor) {
+        if (floor == null || floor.floor() == 0) {
+            return 0;
+        }
+        long absoluteFloor = Math.abs((long) floor.floor());
+        return absoluteFloor * (floor.hasElevator() ? FLOOR_SURCHARGE_ELEVATOR_CENTS : FLOOR_SURCHARGE_CENTS);
     }
 }
@@ -0,0 +1,218 @@
+package at.mymove.pricing.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Ergebnis einer Tarif-Simulation: Wie hätten sich die historischen Schätzungen
+ * einer Firma mit anderen Preiskonditionen verändert?
+ *
+ * Alle Beträge in EUR, Prozentwerte relativ zum aktuellen Tarif.
+ *
+ * @param companyId             Simulierte Firma
+ * @param offersSimulated       Anzahl neu bepreister Offers
+ * @param offersSkipped         Offers ohne bestätigtes Inventar oder mit Berechnungsfehler
+ * @param currentRevenue        Summe der Preise mit dem aktuellen Tarif
+ * @param candidateRevenue      Summe der Preise mit dem neuen Tarif
+ * @param revenueDelta          candidateRevenue - currentRevenue
+ * @param revenueDeltaPercent   Umsatzänderung in % (null wenn currentRevenue = 0)
+ * @param minPriceDelta         Größte Preissenkung eines einzelnen Offers
+ * @param maxPriceDelta         Größte Preiserhöhung eines einzelnen Offers
+ * @param priceDeltaPercentiles Verteilung der Preisänderung pro Offer in %
+ * @param offersWithCompetition Offers mit mindestens einer abgegebenen Konkurrenz-Offerte
+ * @param winsCurrent           Offers, bei denen der aktuelle Preis die günstigste Konkurrenz unterbietet
+ * @param winsCandidate         Offers, bei denen der neue Preis die günstigste Konkurrenz unterbietet
+ * @param offersGained          Mit dem neuen Tarif gewonnen, mit dem aktuellen verloren
+ * @param offersLost            Mit dem neuen Tarif verloren, mit dem aktuellen gewonnen
+ * @param durationMillis        Laufzeit der Simulation
+ */
+public record RepricingSimulation(
+        UUID companyId,
+        long offersSimulated,
+        long offersSkipped,
+        BigDecimal currentRevenue,
+        BigDecimal candidateRevenue,
+        BigDecimal revenueDelta,
+        BigDecimal revenueDeltaPercent,
+        BigDecimal minPriceDelta,
+        BigDecimal maxPriceDelta,
+        Percentiles priceDeltaPercentiles,
+        long offersWithCompetition,
+        long winsCurrent,
+        long winsCandidate,
+        long offersGained,
+        long offersLost,
+        long durationMillis
+) {
+
+    public RepricingSimulation {
+        if (companyId == null) {
+            throw new IllegalArgumentException("companyId is required");
+        }
+        if (priceDeltaPercentiles == null) {
+            throw new IllegalArgumentException("priceDeltaPercentiles is required");
+        }
+    }
+
+    /**
+     * Perzentile der Preisänderung pro Offer in % (Auflösung 0.1 Prozentpunkte).
+     * Alle Werte null, wenn kein Offer simuliert wurde.
+     */
+    public record Percentiles(
+            BigDecimal p5,
+            BigDecimal p25,
+            BigDecimal p50,
+            BigDecimal p75,
+            BigDecimal p95
+    ) {
+    }
+
+    /**
+     * Sammelt die Kennzahlen einer Simulation mit konstantem Speicherbedarf:
+     * Summen in long Cent und die prozentuale Änderung pro Offer als Histogramm
+     * mit 0.1-%-Buckets zwischen -100 % und +400 % (Ausreißer landen im Randbucket).
+     *
+     * Nicht thread-safe - jeder Worker füllt seinen eigenen Accumulator,
+     * die Teilergebnisse werden mit {@link #merge(Accumulator)} zusammengeführt.
+     */
+    public static final class Accumulator {
+
+        /** Kein Konkurrenzangebot vorhanden. */
+        public static final long NO_COMPETITION = -1;
+
+        private static final int MIN_PERMILLE = -1_000;
+        private static final int MAX_PERMILLE = 4_000;
+
+        private final long[] histogram = new long[MAX_PERMILLE - MIN_PERMILLE + 1];
+        private long histogramCount;
+
+        private long offers;
+        private long skipped;
+        private long currentCents;
+        private long candidateCents;
+        private long minDeltaCents = Long.MAX_VALUE;
+        private long maxDeltaCents = Long.MIN_VALUE;
+        private long withCompetition;
+        private long winsCurrent;
+        private long winsCandidate;
+        private long gained;
+        private long lost;
+
+        /**
+         * Nimmt ein neu bepreistes Offer auf.
+         *
+         * @param currentPriceCents    Preis mit aktuellem Tarif
+         * @param candidatePriceCents  Preis mit neuem Tarif
+         * @param bestCompetitorCents  Günstigste Konkurrenz-Offerte oder {@link #NO_COMPETITION}
+         */
+        public void add(long currentPriceCents, long candidatePriceCents, long bestCompetitorCents) {
+            offers++;
+            currentCents += currentPriceCents;
+            candidateCents += candidatePriceCents;
+
+            long delta = candidatePriceCents - currentPriceCents;
+            minDeltaCents = Math.min(minDeltaCents, delta);
+            maxDeltaCents = Math.max(maxDeltaCents, delta);
+
+            if (currentPriceCents > 0) {
+                long permille = Math.round(delta * 1000.0 / currentPriceCents);
+                int bucket = (int) Math.max(MIN_PERMILLE, Math.min(MAX_PERMILLE, permille)) - MIN_PERMILLE;
+                histogram[bucket]++;
+                histogramCount++;
+            }
+
+            if (bestCompetitorCents != NO_COMPETITION) {
+                withCompetition++;
+                boolean wonBefore = currentPriceCents < bestCompetitorCents;
+                boolean wonAfter = candidatePriceCents < bestCompetitorCents;
+                if (wonBefore) winsCurrent++;
+                if (wonAfter) winsCandidate++;
+                if (wonAfter && !wonBefore) gained++;
+                if (wonBefore && !wonAfter) lost++;
+            }
+        }
+
+        /**
+         * Zählt ein Offer, das nicht bepreist werden konnte.
+         */
+        public void skip() {
+            skipped++;
+        }
+
+        /**
+         * Addiert ein Teilergebnis in diesen Accumulator.
+         */
+        public Accumulator merge(Accumulator other) {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            histogramCount += other.histogramCount;
+            offers += other.offers;
+            skipped += other.skipped;
+            currentCents += other.currentCents;
+            candidateCents += other.candidateCents;
+            minDeltaCents = Math.min(minDeltaCents, other.minDeltaCents);
+            maxDeltaCents = Math.max(maxDeltaCents, other.maxDeltaCents);
+            withCompetition += other.withCompetition;
+            winsCurrent += other.winsCurrent;
+            winsCandidate += other.winsCandidate;
+            gained += other.gained;
+            lost += other.lost;
+            return this;
+        }
+
+        public RepricingSimulation toResult(UUID companyId, long durationMillis) {
+            long deltaCents = candidateCents - currentCents;
+            BigDecimal deltaPercent = currentCents > 0
+                    ? BigDecimal.valueOf(deltaCents * 100).divide(BigDecimal.valueOf(currentCents), 2, RoundingMode.HALF_UP)
+                    : null;
+
+            return new RepricingSimulation(
+                    companyId,
+                    offers,
+                    skipped,
+                    euros(currentCents),
+                    euros(candidateCents),
+                    euros(deltaCents),
+                    deltaPercent,
+                    offers > 0 ? euros(minDeltaCents) : null,
+                    offers > 0 ? euros(maxDeltaCents) : null,
+                    new Percentiles(
+                            percentile(5),
+                            percentile(25),
+                            percentile(50),
+                            percentile(75),
+                            percentile(95)
+                    ),
+                    withCompetition,
+                    winsCurrent,
+                    winsCandidate,
+                    gained,
+                    lost,
+                    durationMillis
+            );
+        }
+
+        // ---- Helper ----
+
+        private BigDecimal percentile(int p) {
+            if (histogramCount == 0) {
+                return null;
+            }
+            long rank = Math.max(1, (histogramCount * p + 99) / 100);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return BigDecimal.valueOf(i + MIN_PERMILLE, 1);
+                }
+            }
+            return BigDecimal.valueOf(MAX_PERMILLE, 1);
+        }
+
+        private static BigDecimal euros(long cents) {
+            return BigDecimal.valueOf(cents, 2);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package at.mymove.pricing.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor für die parallele Preisberechnung über mehrere Firmen.
+ *
+ * Virtuelle Threads, aber begrenzt auf {@code mymove.pricing.parallelism}
+ * gleichzeitige Berechnungen, damit ein großes Firmen-Set den Server nicht flutet.
+ */
+@Configuration
+public class PricingExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pricingExecutor(
+            @Value("${mymove.pricing.parallelism:0}") int parallelism
+    ) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("pricing-", 0).factory());
+    }
+}
@@ -0,0 +1,84 @@
+package at.mymove.pricing.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Backfill der Spalte {@code expires_at} für finale Offerten, die vor Einführung der
+ * Spalte eingereicht wurden ({@code submitted_at is not null and expires_at is null}).
+ *
+ * - Läuft beim Start in Blöcken von {@value #BATCH_SIZE} Zeilen, jeder Block in eigener
+ *   Transaktion; ist nichts zu tun, kostet das genau ein SELECT
+ * - Schreibt per UPDATE nur die abgeleitete Spalte, die Version bleibt unverändert
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class FinalOfferExpiryBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_PENDING = """
+            select f.id, f.submittedAt, f.validityDays from FinalOfferJpaEntity f
+            where f.expiresAt is null and f.submittedAt is not null and f.id > :after
+            order by f.id
+            """;
+
+    private static final String UPDATE_EXPIRES_AT = """
+            update FinalOfferJpaEntity f set f.expiresAt = :expiresAt where f.id = :id
+            """;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Batch(UUID lastId, int rows) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UUID after = new UUID(0L, 0L);
+        long migrated = 0;
+
+        while (true) {
+            UUID from = after;
+            Batch batch = transactionTemplate.execute(status -> backfill(from));
+            if (batch == null || batch.rows() == 0) {
+                break;
+            }
+            migrated += batch.rows();
+            after = batch.lastId();
+        }
+
+        if (migrated > 0) {
+            log.info("Backfilled expires_at for {} final offers", migrated);
+        }
+    }
+
+    private Batch backfill(UUID after) {
+        List<Object[]> rows = entityManager.createQuery(SELECT_PENDING, Object[].class)
+                .setParameter("after", after)
+                .setMaxResults(BATCH_SIZE)
+                .getResultList();
+
+        UUID lastId = after;
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            lastId = id;
+            Instant submittedAt = (Instant) row[1];
+            int validityDays = (Integer) row[2];
+            entityManager.createQuery(UPDATE_EXPIRES_AT)
+                    .setParameter("expiresAt", submittedAt.plusSeconds(validityDays * 24 * 60 * 60L))
+                    .setParameter("id", id)
+                    .executeUpdate();
+        }
+        return new Batch(lastId, rows.size());
+    }
+}
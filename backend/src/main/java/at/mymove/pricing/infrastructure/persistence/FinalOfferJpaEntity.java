@@ -11,9 +11,18 @@ import java.util.UUID;
 
 /**
  * JPA Entity für FinalOffer.
+ *
+ * Indizes: (status, expiresAt) für den Ablauf-Sweep, (offerId, status, totalPrice) für die
+ * offenen Offerten eines Offers in Preisreihenfolge (Ranking).
  */
 @Entity
-@Table(name = "final_offers")
+@Table(
+        name = "final_offers",
+        indexes = {
+                @Index(name = "idx_final_offers_status_expires_at", columnList = "status, expiresAt"),
+                @Index(name = "idx_final_offers_offer_status_price", columnList = "offerId, status, totalPrice")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -56,6 +65,13 @@ public class FinalOfferJpaEntity {
     @Column
     private Instant submittedAt;
 
+    /**
+     * Abgeleitet: submittedAt + validityDays (null bis zur Abgabe). Altbestände werden
+     * beim Start nachgezogen ({@link FinalOfferExpiryBackfill}).
+     */
+    @Column
+    private Instant expiresAt;
+
     @Column
     private Instant acceptedAt;
 
@@ -65,6 +81,14 @@ public class FinalOfferJpaEntity {
     @Column
     private String rejectionReason;
 
+    /**
+     * Optimistic-Locking-Version, Grundlage für ETags. Wird mit dem Domain-Objekt geladen und
+     * beim Speichern zurückgegeben; ein veralteter Stand schlägt fehl. Altbestände starten bei 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     void prePersist() {
         if (createdAt == null) createdAt = Instant.now();
@@ -1,9 +1,16 @@
 package at.mymove.pricing.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.pricing.domain.FinalOfferStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,9 +23,124 @@ public interface FinalOfferJpaRepository extends JpaRepository<FinalOfferJpaEnti
 
     List<FinalOfferJpaEntity> findByOfferId(UUID offerId);
 
+    List<FinalOfferJpaEntity> findByOfferIdIn(Collection<UUID> offerIds);
+
     List<FinalOfferJpaEntity> findByCompanyId(UUID companyId);
 
     Optional<FinalOfferJpaEntity> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
 
     List<FinalOfferJpaEntity> findByStatus(FinalOfferStatus status);
+
+    @Query("select f.offerId from FinalOfferJpaEntity f where f.id = :id")
+    Optional<UUID> findOfferIdById(@Param("id") UUID id);
+
+    /**
+     * Eingereichte Offerten eines Offers, die zum Zeitpunkt {@code now} noch nicht abgelaufen sind.
+     */
+    @Query("""
+            select f from FinalOfferJpaEntity f
+            where f.offerId = :offerId and f.status = :status and f.expiresAt > :now
+            """)
+    List<FinalOfferJpaEntity> findByOfferIdAndStatusAndExpiresAtAfter(
+            @Param("offerId") UUID offerId,
+            @Param("status") FinalOfferStatus status,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Wie {@link #findByOfferIdAndStatusAndExpiresAtAfter}, günstigste zuerst (Tie-Breaker ID).
+     * Range Scan über idx_final_offers_offer_status_price, gelesen wird nur die angefragte Seite.
+     */
+    @Query("""
+            select f from FinalOfferJpaEntity f
+            where f.offerId = :offerId and f.status = :status and f.expiresAt > :now
+            order by f.totalPrice, f.id
+            """)
+    List<FinalOfferJpaEntity> findRankedByOfferIdAndStatus(
+            @Param("offerId") UUID offerId,
+            @Param("status") FinalOfferStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    /**
+     * Wie {@link #findByOfferIdAndStatusAndExpiresAtAfter}, nur ID und Version.
+     */
+    @Query("""
+            select new at.mymove.core.domain.EntityVersion(f.id, f.version) from FinalOfferJpaEntity f
+            where f.offerId = :offerId and f.status = :status and f.expiresAt > :now
+            """)
+    List<EntityVersion> findVersionsByOfferIdAndStatusAndExpiresAtAfter(
+            @Param("offerId") UUID offerId,
+            @Param("status") FinalOfferStatus status,
+            @Param("now") Instant now
+    );
+
+    /**
+     * IDs der bis {@code now} abgelaufenen Offerten in einem Status, älteste zuerst
+     * (Range Scan über idx_final_offers_status_expires_at).
+     */
+    @Query("""
+            select f.id from FinalOfferJpaEntity f
+            where f.status = :status and f.expiresAt <= :now
+            order by f.expiresAt
+            """)
+    List<UUID> findIdsByStatusAndExpiresAtUpTo(
+            @Param("status") FinalOfferStatus status,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    /**
+     * Setzt den Status der angegebenen Offerten, sofern sie noch im erwarteten Status sind.
+     * Zählt die Version hoch (ETags), umgeht aber den Persistence Context.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update FinalOfferJpaEntity f set f.status = :to, f.version = f.version + 1
+            where f.id in :ids and f.status = :from
+            """)
+    int updateStatus(
+            @Param("ids") Collection<UUID> ids,
+            @Param("from") FinalOfferStatus from,
+            @Param("to") FinalOfferStatus to
+    );
+
+    @Query("""
+            select f.companyId from FinalOfferJpaEntity f
+            where f.offerId = :offerId and f.status = :status and f.id <> :excludedId
+            """)
+    List<UUID> findCompanyIdsByOfferIdAndStatusAndIdNot(
+            @Param("offerId") UUID offerId,
+            @Param("status") FinalOfferStatus status,
+            @Param("excludedId") UUID excludedId
+    );
+
+    /**
+     * Lehnt alle eingereichten Offerten eines Offers außer {@code excludedId} in einem
+     * Statement ab (Range Scan über idx_final_offers_offer_status_price).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update FinalOfferJpaEntity f
+            set f.status = :rejected, f.rejectedAt = :now, f.rejectionReason = :reason, f.version = f.version + 1
+            where f.offerId = :offerId and f.status = :submitted and f.id <> :excludedId
+            """)
+    int rejectSubmittedExcept(
+            @Param("offerId") UUID offerId,
+            @Param("excludedId") UUID excludedId,
+            @Param("now") Instant now,
+            @Param("reason") String reason,
+            @Param("submitted") FinalOfferStatus submitted,
+            @Param("rejected") FinalOfferStatus rejected
+    );
+
+    /**
+     * {@code [offerId, companyId]} der angegebenen Offerten in einem Status.
+     */
+    @Query("select f.offerId, f.companyId from FinalOfferJpaEntity f where f.id in :ids and f.status = :status")
+    List<Object[]> findOfferAndCompanyIdsByIdInAndStatus(
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") FinalOfferStatus status
+    );
 }
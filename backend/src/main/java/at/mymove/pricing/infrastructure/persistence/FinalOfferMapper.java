@@ -24,9 +24,11 @@ public class FinalOfferMapper {
                 .status(domain.status())
                 .createdAt(domain.createdAt())
                 .submittedAt(domain.submittedAt())
+                .expiresAt(domain.calculateExpiryDate())
                 .acceptedAt(domain.acceptedAt())
                 .rejectedAt(domain.rejectedAt())
                 .rejectionReason(domain.rejectionReason())
+                .version(domain.version())
                 .build();
     }
 
@@ -47,7 +49,8 @@ public class FinalOfferMapper {
                 jpa.getSubmittedAt(),
                 jpa.getAcceptedAt(),
                 jpa.getRejectedAt(),
-                jpa.getRejectionReason()
+                jpa.getRejectionReason(),
+                jpa.getVersion()
         );
     }
 }
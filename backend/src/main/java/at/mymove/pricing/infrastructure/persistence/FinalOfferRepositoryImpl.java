@@ -1,17 +1,35 @@
 package at.mymove.pricing.infrastructure.persistence;
 
+import at.mymove.core.domain.EntityVersion;
 import at.mymove.pricing.application.FinalOfferRepository;
 import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.FinalOfferChangedEvent;
 import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.FinalOffersStatusChangedEvent;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Implementierung des FinalOfferRepository Interface.
+ * Veröffentlicht nach Speichern und Löschen ein {@link FinalOfferChangedEvent},
+ * nach Massen-Updates (Ablauf, automatische Ablehnung) ein {@link FinalOffersStatusChangedEvent}.
+ *
+ * Die Version kommt mit dem Domain-Objekt zurück: wurde der Datensatz seit dem Laden geändert,
+ * schlägt das Speichern mit einer Optimistic-Locking-Exception fehl (409). Gespeichert wird mit
+ * Flush, damit das Ergebnis bereits die hochgezählte Version trägt.
  */
 @Repository
 @RequiredArgsConstructor
@@ -19,12 +37,16 @@ public class FinalOfferRepositoryImpl implements FinalOfferRepository {
 
     private final FinalOfferJpaRepository jpaRepository;
     private final FinalOfferMapper mapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public FinalOffer save(FinalOffer offer) {
         FinalOfferJpaEntity entity = mapper.toJpaEntity(offer);
-        FinalOfferJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        FinalOfferJpaEntity saved = jpaRepository.saveAndFlush(entity);
+        FinalOffer result = mapper.toDomainEntity(saved);
+        eventPublisher.publishEvent(FinalOfferChangedEvent.saved(result));
+        return result;
     }
 
     @Override
@@ -32,6 +54,11 @@ public class FinalOfferRepositoryImpl implements FinalOfferRepository {
         return jpaRepository.findById(id).map(mapper::toDomainEntity);
     }
 
+    @Override
+    public Optional<UUID> findOfferIdById(UUID id) {
+        return jpaRepository.findOfferIdById(id);
+    }
+
     @Override
     public List<FinalOffer> findByOfferId(UUID offerId) {
         return jpaRepository.findByOfferId(offerId).stream()
@@ -39,6 +66,64 @@ public class FinalOfferRepositoryImpl implements FinalOfferRepository {
                 .toList();
     }
 
+    @Override
+    public List<FinalOffer> findSubmittedByOfferId(UUID offerId, Instant now) {
+        return jpaRepository.findByOfferIdAndStatusAndExpiresAtAfter(offerId, FinalOfferStatus.SUBMITTED, now).stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+    }
+
+    @Override
+    public List<FinalOffer> findCheapestSubmittedByOfferId(UUID offerId, Instant now, int limit) {
+        return jpaRepository.findRankedByOfferIdAndStatus(
+                        offerId, FinalOfferStatus.SUBMITTED, now, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+    }
+
+    @Override
+    public List<EntityVersion> findSubmittedVersionsByOfferId(UUID offerId, Instant now) {
+        return jpaRepository.findVersionsByOfferIdAndStatusAndExpiresAtAfter(offerId, FinalOfferStatus.SUBMITTED, now);
+    }
+
+    /**
+     * Drei Statements pro Block: IDs über den Index (status, expiresAt), ein UPDATE mit
+     * Status-Bedingung (parallel angenommene Offerten bleiben unberührt) und die
+     * tatsächlich abgelaufenen Zeilen für das Event.
+     */
+    @Override
+    public int expireSubmitted(Instant now, int limit) {
+        List<UUID> ids = jpaRepository.findIdsByStatusAndExpiresAtUpTo(
+                FinalOfferStatus.SUBMITTED, now, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int expired = jpaRepository.updateStatus(ids, FinalOfferStatus.SUBMITTED, FinalOfferStatus.EXPIRED);
+        if (expired == 0) {
+            return 0;
+        }
+
+        Map<UUID, Set<UUID>> companyIdsByOfferId = new HashMap<>();
+        for (Object[] row : jpaRepository.findOfferAndCompanyIdsByIdInAndStatus(ids, FinalOfferStatus.EXPIRED)) {
+            companyIdsByOfferId.computeIfAbsent((UUID) row[0], id -> new HashSet<>()).add((UUID) row[1]);
+        }
+        eventPublisher.publishEvent(new FinalOffersStatusChangedEvent(companyIdsByOfferId, FinalOfferStatus.EXPIRED));
+        return expired;
+    }
+
+    @Override
+    public List<FinalOffer> findByOfferIds(Collection<UUID> offerIds) {
+        if (offerIds.isEmpty()) {
+            return List.of();
+        }
+        List<FinalOfferJpaEntity> entities = jpaRepository.findByOfferIdIn(offerIds);
+        List<FinalOffer> result = entities.stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+        entities.forEach(entityManager::detach);
+        return result;
+    }
+
     @Override
     public List<FinalOffer> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -59,13 +144,32 @@ public class FinalOfferRepositoryImpl implements FinalOfferRepository {
                 .toList();
     }
 
+    /**
+     * Zwei Statements unabhängig von der Anzahl Gebote: betroffene Firmen (für das Event)
+     * und ein UPDATE.
+     */
+    @Override
+    public int rejectOtherSubmitted(UUID offerId, UUID acceptedId, Instant now, String reason) {
+        List<UUID> companyIds = jpaRepository.findCompanyIdsByOfferIdAndStatusAndIdNot(
+                offerId, FinalOfferStatus.SUBMITTED, acceptedId);
+        if (companyIds.isEmpty()) {
+            return 0;
+        }
+        int rejected = jpaRepository.rejectSubmittedExcept(
+                offerId, acceptedId, now, reason, FinalOfferStatus.SUBMITTED, FinalOfferStatus.REJECTED);
+        eventPublisher.publishEvent(new FinalOffersStatusChangedEvent(
+                Map.of(offerId, Set.copyOf(companyIds)), FinalOfferStatus.REJECTED));
+        return rejected;
+    }
+
     @Override
     public void delete(FinalOffer offer) {
         jpaRepository.deleteById(offer.id());
+        eventPublisher.publishEvent(FinalOfferChangedEvent.deleted(offer));
     }
 
     @Override
     public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+        findById(id).ifPresent(this::delete);
     }
 }
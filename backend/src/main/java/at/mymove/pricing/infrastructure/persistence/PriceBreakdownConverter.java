@@ -1,24 +1,34 @@
 package at.mymove.pricing.infrastructure.persistence;
 
 import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PriceLineItem;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * JPA Converter für PriceBreakdown.
  * Speichert die Aufschlüsselung als JSON.
+ *
+ * Positionen werden kompakt als {@code "items": [[code, menge, betrag], ...]} abgelegt.
+ * Ältere Zeilen ohne {@code items} (früher freie Texte unter {@code details}) erhalten
+ * ihre Positionen aus den Einzelbeträgen, ohne Mengenangabe.
  */
 @Converter
 public class PriceBreakdownConverter implements AttributeConverter<PriceBreakdown, String> {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
 
     @Override
     public String convertToDatabaseColumn(PriceBreakdown breakdown) {
@@ -26,7 +36,7 @@ public class PriceBreakdownConverter implements AttributeConverter<PriceBreakdow
             return null;
         }
         try {
-            Map<String, Object> map = new HashMap<>();
+            Map<String, Object> map = new LinkedHashMap<>();
             map.put("baseFee", breakdown.baseFee());
             map.put("travelFee", breakdown.travelFee());
             map.put("laborCost", breakdown.laborCost());
@@ -36,7 +46,12 @@ public class PriceBreakdownConverter implements AttributeConverter<PriceBreakdow
             map.put("otherSurcharges", breakdown.otherSurcharges());
             map.put("subtotal", breakdown.subtotal());
             map.put("total", breakdown.total());
-            map.put("details", breakdown.details());
+
+            List<List<Object>> items = new ArrayList<>(breakdown.lineItems().size());
+            for (PriceLineItem item : breakdown.lineItems()) {
+                items.add(Arrays.asList(item.code().name(), item.quantity(), item.amount()));
+            }
+            map.put("items", items);
             return objectMapper.writeValueAsString(map);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to convert PriceBreakdown to JSON", e);
@@ -51,24 +66,53 @@ public class PriceBreakdownConverter implements AttributeConverter<PriceBreakdow
         try {
             Map<String, Object> map = objectMapper.readValue(json, new TypeReference<>() {});
 
-            return PriceBreakdown.builder()
+            PriceBreakdown.Builder builder = PriceBreakdown.builder()
                     .baseFee(getBigDecimal(map, "baseFee"))
                     .travelFee(getBigDecimal(map, "travelFee"))
                     .laborCost(getBigDecimal(map, "laborCost"))
                     .volumeCost(getBigDecimal(map, "volumeCost"))
                     .floorSurcharge(getBigDecimal(map, "floorSurcharge"))
                     .distanceSurcharge(getBigDecimal(map, "distanceSurcharge"))
-                    .otherSurcharges(getBigDecimal(map, "otherSurcharges"))
-                    .build();
+                    .otherSurcharges(getBigDecimal(map, "otherSurcharges"));
+
+            if (map.get("items") instanceof List<?> items) {
+                for (Object entry : items) {
+                    List<?> item = (List<?>) entry;
+                    builder.addLineItem(
+                            PriceLineItem.Code.valueOf(item.get(0).toString()),
+                            toBigDecimal(item.get(1)),
+                            toBigDecimal(item.get(2))
+                    );
+                }
+            } else {
+                addLegacyLineItems(builder, map);
+            }
+            return builder.build();
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to convert JSON to PriceBreakdown", e);
         }
     }
 
+    private void addLegacyLineItems(PriceBreakdown.Builder builder, Map<String, Object> map) {
+        builder.addLineItem(PriceLineItem.Code.BASE_FEE, null, getBigDecimal(map, "baseFee"))
+                .addLineItem(PriceLineItem.Code.TRAVEL_FEE, null, getBigDecimal(map, "travelFee"))
+                .addLineItem(PriceLineItem.Code.VOLUME, null, getBigDecimal(map, "volumeCost"))
+                .addLineItem(PriceLineItem.Code.DISTANCE, null, getBigDecimal(map, "distanceSurcharge"))
+                .addLineItem(PriceLineItem.Code.FLOOR, null, getBigDecimal(map, "floorSurcharge"))
+                .addLineItem(PriceLineItem.Code.LABOR, null, getBigDecimal(map, "laborCost"));
+    }
+
     private BigDecimal getBigDecimal(Map<String, Object> map, String key) {
-        Object value = map.get(key);
+        BigDecimal value = toBigDecimal(map.get(key));
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
         if (value == null) {
-            return BigDecimal.ZERO;
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
         }
         if (value instanceof Number) {
             return BigDecimal.valueOf(((Number) value).doubleValue());
@@ -0,0 +1,82 @@
+package at.mymove.pricing.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Bereinigt Altbestände in {@code price_estimates}, bevor Hibernate das Schema aktualisiert.
+ *
+ * Früher wurde pro Berechnung eine neue Zeile angelegt; der Unique-Constraint
+ * {@code uk_price_estimates_company_offer} ließe sich auf solchen Daten nicht anlegen.
+ *
+ * - Behält pro (company_id, offer_id) die neueste Zeile (calculated_at, bei Gleichstand die
+ *   höhere id) und löscht die übrigen in Blöcken von {@value #BATCH_SIZE} Zeilen
+ * - Läuft per JDBC vor der EntityManagerFactory; ist nichts zu tun, kostet das genau ein SELECT
+ * - Existiert die Tabelle noch nicht (erster Start), passiert nichts
+ */
+@Slf4j
+@Component
+class PriceEstimateDuplicateCleanup implements InitializingBean {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_SUPERSEDED = """
+            select p.id from price_estimates p
+            where exists (
+                select 1 from price_estimates n
+                where n.company_id = p.company_id and n.offer_id = p.offer_id
+                  and (n.calculated_at > p.calculated_at or (n.calculated_at = p.calculated_at and n.id > p.id))
+            )
+            """;
+
+    private static final String DELETE_BY_ID = "delete from price_estimates where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PriceEstimateDuplicateCleanup(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Hängt die Bereinigung vor die EntityManagerFactory (und damit vor {@code ddl-auto}).
+     */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor priceEstimateDuplicateCleanupDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(PriceEstimateDuplicateCleanup.class);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        run();
+    }
+
+    void run() {
+        List<Object> superseded;
+        try {
+            superseded = jdbcTemplate.queryForList(SELECT_SUPERSEDED, Object.class);
+        } catch (BadSqlGrammarException e) {
+            log.debug("Skipping price estimate cleanup: {}", e.getMessage());
+            return;
+        }
+
+        // IDs unverändert zurückgeben (BINARY(16) bei MySQL, UUID bei H2)
+        for (int from = 0; from < superseded.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = superseded.subList(from, Math.min(from + BATCH_SIZE, superseded.size())).stream()
+                    .map(id -> new Object[]{id})
+                    .toList();
+            jdbcTemplate.batchUpdate(DELETE_BY_ID, batch);
+        }
+
+        if (!superseded.isEmpty()) {
+            log.info("Removed {} superseded price estimates (kept the newest per company and offer)", superseded.size());
+        }
+    }
+}
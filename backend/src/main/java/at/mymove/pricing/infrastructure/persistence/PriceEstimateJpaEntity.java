@@ -9,9 +9,15 @@ import java.util.UUID;
 
 /**
  * JPA Entity für PriceEstimate.
+ *
+ * Index (offerId, validUntil) für die Prüfung, ob ein Offer noch eine gültige Schätzung hat.
  */
 @Entity
-@Table(name = "price_estimates")
+@Table(
+        name = "price_estimates",
+        uniqueConstraints = @UniqueConstraint(name = "uk_price_estimates_company_offer", columnNames = {"companyId", "offerId"}),
+        indexes = @Index(name = "idx_price_estimates_offer_valid_until", columnList = "offerId, validUntil")
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -50,12 +56,15 @@ public class PriceEstimateJpaEntity {
     @Column(nullable = false, length = 3)
     private String currency = "EUR";
 
-    @Column(nullable = false, updatable = false)
+    @Column(nullable = false)
     private Instant calculatedAt;
 
     @Column
     private Instant validUntil;
 
+    @Column(length = 64)
+    private String inputHash;
+
     @PrePersist
     void prePersist() {
         if (currency == null) currency = "EUR";
@@ -3,6 +3,7 @@ package at.mymove.pricing.infrastructure.persistence;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,7 +16,13 @@ public interface PriceEstimateJpaRepository extends JpaRepository<PriceEstimateJ
 
     List<PriceEstimateJpaEntity> findByOfferId(UUID offerId);
 
+    List<PriceEstimateJpaEntity> findByOfferIdIn(Collection<UUID> offerIds);
+
     List<PriceEstimateJpaEntity> findByCompanyId(UUID companyId);
 
-    Optional<PriceEstimateJpaEntity> findByCompanyIdAndOfferId(UUID companyId, UUID offerId);
+    /**
+     * Schätzung der Firma für das Offer; Altbestände mit mehreren Zeilen bereinigt
+     * {@link PriceEstimateDuplicateCleanup} beim Start.
+     */
+    Optional<PriceEstimateJpaEntity> findFirstByCompanyIdAndOfferIdOrderByCalculatedAtDesc(UUID companyId, UUID offerId);
 }
@@ -25,6 +25,7 @@ public class PriceEstimateMapper {
                 .currency(domain.currency())
                 .calculatedAt(domain.calculatedAt())
                 .validUntil(domain.validUntil())
+                .inputHash(domain.inputHash())
                 .build();
     }
 
@@ -43,7 +44,24 @@ public class PriceEstimateMapper {
                 jpa.getEstimatedVolume(),
                 jpa.getCurrency(),
                 jpa.getCalculatedAt(),
-                jpa.getValidUntil()
+                jpa.getValidUntil(),
+                jpa.getInputHash()
         );
     }
+
+    /**
+     * Überträgt die Werte auf eine bereits gemanagte Entity (IDs bleiben unverändert).
+     */
+    public void copyInto(PriceEstimateJpaEntity source, PriceEstimateJpaEntity target) {
+        target.setTotalPrice(source.getTotalPrice());
+        target.setPriceRangeLow(source.getPriceRangeLow());
+        target.setPriceRangeHigh(source.getPriceRangeHigh());
+        target.setBreakdown(source.getBreakdown());
+        target.setEstimatedHours(source.getEstimatedHours());
+        target.setEstimatedVolume(source.getEstimatedVolume());
+        target.setCurrency(source.getCurrency());
+        target.setCalculatedAt(source.getCalculatedAt());
+        target.setValidUntil(source.getValidUntil());
+        target.setInputHash(source.getInputHash());
+    }
 }
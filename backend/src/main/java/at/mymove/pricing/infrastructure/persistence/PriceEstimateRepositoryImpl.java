@@ -2,15 +2,26 @@ package at.mymove.pricing.infrastructure.persistence;
 
 import at.mymove.pricing.application.PriceEstimateRepository;
 import at.mymove.pricing.domain.PriceEstimate;
+import at.mymove.pricing.domain.PriceEstimateDeletedEvent;
+import at.mymove.pricing.domain.PriceEstimatesChangedEvent;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementierung des PriceEstimateRepository Interface.
+ * Veröffentlicht nach Speichern und Löschen {@link PriceEstimatesChangedEvent} bzw.
+ * {@link PriceEstimateDeletedEvent}.
  */
 @Repository
 @RequiredArgsConstructor
@@ -18,12 +29,51 @@ public class PriceEstimateRepositoryImpl implements PriceEstimateRepository {
 
     private final PriceEstimateJpaRepository jpaRepository;
     private final PriceEstimateMapper mapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public PriceEstimate save(PriceEstimate estimate) {
         PriceEstimateJpaEntity entity = mapper.toJpaEntity(estimate);
         PriceEstimateJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomainEntity(saved);
+        PriceEstimate result = mapper.toDomainEntity(saved);
+        eventPublisher.publishEvent(new PriceEstimatesChangedEvent(List.of(result)));
+        return result;
+    }
+
+    /**
+     * Upsert in einem Durchlauf: bestehende Zeilen werden mit einem einzigen SELECT geladen
+     * und als managed Entities aktualisiert, neue direkt per persist angelegt
+     * ({@code jpaRepository.saveAll} würde pro Zeile ein eigenes SELECT (merge) auslösen).
+     * Beim flush bündelt Hibernate INSERTs und UPDATEs gemäß {@code hibernate.jdbc.batch_size}.
+     */
+    @Override
+    public List<PriceEstimate> saveAll(List<PriceEstimate> estimates) {
+        if (estimates.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, PriceEstimateJpaEntity> existing = jpaRepository.findAllById(
+                        estimates.stream().map(PriceEstimate::id).toList()).stream()
+                .collect(Collectors.toMap(PriceEstimateJpaEntity::getId, Function.identity()));
+
+        List<PriceEstimateJpaEntity> entities = new ArrayList<>(estimates.size());
+        for (PriceEstimate estimate : estimates) {
+            PriceEstimateJpaEntity entity = mapper.toJpaEntity(estimate);
+            PriceEstimateJpaEntity managed = existing.get(estimate.id());
+            if (managed != null) {
+                mapper.copyInto(entity, managed);
+                entities.add(managed);
+            } else {
+                entityManager.persist(entity);
+                entities.add(entity);
+            }
+        }
+        entityManager.flush();
+        List<PriceEstimate> result = entities.stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+        eventPublisher.publishEvent(new PriceEstimatesChangedEvent(result));
+        return result;
     }
 
     @Override
@@ -38,6 +88,19 @@ public class PriceEstimateRepositoryImpl implements PriceEstimateRepository {
                 .toList();
     }
 
+    @Override
+    public List<PriceEstimate> findByOfferIds(Collection<UUID> offerIds) {
+        if (offerIds.isEmpty()) {
+            return List.of();
+        }
+        List<PriceEstimateJpaEntity> entities = jpaRepository.findByOfferIdIn(offerIds);
+        List<PriceEstimate> result = entities.stream()
+                .map(mapper::toDomainEntity)
+                .toList();
+        entities.forEach(entityManager::detach);
+        return result;
+    }
+
     @Override
     public List<PriceEstimate> findByCompanyId(UUID companyId) {
         return jpaRepository.findByCompanyId(companyId).stream()
@@ -47,17 +110,18 @@ public class PriceEstimateRepositoryImpl implements PriceEstimateRepository {
 
     @Override
     public Optional<PriceEstimate> findByCompanyIdAndOfferId(UUID companyId, UUID offerId) {
-        return jpaRepository.findByCompanyIdAndOfferId(companyId, offerId)
+        return jpaRepository.findFirstByCompanyIdAndOfferIdOrderByCalculatedAtDesc(companyId, offerId)
                 .map(mapper::toDomainEntity);
     }
 
     @Override
     public void delete(PriceEstimate estimate) {
-        jpaRepository.deleteById(estimate.id());
+        deleteById(estimate.id());
     }
 
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new PriceEstimateDeletedEvent(id));
     }
 }
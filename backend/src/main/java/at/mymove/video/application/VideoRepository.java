@@ -2,11 +2,14 @@ package at.mymove.video.application;
 
 import at.mymove.video.domain.Video;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VideoRepository {
     Video save(Video video);
     Optional<Video> findById(UUID id);
+    List<UUID> findExistingIds(Collection<UUID> ids);
     void deleteById(UUID id);
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package at.mymove.video.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 interface VideoJpaRepository extends JpaRepository<VideoJpaEntity, UUID> {
+
+    @Query("select v.id from VideoJpaEntity v where v.id in :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
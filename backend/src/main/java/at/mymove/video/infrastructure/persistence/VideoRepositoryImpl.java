@@ -5,6 +5,8 @@ import at.mymove.video.domain.Video;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +27,14 @@ public class VideoRepositoryImpl implements VideoRepository {
         return videoJpaRepository.findById(id).map(VideoMapper::toDomain);
     }
 
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return videoJpaRepository.findIdsByIdIn(ids);
+    }
+
     @Override
     public void deleteById(UUID id) {
         videoJpaRepository.deleteById(id);
@@ -0,0 +1,235 @@
+package at.mymove.ai.api;
+
+import at.mymove.ai.application.AnalysisJobEventHub;
+import at.mymove.ai.application.AnalysisJobRepository;
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.domain.AnalysisJobsChangedEvent;
+import at.mymove.ai.domain.DetectedItem;
+import at.mymove.ai.domain.RunningAnalysisJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE-Stream über {@code GET /api/v1/ai/jobs/{jobId}/events}: genau ein {@code completed}-Event
+ * mit anschließendem Schließen, 503 bei erreichten Limits und freigegebene Abonnements nach
+ * Timeout oder Fehler der Verbindung.
+ */
+class AnalysisJobEventStreamTest {
+
+    private static final int MAX_SUBSCRIBERS = 2;
+    private static final int MAX_SUBSCRIBERS_PER_JOB = 1;
+
+    private final InMemoryAnalysisJobRepository repository = new InMemoryAnalysisJobRepository();
+
+    private AnalysisJobEventHub hub;
+    private AnalysisJobEventStream stream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        hub = new AnalysisJobEventHub(new SimpleMeterRegistry(), MAX_SUBSCRIBERS, MAX_SUBSCRIBERS_PER_JOB);
+        stream = new AnalysisJobEventStream(hub, repository, 60_000, 5_000);
+        AiController controller = new AiController(null, null, repository, null, null, stream, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    @Test
+    void completedJobSendsOneCompletedEventAndCloses() throws Exception {
+        AnalysisJob running = repository.save(runningJob());
+        MvcResult result = open(running.id());
+        awaitContent(result, "event:status");
+
+        AnalysisJob succeeded = running.completeSuccess(
+                List.of(DetectedItem.of("Karton", 0.9)), 1.5, "Wohnzimmer", 12.0, Instant.now());
+        hub.on(new AnalysisJobsChangedEvent(List.of(succeeded)));
+        // Späte Duplikate desselben Stands (z. B. Callback und Poller) ändern nichts mehr
+        hub.on(new AnalysisJobsChangedEvent(List.of(succeeded)));
+
+        result.getAsyncResult(5_000);
+        String content = result.getResponse().getContentAsString();
+        assertEquals(1, occurrences(content, "event:status"));
+        assertEquals(1, occurrences(content, "event:completed"));
+        assertEquals(1, occurrences(content, "\"itemCount\":1"));
+        assertEquals(0, hub.subscribers());
+    }
+
+    @Test
+    void subscriptionLimitsAnswerWithServiceUnavailable() throws Exception {
+        AnalysisJob first = repository.save(runningJob());
+        AnalysisJob second = repository.save(runningJob());
+        AnalysisJob third = repository.save(runningJob());
+
+        open(first.id());
+        // Limit pro Job
+        mockMvc.perform(get("/api/v1/ai/jobs/{jobId}/events", first.id()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+
+        open(second.id());
+        // Limit insgesamt
+        mockMvc.perform(get("/api/v1/ai/jobs/{jobId}/events", third.id()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+
+        assertEquals(MAX_SUBSCRIBERS, hub.subscribers());
+    }
+
+    @Test
+    void timeoutAndErrorReleaseTheSubscription() throws Exception {
+        AnalysisJob timingOut = repository.save(runningJob());
+        AnalysisJob failing = repository.save(runningJob());
+
+        MvcResult timedOut = open(timingOut.id());
+        awaitContent(timedOut, "event:status");
+        MvcResult broken = open(failing.id());
+        awaitContent(broken, "event:status");
+        assertEquals(2, hub.subscribers());
+
+        MockAsyncContext timeoutContext = (MockAsyncContext) timedOut.getRequest().getAsyncContext();
+        for (AsyncListener listener : List.copyOf(timeoutContext.getListeners())) {
+            listener.onTimeout(new AsyncEvent(timeoutContext));
+        }
+        assertEquals(1, hub.subscribers());
+
+        MockAsyncContext errorContext = (MockAsyncContext) broken.getRequest().getAsyncContext();
+        for (AsyncListener listener : List.copyOf(errorContext.getListeners())) {
+            listener.onError(new AsyncEvent(errorContext, new IOException("Broken pipe")));
+        }
+        assertEquals(0, hub.subscribers());
+
+        // Änderungen an den Jobs erreichen keinen geschlossenen Stream mehr
+        hub.on(new AnalysisJobsChangedEvent(List.of(timingOut.completeFailure("timeout", Instant.now()))));
+        assertEquals(0, occurrences(timedOut.getResponse().getContentAsString(), "event:completed"));
+    }
+
+    // ---- Helper ----
+
+    private MvcResult open(UUID jobId) throws Exception {
+        return mockMvc.perform(get("/api/v1/ai/jobs/{jobId}/events", jobId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /**
+     * Gesendet wird auf virtuellen Threads, daher auf den erwarteten Inhalt warten.
+     */
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            if (System.nanoTime() > deadline) {
+                fail("Missing '" + expected + "' in: " + result.getResponse().getContentAsString());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static int occurrences(String content, String token) {
+        int count = 0;
+        for (int i = content.indexOf(token); i >= 0; i = content.indexOf(token, i + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static AnalysisJob runningJob() {
+        return AnalysisJob.create(UUID.randomUUID()).start("ext-" + UUID.randomUUID(), Instant.now());
+    }
+
+    /**
+     * Minimales Repository: der Stream lädt nur den aktuellen Stand per ID.
+     */
+    private static final class InMemoryAnalysisJobRepository implements AnalysisJobRepository {
+
+        private final Map<UUID, AnalysisJob> jobs = new ConcurrentHashMap<>();
+
+        @Override
+        public AnalysisJob save(AnalysisJob job) {
+            jobs.put(job.id(), job);
+            return job;
+        }
+
+        @Override
+        public List<AnalysisJob> saveAll(List<AnalysisJob> batch) {
+            batch.forEach(this::save);
+            return batch;
+        }
+
+        @Override
+        public Optional<AnalysisJob> findById(UUID id) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+
+        @Override
+        public Optional<AnalysisJob> findByIdForUpdate(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<AnalysisJob> findByVideoId(UUID videoId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<AnalysisJob> findActiveByVideoIds(Collection<UUID> videoIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<AnalysisJob> findByOfferId(UUID offerId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<AnalysisJob> findByExternalJobId(String externalJobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<AnalysisJob> findByStatus(AnalysisJobStatus status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<RunningAnalysisJob> findRunning() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(AnalysisJob job) {
+            jobs.remove(job.id());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package at.mymove.ai.application;
+
+import at.mymove.ai.domain.AnalysisJob;
+import at.mymove.ai.domain.AnalysisJobStatus;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisResultResponse;
+import at.mymove.ai.infrastructure.client.AiServiceClient.DetectedItemResponse;
+import at.mymove.ai.infrastructure.persistence.AnalysisJobJpaRepository;
+import at.mymove.inventory.domain.InventoryList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Callback und Poller schließen denselben Job parallel ab: genau ein Aufruf gewinnt, das
+ * Ergebnis wird genau einmal ins Inventar übernommen.
+ *
+ * Läuft ohne Test-Transaktion gegen eine echte H2-Datenbank, damit jeder Thread in
+ * seiner eigenen Transaktion committet.
+ */
+@DataJpaTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:analysis-completion;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        },
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "at\\.mymove\\.ai\\.(application\\.AnalysisJobCompletion"
+                        + "|infrastructure\\.persistence\\.(AnalysisJobRepositoryImpl|AnalysisJobMapper))"
+        )
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalysisJobCompletionConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        CountingProcessAnalysisResultUseCase processAnalysisResultUseCase() {
+            return new CountingProcessAnalysisResultUseCase();
+        }
+    }
+
+    /**
+     * Zählt nur die Übernahmen; das Inventar selbst ist hier nicht Gegenstand.
+     */
+    static class CountingProcessAnalysisResultUseCase extends ProcessAnalysisResultUseCase {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        CountingProcessAnalysisResultUseCase() {
+            super(null, null, null);
+        }
+
+        @Override
+        public InventoryList execute(UUID jobId) {
+            executions.incrementAndGet();
+            return null;
+        }
+
+        // Über Methoden, die Bean ist ein Transaktions-Proxy
+        int executions() {
+            return executions.get();
+        }
+
+        void reset() {
+            executions.set(0);
+        }
+    }
+
+    @Autowired
+    private AnalysisJobCompletion completion;
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private AnalysisJobJpaRepository analysisJobJpaRepository;
+
+    @Autowired
+    private CountingProcessAnalysisResultUseCase processAnalysisResultUseCase;
+
+    @BeforeEach
+    void setUp() {
+        processAnalysisResultUseCase.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        analysisJobJpaRepository.deleteAll();
+    }
+
+    @Test
+    void parallelSuccessIsProcessedOnce() throws Exception {
+        AnalysisJob job = analysisJobRepository.save(runningJob());
+
+        List<Callable<AnalysisJob>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            calls.add(() -> completion.succeed(job, result(job)));
+        }
+        List<AnalysisJob> results = runConcurrently(calls);
+
+        assertEquals(THREADS, results.size());
+        results.forEach(result -> assertEquals(AnalysisJobStatus.SUCCEEDED, result.status()));
+        assertEquals(1, processAnalysisResultUseCase.executions());
+        assertEquals(AnalysisJobStatus.SUCCEEDED, analysisJobRepository.findById(job.id()).orElseThrow().status());
+    }
+
+    @Test
+    void successAndFailureRaceKeepsTheFirstOutcome() throws Exception {
+        AnalysisJob job = analysisJobRepository.save(runningJob());
+
+        List<Callable<AnalysisJob>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            calls.add(i % 2 == 0
+                    ? () -> completion.succeed(job, result(job))
+                    : () -> completion.fail(job, "timeout"));
+        }
+        List<AnalysisJob> results = runConcurrently(calls);
+
+        // Alle Aufrufe sehen denselben Endstand
+        AnalysisJobStatus outcome = analysisJobRepository.findById(job.id()).orElseThrow().status();
+        results.forEach(result -> assertEquals(outcome, result.status()));
+        assertEquals(outcome == AnalysisJobStatus.SUCCEEDED ? 1 : 0, processAnalysisResultUseCase.executions());
+    }
+
+    // ---- Helper ----
+
+    /**
+     * Startet alle Aufrufe gleichzeitig.
+     */
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static AnalysisJob runningJob() {
+        return AnalysisJob.create(UUID.randomUUID())
+                .attachToOffer(UUID.randomUUID())
+                .start("ext-" + UUID.randomUUID(), Instant.now());
+    }
+
+    private static AnalysisResultResponse result(AnalysisJob job) {
+        return new AnalysisResultResponse(
+                job.externalJobId(),
+                new DetectedItemResponse[]{new DetectedItemResponse("Karton", null, 0.9, null, 0.1, 2)},
+                0.2,
+                "Wohnzimmer",
+                12.0
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package at.mymove.ai.infrastructure.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prüfung eingehender Callback-Signaturen: Zeitfenster, Header-Format und manipulierte Inhalte.
+ */
+class AiCallbackSignerTest {
+
+    private static final long TOLERANCE_SECONDS = 300;
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final byte[] BODY = "{\"jobId\":\"ext-42\",\"status\":\"succeeded\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AiCallbackSigner signer = new AiCallbackSigner("test-secret", TOLERANCE_SECONDS);
+
+    @Test
+    void validSignatureIsAccepted() {
+        long timestamp = NOW.getEpochSecond();
+
+        assertTrue(signer.verify(String.valueOf(timestamp), signer.sign(timestamp, BODY), BODY, NOW));
+    }
+
+    @Test
+    void timestampsOutsideTheToleranceAreRejected() {
+        long past = NOW.getEpochSecond() - TOLERANCE_SECONDS;
+        long tooOld = past - 1;
+        long future = NOW.getEpochSecond() + TOLERANCE_SECONDS;
+        long tooNew = future + 1;
+
+        assertTrue(signer.verify(String.valueOf(past), signer.sign(past, BODY), BODY, NOW));
+        assertTrue(signer.verify(String.valueOf(future), signer.sign(future, BODY), BODY, NOW));
+        assertFalse(signer.verify(String.valueOf(tooOld), signer.sign(tooOld, BODY), BODY, NOW));
+        assertFalse(signer.verify(String.valueOf(tooNew), signer.sign(tooNew, BODY), BODY, NOW));
+    }
+
+    @Test
+    void malformedHeadersAreRejected() {
+        long timestamp = NOW.getEpochSecond();
+        String hex = signer.sign(timestamp, BODY).substring("sha256=".length());
+        String ts = String.valueOf(timestamp);
+
+        assertFalse(signer.verify(ts, hex, BODY, NOW));
+        assertFalse(signer.verify(ts, "sha1=" + hex, BODY, NOW));
+        assertFalse(signer.verify(ts, "SHA256=" + hex, BODY, NOW));
+        assertFalse(signer.verify(ts, "sha256=not-hex", BODY, NOW));
+        assertFalse(signer.verify(ts, "sha256=", BODY, NOW));
+        assertFalse(signer.verify("yesterday", "sha256=" + hex, BODY, NOW));
+        assertFalse(signer.verify(null, "sha256=" + hex, BODY, NOW));
+        assertFalse(signer.verify(ts, null, BODY, NOW));
+    }
+
+    @Test
+    void tamperedBodyOrTimestampIsRejected() {
+        long timestamp = NOW.getEpochSecond();
+        String signature = signer.sign(timestamp, BODY);
+        byte[] tampered = "{\"jobId\":\"ext-42\",\"status\":\"failed\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(signer.verify(String.valueOf(timestamp), signature, tampered, NOW));
+        assertFalse(signer.verify(String.valueOf(timestamp - 1), signature, BODY, NOW));
+    }
+
+    @Test
+    void signatureFromAnotherSecretIsRejected() {
+        long timestamp = NOW.getEpochSecond();
+        String foreign = new AiCallbackSigner("other-secret", TOLERANCE_SECONDS).sign(timestamp, BODY);
+
+        assertFalse(signer.verify(String.valueOf(timestamp), foreign, BODY, NOW));
+    }
+
+    @Test
+    void withoutSecretNothingIsSignedOrAccepted() {
+        AiCallbackSigner unconfigured = new AiCallbackSigner("", TOLERANCE_SECONDS);
+        long timestamp = NOW.getEpochSecond();
+
+        assertFalse(unconfigured.isConfigured());
+        assertThrows(IllegalStateException.class, () -> unconfigured.sign(timestamp, BODY));
+        assertFalse(unconfigured.verify(String.valueOf(timestamp), signer.sign(timestamp, BODY), BODY, NOW));
+    }
+}
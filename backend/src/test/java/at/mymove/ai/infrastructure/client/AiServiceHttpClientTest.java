@@ -0,0 +1,285 @@
+package at.mymove.ai.infrastructure.client;
+
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisJobStatusResponse;
+import at.mymove.ai.infrastructure.client.AiServiceClient.AnalysisSubmission;
+import at.mymove.ai.infrastructure.client.AiServiceClient.SubmittedJob;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AiServiceHttpClient gegen einen lokalen Stub-Server, der pro Pfad Latenz und Fehler einspielt:
+ * Wiederholungen nur bei idempotenten Aufrufen, Deadlines pro Aufruf und Circuit Breaker.
+ */
+class AiServiceHttpClientTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Eingespielte Antwort des Stubs.
+     *
+     * @param status  HTTP-Status
+     * @param body    JSON-Body
+     * @param delayMs Latenz vor der Antwort
+     */
+    private record Reply(int status, String body, long delayMs) {}
+
+    private final Map<String, Queue<Reply>> faults = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private AiServiceHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        client = client(60000);
+    }
+
+    private AiServiceHttpClient client(long openMs) {
+        return new AiServiceHttpClient(
+                JSON,
+                meterRegistry,
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                "http://localhost:8080/api/v1/ai/callbacks",
+                1000,
+                1000,
+                500,
+                300,
+                3,
+                10,
+                50,
+                FAILURE_THRESHOLD,
+                openMs,
+                BATCH_SIZE
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void statusIsRetriedAfterServerErrors() {
+        inject("/jobs/job-1", new Reply(503, "", 0), new Reply(502, "", 0));
+
+        AnalysisJobStatusResponse status = client.getJobStatus("job-1");
+
+        assertEquals("running", status.status());
+        assertEquals(3, hits("/jobs/job-1"));
+        assertEquals(2.0, meterRegistry.get("mymove.ai.client.retries").counter().count());
+    }
+
+    @Test
+    void submitIsNotRetried() {
+        inject("/jobs", new Reply(503, "", 0));
+
+        assertThrows(AiServiceException.class, () -> client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+        assertEquals(1, hits("/jobs"));
+    }
+
+    @Test
+    void submitReturnsExternalJobId() {
+        assertEquals("ext-42", client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+    }
+
+    @Test
+    void unknownJobIsNotAnError() {
+        inject("/jobs/missing", new Reply(404, "", 0));
+
+        assertNull(client.getJobStatus("missing"));
+        assertEquals(1, hits("/jobs/missing"));
+    }
+
+    @Test
+    void slowServiceHitsTheCallDeadline() {
+        inject("/jobs/slow", new Reply(200, statusJson("slow"), 2000), new Reply(200, statusJson("slow"), 2000));
+
+        long start = System.nanoTime();
+        assertThrows(AiServiceException.class, () -> client.getJobStatus("slow"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Deadline 500 ms gilt für alle Versuche zusammen
+        assertTrue(elapsedMs < 1500, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailuresAndFeedsHealth() {
+        assertTrue(client.isHealthy());
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            inject("/jobs", new Reply(500, "", 0));
+            assertThrows(AiServiceException.class, () -> client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+        }
+        int hitsWhenOpened = hits("/jobs");
+
+        assertFalse(client.isHealthy());
+        assertThrows(AiServiceException.class, () -> client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+        assertEquals(hitsWhenOpened, hits("/jobs"));
+    }
+
+    @Test
+    void interruptedProbeDoesNotWedgeHalfOpenCircuit() throws InterruptedException {
+        client.close();
+        client = client(100);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            inject("/jobs", new Reply(500, "", 0));
+            assertThrows(AiServiceException.class, () -> client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+        }
+        Thread.sleep(150);
+
+        // Probeaufruf hängt am Server und wird unterbrochen
+        inject("/jobs", new Reply(202, "{\"jobId\":\"ext-slow\"}", 900));
+        int hitsBeforeProbe = hits("/jobs");
+        AtomicReference<Throwable> probeError = new AtomicReference<>();
+        Thread probe = Thread.ofVirtual().start(() -> {
+            try {
+                client.submitAnalysisJob(UUID.randomUUID(), "/videos/x");
+            } catch (RuntimeException e) {
+                probeError.set(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (hits("/jobs") == hitsBeforeProbe && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        probe.interrupt();
+        probe.join(2000);
+
+        assertInstanceOf(AiServiceException.class, probeError.get());
+        // Der nächste Aufruf darf proben und schließt den Breaker wieder
+        assertEquals("ext-42", client.submitAnalysisJob(UUID.randomUUID(), "/videos/x"));
+        assertTrue(client.isHealthy());
+    }
+
+    @Test
+    void batchSubmitIsChunkedAndKeepsOrder() {
+        List<AnalysisSubmission> submissions = IntStream.range(0, 5)
+                .mapToObj(i -> new AnalysisSubmission(UUID.randomUUID(), "/videos/" + i))
+                .toList();
+        // Zweiter Chunk scheitert als Ganzes
+        inject("/jobs/batch", null, new Reply(503, "", 0));
+
+        List<SubmittedJob> submitted = client.submitAnalysisJobs(submissions);
+
+        assertEquals(3, hits("/jobs/batch"));
+        assertEquals(submissions.stream().map(AnalysisSubmission::videoId).toList(),
+                submitted.stream().map(SubmittedJob::videoId).toList());
+        assertEquals(List.of(true, true, false, false, true),
+                submitted.stream().map(SubmittedJob::accepted).toList());
+    }
+
+    // ---- Helper ----
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        byte[] request = exchange.getRequestBody().readAllBytes();
+
+        Reply reply = faults.getOrDefault(path, new ConcurrentLinkedQueue<>()).poll();
+        if (reply == null || reply.status() == 0) {
+            reply = defaultReply(path, request);
+        }
+        if (reply.delayMs() > 0) {
+            try {
+                Thread.sleep(reply.delayMs());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (IOException e) {
+            // Client hat nach Ablauf der Deadline bereits aufgelegt
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Reply defaultReply(String path, byte[] request) throws IOException {
+        if (path.equals("/jobs/batch")) {
+            ArrayNode jobs = JSON.createArrayNode();
+            for (JsonNode job : JSON.readTree(request).get("jobs")) {
+                ObjectNode accepted = jobs.addObject();
+                accepted.put("videoId", job.get("videoId").asText());
+                accepted.put("jobId", "ext-" + job.get("videoId").asText());
+            }
+            ObjectNode response = JSON.createObjectNode();
+            response.set("jobs", jobs);
+            return new Reply(202, JSON.writeValueAsString(response), 0);
+        }
+        if (path.equals("/jobs")) {
+            return new Reply(202, "{\"jobId\":\"ext-42\"}", 0);
+        }
+        if (path.equals("/health")) {
+            return new Reply(200, "{\"status\":\"ok\"}", 0);
+        }
+        if (path.startsWith("/jobs/")) {
+            return new Reply(200, statusJson(path.substring("/jobs/".length())), 0);
+        }
+        return new Reply(404, "", 0);
+    }
+
+    private static String statusJson(String jobId) {
+        return "{\"jobId\":\"" + jobId + "\",\"status\":\"running\",\"errorMessage\":null}";
+    }
+
+    /**
+     * Spielt die Antworten der nächsten Requests auf {@code path} ein; null = reguläre Antwort.
+     */
+    private void inject(String path, Reply... replies) {
+        Queue<Reply> queue = faults.computeIfAbsent(path, p -> new ConcurrentLinkedQueue<>());
+        for (Reply reply : replies) {
+            queue.add(reply != null ? reply : new Reply(0, "", 0));
+        }
+    }
+
+    private int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count != null ? count.get() : 0;
+    }
+}
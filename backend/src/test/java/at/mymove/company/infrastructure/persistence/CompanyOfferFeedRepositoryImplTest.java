@@ -0,0 +1,262 @@
+package at.mymove.company.infrastructure.persistence;
+
+import at.mymove.company.application.CompanyOfferFeedItem;
+import at.mymove.company.application.OfferFeedCursor;
+import at.mymove.company.application.OfferFeedQuery;
+import at.mymove.company.application.OfferFeedSort;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.move.domain.SpecialRequirements;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PriceEstimate;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Der Firmen-Feed muss pro Seite mit genau einem Statement auskommen, unabhängig
+ * von der Anzahl Offers, und per Keyset-Cursor lückenlos durchblättern - auch mit
+ * Filtern und anderen Sortierungen.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CompanyOfferFeedRepositoryImpl.class)
+class CompanyOfferFeedRepositoryImplTest {
+
+    private static final int OFFERS = 120;
+    private static final BigDecimal PRICE = new BigDecimal("850.00");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CompanyOfferFeedRepositoryImpl repository;
+
+    private final UUID companyId = UUID.randomUUID();
+    private final UUID otherCompanyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // Gleiche createdAt-Zeitpunkte in Paaren, damit der Tie-Breaker über die ID greift
+        Instant base = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        List<CompanyOfferFeedItem> items = new ArrayList<>();
+        // Preise und Strecken wiederholen sich, damit auch dort der Tie-Breaker greift
+        for (int i = 0; i < OFFERS; i++) {
+            Offer offer = offer(OfferStatus.ESTIMATES_READY, base.minusSeconds(i / 2));
+            BigDecimal price = BigDecimal.valueOf(500 + (i % 10) * 50);
+            double distanceKm = 5.0 + (i % 7) * 2.5;
+            items.add(CompanyOfferFeedItem.of(offer, estimate(offer, companyId, price), distanceKm, null));
+            items.add(CompanyOfferFeedItem.of(offer, estimate(offer, otherCompanyId, price), distanceKm, null));
+        }
+        // Nicht im Feed: Offer ohne Schätzung der Firma und Offer im falschen Status
+        Offer foreign = offer(OfferStatus.ESTIMATES_READY, base);
+        items.add(CompanyOfferFeedItem.of(foreign, estimate(foreign, otherCompanyId, PRICE), 10.0, null));
+        Offer expired = offer(OfferStatus.EXPIRED, base);
+        items.add(CompanyOfferFeedItem.of(expired, estimate(expired, companyId, PRICE), 10.0, null));
+
+        repository.insertAll(items);
+        entityManager.clear();
+    }
+
+    @Test
+    void eachPageIsLoadedWithASingleStatement() {
+        Statistics statistics = statistics();
+
+        OfferFeedQuery query = OfferFeedQuery.newest(companyId);
+        statistics.clear();
+        List<CompanyOfferFeedItem> page = repository.findPage(query, null, 50);
+
+        assertEquals(50, page.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        page.forEach(item -> assertEquals(companyId, item.companyId()));
+
+        CompanyOfferFeedItem last = page.get(page.size() - 1);
+        statistics.clear();
+        repository.findPage(query, OfferFeedCursor.after(query.sort(), query.descending(), last), 50);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void keysetPagingVisitsEveryListedOfferExactlyOnce() {
+        List<CompanyOfferFeedItem> seen = readAll(OfferFeedQuery.newest(companyId), 17);
+
+        seen.forEach(item -> assertTrue(item.listed()));
+        assertEquals(OFFERS, seen.size());
+        assertEquals(OFFERS, seen.stream().map(CompanyOfferFeedItem::offerId).distinct().count());
+    }
+
+    @Test
+    void filteredPriceSortPagesInOrderWithOneStatementPerPage() {
+        OfferFeedQuery query = new OfferFeedQuery(
+                companyId, Set.of(OfferStatus.ESTIMATES_READY), "Wien", null, "1060", null,
+                LocalDate.of(2026, 11, 1), LocalDate.of(2026, 11, 30), 10.0, 20.0,
+                new BigDecimal("600.00"), new BigDecimal("800.00"), OfferFeedSort.PRICE, false, false, null);
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        List<CompanyOfferFeedItem> seen = readAll(query, 7);
+        long pages = statistics.getPrepareStatementCount();
+
+        // Preise 600, 650, 700, 750, 800 → 5 von 10 Preisstufen
+        assertEquals(OFFERS / 2, seen.size());
+        assertEquals(OFFERS / 2, seen.stream().map(CompanyOfferFeedItem::offerId).distinct().count());
+        // 9 Seiten à max. 7 Einträge plus die abschließende leere Seite
+        assertEquals(10, pages);
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).totalPrice().compareTo(seen.get(i).totalPrice()) <= 0);
+        }
+        seen.forEach(item -> {
+            assertTrue(item.totalPrice().compareTo(new BigDecimal("600.00")) >= 0);
+            assertTrue(item.totalPrice().compareTo(new BigDecimal("800.00")) <= 0);
+        });
+    }
+
+    @Test
+    void largeIdFilterIsQueriedInChunksAndMergedInDatabaseOrder() {
+        Statistics statistics = statistics();
+        for (OfferFeedSort sort : OfferFeedSort.values()) {
+            OfferFeedQuery query = new OfferFeedQuery(companyId, Set.of(), null, null, null, null, null, null,
+                    null, null, null, null, sort, sort.descendingByDefault(), false, null);
+            List<UUID> expected = readAll(query, 17).stream().map(CompanyOfferFeedItem::offerId).toList();
+
+            // Gelistete Offers plus unbekannte IDs, zusammen mehr als zwei Blöcke
+            Set<UUID> ids = new HashSet<>(expected);
+            while (ids.size() <= 2 * CompanyOfferFeedRepositoryImpl.MAX_ID_FILTER) {
+                ids.add(UUID.randomUUID());
+            }
+            OfferFeedQuery restricted = query.restrictTo(ids);
+
+            statistics.clear();
+            repository.findPage(restricted, null, 17);
+            assertEquals(3, statistics.getPrepareStatementCount());
+
+            List<UUID> seen = readAll(restricted, 17).stream().map(CompanyOfferFeedItem::offerId).toList();
+            assertEquals(expected, seen, sort.name());
+        }
+    }
+
+    @Test
+    void saveAllUpdatesRowsInPlaceAndReplacesSupersededEstimates() {
+        CompanyOfferFeedItem item = repository.findPage(OfferFeedQuery.newest(companyId), null, 1).get(0);
+
+        repository.saveAll(List.of(item.withFinalOfferStatus(FinalOfferStatus.SUBMITTED)));
+        entityManager.clear();
+        CompanyOfferFeedItem submitted = repository.findByCompanyIdAndOfferId(companyId, item.offerId()).orElseThrow();
+        assertEquals(item.estimateId(), submitted.estimateId());
+        assertFalse(submitted.canSubmitFinalOffer());
+
+        // Neue Schätzung (neue ID) für dieselbe Firma und dasselbe Offer ersetzt die alte Zeile
+        UUID newEstimateId = UUID.randomUUID();
+        CompanyOfferFeedItem replacement = new CompanyOfferFeedItem(
+                item.companyId(), item.offerId(), newEstimateId, item.offerStatus(), item.assignedCompanyId(),
+                item.offerCreatedAt(), item.moveDate(), item.fromCity(), item.toCity(), item.fromPostalCode(),
+                item.toPostalCode(), item.fromFloor(), item.toFloor(), item.fromHasElevator(),
+                item.toHasElevator(), item.distanceKm(), new BigDecimal("900.00"), null, null,
+                item.breakdown(), item.estimatedHours(), item.estimatedVolume(), item.currency(),
+                item.calculatedAt(), item.validUntil(), null
+        );
+        repository.saveAll(List.of(replacement));
+        entityManager.clear();
+
+        List<CompanyOfferFeedItem> rows = repository.findByOfferId(item.offerId()).stream()
+                .filter(row -> row.companyId().equals(companyId))
+                .toList();
+        assertEquals(1, rows.size());
+        assertEquals(newEstimateId, rows.get(0).estimateId());
+        assertEquals(new BigDecimal("900.00"), rows.get(0).totalPrice());
+    }
+
+    // ---- Helper ----
+
+    private List<CompanyOfferFeedItem> readAll(OfferFeedQuery query, int pageSize) {
+        List<CompanyOfferFeedItem> seen = new ArrayList<>();
+        OfferFeedCursor cursor = null;
+        while (true) {
+            List<CompanyOfferFeedItem> page = repository.findPage(query, cursor, pageSize);
+            if (page.isEmpty()) {
+                return seen;
+            }
+            seen.addAll(page);
+            CompanyOfferFeedItem last = page.get(page.size() - 1);
+            cursor = OfferFeedCursor.decode(OfferFeedCursor.after(query.sort(), query.descending(), last).encode());
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static Offer offer(OfferStatus status, Instant createdAt) {
+        return new Offer(
+                UUID.randomUUID(),
+                status,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                null,
+                moveDetails(),
+                createdAt,
+                createdAt,
+                null,
+                null,
+                null
+        );
+    }
+
+    private static PriceEstimate estimate(Offer offer, UUID companyId, BigDecimal price) {
+        return new PriceEstimate(
+                UUID.randomUUID(),
+                offer.id(),
+                companyId,
+                price,
+                null,
+                null,
+                PriceBreakdown.builder().baseFee(price).build(),
+                6.5,
+                18.0,
+                "EUR",
+                Instant.now(),
+                null,
+                null
+        );
+    }
+
+    private static MoveDetails moveDetails() {
+        return new MoveDetails(
+                new Address("Mariahilfer Straße", "1", "1060", "Wien", "AT", null),
+                new Address("Landstraßer Hauptstraße", "2", "1030", "Wien", "AT", null),
+                FloorDetails.groundFloor(false, false),
+                new FloorDetails(3, true, false, null, false, false),
+                false,
+                null,
+                LocalDate.of(2026, 11, 15),
+                new SpecialRequirements(false, null)
+        );
+    }
+}
@@ -0,0 +1,248 @@
+package at.mymove.core.api;
+
+import at.mymove.core.infrastructure.persistence.IdempotencyRecordJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Parallele Requests mit demselben Idempotency-Key werden genau einmal ausgeführt, alle
+ * Duplikate erhalten dieselbe Antwort. Dazu die Prüfung des Bodys und die Trennung anonymer
+ * Aufrufer.
+ *
+ * Läuft ohne Test-Transaktion gegen eine echte H2-Datenbank, damit gespeicherte Antworten
+ * committet sind, bevor Duplikate sie lesen.
+ */
+@DataJpaTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:idempotency-concurrency;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        },
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "at\\.mymove\\.core\\.(api\\.(IdempotencyFilter|IdempotencyStore)"
+                        + "|infrastructure\\.persistence\\.IdempotencyRepositoryImpl)"
+        )
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyFilterConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final String PATH = "/api/v1/offers";
+    private static final String USER = "firma@umzug-beispiel.at";
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+    }
+
+    @Autowired
+    private IdempotencyFilter filter;
+
+    @Autowired
+    private IdempotencyRecordJpaRepository jpaRepository;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDuplicatesAreExecutedOnce() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            executing.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            echo(request.getInputStream().readAllBytes(), response);
+        };
+
+        List<Callable<MockHttpServletResponse>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            calls.add(() -> {
+                authenticate(USER);
+                try {
+                    return send(json("key-1", "{\"videoId\":\"a\"}"), slowChain);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        List<MockHttpServletResponse> responses = runConcurrently(calls);
+
+        assertEquals(1, executions.get());
+        assertEquals(0, executing.getCount());
+        long replayed = responses.stream()
+                .filter(response -> "true".equals(response.getHeader(ApiHeaders.IDEMPOTENT_REPLAYED)))
+                .count();
+        assertEquals(THREADS - 1, replayed);
+        for (MockHttpServletResponse response : responses) {
+            assertEquals(201, response.getStatus());
+            assertEquals("{\"videoId\":\"a\"}", response.getContentAsString());
+        }
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        authenticate(USER);
+
+        MockHttpServletResponse first = send(json("key-2", "{\"videoId\":\"a\"}"), this::echoChain);
+        MockHttpServletResponse changed = send(json("key-2", "{\"videoId\":\"b\"}"), this::echoChain);
+        MockHttpServletResponse retry = send(json("key-2", "{\"videoId\":\"a\"}"), this::echoChain);
+
+        assertEquals(201, first.getStatus());
+        assertEquals(422, changed.getStatus());
+        assertEquals(201, retry.getStatus());
+        assertEquals("true", retry.getHeader(ApiHeaders.IDEMPOTENT_REPLAYED));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void anonymousCallersDoNotShareKeys() throws Exception {
+        MockHttpServletResponse first = send(json("key-3", "{\"videoId\":\"a\"}"), this::echoChain);
+        MockHttpServletResponse other = send(json("key-3", "{\"videoId\":\"b\"}"), this::echoChain);
+        MockHttpServletResponse retry = send(json("key-3", "{\"videoId\":\"a\"}"), this::echoChain);
+
+        assertEquals(2, executions.get());
+        assertNull(other.getHeader(ApiHeaders.IDEMPOTENT_REPLAYED));
+        assertEquals("{\"videoId\":\"b\"}", other.getContentAsString());
+        assertEquals("true", retry.getHeader(ApiHeaders.IDEMPOTENT_REPLAYED));
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+    }
+
+    @Test
+    void multipartRetryIsMatchedByParts() throws Exception {
+        authenticate(USER);
+
+        MockHttpServletResponse first = send(upload("key-4", "video-1"), this::echoChain);
+        MockHttpServletResponse retry = send(upload("key-4", "video-1"), this::echoChain);
+        MockHttpServletResponse changed = send(upload("key-4", "video-2"), this::echoChain);
+
+        assertEquals(201, first.getStatus());
+        assertEquals("true", retry.getHeader(ApiHeaders.IDEMPOTENT_REPLAYED));
+        assertEquals(422, changed.getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    // ---- Helper ----
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void echoChain(ServletRequest request, ServletResponse response) throws IOException {
+        echo(request.getInputStream().readAllBytes(), response);
+    }
+
+    private void echo(byte[] body, ServletResponse response) throws IOException {
+        executions.incrementAndGet();
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(body);
+    }
+
+    private static MockHttpServletRequest json(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(ApiHeaders.IDEMPOTENCY_KEY, key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest upload(String key, String content) {
+        MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+        request.setMethod("POST");
+        request.setRequestURI(PATH + "/upload");
+        request.addHeader(ApiHeaders.IDEMPOTENCY_KEY, key);
+        MockPart part = new MockPart("file", "umzug.mp4", content.getBytes(StandardCharsets.UTF_8));
+        part.getHeaders().setContentType(MediaType.valueOf("video/mp4"));
+        request.addPart(part);
+        return request;
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, null, AuthorityUtils.createAuthorityList("ROLE_COMPANY")));
+    }
+
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package at.mymove.inventory.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property-Test: Die laufenden Summen einer InventoryList stimmen nach beliebigen
+ * Folgen von add/remove/update/replaceAll mit einer Neuberechnung über alle Items überein.
+ */
+class InventoryListTotalsTest {
+
+    private static final int RUNS = 500;
+    private static final int OPERATIONS_PER_RUN = 200;
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    void runningTotalsMatchFullRecomputation() {
+        Random random = new Random(20260118L);
+
+        for (int run = 0; run < RUNS; run++) {
+            InventoryList inventory = random.nextBoolean()
+                    ? InventoryList.createEmpty(UUID.randomUUID())
+                    : InventoryList.fromAiResults(UUID.randomUUID(), randomAiItems(random, random.nextInt(20)));
+
+            for (int op = 0; op < OPERATIONS_PER_RUN; op++) {
+                inventory = applyRandomOperation(random, inventory);
+                assertConsistent(inventory, "run " + run + ", operation " + op);
+            }
+
+            // Bestätigt wird exakt das Ergebnis der Neuberechnung, unabhängig vom Verlauf
+            InventoryList confirmed = inventory.confirm(inventory.createdAt().plusSeconds(60));
+            assertEquals(InventoryTotals.of(inventory.items()), confirmed.totals());
+        }
+    }
+
+    @Test
+    void removingAllItemsResetsToEmpty() {
+        InventoryList inventory = InventoryList.createEmpty(UUID.randomUUID())
+                .addItem(InventoryItem.aiDetected("Couch", 1, 0.7, "Möbel", 0.1))
+                .addItem(InventoryItem.manual("Karton", 3, "Kartons", 0.2))
+                .removeItem(0)
+                .removeItem(0);
+
+        assertEquals(InventoryTotals.EMPTY, inventory.totals());
+        assertTrue(inventory.averageAiConfidence().isEmpty());
+    }
+
+    @Test
+    void missingTotalsAreComputedFromItems() {
+        List<InventoryItem> items = List.of(
+                InventoryItem.aiDetected("Bett", 2, 0.9, "Möbel", 1.5),
+                InventoryItem.manual("Lampe", 1)
+        );
+
+        InventoryList inventory = new InventoryList(
+                UUID.randomUUID(), UUID.randomUUID(), items, InventoryStatus.DRAFT,
+                java.time.Instant.now(), null, null, null
+        );
+
+        assertEquals(new InventoryTotals(3.0, 3, 1, 1, 0.9), inventory.totals());
+    }
+
+    // ---- Helper ----
+
+    private static InventoryList applyRandomOperation(Random random, InventoryList inventory) {
+        int size = inventory.items().size();
+        int choice = random.nextInt(10);
+        if (size == 0 || choice < 4) {
+            return inventory.addItem(randomItem(random));
+        }
+        if (choice < 7) {
+            return inventory.removeItem(random.nextInt(size));
+        }
+        if (choice < 9) {
+            return inventory.updateItem(random.nextInt(size), randomItem(random));
+        }
+        return inventory.replaceAllItems(randomAiItems(random, random.nextInt(10)));
+    }
+
+    private static void assertConsistent(InventoryList inventory, String context) {
+        InventoryTotals expected = InventoryTotals.of(inventory.items());
+        InventoryTotals actual = inventory.totals();
+
+        assertEquals(expected.quantity(), actual.quantity(), context);
+        assertEquals(expected.aiDetectedCount(), actual.aiDetectedCount(), context);
+        assertEquals(expected.manualCount(), actual.manualCount(), context);
+        assertEquals(expected.volume(), actual.volume(), TOLERANCE * Math.max(1.0, expected.volume()), context);
+        assertEquals(expected.aiConfidenceSum(), actual.aiConfidenceSum(),
+                TOLERANCE * Math.max(1.0, expected.aiConfidenceSum()), context);
+
+        assertEquals(inventory.items().stream().mapToInt(InventoryItem::quantity).sum(), inventory.totalItemCount(), context);
+        assertEquals(inventory.items().size(), inventory.aiDetectedItemCount() + inventory.manualItemCount(), context);
+
+        OptionalDouble expectedAverage = inventory.items().stream()
+                .filter(item -> item.source() == ItemSource.AI_DETECTED)
+                .mapToDouble(InventoryItem::confidence)
+                .average();
+        assertEquals(expectedAverage.isPresent(), inventory.averageAiConfidence().isPresent(), context);
+        if (expectedAverage.isPresent()) {
+            assertEquals(expectedAverage.getAsDouble(), inventory.averageAiConfidence().getAsDouble(), TOLERANCE, context);
+        }
+    }
+
+    private static List<InventoryItem> randomAiItems(Random random, int count) {
+        return random.ints(count, 0, Integer.MAX_VALUE)
+                .mapToObj(seed -> randomAiItem(new Random(seed)))
+                .toList();
+    }
+
+    private static InventoryItem randomItem(Random random) {
+        if (random.nextBoolean()) {
+            return randomAiItem(random);
+        }
+        Double volume = random.nextInt(4) == 0 ? null : random.nextDouble() * 3;
+        return InventoryItem.manual("Manuell", 1 + random.nextInt(5), null, volume);
+    }
+
+    private static InventoryItem randomAiItem(Random random) {
+        Double volume = random.nextInt(4) == 0 ? null : random.nextDouble() * 3;
+        return InventoryItem.aiDetected("KI", 1 + random.nextInt(5), random.nextDouble(), null, volume);
+    }
+}
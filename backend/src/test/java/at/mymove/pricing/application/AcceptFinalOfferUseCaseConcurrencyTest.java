@@ -0,0 +1,227 @@
+package at.mymove.pricing.application;
+
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.move.domain.SpecialRequirements;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.offer.infrastructure.persistence.OfferJpaRepository;
+import at.mymove.pricing.domain.FinalOffer;
+import at.mymove.pricing.domain.FinalOfferStatus;
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.infrastructure.persistence.FinalOfferJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Parallele Annahmen desselben Offers dürfen genau einen Gewinner haben - egal ob sie
+ * dieselbe oder konkurrierende Offerten betreffen. Alle übrigen Gebote sind danach abgelehnt.
+ *
+ * Läuft ohne Test-Transaktion gegen eine echte H2-Datenbank, damit jeder Thread in
+ * seiner eigenen Transaktion committet.
+ */
+@DataJpaTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:accept-concurrency;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        },
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "at\\.mymove\\.(pricing\\.application\\.(AcceptFinalOfferUseCase|FinalOfferRankingCache)"
+                        + "|pricing\\.infrastructure\\.persistence\\.(FinalOfferRepositoryImpl|FinalOfferMapper)"
+                        + "|offer\\.infrastructure\\.persistence\\.OfferRepositoryImpl)"
+        )
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AcceptFinalOfferUseCaseConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private AcceptFinalOfferUseCase acceptFinalOfferUseCase;
+
+    @Autowired
+    private FinalOfferRepository finalOfferRepository;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private FinalOfferJpaRepository finalOfferJpaRepository;
+
+    @Autowired
+    private OfferJpaRepository offerJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        finalOfferJpaRepository.deleteAll();
+        offerJpaRepository.deleteAll();
+    }
+
+    @Test
+    void competingOffersHaveExactlyOneWinner() throws Exception {
+        Offer offer = offerRepository.save(offer());
+        List<FinalOffer> bids = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bids.add(finalOfferRepository.save(submitted(offer, BigDecimal.valueOf(800 + i * 10))));
+        }
+
+        List<Callable<FinalOffer>> accepts = bids.stream()
+                .map(bid -> (Callable<FinalOffer>) () -> acceptFinalOfferUseCase.execute(bid.id()))
+                .toList();
+        List<Throwable> failures = new ArrayList<>();
+        List<FinalOffer> winners = runConcurrently(accepts, failures);
+
+        assertEquals(1, winners.size());
+        assertEquals(THREADS - 1, failures.size());
+        failures.forEach(failure -> assertInstanceOf(IllegalStateException.class, failure));
+
+        List<FinalOffer> stored = finalOfferRepository.findByOfferId(offer.id());
+        assertEquals(1, stored.stream().filter(o -> o.status() == FinalOfferStatus.ACCEPTED).count());
+        assertEquals(THREADS - 1, stored.stream().filter(o -> o.status() == FinalOfferStatus.REJECTED).count());
+        assertEquals(winners.get(0).id(), stored.stream()
+                .filter(o -> o.status() == FinalOfferStatus.ACCEPTED).findFirst().orElseThrow().id());
+        assertEquals(OfferStatus.ACCEPTED, offerRepository.findById(offer.id()).orElseThrow().status());
+    }
+
+    @Test
+    void sameOfferAcceptedInParallelSucceedsOnce() throws Exception {
+        Offer offer = offerRepository.save(offer());
+        FinalOffer bid = finalOfferRepository.save(submitted(offer, new BigDecimal("950.00")));
+        FinalOffer other = finalOfferRepository.save(submitted(offer, new BigDecimal("990.00")));
+
+        List<Callable<FinalOffer>> accepts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            accepts.add(() -> acceptFinalOfferUseCase.execute(bid.id()));
+        }
+        List<Throwable> failures = new ArrayList<>();
+        List<FinalOffer> winners = runConcurrently(accepts, failures);
+
+        assertEquals(1, winners.size());
+        assertEquals(THREADS - 1, failures.size());
+        failures.forEach(failure -> assertInstanceOf(IllegalStateException.class, failure));
+        assertEquals(FinalOfferStatus.ACCEPTED, finalOfferRepository.findById(bid.id()).orElseThrow().status());
+        assertEquals(FinalOfferStatus.REJECTED, finalOfferRepository.findById(other.id()).orElseThrow().status());
+    }
+
+    // ---- Helper ----
+
+    /**
+     * Startet alle Aufrufe gleichzeitig und trennt Ergebnisse von Fehlern.
+     */
+    private static <T> List<T> runConcurrently(List<Callable<T>> calls, List<Throwable> failures) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Offer offer() {
+        Instant now = Instant.now();
+        return new Offer(
+                UUID.randomUUID(),
+                OfferStatus.FINAL_OFFER_SUBMITTED,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                null,
+                new MoveDetails(
+                        new Address("Mariahilfer Straße", "1", "1060", "Wien", "AT", null),
+                        new Address("Landstraßer Hauptstraße", "2", "1030", "Wien", "AT", null),
+                        FloorDetails.groundFloor(false, false),
+                        new FloorDetails(3, true, false, null, false, false),
+                        false,
+                        null,
+                        LocalDate.of(2026, 11, 15),
+                        new SpecialRequirements(false, null)
+                ),
+                now,
+                now,
+                null,
+                null,
+                null
+        );
+    }
+
+    private static FinalOffer submitted(Offer offer, BigDecimal price) {
+        Instant now = Instant.now();
+        return new FinalOffer(
+                UUID.randomUUID(),
+                offer.id(),
+                UUID.randomUUID(),
+                null,
+                price,
+                PriceBreakdown.builder().baseFee(price).build(),
+                7,
+                null,
+                FinalOfferStatus.SUBMITTED,
+                now,
+                now,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+}
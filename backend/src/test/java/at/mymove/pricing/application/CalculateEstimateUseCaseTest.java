@@ -0,0 +1,282 @@
+package at.mymove.pricing.application;
+
+import at.mymove.company.domain.Company;
+import at.mymove.company.domain.CompanyRepository;
+import at.mymove.company.domain.CompanyService;
+import at.mymove.company.domain.CompanyStatus;
+import at.mymove.company.domain.PricingConditions;
+import at.mymove.company.infrastructure.persistence.CompanyJpaRepository;
+import at.mymove.inventory.application.InventoryRepository;
+import at.mymove.inventory.domain.InventoryItem;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.inventory.domain.InventoryStatus;
+import at.mymove.inventory.domain.InventoryTotals;
+import at.mymove.inventory.infrastructure.persistence.InventoryListJpaRepository;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import at.mymove.move.domain.MoveDetails;
+import at.mymove.move.domain.SpecialRequirements;
+import at.mymove.offer.domain.Offer;
+import at.mymove.offer.domain.OfferRepository;
+import at.mymove.offer.domain.OfferStatus;
+import at.mymove.offer.infrastructure.persistence.OfferJpaRepository;
+import at.mymove.pricing.domain.PriceEstimate;
+import at.mymove.pricing.domain.PricingEngine;
+import at.mymove.pricing.infrastructure.persistence.PriceEstimateJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Wiederverwendung über den {@link at.mymove.pricing.domain.EstimateInputHash} und Upsert der
+ * einen Zeile pro Firma und Offer - einzeln und im Durchlauf über alle genehmigten Firmen.
+ *
+ * Läuft ohne Test-Transaktion gegen eine echte H2-Datenbank, damit jeder Vergleich den
+ * committeten Stand liest.
+ */
+@DataJpaTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:calculate-estimate;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        },
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.REGEX,
+                pattern = "at\\.mymove\\.(pricing\\.application\\.CalculateEstimateUseCase"
+                        + "|pricing\\.infrastructure\\.persistence\\.(PriceEstimateRepositoryImpl|PriceEstimateMapper)"
+                        + "|company\\.(application\\.CompanyTariffCache|infrastructure\\.persistence\\.CompanyRepositoryImpl)"
+                        + "|offer\\.infrastructure\\.persistence\\.OfferRepositoryImpl"
+                        + "|inventory\\.(application\\.GetInventoryUseCase"
+                        + "|infrastructure\\.persistence\\.(InventoryRepositoryImpl|InventoryMapper)))"
+        )
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CalculateEstimateUseCaseTest {
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PricingEngine pricingEngine() {
+            return new PricingEngine(PricingEngine.Mode.BIG_DECIMAL, (from, to) -> 120.0);
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        ExecutorService pricingExecutor() {
+            return Executors.newFixedThreadPool(2);
+        }
+    }
+
+    @Autowired
+    private CalculateEstimateUseCase calculateEstimateUseCase;
+
+    @Autowired
+    private PriceEstimateRepository priceEstimateRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private PriceEstimateJpaRepository priceEstimateJpaRepository;
+
+    @Autowired
+    private InventoryListJpaRepository inventoryListJpaRepository;
+
+    @Autowired
+    private OfferJpaRepository offerJpaRepository;
+
+    @Autowired
+    private CompanyJpaRepository companyJpaRepository;
+
+    private Company company;
+    private Offer offer;
+
+    @BeforeEach
+    void setUp() {
+        company = companyRepository.save(approvedCompany("office@umzug-beispiel.at"));
+        offer = offerRepository.save(offer());
+        inventoryRepository.save(confirmedInventory(offer.id(), items(3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        priceEstimateJpaRepository.deleteAll();
+        inventoryListJpaRepository.deleteAll();
+        offerJpaRepository.deleteAll();
+        companyJpaRepository.deleteAll();
+    }
+
+    @Test
+    void unchangedInputsReuseTheStoredEstimate() {
+        calculateEstimateUseCase.execute(company.id(), offer.id());
+        PriceEstimate stored = stored(company);
+
+        PriceEstimate again = calculateEstimateUseCase.execute(company.id(), offer.id());
+
+        assertEquals(stored.id(), again.id());
+        assertEquals(stored.calculatedAt(), again.calculatedAt());
+        assertEquals(stored.calculatedAt(), stored(company).calculatedAt());
+        assertEquals(1, priceEstimateJpaRepository.count());
+    }
+
+    @Test
+    void changedInputsRecalculateIntoTheExistingRow() {
+        PriceEstimate before = calculateEstimateUseCase.execute(company.id(), offer.id());
+
+        replaceItems(items(6));
+        PriceEstimate after = calculateEstimateUseCase.execute(company.id(), offer.id());
+
+        assertEquals(before.id(), after.id());
+        assertNotEquals(before.inputHash(), after.inputHash());
+        assertTrue(after.totalPrice().compareTo(before.totalPrice()) > 0);
+        assertEquals(after.inputHash(), stored(company).inputHash());
+        assertEquals(1, priceEstimateJpaRepository.count());
+    }
+
+    @Test
+    void batchRunUpdatesExistingRowsAndInsertsNewOnes() {
+        List<PriceEstimate> first = calculateEstimateUseCase.executeForApprovedCompanies(offer.id());
+        assertEquals(1, first.size());
+        PriceEstimate before = stored(company);
+
+        Company other = companyRepository.save(approvedCompany("office@umzug-anders.at"));
+        replaceItems(items(6));
+        List<PriceEstimate> second = calculateEstimateUseCase.executeForApprovedCompanies(offer.id());
+
+        assertEquals(2, second.size());
+        assertEquals(2, priceEstimateJpaRepository.count());
+        PriceEstimate updated = stored(company);
+        assertEquals(before.id(), updated.id());
+        assertNotEquals(before.inputHash(), updated.inputHash());
+        PriceEstimate inserted = stored(other);
+
+        // Dritter Durchlauf ohne Änderung schreibt nichts
+        calculateEstimateUseCase.executeForApprovedCompanies(offer.id());
+
+        assertEquals(2, priceEstimateJpaRepository.count());
+        assertEquals(updated.calculatedAt(), stored(company).calculatedAt());
+        assertEquals(inserted.calculatedAt(), stored(other).calculatedAt());
+    }
+
+    // ---- Helper ----
+
+    private PriceEstimate stored(Company owner) {
+        return priceEstimateRepository.findByCompanyIdAndOfferId(owner.id(), offer.id()).orElseThrow();
+    }
+
+    private void replaceItems(List<InventoryItem> items) {
+        InventoryList current = inventoryRepository.findByOfferId(offer.id()).orElseThrow();
+        inventoryRepository.save(new InventoryList(
+                current.id(),
+                current.offerId(),
+                items,
+                InventoryStatus.CONFIRMED,
+                current.createdAt(),
+                current.confirmedAt(),
+                InventoryTotals.of(items),
+                current.version()
+        ));
+    }
+
+    private static List<InventoryItem> items(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> InventoryItem.manual("Karton " + i, 2, "Kartons", 0.5))
+                .toList();
+    }
+
+    private static InventoryList confirmedInventory(UUID offerId, List<InventoryItem> items) {
+        Instant now = Instant.now();
+        return new InventoryList(
+                UUID.randomUUID(), offerId, items, InventoryStatus.DRAFT, now, null, InventoryTotals.of(items), null
+        ).confirm(now);
+    }
+
+    private static Offer offer() {
+        Instant now = Instant.now();
+        return new Offer(
+                UUID.randomUUID(),
+                OfferStatus.INVENTORY_CONFIRMED,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                null,
+                new MoveDetails(
+                        new Address("Mariahilfer Straße", "1", "1060", "Wien", "AT", null),
+                        new Address("Herrengasse", "7", "8010", "Graz", "AT", null),
+                        FloorDetails.groundFloor(false, false),
+                        new FloorDetails(3, true, false, null, false, false),
+                        false,
+                        null,
+                        LocalDate.of(2026, 11, 15),
+                        new SpecialRequirements(false, null)
+                ),
+                now,
+                now,
+                null,
+                null,
+                null
+        );
+    }
+
+    private static Company approvedCompany(String email) {
+        Instant now = Instant.now();
+        return new Company(
+                UUID.randomUUID(),
+                email,
+                "$2a$10$abcdefghijklmnopqrstuv",
+                "Umzug Beispiel GmbH",
+                "Industriestraße 1",
+                "Wien",
+                "1100",
+                "AT",
+                "+43 1 234567",
+                null,
+                "ATU12345678",
+                Set.of(CompanyService.MOVING),
+                "trade-licenses/beispiel.pdf",
+                PricingConditions.of(new BigDecimal("65.00"), new BigDecimal("45.00")),
+                CompanyStatus.APPROVED,
+                now,
+                now,
+                "admin@mymove.at",
+                null
+        );
+    }
+}
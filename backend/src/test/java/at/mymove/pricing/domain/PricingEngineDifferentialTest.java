@@ -0,0 +1,182 @@
+package at.mymove.pricing.domain;
+
+import at.mymove.company.domain.PricingConditions;
+import at.mymove.inventory.domain.InventoryItem;
+import at.mymove.inventory.domain.InventoryList;
+import at.mymove.inventory.domain.InventoryStatus;
+import at.mymove.move.domain.Address;
+import at.mymove.move.domain.FloorDetails;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differentieller Test: {@link PricingEngine#calculateEstimateFixedPoint} liefert für beliebige
+ * Konditionen, Stockwerke, Inventare und Distanzen exakt dieselbe Aufschlüsselung wie der
+ * BigDecimal-Referenzpfad - inklusive Mengen der Positionen, .5-Cent-Grenzen und Werten
+ * oberhalb von {@code MAX_FAST_PRODUCT}, die exakt nachgerechnet werden.
+ */
+class PricingEngineDifferentialTest {
+
+    private static final int RUNS = 20_000;
+
+    private static final Address FROM = new Address("Hauptstraße", "1", "1010", "Wien", "AT", null);
+    private static final Address TO = new Address("Landstraße", "12", "4020", "Linz", "AT", null);
+
+    /** Vom DistanceCalculator gelieferte Distanz; NaN = unbekannt (Pauschale). */
+    private double distanceKm = Double.NaN;
+
+    private final PricingEngine engine = new PricingEngine(PricingEngine.Mode.BIG_DECIMAL, (from, to) -> distanceKm);
+
+    @Test
+    void randomizedInputsGiveIdenticalBreakdowns() {
+        Random random = new Random(20260202L);
+
+        for (int run = 0; run < RUNS; run++) {
+            PricingConditions conditions = randomConditions(random);
+            FloorDetails fromFloor = randomFloor(random);
+            FloorDetails toFloor = randomFloor(random);
+            InventoryList inventory = randomInventory(random);
+            distanceKm = randomDistance(random);
+
+            assertSameBreakdown(conditions, fromFloor, toFloor, inventory, "run " + run);
+        }
+    }
+
+    @Test
+    void halfCentTiesAreRoundedHalfUpOnBothPaths() {
+        PricingConditions conditions = PricingConditions.of(new BigDecimal("45.25"), new BigDecimal("30.00"));
+
+        // 15.00 € × 0.125 m³ = 1.875 € → 1.88 €; Menge 0.125 → 0.13
+        distanceKm = 10.0;
+        PriceBreakdown volumeTie = assertSameBreakdown(conditions, null, null, inventoryWithVolume(0.125), "volume");
+        assertEquals(new BigDecimal("1.88"), volumeTie.volumeCost());
+        assertEquals(new BigDecimal("0.13"), lineItem(volumeTie, PriceLineItem.Code.VOLUME).quantity());
+
+        // 15.00 € × 0.001 m³ = 0.015 € → 0.02 €
+        PriceBreakdown smallTie = assertSameBreakdown(conditions, null, null, inventoryWithVolume(0.001), "small volume");
+        assertEquals(new BigDecimal("0.02"), smallTie.volumeCost());
+
+        // 2.50 € × 0.25 km = 0.625 € → 0.63 €; Menge 50.25 km → 50.3
+        distanceKm = 50.25;
+        PriceBreakdown distanceTie = assertSameBreakdown(conditions, null, null, null, "distance");
+        assertEquals(new BigDecimal("0.63"), distanceTie.distanceSurcharge());
+        assertEquals(new BigDecimal("50.3"), lineItem(distanceTie, PriceLineItem.Code.DISTANCE).quantity());
+
+        // Gitter um typische .5-Cent-Grenzen: Volumen und Distanz in kleinen Dezimalschritten
+        for (int i = 0; i <= 2_000; i++) {
+            double volume = i / 1000.0;
+            distanceKm = 50 + i / 500.0;
+            assertSameBreakdown(conditions, randomFloor(new Random(i)), null, inventoryWithVolume(volume), "grid " + i);
+        }
+    }
+
+    @Test
+    void valuesAboveFastProductLimitFallBackToExactPath() {
+        PricingConditions conditions = PricingConditions.of(
+                new BigDecimal("499.99"), new BigDecimal("1000.00"), new BigDecimal("250.00"), null, null);
+        FloorDetails floor = new FloorDetails(200, false, false, null, false, false);
+
+        // 250 Cent × (d - 50) und Arbeitszeit × Stundensatz liegen weit über 1e9
+        distanceKm = 5_000_000.123;
+        assertSameBreakdown(conditions, floor, floor, inventoryWithVolume(1_000_000.005), "large");
+
+        // Bei diesen Größen reicht die double-Auflösung nicht mehr für die .5-Cent-Entscheidung
+        Random random = new Random(42L);
+        for (int i = 0; i < 1_000; i++) {
+            distanceKm = 1e11 + random.nextInt(1_000_000_000) / 1000.0;
+            assertSameBreakdown(conditions, floor, randomFloor(random),
+                    inventoryWithVolume(1e11 + random.nextInt(1_000_000_000) / 1000.0), "large " + i);
+        }
+    }
+
+    // ---- Helper ----
+
+    private PriceBreakdown assertSameBreakdown(
+            PricingConditions conditions,
+            FloorDetails fromFloor,
+            FloorDetails toFloor,
+            InventoryList inventory,
+            String context
+    ) {
+        PriceBreakdown reference = engine.calculateEstimateBigDecimal(conditions, FROM, TO, fromFloor, toFloor, inventory);
+        PriceBreakdown fixedPoint = engine.calculateEstimateFixedPoint(conditions, FROM, TO, fromFloor, toFloor, inventory);
+        assertEquals(reference, fixedPoint, () -> context + " (" + conditions + ", " + fromFloor + ", " + toFloor
+                + ", volume " + (inventory != null ? inventory.totalVolume() : null) + ", distance " + distanceKm + ")");
+        return reference;
+    }
+
+    private static PriceLineItem lineItem(PriceBreakdown breakdown, PriceLineItem.Code code) {
+        return breakdown.lineItems().stream()
+                .filter(item -> item.code() == code)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static PricingConditions randomConditions(Random random) {
+        // Teilweise mit drei Nachkommastellen, damit auch die Normalisierung auf Cent greift
+        int scale = random.nextInt(4) == 0 ? 3 : 2;
+        long hourlyMax = scale == 3 ? 500_000 : 50_000;
+        long feeMax = scale == 3 ? 1_000_000 : 100_000;
+        return PricingConditions.of(
+                BigDecimal.valueOf(10 + random.nextInt((int) hourlyMax - 10), scale),
+                BigDecimal.valueOf(random.nextInt((int) feeMax + 1), scale),
+                random.nextBoolean() ? null : BigDecimal.valueOf(random.nextInt(50_000), 2),
+                null,
+                null
+        );
+    }
+
+    private static FloorDetails randomFloor(Random random) {
+        if (random.nextInt(5) == 0) {
+            return null;
+        }
+        int floor = random.nextInt(10) == 0 ? -random.nextInt(11) : random.nextInt(31);
+        return new FloorDetails(floor, random.nextBoolean(), random.nextBoolean(), null, false, false);
+    }
+
+    private static InventoryList randomInventory(Random random) {
+        if (random.nextInt(10) == 0) {
+            return null;
+        }
+        int count = random.nextInt(25);
+        List<InventoryItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Double volume = switch (random.nextInt(4)) {
+                case 0 -> null;
+                case 1 -> random.nextInt(5_000) / 1000.0;  // Dezimalwerte wie aus der UI
+                case 2 -> random.nextDouble() * 3;         // beliebige doubles wie aus der KI
+                default -> random.nextInt(40) / 8.0;       // exakte Binärbrüche, oft genau .5 Cent
+            };
+            items.add(InventoryItem.manual("Item " + i, 1 + random.nextInt(5), null, volume));
+        }
+        return inventory(items);
+    }
+
+    private static double randomDistance(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> Double.NaN;                                  // unbekannt → Pauschale
+            case 1 -> random.nextInt(100_000) / 100.0;             // Dezimalwerte
+            case 2 -> 50 + random.nextInt(400) / 8.0;              // .5-Cent-Grenzen beim km-Satz
+            case 3 -> random.nextDouble() * 600;
+            default -> 50 + random.nextInt(1_000) / 1000.0;        // knapp über 50 km
+        };
+    }
+
+    private static InventoryList inventoryWithVolume(double volume) {
+        return inventory(List.of(InventoryItem.manual("Kiste", 1, null, volume)));
+    }
+
+    private static InventoryList inventory(List<InventoryItem> items) {
+        return new InventoryList(
+                UUID.randomUUID(), UUID.randomUUID(), items, InventoryStatus.DRAFT, Instant.now(), null, null, null
+        );
+    }
+}
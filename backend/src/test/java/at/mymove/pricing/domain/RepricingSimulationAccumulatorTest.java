@@ -0,0 +1,127 @@
+package at.mymove.pricing.domain;
+
+import at.mymove.pricing.domain.RepricingSimulation.Accumulator;
+import at.mymove.pricing.domain.RepricingSimulation.Percentiles;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static at.mymove.pricing.domain.RepricingSimulation.Accumulator.NO_COMPETITION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Kennzahlen des {@link Accumulator}: Perzentile aus dem 0.1-%-Histogramm, Randbuckets,
+ * Gewinne/Verluste gegenüber der Konkurrenz und das Zusammenführen von Teilergebnissen.
+ */
+class RepricingSimulationAccumulatorTest {
+
+    private static final UUID COMPANY_ID = UUID.randomUUID();
+
+    @Test
+    void percentilesFollowThePerOfferDelta() {
+        Accumulator accumulator = new Accumulator();
+        // +0.1 % bis +10.0 %, in umgekehrter Reihenfolge
+        for (int i = 100; i >= 1; i--) {
+            accumulator.add(10_000, 10_000 + i * 10L, NO_COMPETITION);
+        }
+
+        RepricingSimulation result = accumulator.toResult(COMPANY_ID, 0);
+
+        assertEquals(new Percentiles(
+                new BigDecimal("0.5"),
+                new BigDecimal("2.5"),
+                new BigDecimal("5.0"),
+                new BigDecimal("7.5"),
+                new BigDecimal("9.5")
+        ), result.priceDeltaPercentiles());
+        assertEquals(100, result.offersSimulated());
+        assertEquals(new BigDecimal("10000.00"), result.currentRevenue());
+        assertEquals(new BigDecimal("10505.00"), result.candidateRevenue());
+        assertEquals(new BigDecimal("505.00"), result.revenueDelta());
+        assertEquals(new BigDecimal("5.05"), result.revenueDeltaPercent());
+        assertEquals(new BigDecimal("0.10"), result.minPriceDelta());
+        assertEquals(new BigDecimal("10.00"), result.maxPriceDelta());
+    }
+
+    @Test
+    void deltasOutsideTheHistogramAreClampedToTheEdgeBuckets() {
+        Accumulator accumulator = new Accumulator();
+        accumulator.add(100, 0, NO_COMPETITION);        // -100 %
+        accumulator.add(100, 1_000, NO_COMPETITION);    // +900 % → Randbucket +400 %
+        accumulator.add(100, 100_000, NO_COMPETITION);  // +99900 % → Randbucket +400 %
+
+        RepricingSimulation result = accumulator.toResult(COMPANY_ID, 0);
+
+        assertEquals(new BigDecimal("-100.0"), result.priceDeltaPercentiles().p5());
+        assertEquals(new BigDecimal("400.0"), result.priceDeltaPercentiles().p50());
+        assertEquals(new BigDecimal("400.0"), result.priceDeltaPercentiles().p95());
+        // Die Extremwerte selbst bleiben exakt
+        assertEquals(new BigDecimal("-1.00"), result.minPriceDelta());
+        assertEquals(new BigDecimal("999.00"), result.maxPriceDelta());
+    }
+
+    @Test
+    void offersWithoutCurrentPriceAreSummedButNotInTheHistogram() {
+        Accumulator accumulator = new Accumulator();
+        accumulator.add(0, 5_000, NO_COMPETITION);
+        accumulator.skip();
+
+        RepricingSimulation result = accumulator.toResult(COMPANY_ID, 0);
+
+        assertEquals(1, result.offersSimulated());
+        assertEquals(1, result.offersSkipped());
+        assertEquals(new BigDecimal("50.00"), result.candidateRevenue());
+        assertNull(result.revenueDeltaPercent());
+        assertEquals(new Percentiles(null, null, null, null, null), result.priceDeltaPercentiles());
+    }
+
+    @Test
+    void winsAndLossesAreCountedAgainstTheBestCompetitor() {
+        Accumulator accumulator = new Accumulator();
+        accumulator.add(900, 1_100, 1_000);     // verloren
+        accumulator.add(1_100, 900, 1_000);     // gewonnen
+        accumulator.add(900, 950, 1_000);       // vorher und nachher günstiger
+        accumulator.add(1_000, 1_000, 1_000);   // Gleichstand zählt nicht als Sieg
+        accumulator.add(500, 2_000, NO_COMPETITION);
+
+        RepricingSimulation result = accumulator.toResult(COMPANY_ID, 0);
+
+        assertEquals(4, result.offersWithCompetition());
+        assertEquals(2, result.winsCurrent());
+        assertEquals(2, result.winsCandidate());
+        assertEquals(1, result.offersGained());
+        assertEquals(1, result.offersLost());
+    }
+
+    @Test
+    void mergedPartialResultsEqualASingleAccumulator() {
+        Accumulator single = new Accumulator();
+        Accumulator first = new Accumulator();
+        Accumulator second = new Accumulator();
+        for (int i = 0; i < 1_000; i++) {
+            long current = 1_000 + i * 7L;
+            long candidate = current + (i % 50 - 20) * 13L;
+            long competitor = i % 3 == 0 ? NO_COMPETITION : current + (i % 7 - 3) * 11L;
+            single.add(current, candidate, competitor);
+            (i % 2 == 0 ? first : second).add(current, candidate, competitor);
+        }
+        single.skip();
+        second.skip();
+
+        assertEquals(single.toResult(COMPANY_ID, 0), first.merge(second).toResult(COMPANY_ID, 0));
+    }
+
+    @Test
+    void emptySimulationHasNoExtremesOrPercentiles() {
+        RepricingSimulation result = new Accumulator().toResult(COMPANY_ID, 3);
+
+        assertEquals(0, result.offersSimulated());
+        assertEquals(new BigDecimal("0.00"), result.currentRevenue());
+        assertNull(result.minPriceDelta());
+        assertNull(result.maxPriceDelta());
+        assertNull(result.priceDeltaPercentiles().p50());
+        assertEquals(3, result.durationMillis());
+    }
+}
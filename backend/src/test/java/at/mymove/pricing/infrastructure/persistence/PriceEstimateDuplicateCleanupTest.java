@@ -0,0 +1,118 @@
+package at.mymove.pricing.infrastructure.persistence;
+
+import at.mymove.pricing.domain.PriceBreakdown;
+import at.mymove.pricing.domain.PriceEstimate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Bereinigung von Altbeständen vor dem Unique-Constraint: pro Firma und Offer bleibt genau
+ * die neueste Schätzung übrig, alles andere bleibt unberührt.
+ *
+ * Der Constraint wird für den Test entfernt, damit sich Duplikate wie in Altbeständen anlegen
+ * lassen.
+ */
+@DataJpaTest(
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:price-estimate-cleanup;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create-drop"
+        }
+)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PriceEstimateDuplicateCleanupTest {
+
+    private static final Instant T0 = Instant.parse("2026-02-01T10:00:00Z");
+
+    private final PriceEstimateMapper mapper = new PriceEstimateMapper();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PriceEstimateJpaRepository jpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(dataSource).execute(
+                "alter table price_estimates drop constraint if exists uk_price_estimates_company_offer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void keepsTheNewestEstimatePerCompanyAndOffer() {
+        UUID companyId = UUID.randomUUID();
+        UUID otherCompanyId = UUID.randomUUID();
+        UUID offerId = UUID.randomUUID();
+        UUID otherOfferId = UUID.randomUUID();
+
+        insert(companyId, offerId, T0);
+        UUID newest = insert(companyId, offerId, T0.plusSeconds(120));
+        insert(companyId, offerId, T0.plusSeconds(60));
+        UUID single = insert(companyId, otherOfferId, T0);
+        UUID otherCompany = insert(otherCompanyId, offerId, T0);
+
+        new PriceEstimateDuplicateCleanup(dataSource).run();
+
+        List<UUID> remaining = jpaRepository.findAll().stream().map(PriceEstimateJpaEntity::getId).sorted().toList();
+        assertEquals(List.of(newest, single, otherCompany).stream().sorted().toList(), remaining);
+    }
+
+    @Test
+    void sameTimestampKeepsExactlyOneRow() {
+        UUID companyId = UUID.randomUUID();
+        UUID offerId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            insert(companyId, offerId, T0);
+        }
+
+        PriceEstimateDuplicateCleanup cleanup = new PriceEstimateDuplicateCleanup(dataSource);
+        cleanup.run();
+        UUID kept = jpaRepository.findAll().get(0).getId();
+        cleanup.run();
+
+        assertEquals(1, jpaRepository.count());
+        assertEquals(kept, jpaRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    void missingTableIsSkipped() {
+        DataSource empty = new DriverManagerDataSource("jdbc:h2:mem:price-estimate-cleanup-empty", "sa", "");
+
+        assertDoesNotThrow(() -> new PriceEstimateDuplicateCleanup(empty).run());
+    }
+
+    // ---- Helper ----
+
+    private UUID insert(UUID companyId, UUID offerId, Instant calculatedAt) {
+        BigDecimal price = new BigDecimal("900.00");
+        PriceEstimateJpaEntity entity = mapper.toJpaEntity(PriceEstimate.create(
+                offerId, companyId, price, PriceBreakdown.builder().baseFee(price).build(), 4.0, 12.0, 7, "hash"));
+        entity.setCalculatedAt(calculatedAt);
+        return jpaRepository.saveAndFlush(entity).getId();
+    }
+}